@@ -7,6 +7,9 @@ plugins {
   checkstyle
   jacoco
   alias(libs.plugins.sonarqube)
+
+  // Benchmarks
+  alias(libs.plugins.jmh)
 }
 
 group = "uk.nhs.hee.tis.trainee"
@@ -27,6 +30,7 @@ dependencyManagement {
 dependencies {
   // Spring Boot
   implementation("org.springframework.boot:spring-boot-starter-actuator")
+  implementation("io.micrometer:micrometer-registry-prometheus")
   implementation("org.springframework.boot:spring-boot-starter-data-mongodb")
   implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
   implementation("org.springframework.boot:spring-boot-starter-web")
@@ -37,6 +41,8 @@ dependencies {
 
   implementation(libs.bundles.shedlock.mongo)
 
+  implementation("com.github.ben-manes.caffeine:caffeine")
+
   // Lombok
   compileOnly("org.projectlombok:lombok")
   annotationProcessor("org.projectlombok:lombok")
@@ -56,7 +62,6 @@ dependencies {
   implementation("io.awspring.cloud:spring-cloud-aws-starter-sns")
   implementation(libs.bundles.aws.xray)
 
-  implementation("commons-beanutils:commons-beanutils:1.11.0")
   implementation("com.github.java-json-tools:json-patch:1.13")
 
   // TODO: added to avoid refactoring after transitive dependency removed.
@@ -64,6 +69,9 @@ dependencies {
 
   // PDF
   implementation(libs.bundles.pdf.publishing)
+
+  // Benchmarks
+  jmh("org.springframework.boot:spring-boot-starter-test")
 }
 
 checkstyle {
@@ -128,13 +136,62 @@ testing {
       }
     }
 
+    register<JvmTestSuite>("loadTest") {
+      dependencies {
+        // Share the integration test fixtures, e.g. TestJwtUtil and DockerImageNames.
+        implementation(sourceSets["integrationTest"].output)
+
+        implementation("org.springframework.boot:spring-boot-testcontainers")
+        implementation("org.testcontainers:junit-jupiter")
+        implementation("org.testcontainers:localstack")
+        implementation("org.testcontainers:mongodb")
+      }
+
+      targets {
+        all {
+          testTask.configure {
+            shouldRunAfter(test)
+            systemProperty("spring.profiles.active", "test")
+
+            // Pass dataset and iteration settings through e.g. -Pload.ltfts=1000000
+            project.properties
+              .filterKeys { it.startsWith("load.") }
+              .forEach { (key, value) -> systemProperty(key, value.toString()) }
+
+            // Always run, the results are only useful when freshly measured.
+            outputs.upToDateWhen { false }
+          }
+        }
+      }
+    }
+
     // Include implementation dependencies.
     val integrationTestImplementation by configurations.getting {
       extendsFrom(configurations.implementation.get())
     }
+
+    val loadTestImplementation by configurations.getting {
+      extendsFrom(configurations.implementation.get())
+    }
   }
 }
 
+jmh {
+  jmhVersion.set("1.37")
+  fork.set(1)
+  warmupIterations.set(3)
+  warmup.set("2s")
+  iterations.set(5)
+  timeOnIteration.set("2s")
+
+  // Run a subset of benchmarks with e.g. -PjmhIncludes=LtftMapperBenchmark
+  providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+
+  // JSON results can be compared between runs, e.g. with https://jmh.morethan.io
+  resultFormat.set("JSON")
+  resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+}
+
 tasks.named("check") {
   dependsOn(testing.suites.named("integrationTest"))
 }
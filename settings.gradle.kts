@@ -8,6 +8,9 @@ dependencyResolutionManagement {
   versionCatalogs {
     create("libs") {
       from("uk.nhs.tis.trainee:version-catalog:0.0.10")
+
+      // Not yet in the shared catalog.
+      plugin("jmh", "me.champeau.jmh").version("0.7.2")
     }
   }
 }
@@ -55,6 +55,19 @@ public class TestJwtUtil {
     return createTokenForTrainee(traineeTisId, "email", "givenName", "familyName");
   }
 
+  /**
+   * Create a token with default values for the various attributes as the payload, with the given
+   * programme membership qualifying for LTFT.
+   *
+   * @param traineeTisId          The TIS ID to inject in to the payload.
+   * @param programmeMembershipId The qualifying programme membership ID.
+   * @return The created token.
+   */
+  public static Jwt createTokenForTrainee(String traineeTisId, UUID programmeMembershipId) {
+    return createTokenForTrainee(traineeTisId, "email", "givenName", "familyName",
+        programmeMembershipId);
+  }
+
   /**
    * Create a token with the various attributes as the payload.
    *
@@ -66,6 +79,22 @@ public class TestJwtUtil {
    */
   public static Jwt createTokenForTrainee(String traineeTisId, String email, String givenName,
       String familyName) {
+    return createTokenForTrainee(traineeTisId, email, givenName, familyName,
+        FEATURES_LTFT_PROGRAMME_INCLUDED);
+  }
+
+  /**
+   * Create a token with the various attributes as the payload.
+   *
+   * @param traineeTisId          The TIS ID to inject in to the payload.
+   * @param email                 The email to inject in to the payload.
+   * @param givenName             The given name to inject in to the payload.
+   * @param familyName            The family name to inject in to the payload.
+   * @param programmeMembershipId The qualifying programme membership ID.
+   * @return The created token.
+   */
+  private static Jwt createTokenForTrainee(String traineeTisId, String email, String givenName,
+      String familyName, UUID programmeMembershipId) {
     String optionalClaims = (email == null ? "" : String.format("\"email\":\"%s\",", email))
         + (givenName == null ? "" : String.format("\"given_name\":\"%s\",", givenName))
         + (familyName == null ? "" : String.format("\"family_name\":\"%s\",", familyName));
@@ -82,7 +111,7 @@ public class TestJwtUtil {
             }
           }
         }
-        """.formatted(traineeTisId, optionalClaims, FEATURES_LTFT_PROGRAMME_INCLUDED);
+        """.formatted(traineeTisId, optionalClaims, programmeMembershipId);
     return createToken(payload);
   }
 
@@ -34,6 +34,8 @@ import static org.hamcrest.Matchers.oneOf;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.params.provider.EnumSource.Mode.EXCLUDE;
 import static org.junit.jupiter.params.provider.EnumSource.Mode.INCLUDE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpMethod.PATCH;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_PDF;
@@ -92,6 +94,9 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
 import uk.nhs.hee.tis.trainee.forms.DockerImageNames;
 import uk.nhs.hee.tis.trainee.forms.TestJwtUtil;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
@@ -141,6 +146,9 @@ class AdminLtftResourceIntegrationTest {
   @MockitoBean
   SnsTemplate snsTemplate;
 
+  @MockitoBean
+  SnsClient snsClient;
+
   @AfterEach
   void tearDown() {
     template.findAllAndRemove(new Query(), LtftForm.class);
@@ -2140,6 +2148,59 @@ class AdminLtftResourceIntegrationTest {
    * @param dbc   The designated body code to include in the form's programme membership.
    * @return The created form.
    */
+  @Test
+  void shouldApproveLtftsInBulkWithPerFormResults() throws Exception {
+    when(snsClient.publishBatch(any(PublishBatchRequest.class))).thenReturn(
+        PublishBatchResponse.builder().build());
+
+    LtftForm submitted = template.insert(createLtftForm(SUBMITTED, DBC_1, null));
+    LtftForm draft = template.insert(createLtftForm(DRAFT, DBC_1, null));
+    LtftForm otherDbc = template.insert(createLtftForm(SUBMITTED, DBC_2, null));
+
+    mockMvc.perform(put("/api/admin/ltft/bulk/approve")
+            .with(TestJwtUtil.createAdminToken(List.of(DBC_1), REQUIRED_ROLES))
+            .contentType(APPLICATION_JSON)
+            .content("""
+                {
+                  "ids": ["%s", "%s", "%s"]
+                }
+                """.formatted(submitted.getId(), draft.getId(), otherDbc.getId())))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results", hasSize(3)))
+        .andExpect(jsonPath("$.results[0].id", is(submitted.getId().toString())))
+        .andExpect(jsonPath("$.results[0].outcome", is("UPDATED")))
+        .andExpect(jsonPath("$.results[0].form.status.current.state", is(APPROVED.toString())))
+        .andExpect(jsonPath("$.results[1].id", is(draft.getId().toString())))
+        .andExpect(jsonPath("$.results[1].outcome", is("INVALID")))
+        .andExpect(jsonPath("$.results[1].error",
+            is("status.current.state can not be transitioned to APPROVED")))
+        .andExpect(jsonPath("$.results[2].id", is(otherDbc.getId().toString())))
+        .andExpect(jsonPath("$.results[2].outcome", is("NOT_FOUND")));
+
+    LtftForm approved = template.findById(submitted.getId(), LtftForm.class);
+    assertThat("Unexpected form.", approved, notNullValue());
+    assertThat("Unexpected state.", approved.getStatus().current().state(), is(APPROVED));
+    assertThat("Unexpected modified timestamp.",
+        approved.getLastModified().isAfter(submitted.getLastModified()), is(true));
+
+    LtftForm unchanged = template.findById(otherDbc.getId(), LtftForm.class);
+    assertThat("Unexpected form.", unchanged, notNullValue());
+    assertThat("Unexpected state.", unchanged.getStatus().current().state(), is(SUBMITTED));
+  }
+
+  @Test
+  void shouldNotBulkApproveLtftsWhenNoIdsGiven() throws Exception {
+    mockMvc.perform(put("/api/admin/ltft/bulk/approve")
+            .with(TestJwtUtil.createAdminToken(List.of(DBC_1), REQUIRED_ROLES))
+            .contentType(APPLICATION_JSON)
+            .content("""
+                {
+                  "ids": []
+                }
+                """))
+        .andExpect(status().isBadRequest());
+  }
+
   private LtftForm createLtftForm(LifecycleState state, String dbc, LocalDate changeStartDate) {
     LtftForm ltft = new LtftForm();
 
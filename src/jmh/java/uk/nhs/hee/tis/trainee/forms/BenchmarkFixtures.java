@@ -0,0 +1,364 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import uk.nhs.hee.tis.trainee.forms.config.StateStage;
+import uk.nhs.hee.tis.trainee.forms.dto.ConditionsOfJoining;
+import uk.nhs.hee.tis.trainee.forms.dto.ConditionsOfJoiningPdfRequestDto;
+import uk.nhs.hee.tis.trainee.forms.dto.CovidDeclarationDto;
+import uk.nhs.hee.tis.trainee.forms.dto.DeclarationDto;
+import uk.nhs.hee.tis.trainee.forms.dto.FormRPartADto;
+import uk.nhs.hee.tis.trainee.forms.dto.FormRPartBDto;
+import uk.nhs.hee.tis.trainee.forms.dto.WorkDto;
+import uk.nhs.hee.tis.trainee.forms.dto.content.FormrPartaContentDto;
+import uk.nhs.hee.tis.trainee.forms.dto.content.FormrPartbContentDto;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.EmailValidityType;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.GoldGuideVersion;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status.StatusDetail;
+import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
+import uk.nhs.hee.tis.trainee.forms.model.Person;
+import uk.nhs.hee.tis.trainee.forms.model.ReviewStageStatus;
+import uk.nhs.hee.tis.trainee.forms.model.content.CctChange;
+import uk.nhs.hee.tis.trainee.forms.model.content.CctChangeType;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent.Declarations;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent.Discussions;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent.ExceptionalReasons;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent.PersonalDetails;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent.ProgrammeMembership;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent.Reasons;
+
+/**
+ * Realistic, fully populated form fixtures shared by the benchmarks. The fixtures are built to the
+ * shape of typical production forms, so that mapping, serialisation and rendering costs are
+ * representative.
+ */
+public class BenchmarkFixtures {
+
+  public static final String DESIGNATED_BODY_CODE = "1-1RSSQ6R";
+  public static final String TRAINEE_ID = "47165";
+
+  private static final Instant CREATED = Instant.parse("2026-01-05T09:30:00Z");
+  private static final Instant LAST_MODIFIED = Instant.parse("2026-02-10T14:45:00Z");
+
+  private BenchmarkFixtures() {
+
+  }
+
+  /**
+   * Build a review workflow with a mix of enabled and disabled stages.
+   *
+   * @return The review workflows keyed by designated body code.
+   */
+  public static Map<String, List<StateStage>> reviewWorkflows() {
+    return Map.of(DESIGNATED_BODY_CODE, List.of(
+        new StateStage("Programme/Education Team Triage", true),
+        new StateStage("Programme Manager Review", true),
+        new StateStage("Deputy Dean Review", false),
+        new StateStage("Associate Dean Approval", true)
+    ));
+  }
+
+  /**
+   * Build a submitted LTFT form, with a populated status history and an active review stage.
+   *
+   * @return The LTFT form entity.
+   */
+  public static LtftForm ltftForm() {
+    LtftForm form = new LtftForm();
+    form.setId(UUID.fromString("7b0f2a44-9c1e-4d55-8f0a-3c2d1e4b5a69"));
+    form.setTraineeTisId(TRAINEE_ID);
+    form.setFormRef("ltft_47165_003");
+    form.setRevision(2);
+    form.setCreated(CREATED);
+    form.setLastModified(LAST_MODIFIED);
+    form.setContent(LtftContent.builder()
+        .name("LTFT for General Practice")
+        .personalDetails(PersonalDetails.builder()
+            .title("Dr")
+            .forenames("Anthony")
+            .surname("Gilliam")
+            .email("anthony.gilliam@example.com")
+            .telephoneNumber("07700 900000")
+            .mobileNumber("07700 900001")
+            .gmcNumber("1234567")
+            .gdcNumber("D123456")
+            .skilledWorkerVisaHolder(false)
+            .build())
+        .programmeMembership(ProgrammeMembership.builder()
+            .id(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"))
+            .name("General Practice")
+            .designatedBodyCode(DESIGNATED_BODY_CODE)
+            .managingDeanery("London LETBs")
+            .startDate(LocalDate.of(2024, 3, 1))
+            .endDate(LocalDate.of(2027, 3, 1))
+            .wte(1.0)
+            .build())
+        .declarations(Declarations.builder()
+            .discussedWithTpd(true)
+            .informationIsCorrect(true)
+            .notGuaranteed(true)
+            .build())
+        .discussions(Discussions.builder()
+            .tpdName("Tee Pee-Dee")
+            .tpdEmail("tpd@example.com")
+            .other(List.of(
+                Person.builder()
+                    .name("Ed Super")
+                    .email("ed.super@example.com")
+                    .role("Educational Supervisor")
+                    .build(),
+                Person.builder()
+                    .name("Person Two")
+                    .email("person.2@example.com")
+                    .role("Test Person")
+                    .build()))
+            .build())
+        .change(CctChange.builder()
+            .id(UUID.fromString("1c3c1f8e-0c6b-4b7e-9d7f-2a7d6f0e8c11"))
+            .calculationId(UUID.fromString("9a1b2c3d-4e5f-4a6b-8c7d-9e0f1a2b3c4d"))
+            .type(CctChangeType.LTFT)
+            .wte(0.6)
+            .startDate(LocalDate.of(2026, 9, 1))
+            .altStartDate(LocalDate.of(2026, 10, 1))
+            .endDate(LocalDate.of(2028, 1, 15))
+            .build())
+        .reasons(Reasons.builder()
+            .selected(List.of("Caring Responsibilities", "Other"))
+            .otherDetail("A trainee described reason detail")
+            .supportingInformation("Trainee supplied supporting information")
+            .build())
+        .exceptionalReasons(ExceptionalReasons.builder()
+            .exceptional(false)
+            .build())
+        .tpdEmailValidity(EmailValidityType.VALID)
+        .build());
+
+    Person trainee = Person.builder()
+        .name("Anthony Gilliam")
+        .email("anthony.gilliam@example.com")
+        .role("TRAINEE")
+        .build();
+    Person admin = Person.builder()
+        .name("Ad Min")
+        .email("ad.min@example.com")
+        .role("ADMIN")
+        .build();
+
+    form.setLifecycleState(LifecycleState.DRAFT, null, trainee, 0);
+    form.setLifecycleState(LifecycleState.SUBMITTED, null, trainee, 1,
+        new ReviewStageStatus(0, "Programme/Education Team Triage"));
+    form.setAssignedAdmin(admin, admin);
+    form.setReviewStage(new ReviewStageStatus(1, "Programme Manager Review"),
+        new StatusDetail("Triage complete", "Passed to the programme manager"), admin);
+    form.drainUnrecordedHistory();
+    return form;
+  }
+
+  /**
+   * Build a populated FormR Part A.
+   *
+   * @return The FormR Part A DTO.
+   */
+  public static FormRPartADto formRPartADto() {
+    FormRPartADto dto = new FormRPartADto();
+    dto.setId("0b6f7f1e-5a2d-4c0e-9e4b-8a6c2d1f3e57");
+    dto.setTraineeTisId(TRAINEE_ID);
+
+    FormrPartaContentDto content = new FormrPartaContentDto();
+    content.setProgrammeMembershipId(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"));
+    content.setIsArcp(true);
+    content.setProgrammeName("General Practice");
+    content.setForename("Anthony");
+    content.setSurname("Gilliam");
+    content.setGmcNumber("1234567");
+    content.setGdcNumber("D123456");
+    content.setLocalOfficeName("London");
+    content.setDateOfBirth(LocalDate.of(1980, 4, 5));
+    content.setGender("Male");
+    content.setImmigrationStatus("British National");
+    content.setQualification("MBBS");
+    content.setDateAttained(LocalDate.of(2004, 6, 7));
+    content.setMedicalSchool("University of London");
+    content.setAddress1("1 High Street");
+    content.setAddress2("Westminster");
+    content.setAddress3("London");
+    content.setPostCode("SW1A 1AA");
+    content.setTelephoneNumber("+441200900000");
+    content.setMobileNumber("+447700900000");
+    content.setEmail("anthony.gilliam@example.com");
+    content.setDeclarationType("I have been appointed to a programme leading to award of CCT");
+    content.setIsLeadingToCct(true);
+    content.setProgrammeSpecialty("General Practice");
+    content.setCctSpecialty1("General Practice");
+    content.setCollege("Royal College of General Practitioners");
+    content.setCompletionDate(LocalDate.of(2027, 3, 1));
+    content.setTrainingGrade("ST2");
+    content.setStartDate(LocalDate.of(2024, 3, 1));
+    content.setProgrammeMembershipType("Substantive");
+    content.setWholeTimeEquivalent("1.0");
+    dto.setContent(content);
+
+    dto.setSubmissionDate(LocalDateTime.of(2026, 2, 10, 14, 45));
+    dto.setLastModifiedDate(LocalDateTime.of(2026, 2, 10, 14, 45));
+    dto.setLifecycleState(LifecycleState.SUBMITTED);
+    return dto;
+  }
+
+  /**
+   * Build a populated FormR Part B, including work placements, declarations and a COVID
+   * declaration.
+   *
+   * @return The FormR Part B DTO.
+   */
+  public static FormRPartBDto formRPartBDto() {
+    FormRPartBDto dto = new FormRPartBDto();
+    dto.setId("5d9c3b2a-1f4e-4a8b-9c6d-7e0f1a2b3c4d");
+    dto.setTraineeTisId(TRAINEE_ID);
+
+    FormrPartbContentDto content = new FormrPartbContentDto();
+    content.setProgrammeMembershipId(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"));
+    content.setIsArcp(true);
+    content.setProgrammeName("General Practice");
+    content.setForename("Anthony");
+    content.setSurname("Gilliam");
+    content.setGmcNumber("1234567");
+    content.setEmail("anthony.gilliam@example.com");
+    content.setLocalOfficeName("London");
+    content.setPrevRevalBody("NHS England");
+    content.setCurrRevalDate(LocalDate.of(2027, 4, 5));
+    content.setPrevRevalDate(LocalDate.of(2022, 3, 4));
+    content.setProgrammeSpecialty("General Practice");
+    content.setWork(List.of(
+        work("In Post ST1 General Practice", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 8, 31)),
+        work("In Post ST2 General Practice", LocalDate.of(2024, 9, 1), LocalDate.of(2025, 8, 31)),
+        work("In Post ST3 General Practice", LocalDate.of(2025, 9, 1), LocalDate.of(2026, 8, 31))
+    ));
+
+    content.setSicknessAbsence(10);
+    content.setParentalLeave(0);
+    content.setCareerBreaks(5);
+    content.setPaidLeave(8);
+    content.setUnauthorisedLeave(1);
+    content.setOtherLeave(1);
+    content.setTotalLeave(25);
+
+    content.setIsHonest(true);
+    content.setIsHealthy(true);
+    content.setIsWarned(true);
+    content.setIsComplying(true);
+
+    content.setHavePreviousDeclarations(true);
+    content.setPreviousDeclarations(List.of(
+        declaration("Significant event", LocalDate.of(2023, 1, 2), "Medication error"),
+        declaration("Complaint", LocalDate.of(2023, 6, 14), "Patient complaint")
+    ));
+    content.setHavePreviousUnresolvedDeclarations(false);
+    content.setHaveCurrentDeclarations(true);
+    content.setCurrentDeclarations(List.of(
+        declaration("Significant event", LocalDate.of(2025, 2, 14), "Delayed referral")
+    ));
+    content.setHaveCurrentUnresolvedDeclarations(false);
+    content.setCompliments("Thanked by a patient's family for their care.");
+
+    content.setHaveCovidDeclarations(true);
+    content.setCovidDeclarationDto(covidDeclarationDto());
+    dto.setContent(content);
+
+    dto.setSubmissionDate(LocalDateTime.of(2026, 2, 10, 14, 45));
+    dto.setLastModifiedDate(LocalDateTime.of(2026, 2, 10, 14, 45));
+    dto.setLifecycleState(LifecycleState.SUBMITTED);
+    return dto;
+  }
+
+  /**
+   * Build a work placement.
+   *
+   * @param typeOfWork The type of work.
+   * @param startDate  The start date of the placement.
+   * @param endDate    The end date of the placement.
+   * @return The work placement DTO.
+   */
+  public static WorkDto work(String typeOfWork, LocalDate startDate, LocalDate endDate) {
+    WorkDto work = new WorkDto();
+    work.setTypeOfWork(typeOfWork);
+    work.setStartDate(startDate);
+    work.setEndDate(endDate);
+    work.setTrainingPost("Yes");
+    work.setSite("Cranleigh Gardens Medical Centre");
+    work.setSiteLocation("Cranleigh Gardens Bridgwater Somerset");
+    work.setSiteKnownAs("Cranleigh Gardens Medical Centre (L85025)");
+    return work;
+  }
+
+  /**
+   * Build a COVID declaration, with placement changes declared.
+   *
+   * @return The COVID declaration DTO.
+   */
+  public static CovidDeclarationDto covidDeclarationDto() {
+    CovidDeclarationDto covid = new CovidDeclarationDto();
+    covid.setSelfRateForCovid("Below expectations for stage of training");
+    covid.setReasonOfSelfRate("Redeployed to critical care");
+    covid.setOtherInformationForPanel("Other information for panel");
+    covid.setDiscussWithSupervisorChecked(true);
+    covid.setDiscussWithSomeoneChecked(false);
+    covid.setHaveChangesToPlacement(true);
+    covid.setChangeCircumstances("Other");
+    covid.setChangeCircumstanceOther("Shielding");
+    covid.setHowPlacementAdjusted("Remote working");
+    covid.setEducationSupervisorName("Ed Super");
+    covid.setEducationSupervisorEmail("ed.super@example.com");
+    return covid;
+  }
+
+  /**
+   * Build a Conditions of Joining PDF request.
+   *
+   * @param version The Gold Guide version of the Conditions of Joining.
+   * @return The Conditions of Joining PDF request.
+   */
+  public static ConditionsOfJoiningPdfRequestDto conditionsOfJoining(GoldGuideVersion version) {
+    return new ConditionsOfJoiningPdfRequestDto(
+        TRAINEE_ID,
+        UUID.fromString("550e8400-e29b-41d4-a716-446655440000"),
+        "General Practice",
+        new ConditionsOfJoining(version, Instant.parse("2025-06-15T10:30:00Z")));
+  }
+
+  private static DeclarationDto declaration(String type, LocalDate dateOfEntry, String title) {
+    DeclarationDto declaration = new DeclarationDto();
+    declaration.setDeclarationType(type);
+    declaration.setDateOfEntry(dateOfEntry);
+    declaration.setTitle(title);
+    declaration.setLocationOfEntry("Cranleigh Gardens Medical Centre");
+    return declaration;
+  }
+}
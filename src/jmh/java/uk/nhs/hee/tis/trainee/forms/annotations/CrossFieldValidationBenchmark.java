@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.annotations;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import uk.nhs.hee.tis.trainee.forms.BenchmarkFixtures;
+import uk.nhs.hee.tis.trainee.forms.dto.CovidDeclarationDto;
+import uk.nhs.hee.tis.trainee.forms.dto.WorkDto;
+import uk.nhs.hee.tis.trainee.forms.dto.content.FormrPartbContentDto;
+
+/**
+ * Benchmarks for the cross-field validators, run through the bean validator as they would be for
+ * a request body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CrossFieldValidationBenchmark {
+
+  private ValidatorFactory validatorFactory;
+  private Validator validator;
+
+  private WorkDto work;
+  private WorkDto invalidWork;
+  private CovidDeclarationDto covidDeclaration;
+  private FormrPartbContentDto formRPartBContent;
+
+  /**
+   * Create the validator and DTO fixtures.
+   */
+  @Setup
+  public void setUp() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    validator = validatorFactory.getValidator();
+
+    work = BenchmarkFixtures.work("In Post ST3 General Practice", LocalDate.now().minusYears(1),
+        LocalDate.now().plusYears(1));
+    invalidWork = BenchmarkFixtures.work("In Post ST3 General Practice",
+        LocalDate.now().plusYears(1), LocalDate.now().minusYears(1));
+    invalidWork.setSite(null);
+    covidDeclaration = BenchmarkFixtures.covidDeclarationDto();
+    formRPartBContent = BenchmarkFixtures.formRPartBDto().getContent();
+  }
+
+  /**
+   * Close the validator factory.
+   */
+  @TearDown
+  public void tearDown() {
+    validatorFactory.close();
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<WorkDto>> validateWork() {
+    return validator.validate(work);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<WorkDto>> validateInvalidWork() {
+    return validator.validate(invalidWork);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<CovidDeclarationDto>> validateCovidDeclaration() {
+    return validator.validate(covidDeclaration);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<FormrPartbContentDto>> validateFormRPartBContent() {
+    return validator.validate(formRPartBContent);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.config;
+
+import com.amazonaws.xray.AWSXRay;
+import com.amazonaws.xray.AWSXRayRecorder;
+import com.amazonaws.xray.AWSXRayRecorderBuilder;
+import com.amazonaws.xray.emitters.Emitter;
+import com.amazonaws.xray.entities.Segment;
+import com.amazonaws.xray.entities.Subsegment;
+import com.amazonaws.xray.spring.aop.XRayEnabled;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import uk.nhs.hee.tis.trainee.forms.config.AwsXrayInterceptor.TracingMode;
+
+/**
+ * Benchmarks for the per-call overhead of the X-Ray interceptor on an {@link XRayEnabled} bean.
+ * Each invocation opens and closes a segment around a single call, the {@code NONE} mode calls
+ * the bean without a proxy to give the baseline cost. The emitter discards all segments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AwsXrayInterceptorBenchmark {
+
+  private static final String TRACING_NAME = "benchmark";
+
+  @Param({"NONE", "FULL", "LOW_OVERHEAD"})
+  private String mode;
+
+  @Param({"true", "false"})
+  private boolean sampled;
+
+  private AWSXRayRecorder originalRecorder;
+  private AWSXRayRecorder recorder;
+  private TracedService service;
+
+  /**
+   * Create the recorder and the traced service, proxied by the interceptor unless no tracing mode
+   * is used.
+   */
+  @Setup
+  public void setUp() {
+    originalRecorder = AWSXRay.getGlobalRecorder();
+    recorder = AWSXRayRecorderBuilder.standard()
+        .withEmitter(new DiscardingEmitter())
+        .withFastIdGenerator()
+        .build();
+    AWSXRay.setGlobalRecorder(recorder);
+
+    TracedService target = new TracedService();
+
+    if (mode.equals("NONE")) {
+      service = target;
+    } else {
+      AwsXrayInterceptor interceptor = new AwsXrayInterceptor(TRACING_NAME,
+          TracingMode.valueOf(mode), Set.of(), Set.of());
+      AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+      proxyFactory.setProxyTargetClass(true);
+      proxyFactory.addAspect(interceptor);
+      service = proxyFactory.getProxy();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    AWSXRay.setGlobalRecorder(originalRecorder);
+  }
+
+  /**
+   * Call the service within a segment, as an incoming request would.
+   *
+   * @return The result of the service call.
+   */
+  @Benchmark
+  public int tracedCall() {
+    Segment segment = recorder.beginSegment(TRACING_NAME);
+    segment.setSampled(sampled);
+
+    try {
+      return service.increment(1);
+    } finally {
+      recorder.endSegment();
+    }
+  }
+
+  /**
+   * A cheap service method, representative of the high frequency calls on trainee endpoints.
+   */
+  @XRayEnabled
+  public static class TracedService {
+
+    public int increment(int value) {
+      return value + 1;
+    }
+  }
+
+  /**
+   * An emitter which discards all segments.
+   */
+  private static class DiscardingEmitter extends Emitter {
+
+    @Override
+    public boolean sendSegment(Segment segment) {
+      return true;
+    }
+
+    @Override
+    public boolean sendSubsegment(Subsegment subsegment) {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.config.filter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import uk.nhs.hee.tis.trainee.forms.BenchmarkFixtures;
+
+/**
+ * Benchmarks for verifying the HMAC signature of a signed request payload, using a Part A sized
+ * payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignedDataFilterBenchmark {
+
+  private static final String SECRET_KEY = "benchmark-secret-key";
+  private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+  private SignedDataFilter filter;
+  private byte[] signedPayload;
+  private byte[] tamperedPayload;
+
+  /**
+   * Create the filter and sign the payload fixture.
+   *
+   * @throws IOException If the payload could not be serialized.
+   */
+  @Setup
+  public void setUp() throws IOException {
+    ObjectMapper mapper = new ObjectMapper();
+    mapper.registerModule(new JavaTimeModule());
+    filter = new SignedDataFilter(mapper, SECRET_KEY, DataSize.ofMegabytes(1));
+
+    ObjectNode payload = mapper.valueToTree(BenchmarkFixtures.formRPartADto());
+    ObjectNode signature = payload.putObject("signature");
+    signature.put("signedAt", Instant.now().minus(1, ChronoUnit.DAYS).toString());
+    signature.put("validUntil", Instant.now().plus(1, ChronoUnit.DAYS).toString());
+
+    String hmac = new HmacUtils(HmacAlgorithms.HMAC_SHA_256, SECRET_KEY.getBytes(UTF_8))
+        .hmacHex(mapper.writeValueAsBytes(payload));
+    signature.put("hmac", hmac);
+    signedPayload = mapper.writeValueAsBytes(payload);
+
+    payload.put("traineeTisId", "tampered");
+    tamperedPayload = mapper.writeValueAsBytes(payload);
+  }
+
+  @Benchmark
+  public int verifyValidSignature() throws ServletException, IOException {
+    return doFilter(signedPayload);
+  }
+
+  @Benchmark
+  public int verifyInvalidSignature() throws ServletException, IOException {
+    return doFilter(tamperedPayload);
+  }
+
+  /**
+   * Run the payload through the filter.
+   *
+   * @param payload The request payload.
+   * @return The response status.
+   */
+  private int doFilter(byte[] payload) throws ServletException, IOException {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/coj");
+    request.setContent(payload);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilterInternal(request, response, NO_OP_CHAIN);
+    return response.getStatus();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.mapper;
+
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.nhs.hee.tis.trainee.forms.BenchmarkFixtures;
+import uk.nhs.hee.tis.trainee.forms.dto.FormRPartBDto;
+import uk.nhs.hee.tis.trainee.forms.dto.FormRPartSimpleDto;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
+import uk.nhs.hee.tis.trainee.forms.model.FormRPartB;
+
+/**
+ * Benchmarks for mapping between FormR Part B entities and DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FormRPartBMapperBenchmark {
+
+  private FormRPartBMapper mapper;
+  private FormRPartBDto dto;
+  private FormRPartB entity;
+
+  /**
+   * Create the mapper and form fixtures.
+   */
+  @Setup
+  public void setUp() {
+    mapper = new FormRPartBMapperImpl(new TemporalMapper(ZoneId.of("Europe/London")));
+    dto = BenchmarkFixtures.formRPartBDto();
+    entity = mapper.toEntity(dto);
+    entity.setLifecycleState(LifecycleState.SUBMITTED);
+  }
+
+  @Benchmark
+  public FormRPartBDto toDto() {
+    return mapper.toDto(entity);
+  }
+
+  @Benchmark
+  public FormRPartB toEntity() {
+    return mapper.toEntity(dto);
+  }
+
+  @Benchmark
+  public FormRPartSimpleDto toSimpleDto() {
+    return mapper.toSimpleDto(entity);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.PublishResponse;
+import uk.nhs.hee.tis.trainee.forms.BenchmarkFixtures;
+import uk.nhs.hee.tis.trainee.forms.dto.FormRPartBDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
+import uk.nhs.hee.tis.trainee.forms.mapper.LtftMapperImpl;
+import uk.nhs.hee.tis.trainee.forms.mapper.TemporalMapper;
+
+/**
+ * Benchmarks for serialising form events to SNS requests, the SNS client discards all requests so
+ * only the serialisation and request building is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventBroadcastServiceBenchmark {
+
+  private static final String TOPIC = "arn:aws:sns:eu-west-2:000000000000:benchmark";
+  private static final String MESSAGE_ATTRIBUTE = "benchmark";
+
+  private EventBroadcastService service;
+  private LtftFormDto ltftDto;
+  private List<LtftFormDto> ltftDtos;
+  private FormRPartBDto formRPartBDto;
+
+  /**
+   * Create the service and form fixtures.
+   */
+  @Setup
+  public void setUp() {
+    service = new EventBroadcastService(new DiscardingSnsClient(), new SimpleMeterRegistry(),
+        TOPIC);
+
+    LtftMapperImpl mapper = new LtftMapperImpl(new TemporalMapper(ZoneId.of("Europe/London")));
+    ltftDto = mapper.toDto(BenchmarkFixtures.ltftForm());
+    ltftDtos = List.of(ltftDto, ltftDto, ltftDto, ltftDto, ltftDto,
+        ltftDto, ltftDto, ltftDto, ltftDto, ltftDto);
+    formRPartBDto = BenchmarkFixtures.formRPartBDto();
+  }
+
+  @Benchmark
+  public void publishLtftFormUpdateEvent() {
+    service.publishLtftFormUpdateEvent(ltftDto, MESSAGE_ATTRIBUTE, TOPIC);
+  }
+
+  @Benchmark
+  public void publishLtftFormUpdateEventsBatch() {
+    service.publishLtftFormUpdateEvents(ltftDtos, MESSAGE_ATTRIBUTE, TOPIC);
+  }
+
+  @Benchmark
+  public void publishFormRPartBEvent() {
+    service.publishFormRPartBEvent(formRPartBDto, Map.of("trigger", MESSAGE_ATTRIBUTE), TOPIC);
+  }
+
+  /**
+   * An SNS client which accepts and discards all publish requests.
+   */
+  private static class DiscardingSnsClient implements SnsClient {
+
+    private static final PublishResponse PUBLISH_RESPONSE = PublishResponse.builder().build();
+    private static final PublishBatchResponse PUBLISH_BATCH_RESPONSE =
+        PublishBatchResponse.builder().build();
+
+    @Override
+    public PublishResponse publish(PublishRequest request) {
+      return PUBLISH_RESPONSE;
+    }
+
+    @Override
+    public PublishBatchResponse publishBatch(PublishBatchRequest request) {
+      return PUBLISH_BATCH_RESPONSE;
+    }
+
+    @Override
+    public String serviceName() {
+      return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+      // Nothing to close.
+    }
+  }
+}
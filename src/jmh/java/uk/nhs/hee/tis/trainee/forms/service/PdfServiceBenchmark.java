@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import uk.nhs.hee.tis.trainee.forms.BenchmarkFixtures;
+import uk.nhs.hee.tis.trainee.forms.dto.ConditionsOfJoiningPdfRequestDto;
+import uk.nhs.hee.tis.trainee.forms.dto.FormRPartADto;
+import uk.nhs.hee.tis.trainee.forms.dto.FormRPartBDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.GoldGuideVersion;
+import uk.nhs.hee.tis.trainee.forms.mapper.LtftMapperImpl;
+import uk.nhs.hee.tis.trainee.forms.mapper.TemporalMapper;
+
+/**
+ * Benchmarks for generating a PDF from each of the supported templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PdfServiceBenchmark {
+
+  private static final ZoneId TIMEZONE = ZoneId.of("Europe/London");
+
+  @Param({"coj-gg9", "coj-gg10", "coj-gg11", "formr-parta", "formr-partb", "ltft-admin",
+      "ltft-trainee"})
+  private String template;
+
+  private PdfService service;
+
+  private ConditionsOfJoiningPdfRequestDto conditionsOfJoining;
+  private FormRPartADto formRPartA;
+  private FormRPartBDto formRPartB;
+  private LtftFormDto ltft;
+
+  /**
+   * Create the service, using the application's templates, and the form fixtures.
+   */
+  @Setup
+  public void setUp() {
+    ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+    templateResolver.setPrefix("templates/");
+    templateResolver.setTemplateMode(TemplateMode.HTML);
+    templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    templateResolver.setCacheable(true);
+
+    SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+    templateEngine.setTemplateResolver(templateResolver);
+
+    // Publishing is not benchmarked, so no S3 or SNS templates are required.
+    service = new PdfService(templateEngine, null, "benchmark-bucket", null, "benchmark-topic",
+        TIMEZONE, new SimpleMeterRegistry(), null, null);
+
+    conditionsOfJoining = switch (template) {
+      case "coj-gg9" -> BenchmarkFixtures.conditionsOfJoining(GoldGuideVersion.GG9);
+      case "coj-gg10" -> BenchmarkFixtures.conditionsOfJoining(GoldGuideVersion.GG10);
+      default -> BenchmarkFixtures.conditionsOfJoining(GoldGuideVersion.GG11);
+    };
+    formRPartA = BenchmarkFixtures.formRPartADto();
+    formRPartB = BenchmarkFixtures.formRPartBDto();
+    ltft = new LtftMapperImpl(new TemporalMapper(TIMEZONE)).toDto(BenchmarkFixtures.ltftForm());
+  }
+
+  @Benchmark
+  public byte[] generatePdf() throws IOException {
+    return switch (template) {
+      case "formr-parta" -> service.generatePdf(formRPartA);
+      case "formr-partb" -> service.generatePdf(formRPartB);
+      case "ltft-admin" -> service.generatePdf(ltft, "admin");
+      case "ltft-trainee" -> service.generatePdf(ltft, "trainee");
+      default -> service.generatePdf(conditionsOfJoining);
+    };
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.dataset;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A summary of a generated dataset, with samples of the generated forms to use as request targets.
+ *
+ * @param ltftDrafts     A sample of draft LTFT forms, which may be submitted.
+ * @param ltftSubmitted  A sample of submitted LTFT forms, which are visible to admins.
+ * @param formRPartAs    A sample of submitted FormR Part A forms.
+ * @param formRPartBs    A sample of submitted FormR Part B forms.
+ * @param documentCount  The total number of documents inserted, across all collections.
+ */
+public record Dataset(
+    List<FormSample> ltftDrafts,
+    List<FormSample> ltftSubmitted,
+    List<FormSample> formRPartAs,
+    List<FormSample> formRPartBs,
+    long documentCount) {
+
+  /**
+   * A reference to a generated form.
+   *
+   * @param id                    The ID of the form.
+   * @param traineeTisId          The ID of the trainee who owns the form.
+   * @param programmeMembershipId The ID of the programme membership the form relates to.
+   * @param designatedBodyCode    The designated body code of the form's programme membership.
+   */
+  public record FormSample(
+      UUID id,
+      String traineeTisId,
+      UUID programmeMembershipId,
+      String designatedBodyCode) {
+
+  }
+}
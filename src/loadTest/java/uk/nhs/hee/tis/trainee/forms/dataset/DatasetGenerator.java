@@ -0,0 +1,649 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.dataset;
+
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.APPROVED;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.DELETED;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.DRAFT;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.REJECTED;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.SUBMITTED;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.UNSUBMITTED;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.WITHDRAWN;
+import static uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.STATUS_HISTORY_TAIL_SIZE;
+
+import com.mongodb.client.model.InsertManyOptions;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import uk.nhs.hee.tis.trainee.forms.dataset.Dataset.FormSample;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.EmailValidityType;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status.StatusDetail;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status.StatusInfo;
+import uk.nhs.hee.tis.trainee.forms.model.Declaration;
+import uk.nhs.hee.tis.trainee.forms.model.FormRPartA;
+import uk.nhs.hee.tis.trainee.forms.model.FormRPartB;
+import uk.nhs.hee.tis.trainee.forms.model.FormStatusHistory;
+import uk.nhs.hee.tis.trainee.forms.model.FormrPartaSubmissionHistory;
+import uk.nhs.hee.tis.trainee.forms.model.FormrPartbSubmissionHistory;
+import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
+import uk.nhs.hee.tis.trainee.forms.model.LtftSubmissionHistory;
+import uk.nhs.hee.tis.trainee.forms.model.Person;
+import uk.nhs.hee.tis.trainee.forms.model.Work;
+import uk.nhs.hee.tis.trainee.forms.model.content.CctChange;
+import uk.nhs.hee.tis.trainee.forms.model.content.CctChangeType;
+import uk.nhs.hee.tis.trainee.forms.model.content.FormContent;
+import uk.nhs.hee.tis.trainee.forms.model.content.FormrPartaContent;
+import uk.nhs.hee.tis.trainee.forms.model.content.FormrPartbContent;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent.Declarations;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent.Discussions;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent.PersonalDetails;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent.ProgrammeMembership;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent.Reasons;
+
+/**
+ * A deterministic generator of realistic form datasets, the same {@link DatasetSpec} always
+ * generates the same documents.
+ *
+ * <p>Forms are generated with a status history walked through valid lifecycle transitions, with
+ * the most recent entries embedded in the form and the full history stored separately, along with
+ * a submission history entry for each submission. Documents are written in batches directly
+ * through the collection, bypassing auditing so that generated timestamps are retained, which
+ * allows datasets of millions of documents to be generated.
+ */
+public class DatasetGenerator {
+
+  private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+  private static final Instant BASE_TIMESTAMP = Instant.parse("2026-01-01T00:00:00Z");
+  private static final LocalDate BASE_DATE = LocalDate.of(2026, 1, 1);
+
+  private static final String[] FORENAMES = {"Anthony", "Beatrice", "Chidi", "Deepa", "Eilidh",
+      "Farhan", "Grace", "Hamish", "Ifeoma", "James", "Kavya", "Liam", "Mei", "Niamh", "Oluwaseun",
+      "Priya", "Rhys", "Siobhan", "Tomasz", "Yusuf"};
+  private static final String[] SURNAMES = {"Adeyemi", "Brown", "Chen", "Davies", "Evans",
+      "Fernandes", "Gilliam", "Hughes", "Iqbal", "Jones", "Khan", "Lewis", "Murphy", "Nowak",
+      "Okafor", "Patel", "Roberts", "Smith", "Taylor", "Williams"};
+  private static final String[] PROGRAMMES = {"General Practice", "Anaesthetics",
+      "Core Surgical Training", "Emergency Medicine", "General Psychiatry", "Internal Medicine",
+      "Obstetrics and Gynaecology", "Paediatrics", "Radiology", "Urology"};
+  private static final String[] REASONS = {"Caring Responsibilities", "Health",
+      "Professional Development", "Religious Commitment", "Unique Opportunities", "Other"};
+
+  private static final LifecycleState[] LTFT_FINAL_STATES = {DRAFT, DRAFT, SUBMITTED, SUBMITTED,
+      SUBMITTED, APPROVED, APPROVED, APPROVED, UNSUBMITTED, REJECTED, WITHDRAWN, DELETED};
+  private static final LifecycleState[] FORMR_FINAL_STATES = {DRAFT, SUBMITTED, SUBMITTED,
+      SUBMITTED, SUBMITTED, SUBMITTED, SUBMITTED, UNSUBMITTED, DELETED};
+
+  private static final Person ADMIN = Person.builder()
+      .name("Load Admin")
+      .email("load.admin@example.com")
+      .role("ADMIN")
+      .build();
+
+  private final MongoTemplate mongoTemplate;
+  private final DatasetSpec spec;
+  private final SplittableRandom random;
+
+  private final Map<Class<?>, List<Object>> batches = new HashMap<>();
+  private final Map<String, Integer> formRefCounters = new HashMap<>();
+  private long documentCount;
+
+  /**
+   * Create a dataset generator.
+   *
+   * @param mongoTemplate The template used to write the generated documents.
+   * @param spec          The specification of the dataset to generate.
+   */
+  public DatasetGenerator(MongoTemplate mongoTemplate, DatasetSpec spec) {
+    this.mongoTemplate = mongoTemplate;
+    this.spec = spec;
+    this.random = new SplittableRandom(spec.seed());
+  }
+
+  /**
+   * Generate and insert the dataset.
+   *
+   * @return A summary of the generated dataset.
+   */
+  public Dataset generate() {
+    log.info("Generating dataset {}.", spec);
+    long start = System.nanoTime();
+
+    List<FormSample> ltftDrafts = new ArrayList<>(spec.sampleSize());
+    List<FormSample> ltftSubmitted = new ArrayList<>(spec.sampleSize());
+    List<FormSample> formRPartAs = new ArrayList<>(spec.sampleSize());
+    List<FormSample> formRPartBs = new ArrayList<>(spec.sampleSize());
+
+    for (int i = 0; i < spec.ltftCount(); i++) {
+      LtftForm form = generateLtft(i);
+      LifecycleState state = form.getLifecycleState();
+
+      if (state == DRAFT) {
+        sample(ltftDrafts, form);
+      } else if (state == SUBMITTED) {
+        sample(ltftSubmitted, form);
+      }
+    }
+
+    for (int i = 0; i < spec.formRPartACount(); i++) {
+      FormRPartA form = generateFormR(FormRPartA::new, FormrPartaSubmissionHistory::new,
+          this::generatePartaContent);
+
+      if (form.getLifecycleState() == SUBMITTED) {
+        sample(formRPartAs, form);
+      }
+    }
+
+    for (int i = 0; i < spec.formRPartBCount(); i++) {
+      FormRPartB form = generateFormR(FormRPartB::new, FormrPartbSubmissionHistory::new,
+          this::generatePartbContent);
+
+      if (form.getLifecycleState() == SUBMITTED) {
+        sample(formRPartBs, form);
+      }
+    }
+
+    flushAll();
+    log.info("Generated {} documents in {}.", documentCount,
+        Duration.ofNanos(System.nanoTime() - start));
+    return new Dataset(ltftDrafts, ltftSubmitted, formRPartAs, formRPartBs, documentCount);
+  }
+
+  /**
+   * Generate a LTFT form, along with its status and submission history.
+   *
+   * @param sequence The sequence number of the form, used to vary the form name.
+   * @return The generated form.
+   */
+  private LtftForm generateLtft(int sequence) {
+    int traineeIndex = random.nextInt(spec.traineeCount());
+    String dbc = nextDesignatedBodyCode();
+    LocalDate startDate = BASE_DATE.plusDays(random.nextInt(-180, 365));
+
+    LtftForm form = new LtftForm();
+    form.setId(nextUuid());
+    form.setTraineeTisId(traineeId(traineeIndex));
+    form.setContent(LtftContent.builder()
+        .name("LTFT application " + (sequence % 3 + 1))
+        .personalDetails(PersonalDetails.builder()
+            .title("Dr")
+            .forenames(pick(FORENAMES))
+            .surname(pick(SURNAMES))
+            .email("trainee.%d@example.com".formatted(traineeIndex))
+            .telephoneNumber("07700 9%05d".formatted(traineeIndex % 100_000))
+            .gmcNumber("%07d".formatted(1_000_000 + traineeIndex))
+            .skilledWorkerVisaHolder(random.nextInt(10) == 0)
+            .build())
+        .programmeMembership(ProgrammeMembership.builder()
+            .id(programmeMembershipId(traineeIndex))
+            .name(pick(PROGRAMMES))
+            .designatedBodyCode(dbc)
+            .managingDeanery(dbc)
+            .startDate(startDate.minusYears(2))
+            .endDate(startDate.plusYears(2))
+            .wte(1.0)
+            .build())
+        .declarations(Declarations.builder()
+            .discussedWithTpd(true)
+            .informationIsCorrect(true)
+            .notGuaranteed(true)
+            .build())
+        .discussions(Discussions.builder()
+            .tpdName("Training Programme Director")
+            .tpdEmail("tpd.%s@example.com".formatted(dbc.toLowerCase()))
+            .other(List.of(Person.builder()
+                .name("Educational Supervisor")
+                .email("es.%d@example.com".formatted(traineeIndex))
+                .role("Educational Supervisor")
+                .build()))
+            .build())
+        .change(CctChange.builder()
+            .id(nextUuid())
+            .calculationId(nextUuid())
+            .type(CctChangeType.LTFT)
+            .wte(0.5 + random.nextInt(4) * 0.1)
+            .startDate(startDate)
+            .endDate(startDate.plusYears(3))
+            .build())
+        .reasons(Reasons.builder()
+            .selected(List.of(pick(REASONS)))
+            .supportingInformation("Generated supporting information.")
+            .build())
+        .tpdEmailValidity(EmailValidityType.VALID)
+        .build());
+
+    List<StatusInfo> history = generateHistory(pick(LTFT_FINAL_STATES), true);
+    applyHistory(form, history);
+    addHistory(form, history, LtftSubmissionHistory::new);
+    add(LtftForm.class, form);
+    return form;
+  }
+
+  /**
+   * Generate a FormR, along with its status and submission history.
+   *
+   * @param formSupplier      A supplier of the form type.
+   * @param submissionHistory A supplier of the submission history type.
+   * @param contentGenerator  A generator for the form content.
+   * @param <C>               The type of form content.
+   * @param <F>               The type of form.
+   * @return The generated form.
+   */
+  private <C extends FormContent, F extends AbstractAuditedForm<C>> F generateFormR(
+      Supplier<F> formSupplier, Supplier<? extends AbstractAuditedForm<C>> submissionHistory,
+      ContentGenerator<C> contentGenerator) {
+    int traineeIndex = random.nextInt(spec.traineeCount());
+
+    F form = formSupplier.get();
+    form.setId(nextUuid());
+    form.setTraineeTisId(traineeId(traineeIndex));
+    form.setContent(contentGenerator.generate(traineeIndex));
+
+    List<StatusInfo> history = generateHistory(pick(FORMR_FINAL_STATES), false);
+    applyHistory(form, history);
+    addHistory(form, history, submissionHistory);
+    add(form.getClass(), form);
+    return form;
+  }
+
+  /**
+   * Generate FormR Part A content.
+   *
+   * @param traineeIndex The index of the trainee who owns the form.
+   * @return The generated content.
+   */
+  private FormrPartaContent generatePartaContent(int traineeIndex) {
+    LocalDate startDate = BASE_DATE.minusDays(random.nextInt(0, 1_000));
+
+    return FormrPartaContent.builder()
+        .programmeMembershipId(programmeMembershipId(traineeIndex))
+        .isArcp(random.nextBoolean())
+        .forename(pick(FORENAMES))
+        .surname(pick(SURNAMES))
+        .gmcNumber("%07d".formatted(1_000_000 + traineeIndex))
+        .localOfficeName(nextDesignatedBodyCode())
+        .dateOfBirth(LocalDate.of(1980, 1, 1).plusDays(random.nextInt(0, 5_000)))
+        .gender(random.nextBoolean() ? "Female" : "Male")
+        .immigrationStatus("British National")
+        .qualification("MBBS")
+        .dateAttained(startDate.minusYears(3))
+        .medicalSchool("University of London")
+        .address1("%d High Street".formatted(random.nextInt(1, 200)))
+        .address2("Westminster")
+        .address3("London")
+        .postCode("SW1A 1AA")
+        .telephoneNumber("+441200900000")
+        .mobileNumber("+447700900000")
+        .email("trainee.%d@example.com".formatted(traineeIndex))
+        .declarationType("I have been appointed to a programme leading to award of CCT")
+        .isLeadingToCct(true)
+        .programmeSpecialty(pick(PROGRAMMES))
+        .cctSpecialty1(pick(PROGRAMMES))
+        .college("Royal College")
+        .completionDate(startDate.plusYears(4))
+        .trainingGrade("ST" + random.nextInt(1, 8))
+        .startDate(startDate)
+        .programmeMembershipType("Substantive")
+        .wholeTimeEquivalent("1.0")
+        .build();
+  }
+
+  /**
+   * Generate FormR Part B content, with a number of work placements and declarations.
+   *
+   * @param traineeIndex The index of the trainee who owns the form.
+   * @return The generated content.
+   */
+  private FormrPartbContent generatePartbContent(int traineeIndex) {
+    LocalDate workStart = BASE_DATE.minusYears(2);
+    int workCount = random.nextInt(2, 8);
+    List<Work> work = new ArrayList<>(workCount);
+
+    for (int i = 0; i < workCount; i++) {
+      LocalDate workEnd = workStart.plusMonths(random.nextInt(3, 13));
+      work.add(Work.builder()
+          .typeOfWork("In Post " + pick(PROGRAMMES))
+          .startDate(workStart)
+          .endDate(workEnd)
+          .trainingPost("Yes")
+          .site("Site " + random.nextInt(1, 500))
+          .siteLocation("Location " + random.nextInt(1, 500))
+          .build());
+      workStart = workEnd.plusDays(1);
+    }
+
+    boolean hasDeclarations = random.nextInt(5) == 0;
+    List<Declaration> declarations = hasDeclarations
+        ? List.of(Declaration.builder()
+        .declarationType("Significant event")
+        .dateOfEntry(BASE_DATE.minusDays(random.nextInt(1, 700)))
+        .title("Generated declaration")
+        .locationOfEntry("Site " + random.nextInt(1, 500))
+        .build())
+        : List.of();
+
+    return FormrPartbContent.builder()
+        .programmeMembershipId(programmeMembershipId(traineeIndex))
+        .isArcp(random.nextBoolean())
+        .forename(pick(FORENAMES))
+        .surname(pick(SURNAMES))
+        .gmcNumber("%07d".formatted(1_000_000 + traineeIndex))
+        .email("trainee.%d@example.com".formatted(traineeIndex))
+        .localOfficeName(nextDesignatedBodyCode())
+        .prevRevalBody("NHS England")
+        .currRevalDate(BASE_DATE.plusYears(1))
+        .programmeSpecialty(pick(PROGRAMMES))
+        .work(work)
+        .sicknessAbsence(random.nextInt(0, 20))
+        .parentalLeave(random.nextInt(0, 3) == 0 ? random.nextInt(0, 180) : 0)
+        .careerBreaks(0)
+        .paidLeave(random.nextInt(10, 30))
+        .unauthorisedLeave(0)
+        .otherLeave(random.nextInt(0, 5))
+        .totalLeave(random.nextInt(10, 60))
+        .isHonest(true)
+        .isHealthy(true)
+        .isWarned(true)
+        .isComplying(true)
+        .havePreviousDeclarations(hasDeclarations)
+        .previousDeclarations(declarations)
+        .haveCurrentDeclarations(false)
+        .currentDeclarations(List.of())
+        .haveCovidDeclarations(false)
+        .build();
+  }
+
+  /**
+   * Generate a status history through valid lifecycle transitions, ending in the final state.
+   *
+   * @param finalState   The final state of the form.
+   * @param assignAdmins Whether submitted forms should have admins assigned.
+   * @return The generated status history, oldest first.
+   */
+  private List<StatusInfo> generateHistory(LifecycleState finalState, boolean assignAdmins) {
+    int depth = random.nextInt(1, spec.statusHistoryDepth() + 1);
+    List<LifecycleState> states = new ArrayList<>(depth);
+    states.add(DRAFT);
+
+    if (finalState == DELETED && random.nextBoolean()) {
+      states.add(DELETED);
+    } else if (finalState != DRAFT) {
+      states.add(SUBMITTED);
+
+      // Resubmit after unsubmission until the remaining depth is needed for the final state.
+      int reserved = finalState == SUBMITTED ? 0 : 1;
+      while (states.size() + 2 + reserved <= depth && random.nextBoolean()) {
+        states.add(UNSUBMITTED);
+        states.add(SUBMITTED);
+      }
+
+      if (finalState != SUBMITTED) {
+        states.add(finalState);
+      }
+    }
+
+    Instant timestamp = BASE_TIMESTAMP.minus(Duration.ofHours(random.nextInt(24, 24 * 365)));
+    List<StatusInfo> history = new ArrayList<>(Math.max(depth, states.size()));
+    Person assignedAdmin = null;
+    int revision = 0;
+
+    for (int i = 0; i < states.size(); i++) {
+      LifecycleState state = states.get(i);
+      timestamp = timestamp.plus(Duration.ofMinutes(random.nextInt(5, 72 * 60)));
+
+      if (state == SUBMITTED && i > 1) {
+        revision++;
+      }
+
+      history.add(StatusInfo.builder()
+          .state(state)
+          .detail(state == DRAFT || state == SUBMITTED ? null
+              : new StatusDetail("Generated reason", "Generated " + state + " message"))
+          .assignedAdmin(assignedAdmin)
+          .modifiedBy(state == SUBMITTED || state == DRAFT ? null : ADMIN)
+          .timestamp(timestamp)
+          .revision(revision)
+          .build());
+
+      // Pad the history with an admin assignment while short of the target depth.
+      int remaining = states.size() - i - 1;
+      if (assignAdmins && state == SUBMITTED && history.size() + remaining < depth) {
+        assignedAdmin = ADMIN;
+        timestamp = timestamp.plus(Duration.ofMinutes(random.nextInt(5, 24 * 60)));
+        history.add(StatusInfo.builder()
+            .state(SUBMITTED)
+            .assignedAdmin(assignedAdmin)
+            .modifiedBy(ADMIN)
+            .timestamp(timestamp)
+            .revision(revision)
+            .build());
+      }
+    }
+
+    return history;
+  }
+
+  /**
+   * Apply a generated status history to a form, setting the current status, embedded history tail,
+   * form reference and audit timestamps.
+   *
+   * <p>Form references follow the per-trainee sequence issued by the application, so that forms
+   * submitted during a load test are issued the next unused reference.
+   *
+   * @param form    The form to apply the history to.
+   * @param history The status history, oldest first.
+   */
+  private void applyHistory(AbstractAuditedForm<?> form, List<StatusInfo> history) {
+    StatusInfo current = history.get(history.size() - 1);
+    Instant submitted = history.stream()
+        .filter(info -> info.state() == SUBMITTED)
+        .reduce((first, second) -> second)
+        .map(StatusInfo::timestamp)
+        .orElse(null);
+    List<StatusInfo> tail = history.subList(
+        Math.max(0, history.size() - STATUS_HISTORY_TAIL_SIZE), history.size());
+
+    form.setStatus(new Status(current, submitted, List.copyOf(tail)));
+    form.setRevision(current.revision());
+    form.setCreated(history.get(0).timestamp());
+    form.setLastModified(current.timestamp());
+
+    if (submitted != null) {
+      String counterId = "%s_%s".formatted(form.getFormReferencePrefix(), form.getTraineeTisId());
+      int formRefSequence = formRefCounters.merge(counterId, 1, Integer::sum);
+      form.setFormRef("%s_%03d".formatted(counterId, formRefSequence));
+    }
+  }
+
+  /**
+   * Add the full status history and submission history documents of a form.
+   *
+   * @param form              The form to add the history of.
+   * @param history           The status history, oldest first.
+   * @param submissionHistory A supplier of the submission history type.
+   * @param <C>               The type of form content.
+   */
+  private <C extends FormContent> void addHistory(AbstractAuditedForm<C> form,
+      List<StatusInfo> history, Supplier<? extends AbstractAuditedForm<C>> submissionHistory) {
+    Integer lastRevision = null;
+
+    for (int i = 0; i < history.size(); i++) {
+      StatusInfo statusInfo = history.get(i);
+      add(FormStatusHistory.class, new FormStatusHistory(nextUuid(), form.getId(),
+          form.getFormType(), statusInfo));
+
+      if (statusInfo.state() == SUBMITTED && !statusInfo.revision().equals(lastRevision)) {
+        lastRevision = statusInfo.revision();
+
+        AbstractAuditedForm<C> submission = submissionHistory.get();
+        submission.setId(nextUuid());
+        submission.setTraineeTisId(form.getTraineeTisId());
+        submission.setFormRef(form.getFormRef());
+        submission.setRevision(statusInfo.revision());
+        submission.setContent(form.getContent());
+        submission.setStatus(new Status(statusInfo, statusInfo.timestamp(),
+            List.copyOf(history.subList(Math.max(0, i + 1 - STATUS_HISTORY_TAIL_SIZE), i + 1))));
+        submission.setCreated(form.getCreated());
+        submission.setLastModified(statusInfo.timestamp());
+        add(submission.getClass(), submission);
+      }
+    }
+  }
+
+  /**
+   * Add a document to the batch for its type, inserting the batch once it is full.
+   *
+   * @param type     The document type.
+   * @param document The document to add.
+   */
+  private void add(Class<?> type, Object document) {
+    List<Object> batch = batches.computeIfAbsent(type, t -> new ArrayList<>(spec.batchSize()));
+    batch.add(document);
+
+    if (batch.size() >= spec.batchSize()) {
+      flush(type, batch);
+    }
+  }
+
+  /**
+   * Insert all partially filled batches.
+   */
+  private void flushAll() {
+    batches.forEach(this::flush);
+  }
+
+  /**
+   * Insert a batch of documents, the documents are converted and inserted directly to bypass the
+   * auditing and event callbacks.
+   *
+   * @param type  The document type.
+   * @param batch The documents to insert, cleared once inserted.
+   */
+  private void flush(Class<?> type, List<Object> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    MongoConverter converter = mongoTemplate.getConverter();
+    List<Document> documents = new ArrayList<>(batch.size());
+
+    for (Object entity : batch) {
+      Document document = new Document();
+      converter.write(entity, document);
+      documents.add(document);
+    }
+
+    mongoTemplate.getCollection(mongoTemplate.getCollectionName(type))
+        .insertMany(documents, new InsertManyOptions().ordered(false));
+    documentCount += documents.size();
+    batch.clear();
+  }
+
+  /**
+   * Add a form to the sample, if the sample is not yet full.
+   *
+   * @param sample The sample to add to.
+   * @param form   The form to add.
+   */
+  private void sample(List<FormSample> sample, AbstractAuditedForm<?> form) {
+    if (sample.size() < spec.sampleSize()) {
+      UUID programmeMembershipId = null;
+      String dbc = null;
+
+      if (form instanceof LtftForm ltft) {
+        programmeMembershipId = ltft.getContent().programmeMembership().id();
+        dbc = ltft.getContent().programmeMembership().designatedBodyCode();
+      }
+
+      sample.add(new FormSample(form.getId(), form.getTraineeTisId(), programmeMembershipId, dbc));
+    }
+  }
+
+  /**
+   * Get the next designated body code, lower numbered DBCs are picked more often to reflect the
+   * uneven size of local offices.
+   *
+   * @return The designated body code.
+   */
+  private String nextDesignatedBodyCode() {
+    double skewed = Math.pow(random.nextDouble(), 2);
+    return DatasetSpec.designatedBodyCode((int) (skewed * spec.dbcCount()));
+  }
+
+  private UUID nextUuid() {
+    return new UUID(random.nextLong(), random.nextLong());
+  }
+
+  private <T> T pick(T[] values) {
+    return values[random.nextInt(values.length)];
+  }
+
+  /**
+   * Get the ID of the trainee with the given index.
+   *
+   * @param traineeIndex The index of the trainee.
+   * @return The trainee ID.
+   */
+  public static String traineeId(int traineeIndex) {
+    return "load-" + traineeIndex;
+  }
+
+  /**
+   * Get the programme membership ID of the trainee with the given index, each trainee has a single
+   * programme membership.
+   *
+   * @param traineeIndex The index of the trainee.
+   * @return The programme membership ID.
+   */
+  public static UUID programmeMembershipId(int traineeIndex) {
+    return UUID.nameUUIDFromBytes(traineeId(traineeIndex).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * A generator of form content for a trainee.
+   *
+   * @param <C> The type of form content.
+   */
+  @FunctionalInterface
+  private interface ContentGenerator<C extends FormContent> {
+
+    C generate(int traineeIndex);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.dataset;
+
+/**
+ * The size and shape of a generated dataset, the same specification and seed always generate the
+ * same dataset.
+ *
+ * @param seed               The seed for the random generator.
+ * @param traineeCount       The number of distinct trainees owning the generated forms.
+ * @param ltftCount          The number of LTFT forms to generate.
+ * @param formRPartACount    The number of FormR Part A forms to generate.
+ * @param formRPartBCount    The number of FormR Part B forms to generate.
+ * @param dbcCount           The number of designated bodies the forms are spread across, the
+ *                           spread is skewed so that lower numbered DBCs have more forms.
+ * @param statusHistoryDepth The maximum number of status history entries for each form.
+ * @param batchSize          The number of documents to insert in a single batch.
+ * @param sampleSize         The number of form references to retain for each sample category.
+ */
+public record DatasetSpec(
+    long seed,
+    int traineeCount,
+    int ltftCount,
+    int formRPartACount,
+    int formRPartBCount,
+    int dbcCount,
+    int statusHistoryDepth,
+    int batchSize,
+    int sampleSize) {
+
+  private static final String PROPERTY_PREFIX = "load.";
+
+  /**
+   * Create a dataset specification from {@code load.*} system properties, using defaults suitable
+   * for a quick local run when a property is not set.
+   *
+   * @param sampleSize The number of form references to retain for each sample category.
+   * @return The dataset specification.
+   */
+  public static DatasetSpec fromSystemProperties(int sampleSize) {
+    return new DatasetSpec(
+        Long.getLong(PROPERTY_PREFIX + "seed", 20260101L),
+        Integer.getInteger(PROPERTY_PREFIX + "trainees", 2_000),
+        Integer.getInteger(PROPERTY_PREFIX + "ltfts", 5_000),
+        Integer.getInteger(PROPERTY_PREFIX + "formr-partas", 5_000),
+        Integer.getInteger(PROPERTY_PREFIX + "formr-partbs", 5_000),
+        Integer.getInteger(PROPERTY_PREFIX + "dbcs", 14),
+        Integer.getInteger(PROPERTY_PREFIX + "status-history-depth", 8),
+        Integer.getInteger(PROPERTY_PREFIX + "batch-size", 1_000),
+        sampleSize
+    );
+  }
+
+  /**
+   * Get the designated body code with the given index.
+   *
+   * @param index The index of the designated body.
+   * @return The designated body code.
+   */
+  public static String designatedBodyCode(int index) {
+    return "LOAD-DBC-%02d".formatted(index);
+  }
+}
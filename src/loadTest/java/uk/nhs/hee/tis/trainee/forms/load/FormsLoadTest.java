@@ -0,0 +1,296 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.load;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_PDF;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.testcontainers.containers.localstack.LocalStackContainer.Service.S3;
+import static org.testcontainers.containers.localstack.LocalStackContainer.Service.SNS;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.nhs.hee.tis.trainee.forms.DockerImageNames;
+import uk.nhs.hee.tis.trainee.forms.TestJwtUtil;
+import uk.nhs.hee.tis.trainee.forms.dataset.Dataset;
+import uk.nhs.hee.tis.trainee.forms.dataset.Dataset.FormSample;
+import uk.nhs.hee.tis.trainee.forms.dataset.DatasetGenerator;
+import uk.nhs.hee.tis.trainee.forms.dataset.DatasetSpec;
+
+/**
+ * A load test of the main read, submission, PDF and refresh paths against a generated dataset,
+ * reporting latency percentiles for each scenario.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@AutoConfigureMockMvc
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+class FormsLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(FormsLoadTest.class);
+
+  private static final List<String> ADMIN_ROLES = List.of("NHSE LTFT Admin");
+  private static final String BUCKET = "load-test-bucket";
+
+  private static final Map<String, String> TOPICS = Map.of(
+      "application.aws.sns.pdf-generated", "load-pdf-generated",
+      "application.aws.sns.formr-refresh", "load-formr-refresh",
+      "application.aws.sns.formr-updated", "load-formr-updated",
+      "application.aws.sns.ltft-assignment-updated", "load-ltft-assignment-updated",
+      "application.aws.sns.ltft-refresh", "load-ltft-refresh",
+      "application.aws.sns.ltft-status-updated", "load-ltft-status-updated",
+      "application.aws.sns.ltft-content-updated", "load-ltft-content-updated"
+  );
+
+  @Container
+  @ServiceConnection
+  private static final MongoDBContainer mongoContainer = new MongoDBContainer(
+      DockerImageNames.MONGO);
+
+  @Container
+  private static final LocalStackContainer localstack = new LocalStackContainer(
+      DockerImageNames.LOCALSTACK)
+      .withServices(S3, SNS)
+      .withExposedPorts(4566);
+
+  @DynamicPropertySource
+  private static void overrideProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.cloud.aws.region.static", localstack::getRegion);
+    registry.add("spring.cloud.aws.credentials.access-key", localstack::getAccessKey);
+    registry.add("spring.cloud.aws.credentials.secret-key", localstack::getSecretKey);
+
+    registry.add("spring.cloud.aws.s3.endpoint",
+        () -> localstack.getEndpointOverride(S3).toString());
+    registry.add("spring.cloud.aws.s3.path-style-access-enabled", () -> true);
+    registry.add("application.file-store.bucket", () -> BUCKET);
+
+    registry.add("spring.cloud.aws.sns.endpoint",
+        () -> localstack.getEndpointOverride(SNS).toString());
+    TOPICS.forEach((property, topic) -> registry.add(property,
+        () -> "arn:aws:sns:%s:000000000000:%s".formatted(localstack.getRegion(), topic)));
+  }
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MongoTemplate template;
+
+  @MockitoBean
+  private JwtDecoder jwtDecoder;
+
+  private final LatencyRecorder recorder = new LatencyRecorder("forms");
+
+  private Dataset dataset;
+
+  @BeforeAll
+  void setUp() throws IOException, InterruptedException {
+    localstack.execInContainer("awslocal", "s3", "mb", "s3://" + BUCKET);
+
+    for (String topic : TOPICS.values()) {
+      localstack.execInContainer("awslocal", "sns", "create-topic", "--name", topic);
+    }
+
+    DatasetSpec spec = DatasetSpec.fromSystemProperties(recorder.getTotalIterations());
+    dataset = new DatasetGenerator(template, spec).generate();
+    log.info("Load test dataset contains {} documents.", dataset.documentCount());
+  }
+
+  @AfterAll
+  void tearDown() throws IOException {
+    recorder.writeReport();
+    template.getDb().drop();
+  }
+
+  @Test
+  @Order(1)
+  void adminLtftListing() throws Exception {
+    List<FormSample> forms = dataset.ltftSubmitted();
+
+    recorder.record("Admin LTFT listing", i -> {
+      FormSample form = forms.get(i % forms.size());
+      mockMvc.perform(get("/api/admin/ltft")
+              .with(TestJwtUtil.createAdminToken(List.of(form.designatedBodyCode()), ADMIN_ROLES))
+              .param("status", "SUBMITTED")
+              .param("page", String.valueOf(i % 5))
+              .param("size", "50"))
+          .andExpect(status().isOk());
+    });
+  }
+
+  @Test
+  @Order(2)
+  void adminLtftDetail() throws Exception {
+    List<FormSample> forms = dataset.ltftSubmitted();
+
+    recorder.record("Admin LTFT detail", i -> {
+      FormSample form = forms.get(i % forms.size());
+      mockMvc.perform(get("/api/admin/ltft/{id}", form.id())
+              .accept(APPLICATION_JSON)
+              .with(TestJwtUtil.createAdminToken(List.of(form.designatedBodyCode()), ADMIN_ROLES)))
+          .andExpect(status().isOk());
+    });
+  }
+
+  @Test
+  @Order(3)
+  void adminLtftPdf() throws Exception {
+    List<FormSample> forms = dataset.ltftSubmitted();
+
+    recorder.record("Admin LTFT PDF render", i -> {
+      FormSample form = forms.get(i % forms.size());
+      mockMvc.perform(get("/api/admin/ltft/{id}", form.id())
+              .accept(APPLICATION_PDF)
+              .with(TestJwtUtil.createAdminToken(List.of(form.designatedBodyCode()), ADMIN_ROLES)))
+          .andExpect(status().isOk());
+    });
+  }
+
+  @Test
+  @Order(4)
+  void traineeLtftListing() throws Exception {
+    List<FormSample> forms = dataset.ltftSubmitted();
+
+    recorder.record("Trainee LTFT listing", i -> {
+      FormSample form = forms.get(i % forms.size());
+      mockMvc.perform(get("/api/ltft")
+              .with(jwt().jwt(TestJwtUtil.createTokenForTrainee(form.traineeTisId(),
+                  form.programmeMembershipId()))))
+          .andExpect(status().isOk());
+    });
+  }
+
+  @Test
+  @Order(5)
+  void traineeLtftRead() throws Exception {
+    List<FormSample> forms = dataset.ltftSubmitted();
+
+    recorder.record("Trainee LTFT read", i -> {
+      FormSample form = forms.get(i % forms.size());
+      mockMvc.perform(get("/api/ltft/{id}", form.id())
+              .accept(APPLICATION_JSON)
+              .with(jwt().jwt(TestJwtUtil.createTokenForTrainee(form.traineeTisId(),
+                  form.programmeMembershipId()))))
+          .andExpect(status().isOk());
+    });
+  }
+
+  @Test
+  @Order(6)
+  void traineeFormRPartARead() throws Exception {
+    List<FormSample> forms = dataset.formRPartAs();
+
+    recorder.record("Trainee FormR Part A read", i -> {
+      FormSample form = forms.get(i % forms.size());
+      mockMvc.perform(get("/api/formr-parta/{id}", form.id())
+              .with(jwt().jwt(TestJwtUtil.createTokenForTrainee(form.traineeTisId()))))
+          .andExpect(status().isOk());
+    });
+  }
+
+  @Test
+  @Order(7)
+  void traineeFormRPartBRead() throws Exception {
+    List<FormSample> forms = dataset.formRPartBs();
+
+    recorder.record("Trainee FormR Part B read", i -> {
+      FormSample form = forms.get(i % forms.size());
+      mockMvc.perform(get("/api/formr-partb/{id}", form.id())
+              .with(jwt().jwt(TestJwtUtil.createTokenForTrainee(form.traineeTisId()))))
+          .andExpect(status().isOk());
+    });
+  }
+
+  @Test
+  @Order(8)
+  void traineeLtftSubmission() throws Exception {
+    List<FormSample> forms = dataset.ltftDrafts();
+
+    // Each draft can only be submitted once, so every iteration needs its own draft.
+    if (forms.size() < recorder.getTotalIterations()) {
+      throw new IllegalStateException(
+          "The dataset has %d draft LTFTs but %d are needed, increase load.ltfts."
+              .formatted(forms.size(), recorder.getTotalIterations()));
+    }
+
+    recorder.record("Trainee LTFT submission", i -> {
+      FormSample form = forms.get(i);
+      mockMvc.perform(put("/api/ltft/{id}/submit", form.id())
+              .with(jwt().jwt(TestJwtUtil.createTokenForTrainee(form.traineeTisId(),
+                  form.programmeMembershipId())))
+              .contentType(APPLICATION_JSON)
+              .content("""
+                  {
+                    "reason": "Load test",
+                    "message": "Submitted by load test"
+                  }
+                  """))
+          .andExpect(status().isOk());
+    });
+  }
+
+  @Test
+  @Order(9)
+  void refreshJobs() throws Exception {
+    int warmupIterations = Integer.getInteger("load.job-warmup-iterations", 1);
+    int iterations = Integer.getInteger("load.job-iterations", 5);
+
+    for (String job : List.of("ltft", "formr-parta", "formr-partb")) {
+      recorder.record("Refresh job " + job, warmupIterations, iterations,
+          i -> mockMvc.perform(post("/api/job/{job}/publish-refresh", job))
+              .andExpect(status().isOk()));
+    }
+  }
+}
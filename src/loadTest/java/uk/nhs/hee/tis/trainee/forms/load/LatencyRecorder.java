@@ -0,0 +1,211 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A recorder of per-call latencies for load test scenarios, reporting percentiles once complete.
+ */
+public class LatencyRecorder {
+
+  private static final Logger log = LoggerFactory.getLogger(LatencyRecorder.class);
+
+  private static final Path REPORT_DIRECTORY = Path.of("build", "reports", "load-test");
+
+  private final String suite;
+  private final int warmupIterations;
+  private final int iterations;
+  private final Map<String, ScenarioResult> results = new LinkedHashMap<>();
+
+  /**
+   * Create a latency recorder, with iteration counts read from the {@code load.warmup-iterations}
+   * and {@code load.iterations} system properties.
+   *
+   * @param suite The name of the load test suite, used to name the report.
+   */
+  public LatencyRecorder(String suite) {
+    this(suite, Integer.getInteger("load.warmup-iterations", 50),
+        Integer.getInteger("load.iterations", 500));
+  }
+
+  /**
+   * Create a latency recorder.
+   *
+   * @param suite            The name of the load test suite, used to name the report.
+   * @param warmupIterations The number of unrecorded calls made before recording.
+   * @param iterations       The number of recorded calls.
+   * @throws IllegalArgumentException If there are no recorded calls or negative warmup calls.
+   */
+  public LatencyRecorder(String suite, int warmupIterations, int iterations) {
+    validateIterations(warmupIterations, iterations);
+    this.suite = suite;
+    this.warmupIterations = warmupIterations;
+    this.iterations = iterations;
+  }
+
+  /**
+   * Record the latency of a scenario, the call is given the iteration number so that it can vary
+   * the request made.
+   *
+   * @param scenario The name of the scenario.
+   * @param call     The call to record.
+   * @return The result of the scenario.
+   * @throws Exception If the call fails.
+   */
+  public ScenarioResult record(String scenario, ScenarioCall call) throws Exception {
+    return record(scenario, warmupIterations, iterations, call);
+  }
+
+  /**
+   * Record the latency of a scenario with specific iteration counts, for scenarios too slow for the
+   * default counts.
+   *
+   * @param scenario         The name of the scenario.
+   * @param warmupIterations The number of unrecorded calls made before recording.
+   * @param iterations       The number of recorded calls.
+   * @param call             The call to record.
+   * @return The result of the scenario.
+   * @throws IllegalArgumentException If there are no recorded calls or negative warmup calls.
+   * @throws Exception                If the call fails.
+   */
+  public ScenarioResult record(String scenario, int warmupIterations, int iterations,
+      ScenarioCall call) throws Exception {
+    validateIterations(warmupIterations, iterations);
+
+    for (int i = 0; i < warmupIterations; i++) {
+      call.call(i);
+    }
+
+    long[] latencies = new long[iterations];
+    for (int i = 0; i < iterations; i++) {
+      long start = System.nanoTime();
+      call.call(warmupIterations + i);
+      latencies[i] = System.nanoTime() - start;
+    }
+
+    Arrays.sort(latencies);
+    ScenarioResult result = new ScenarioResult(iterations, percentile(latencies, 50),
+        percentile(latencies, 95), percentile(latencies, 99),
+        toMillis(latencies[latencies.length - 1]));
+    results.put(scenario, result);
+    log.info("{}: {}", scenario, result);
+    return result;
+  }
+
+  /**
+   * Get the total number of calls made by a scenario using the default iteration counts.
+   *
+   * @return The number of warmup and recorded calls.
+   */
+  public int getTotalIterations() {
+    return warmupIterations + iterations;
+  }
+
+  /**
+   * Write the recorded results as a JSON report to {@code build/reports/load-test}.
+   *
+   * @throws IOException If the report could not be written.
+   */
+  public void writeReport() throws IOException {
+    Files.createDirectories(REPORT_DIRECTORY);
+    Path report = REPORT_DIRECTORY.resolve(suite + ".json");
+    new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .writeValue(report.toFile(), results);
+    log.info("Load test report written to {}.", report.toAbsolutePath());
+  }
+
+  /**
+   * Validate the iteration counts, at least one recorded call is needed to report percentiles.
+   *
+   * @param warmupIterations The number of unrecorded calls made before recording.
+   * @param iterations       The number of recorded calls.
+   * @throws IllegalArgumentException If there are no recorded calls or negative warmup calls.
+   */
+  private static void validateIterations(int warmupIterations, int iterations) {
+    if (warmupIterations < 0) {
+      throw new IllegalArgumentException(
+          "Warmup iterations must not be negative, but was %d.".formatted(warmupIterations));
+    }
+
+    if (iterations <= 0) {
+      throw new IllegalArgumentException(
+          "Iterations must be greater than zero, but was %d.".formatted(iterations));
+    }
+  }
+
+  /**
+   * Get the nearest-rank percentile of the sorted latencies.
+   *
+   * @param sorted     The sorted latencies, in nanoseconds.
+   * @param percentile The percentile to get.
+   * @return The percentile latency, in milliseconds.
+   */
+  static double percentile(long[] sorted, int percentile) {
+    int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+    return toMillis(sorted[Math.max(0, rank - 1)]);
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  /**
+   * A single call of a load test scenario.
+   */
+  @FunctionalInterface
+  public interface ScenarioCall {
+
+    /**
+     * Make the call.
+     *
+     * @param iteration The iteration number, including warmup iterations.
+     * @throws Exception If the call fails.
+     */
+    void call(int iteration) throws Exception;
+  }
+
+  /**
+   * The latency percentiles of a scenario.
+   *
+   * @param iterations The number of recorded calls.
+   * @param p50Ms      The median latency in milliseconds.
+   * @param p95Ms      The 95th percentile latency in milliseconds.
+   * @param p99Ms      The 99th percentile latency in milliseconds.
+   * @param maxMs      The maximum latency in milliseconds.
+   */
+  public record ScenarioResult(int iterations, double p50Ms, double p95Ms, double p99Ms,
+                               double maxMs) {
+
+  }
+}
@@ -22,9 +22,7 @@ package uk.nhs.hee.tis.trainee.forms.annotations;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.lang.reflect.InvocationTargetException;
 import java.time.LocalDate;
-import org.apache.commons.beanutils.BeanUtils;
 
 /**
  * Implementation of {@link NotBeforeAnotherDateValidation} validator.
@@ -70,36 +68,35 @@ public class NotBeforeAnotherDateValidator
       return true;
     }
 
-    try {
-      boolean isOk = true;
-      String fieldValue = BeanUtils.getProperty(value, fieldName);
-      String dependFieldValue = BeanUtils.getProperty(value, dependFieldName);
-      if (fieldValue == null) {
-        return true;
-      }
-      if (dependFieldValue == null) {
-        isOk = false;
-      }
-      if (isOk) {
-        LocalDate fieldDate = LocalDate.parse(fieldValue);
-        LocalDate dependFieldDate = LocalDate.parse(dependFieldValue);
+    LocalDate fieldDate = toLocalDate(PropertyAccessors.getProperty(value, fieldName));
+    LocalDate dependFieldDate = toLocalDate(PropertyAccessors.getProperty(value, dependFieldName));
 
-        if (dependFieldDate.isBefore(fieldDate)) {
-          isOk = false;
-        }
-      }
-      if (!isOk) {
-        ctx.disableDefaultConstraintViolation();
-        ctx.buildConstraintViolationWithTemplate(message)
-            .addPropertyNode(dependFieldName)
-            .addConstraintViolation();
-        return false;
-      }
+    if (fieldDate == null) {
+      return true;
+    }
 
-    } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException ex) {
-      throw new RuntimeException(ex);
+    if (dependFieldDate == null || dependFieldDate.isBefore(fieldDate)) {
+      ctx.disableDefaultConstraintViolation();
+      ctx.buildConstraintViolationWithTemplate(message)
+          .addPropertyNode(dependFieldName)
+          .addConstraintViolation();
+      return false;
     }
 
     return true;
   }
+
+  /**
+   * Get a property value as a date, date properties are used as-is and any others are parsed.
+   *
+   * @param propertyValue The property value.
+   * @return The property value as a date, or null if the value was null.
+   */
+  private static LocalDate toLocalDate(Object propertyValue) {
+    if (propertyValue == null || propertyValue instanceof LocalDate) {
+      return (LocalDate) propertyValue;
+    }
+
+    return LocalDate.parse(propertyValue.toString());
+  }
 }
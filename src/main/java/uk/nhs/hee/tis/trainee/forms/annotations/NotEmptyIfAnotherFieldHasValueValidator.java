@@ -22,8 +22,9 @@ package uk.nhs.hee.tis.trainee.forms.annotations;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.lang.reflect.InvocationTargetException;
-import org.apache.commons.beanutils.BeanUtils;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Implementation of {@link NotEmptyIfAnotherFieldHasValueValidation} validator.
@@ -80,23 +81,48 @@ public class NotEmptyIfAnotherFieldHasValueValidator
       return !isNotCondition;
     }
 
-    try {
-      String fieldValue = BeanUtils.getProperty(value, fieldName);
-      String dependFieldValue = BeanUtils.getProperty(value, dependFieldName);
-
-      if ((dependFieldValue == null || dependFieldValue.isEmpty())
-          && (expectedFieldValue.equals(fieldValue) == !isNotCondition)) {
-        ctx.disableDefaultConstraintViolation();
-        ctx.buildConstraintViolationWithTemplate(message)
-            .addPropertyNode(dependFieldName)
-            .addConstraintViolation();
-        return false;
-      }
-
-    } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException ex) {
-      throw new RuntimeException(ex);
+    Object fieldValue = PropertyAccessors.getProperty(value, fieldName);
+    Object dependFieldValue = PropertyAccessors.getProperty(value, dependFieldName);
+
+    // Non-text values are compared by their string form, e.g. Boolean "true".
+    boolean hasExpectedValue =
+        fieldValue != null && expectedFieldValue.equals(fieldValue.toString());
+    boolean isDependFieldEmpty = isEmpty(dependFieldValue);
+
+    if (isDependFieldEmpty && hasExpectedValue == !isNotCondition) {
+      ctx.disableDefaultConstraintViolation();
+      ctx.buildConstraintViolationWithTemplate(message)
+          .addPropertyNode(dependFieldName)
+          .addConstraintViolation();
+      return false;
     }
 
     return true;
   }
+
+  /**
+   * Check whether a value is empty, i.e. null or an empty text, collection, map or array.
+   *
+   * @param value The value to check.
+   * @return True if the value is empty, otherwise false.
+   */
+  private static boolean isEmpty(Object value) {
+    if (value == null) {
+      return true;
+    }
+
+    if (value instanceof CharSequence text) {
+      return text.isEmpty();
+    }
+
+    if (value instanceof Collection<?> collection) {
+      return collection.isEmpty();
+    }
+
+    if (value instanceof Map<?, ?> map) {
+      return map.isEmpty();
+    }
+
+    return value.getClass().isArray() && Array.getLength(value) == 0;
+  }
 }
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.annotations;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read accessors for bean properties, resolved to method handles once per class and property name
+ * so that repeated validation does not repeat introspection.
+ */
+final class PropertyAccessors {
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<Map<String, MethodHandle>> GETTERS = new ClassValue<>() {
+    @Override
+    protected Map<String, MethodHandle> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private PropertyAccessors() {
+  }
+
+  /**
+   * Get the value of a property of the given bean, without any type conversion.
+   *
+   * @param bean         The bean to read the property from.
+   * @param propertyName The name of the property.
+   * @return The property value, may be null.
+   * @throws IllegalArgumentException If the bean has no readable property with the given name.
+   */
+  static Object getProperty(Object bean, String propertyName) {
+    Class<?> type = bean.getClass();
+    MethodHandle getter = GETTERS.get(type)
+        .computeIfAbsent(propertyName, name -> resolveGetter(type, name));
+
+    try {
+      return (Object) getter.invokeExact(bean);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(
+          "Unable to read property '%s' of %s.".formatted(propertyName, type.getName()), t);
+    }
+  }
+
+  /**
+   * Resolve the getter of a property, bean properties are preferred with a fallback to a public
+   * accessor method named after the property, e.g. for records.
+   *
+   * @param type         The class to resolve the getter for.
+   * @param propertyName The name of the property.
+   * @return A method handle of type {@code (Object)Object} for the getter.
+   * @throws IllegalArgumentException If the class has no readable property with the given name.
+   */
+  private static MethodHandle resolveGetter(Class<?> type, String propertyName) {
+    try {
+      for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type)
+          .getPropertyDescriptors()) {
+        Method readMethod = descriptor.getReadMethod();
+
+        if (descriptor.getName().equals(propertyName) && readMethod != null) {
+          return toGetter(readMethod);
+        }
+      }
+
+      return toGetter(type.getMethod(propertyName));
+    } catch (IntrospectionException | NoSuchMethodException | IllegalAccessException e) {
+      throw new IllegalArgumentException(
+          "No readable property '%s' on %s.".formatted(propertyName, type.getName()), e);
+    }
+  }
+
+  /**
+   * Convert a getter method to a method handle.
+   *
+   * @param method The getter method.
+   * @return A method handle of type {@code (Object)Object} for the getter.
+   * @throws IllegalAccessException If the getter is not accessible.
+   */
+  private static MethodHandle toGetter(Method method) throws IllegalAccessException {
+    return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+  }
+}
@@ -33,6 +33,7 @@ import jakarta.validation.Valid;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -45,8 +46,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.ResponseEntity.BodyBuilder;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.FieldError;
@@ -59,12 +62,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import uk.nhs.hee.tis.trainee.forms.api.util.EtagUtil;
 import uk.nhs.hee.tis.trainee.forms.dto.FormPatchDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftAdminSummaryDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftBulkActionDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftBulkAssignDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftBulkResultDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto.StatusDto.LftfStatusInfoDetailDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto.StatusDto.StatusInfoDto;
 import uk.nhs.hee.tis.trainee.forms.dto.PersonDto;
 import uk.nhs.hee.tis.trainee.forms.dto.ReviewWorkflowDto;
+import uk.nhs.hee.tis.trainee.forms.service.LtftPatchEngine;
 import uk.nhs.hee.tis.trainee.forms.service.LtftService;
 import uk.nhs.hee.tis.trainee.forms.service.PdfService;
 
@@ -78,6 +88,8 @@ import uk.nhs.hee.tis.trainee.forms.service.PdfService;
 @XRayEnabled
 public class AdminLtftResource {
 
+  private static final String PDF_VARIANT = "pdf";
+
   private final LtftService service;
   private final PdfService pdfService;
   private final ObjectMapper objectMapper;
@@ -128,24 +140,48 @@ public class AdminLtftResource {
   /**
    * Get the details of a form with a particular ID associated with the admin's local office.
    *
-   * @param id The ID of the form.
+   * <p>A matching {@code If-None-Match} returns 304 without loading the full form.
+   *
+   * @param id      The ID of the form.
+   * @param request The web request, used to check the request's preconditions.
    * @return The found form details, empty if not found.
    */
   @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-  ResponseEntity<LtftFormDto> getLtftAdminDetail(@PathVariable UUID id) {
+  ResponseEntity<LtftFormDto> getLtftAdminDetail(@PathVariable UUID id, WebRequest request) {
+    Optional<String> etag = service.getAdminLtftDetailEtag(id);
+
+    if (etag.isPresent() && request.checkNotModified(etag.get())) {
+      log.info("LTFT '{}' has not been modified.", id);
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+    }
+
     Optional<LtftFormDto> formDetail = service.getAdminLtftDetail(id);
-    return ResponseEntity.of(formDetail);
+    BodyBuilder response = ResponseEntity.ok();
+    etag.ifPresent(response::eTag);
+    return formDetail.map(response::body).orElseGet(() -> ResponseEntity.notFound().build());
   }
 
   /**
    * Get a PDF of a form with a particular ID associated with the admin's local office.
    *
-   * @param id The ID of the form.
+   * <p>A matching {@code If-None-Match} returns 304 without loading the form or generating the
+   * PDF.
+   *
+   * @param id      The ID of the form.
+   * @param request The web request, used to check the request's preconditions.
    * @return The generated PDF
    */
   @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_PDF_VALUE)
-  ResponseEntity<byte[]> getLtftAdminDetailPdf(@PathVariable UUID id) {
+  ResponseEntity<byte[]> getLtftAdminDetailPdf(@PathVariable UUID id, WebRequest request) {
     log.info("PDF requested by admin for LTFT '{}'", id);
+    Optional<String> etag = service.getAdminLtftDetailEtag(id)
+        .map(formEtag -> EtagUtil.withVariant(formEtag, PDF_VARIANT));
+
+    if (etag.isPresent() && request.checkNotModified(etag.get())) {
+      log.info("LTFT '{}' has not been modified, PDF not generated.", id);
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+    }
+
     Optional<LtftFormDto> formDetail = service.getAdminLtftDetail(id);
 
     if (formDetail.isPresent()) {
@@ -153,7 +189,9 @@ public class AdminLtftResource {
 
       try {
         byte[] pdf = pdfService.generatePdf(ltft, "admin");
-        return ResponseEntity.ok(pdf);
+        BodyBuilder response = ResponseEntity.ok();
+        etag.ifPresent(response::eTag);
+        return response.body(pdf);
       } catch (IOException e) {
         return ResponseEntity.unprocessableEntity().build();
       }
@@ -162,6 +200,19 @@ public class AdminLtftResource {
     return ResponseEntity.notFound().build();
   }
 
+  /**
+   * Get the full status history of a form with a particular ID associated with the admin's local
+   * office.
+   *
+   * @param id The ID of the form.
+   * @return The full status history of the form, oldest first.
+   */
+  @GetMapping("/{id}/status-history")
+  ResponseEntity<List<StatusInfoDto>> getLtftAdminStatusHistory(@PathVariable UUID id) {
+    Optional<List<StatusInfoDto>> history = service.getAdminLtftStatusHistory(id);
+    return ResponseEntity.of(history);
+  }
+
   /**
    * Get a deduplicated set of review stage labels for the admin's local office DBCs. Includes all
    * enabled stages plus any disabled stages that currently have LTFT forms in them.
@@ -196,8 +247,7 @@ public class AdminLtftResource {
           new FieldError(FormPatchDto.class.getSimpleName(), "patch", "must not be empty"));
     }
 
-    // TODO: validate patchability generically in a central place (e.g. annotations).
-    Set<String> allowedPaths = Set.of("/change/startDate", "/change/wte");
+    Set<String> allowedPaths = LtftPatchEngine.PATCHABLE_PATHS;
     int opIndex = 0;
 
     for (Iterator<JsonNode> opIterator = patchJson.elements(); opIterator.hasNext(); opIndex++) {
@@ -305,4 +355,74 @@ public class AdminLtftResource {
     Optional<LtftFormDto> form = service.updateStatusAsAdmin(id, UNSUBMITTED, detail);
     return ResponseEntity.of(form);
   }
+
+  /**
+   * Assign an admin to a number of forms, which must be associated with the user's local office.
+   *
+   * @param request The IDs of the forms and the admin to assign.
+   * @return The result for each requested form.
+   */
+  @PutMapping("/bulk/assign")
+  ResponseEntity<LtftBulkResultDto> bulkAssignAdmin(
+      @Valid @RequestBody LtftBulkAssignDto request) {
+    log.info("Bulk assignment requested by admin for {} LTFTs", request.ids().size());
+    return ResponseEntity.ok(service.bulkAssignAdmin(request.ids(), request.admin()));
+  }
+
+  /**
+   * Advance the review stage of a number of forms, which must be associated with the user's local
+   * office.
+   *
+   * @param request The IDs of the forms and optional detail to record alongside each stage change.
+   * @return The result for each requested form.
+   */
+  @PutMapping("/bulk/review-stage/advance")
+  ResponseEntity<LtftBulkResultDto> bulkAdvanceReviewStage(
+      @Valid @RequestBody LtftBulkActionDto request) {
+    log.info("Bulk review stage advance requested by admin for {} LTFTs", request.ids().size());
+    return ResponseEntity.ok(service.bulkAdvanceReviewStage(request.ids(), request.detail()));
+  }
+
+  /**
+   * Approve a number of forms, which must be associated with the user's local office. As with a
+   * single approval no detail is recorded, any detail in the request is ignored.
+   *
+   * @param request The IDs of the forms to approve.
+   * @return The result for each requested form.
+   */
+  @PutMapping("/bulk/approve")
+  ResponseEntity<LtftBulkResultDto> bulkApproveLtft(
+      @Valid @RequestBody LtftBulkActionDto request) {
+    log.info("Bulk approval requested by admin for {} LTFTs", request.ids().size());
+    return ResponseEntity.ok(
+        service.bulkUpdateStatusAsAdmin(request.ids(), APPROVED, null));
+  }
+
+  /**
+   * Reject a number of forms, which must be associated with the user's local office.
+   *
+   * @param request The IDs of the forms to reject and the reason for rejection.
+   * @return The result for each requested form.
+   */
+  @PutMapping("/bulk/reject")
+  ResponseEntity<LtftBulkResultDto> bulkRejectLtft(
+      @Valid @RequestBody LtftBulkActionDto request) {
+    log.info("Bulk rejection requested by admin for {} LTFTs", request.ids().size());
+    return ResponseEntity.ok(
+        service.bulkUpdateStatusAsAdmin(request.ids(), REJECTED, request.detail()));
+  }
+
+  /**
+   * Unsubmit a number of forms, which must be associated with the user's local office.
+   *
+   * @param request The IDs of the forms to unsubmit and the reason for unsubmission.
+   * @return The result for each requested form.
+   */
+  @PutMapping("/bulk/unsubmit")
+  ResponseEntity<LtftBulkResultDto> bulkUnsubmitLtft(
+      @Valid @RequestBody LtftBulkActionDto request) {
+    log.info("Bulk unsubmission requested by admin for {} LTFTs", request.ids().size());
+    return ResponseEntity.ok(
+        service.bulkUpdateStatusAsAdmin(request.ids(), UNSUBMITTED, request.detail()));
+  }
 }
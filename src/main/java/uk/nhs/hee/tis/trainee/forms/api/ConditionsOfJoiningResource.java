@@ -29,9 +29,9 @@ import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PutMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import uk.nhs.hee.tis.trainee.forms.config.filter.SignedRequestBody;
 import uk.nhs.hee.tis.trainee.forms.dto.ConditionsOfJoiningPdfRequestDto;
 import uk.nhs.hee.tis.trainee.forms.dto.ProgrammeMembershipDto;
 import uk.nhs.hee.tis.trainee.forms.dto.identity.TraineeIdentity;
@@ -69,7 +69,7 @@ public class ConditionsOfJoiningResource {
    */
   @PutMapping(produces = MediaType.APPLICATION_PDF_VALUE)
   public ResponseEntity<byte[]> generatePdf(
-      @Valid @RequestBody ProgrammeMembershipDto programmeMembership) throws IOException {
+      @Valid @SignedRequestBody ProgrammeMembershipDto programmeMembership) throws IOException {
 
     String traineeId = traineeIdentity.getTraineeId();
 
@@ -33,6 +33,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.ResponseEntity.BodyBuilder;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -42,6 +43,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import uk.nhs.hee.tis.trainee.forms.api.util.HeaderUtil;
 import uk.nhs.hee.tis.trainee.forms.api.validation.FormRPartAValidator;
 import uk.nhs.hee.tis.trainee.forms.dto.FormRPartADto;
@@ -156,13 +158,24 @@ public class FormRPartAResource {
   /**
    * GET /formr-parta/:id.
    *
-   * @param id The ID of the form
+   * <p>A matching {@code If-None-Match} returns 304 without loading the full form.
+   *
+   * @param id      The ID of the form
+   * @param request The web request, used to check the request's preconditions.
    * @return the formR partA based on the id
    */
   @GetMapping("/formr-parta/{id}")
-  public ResponseEntity<FormRPartADto> getFormRPartAsById(@PathVariable String id) {
+  public ResponseEntity<FormRPartADto> getFormRPartAsById(@PathVariable String id,
+      WebRequest request) {
     log.info("FormRPartA by id {}", id);
 
+    Optional<String> etag = service.getFormRPartAEtag(id);
+
+    if (etag.isPresent() && request.checkNotModified(etag.get())) {
+      log.info("FormRPartA id {} has not been modified.", id);
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+    }
+
     Optional<FormRPartADto> formRPartADto = service.getFormRPartAById(id);
 
     formRPartADto.ifPresent(dto -> {
@@ -172,7 +185,9 @@ public class FormRPartAResource {
       }
     });
 
-    return ResponseEntity.of(formRPartADto);
+    BodyBuilder response = ResponseEntity.ok();
+    etag.ifPresent(response::eTag);
+    return formRPartADto.map(response::body).orElseGet(() -> ResponseEntity.notFound().build());
   }
 
   /**
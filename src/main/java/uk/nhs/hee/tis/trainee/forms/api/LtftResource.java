@@ -29,8 +29,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.ResponseEntity.BodyBuilder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -41,6 +43,8 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import uk.nhs.hee.tis.trainee.forms.api.util.EtagUtil;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftSummaryDto;
 import uk.nhs.hee.tis.trainee.forms.dto.validation.Create;
@@ -58,6 +62,8 @@ import uk.nhs.hee.tis.trainee.forms.service.PdfService;
 @XRayEnabled
 public class LtftResource {
 
+  private static final String PDF_VARIANT = "pdf";
+
   private final LtftService service;
   private final PdfService pdfService;
 
@@ -74,6 +80,9 @@ public class LtftResource {
   /**
    * Retrieve a list of LTFT summaries for the logged-in user.
    *
+   * <p>The response carries an ETag, a matching {@code If-None-Match} returns 304 without
+   * serializing the summaries.
+   *
    * @return The list of LTFT summaries, or an empty list if none found.
    */
   @GetMapping
@@ -81,33 +90,56 @@ public class LtftResource {
   public ResponseEntity<List<LtftSummaryDto>> getLtftSummaries() {
     log.info("Request to get summary list of LTFT records.");
     List<LtftSummaryDto> ltfts = service.getLtftSummaries();
-    return ResponseEntity.ok(ltfts);
+    return ResponseEntity.ok().eTag(EtagUtil.forContent(ltfts)).body(ltfts);
   }
 
   /**
    * Get an existing LTFT form.
    *
-   * @param formId The id of the LTFT form to retrieve.
+   * <p>A matching {@code If-None-Match} returns 304 without loading the full form.
    *
+   * @param formId  The id of the LTFT form to retrieve.
+   * @param request The web request, used to check the request's preconditions.
    * @return The DTO of the saved form.
    */
   @GetMapping("/{formId}")
   @JsonView(Trainee.Read.class)
-  public ResponseEntity<LtftFormDto> getLtft(@PathVariable UUID formId) {
+  public ResponseEntity<LtftFormDto> getLtft(@PathVariable UUID formId, WebRequest request) {
     log.info("Request to retrieve LTFT form {}.", formId);
+    Optional<String> etag = service.getLtftFormEtag(formId);
+
+    if (etag.isPresent() && request.checkNotModified(etag.get())) {
+      log.info("LTFT form {} has not been modified.", formId);
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+    }
+
     Optional<LtftFormDto> ltft = service.getLtftForm(formId);
-    return ResponseEntity.of(ltft);
+    BodyBuilder response = ResponseEntity.ok();
+    etag.ifPresent(response::eTag);
+    return ltft.map(response::body).orElseGet(() -> ResponseEntity.notFound().build());
   }
 
   /**
    * Get a PDF of a LTFT form with a particular ID.
    *
-   * @param formId The ID of the form.
+   * <p>A matching {@code If-None-Match} returns 304 without loading the form or generating the
+   * PDF.
+   *
+   * @param formId  The ID of the form.
+   * @param request The web request, used to check the request's preconditions.
    * @return The generated PDF
    */
   @GetMapping(value = "/{formId}", produces = MediaType.APPLICATION_PDF_VALUE)
-  ResponseEntity<byte[]> getLtftPdf(@PathVariable UUID formId) {
+  ResponseEntity<byte[]> getLtftPdf(@PathVariable UUID formId, WebRequest request) {
     log.info("PDF requested by trainee for LTFT '{}'", formId);
+    Optional<String> etag = service.getLtftFormEtag(formId)
+        .map(formEtag -> EtagUtil.withVariant(formEtag, PDF_VARIANT));
+
+    if (etag.isPresent() && request.checkNotModified(etag.get())) {
+      log.info("LTFT '{}' has not been modified, PDF not generated.", formId);
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+    }
+
     Optional<LtftFormDto> formDetail = service.getLtftForm(formId);
 
     if (formDetail.isPresent()) {
@@ -115,7 +147,9 @@ public class LtftResource {
 
       try {
         byte[] pdf = pdfService.generatePdf(ltft, "trainee");
-        return ResponseEntity.ok(pdf);
+        BodyBuilder response = ResponseEntity.ok();
+        etag.ifPresent(response::eTag);
+        return response.body(pdf);
       } catch (IOException e) {
         return ResponseEntity.unprocessableEntity().build();
       }
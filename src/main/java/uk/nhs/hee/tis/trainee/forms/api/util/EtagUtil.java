@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.springframework.util.DigestUtils;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm;
+
+/**
+ * A utility for building strong entity tags (ETags) for conditional requests.
+ */
+public class EtagUtil {
+
+  private EtagUtil() {
+
+  }
+
+  /**
+   * Build the ETag of an audited form, derived from its ID, revision and last modified timestamp.
+   *
+   * <p>Only the ID, revision and last modified fields of the form are required, so the form may be
+   * a projection rather than the full document.
+   *
+   * @param form The form to build the ETag for.
+   * @return The quoted ETag.
+   */
+  public static String forForm(AbstractAuditedForm<?> form) {
+    Instant lastModified = form.getLastModified();
+    long modifiedMillis = lastModified == null ? 0 : lastModified.toEpochMilli();
+    return "\"%s-%d-%x\"".formatted(form.getId(), form.getRevision(), modifiedMillis);
+  }
+
+  /**
+   * Build the ETag of some content from a hash of its string representation, the content's
+   * {@code toString} must include all values which affect the response, e.g. a list of records.
+   *
+   * @param content The content to build the ETag for.
+   * @return The quoted ETag.
+   */
+  public static String forContent(Object content) {
+    byte[] bytes = String.valueOf(content).getBytes(StandardCharsets.UTF_8);
+    return "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+  }
+
+  /**
+   * Build the ETag of an alternative representation of the same resource, such as a PDF, so that
+   * each representation has a distinct strong ETag.
+   *
+   * @param etag    The quoted ETag of the resource.
+   * @param variant The name of the representation.
+   * @return The quoted ETag of the representation.
+   */
+  public static String withVariant(String etag, String variant) {
+    return etag.substring(0, etag.length() - 1) + "-" + variant + "\"";
+  }
+}
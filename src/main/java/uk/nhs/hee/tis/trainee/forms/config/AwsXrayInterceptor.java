@@ -34,6 +34,10 @@ import com.amazonaws.xray.spring.aop.AbstractXRayInterceptor;
 import com.amazonaws.xray.strategy.sampling.SamplingRequest;
 import com.amazonaws.xray.strategy.sampling.SamplingResponse;
 import com.amazonaws.xray.strategy.sampling.SamplingStrategy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
@@ -58,15 +62,38 @@ import org.springframework.stereotype.Component;
 public class AwsXrayInterceptor extends AbstractXRayInterceptor {
 
   private final String tracingName;
+  private final TracingMode tracingMode;
+  private final Set<String> includedTargets;
+  private final Set<String> excludedTargets;
+
+  /**
+   * Subsegment names by declaring type and method name, an empty name indicates an untraced
+   * target. Cached to avoid building and matching names on every intercepted call.
+   */
+  private final Map<Class<?>, Map<String, Optional<String>>> subsegmentNames =
+      new ConcurrentHashMap<>();
 
   /**
    * Construct an XRay interceptor.
    *
-   * @param tracingName The name of the application to add to the trace.
+   * @param tracingName     The name of the application to add to the trace.
+   * @param tracingMode     The tracing mode, controlling how subsegments are created.
+   * @param includedTargets The class names, or class and method names in the form
+   *                        {@code Class.method}, to trace. If empty, all targets are traced.
+   * @param excludedTargets The class names, or class and method names in the form
+   *                        {@code Class.method}, to never trace.
    */
   public AwsXrayInterceptor(
-      @Value("${com.amazonaws.xray.strategy.tracing-name}") String tracingName) {
+      @Value("${com.amazonaws.xray.strategy.tracing-name}") String tracingName,
+      @Value("${com.amazonaws.xray.strategy.tracing-mode}") TracingMode tracingMode,
+      @Value("${com.amazonaws.xray.strategy.included-targets}") Set<String> includedTargets,
+      @Value("${com.amazonaws.xray.strategy.excluded-targets}") Set<String> excludedTargets) {
     this.tracingName = tracingName;
+    this.tracingMode = tracingMode;
+    this.includedTargets = Set.copyOf(includedTargets);
+    this.excludedTargets = Set.copyOf(excludedTargets);
+    log.info("X-Ray tracing mode {}, included targets {}, excluded targets {}.", tracingMode,
+        includedTargets, excludedTargets);
   }
 
   /**
@@ -122,7 +149,7 @@ public class AwsXrayInterceptor extends AbstractXRayInterceptor {
         serviceSegment.setRuleName(ruleName);
       }
 
-      return beginSubsegments(recorder, pjp);
+      return beginSubsegments(recorder, serviceSegment, pjp);
     }
   }
 
@@ -152,7 +179,7 @@ public class AwsXrayInterceptor extends AbstractXRayInterceptor {
           try (var segment = recorder.beginSegment(tracingName, traceId, parentId)) {
             boolean sampled = SampleDecision.SAMPLED.equals(traceHeader.getSampled());
             segment.setSampled(sampled);
-            return beginSubsegments(recorder, pjp);
+            return beginSubsegments(recorder, segment, pjp);
           }
         }
       }
@@ -161,22 +188,72 @@ public class AwsXrayInterceptor extends AbstractXRayInterceptor {
     try (Segment serviceSegment = recorder.beginSegment(tracingName)) {
       // NoOpSegments cause error logs as they are not closed, so disable sampling instead.
       serviceSegment.setSampled(false);
-      return beginSubsegments(recorder, pjp);
+      return beginSubsegments(recorder, serviceSegment, pjp);
+    }
+  }
+
+  /**
+   * Trace a method of an {@link com.amazonaws.xray.spring.aop.XRayEnabled} bean. Untraced targets
+   * proceed without a subsegment, in low overhead mode a single named subsegment is only created
+   * when the current trace is sampled.
+   *
+   * @param pjp The join point.
+   * @return The result of proceeding with the join point.
+   * @throws Throwable If the invoked proceed throws anything.
+   */
+  @Override
+  protected Object processXRayTrace(ProceedingJoinPoint pjp) throws Throwable {
+    Optional<String> subsegmentName = getSubsegmentName(pjp.getSignature());
+
+    if (subsegmentName.isEmpty()) {
+      return pjp.proceed();
+    }
+
+    if (tracingMode == TracingMode.FULL) {
+      return super.processXRayTrace(pjp);
+    }
+
+    AWSXRayRecorder recorder = AWSXRay.getGlobalRecorder();
+    boolean sampled = recorder.getCurrentSegmentOptional()
+        .map(Segment::isSampled)
+        .orElse(false);
+
+    if (!sampled) {
+      return pjp.proceed();
     }
+
+    return proceedInSubsegment(recorder, subsegmentName.get(), pjp);
   }
 
   /**
    * Begin standard subsegments for the wrapped class and method names and proceeds with the join
-   * point.
+   * point. In low overhead mode a single merged subsegment is used, and no subsegments are created
+   * for unsampled segments. Untraced targets proceed without subsegments, the segment is always
+   * begun by the caller so that nested subsegments still have a parent segment.
    *
    * @param recorder The recorder to add subsegments to.
+   * @param segment  The segment the subsegments belong to.
    * @param pjp      The join point.
    * @return The result of proceeding with the join point.
    * @throws Throwable If the invoked proceed throws anything.
    */
-  private Object beginSubsegments(AWSXRayRecorder recorder, ProceedingJoinPoint pjp)
-      throws Throwable {
+  private Object beginSubsegments(AWSXRayRecorder recorder, Segment segment,
+      ProceedingJoinPoint pjp) throws Throwable {
     Signature signature = pjp.getSignature();
+    Optional<String> subsegmentName = getSubsegmentName(signature);
+
+    if (subsegmentName.isEmpty()) {
+      return pjp.proceed();
+    }
+
+    if (tracingMode == TracingMode.LOW_OVERHEAD) {
+      if (!segment.isSampled()) {
+        return pjp.proceed();
+      }
+
+      return proceedInSubsegment(recorder, subsegmentName.get(), pjp);
+    }
+
     String className = signature.getDeclaringType().getSimpleName();
 
     try (Subsegment classSegment = recorder.beginSubsegment(className)) {
@@ -186,4 +263,78 @@ public class AwsXrayInterceptor extends AbstractXRayInterceptor {
       }
     }
   }
+
+  /**
+   * Proceed with the join point inside a single subsegment, recording any thrown exception.
+   *
+   * @param recorder       The recorder to add the subsegment to.
+   * @param subsegmentName The name of the subsegment.
+   * @param pjp            The join point.
+   * @return The result of proceeding with the join point.
+   * @throws Throwable If the invoked proceed throws anything.
+   */
+  private Object proceedInSubsegment(AWSXRayRecorder recorder, String subsegmentName,
+      ProceedingJoinPoint pjp) throws Throwable {
+    try (Subsegment subsegment = recorder.beginSubsegment(subsegmentName)) {
+      try {
+        return pjp.proceed();
+      } catch (Exception e) {
+        subsegment.addException(e);
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Get the subsegment name for the signature's target, in the form {@code Class.method}.
+   *
+   * @param signature The signature of the intercepted method.
+   * @return The subsegment name, or empty if the target should not be traced.
+   */
+  private Optional<String> getSubsegmentName(Signature signature) {
+    Class<?> declaringType = signature.getDeclaringType();
+    return subsegmentNames
+        .computeIfAbsent(declaringType, type -> new ConcurrentHashMap<>())
+        .computeIfAbsent(signature.getName(),
+            methodName -> resolveSubsegmentName(declaringType, methodName));
+  }
+
+  /**
+   * Resolve the subsegment name for a target, applying the included and excluded targets.
+   *
+   * @param declaringType The class declaring the method.
+   * @param methodName    The name of the method.
+   * @return The subsegment name, or empty if the target should not be traced.
+   */
+  private Optional<String> resolveSubsegmentName(Class<?> declaringType, String methodName) {
+    String className = declaringType.getSimpleName();
+    String qualifiedName = className + "." + methodName;
+
+    if (excludedTargets.contains(className) || excludedTargets.contains(qualifiedName)) {
+      return Optional.empty();
+    }
+
+    if (!includedTargets.isEmpty() && !includedTargets.contains(className)
+        && !includedTargets.contains(qualifiedName)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(qualifiedName);
+  }
+
+  /**
+   * The available tracing modes.
+   */
+  public enum TracingMode {
+
+    /**
+     * Trace every call with separate class and method subsegments, regardless of sampling.
+     */
+    FULL,
+
+    /**
+     * Trace sampled calls only, using a single merged class and method subsegment.
+     */
+    LOW_OVERHEAD
+  }
 }
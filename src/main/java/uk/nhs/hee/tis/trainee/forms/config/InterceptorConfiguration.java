@@ -21,11 +21,13 @@
 
 package uk.nhs.hee.tis.trainee.forms.config;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.context.annotation.RequestScope;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import uk.nhs.hee.tis.trainee.forms.config.security.JwtTokenCache;
 import uk.nhs.hee.tis.trainee.forms.dto.identity.AdminIdentity;
 import uk.nhs.hee.tis.trainee.forms.dto.identity.TraineeIdentity;
 import uk.nhs.hee.tis.trainee.forms.interceptor.AdminIdentityInterceptor;
@@ -51,6 +53,12 @@ public class InterceptorConfiguration implements WebMvcConfigurer {
       "/api/ltft/move/**"
   };
 
+  private final ObjectProvider<JwtTokenCache> tokenCache;
+
+  public InterceptorConfiguration(ObjectProvider<JwtTokenCache> tokenCache) {
+    this.tokenCache = tokenCache;
+  }
+
   @Override
   public void addInterceptors(InterceptorRegistry registry) {
     registry.addInterceptor(adminIdentityInterceptor())
@@ -88,7 +96,7 @@ public class InterceptorConfiguration implements WebMvcConfigurer {
    */
   @Bean
   public TraineeIdentityInterceptor traineeIdentityInterceptor() {
-    return new TraineeIdentityInterceptor(traineeIdentity());
+    return new TraineeIdentityInterceptor(traineeIdentity(), tokenCache.getIfAvailable());
   }
 
   /**
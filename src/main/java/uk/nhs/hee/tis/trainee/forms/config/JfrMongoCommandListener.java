@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.config;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bson.BsonValue;
+import uk.nhs.hee.tis.trainee.forms.jfr.MongoCommandEvent;
+
+/**
+ * A Mongo command listener which emits a JFR event for each command. Commands are only tracked
+ * while a flight recording has the event enabled.
+ */
+public class JfrMongoCommandListener implements CommandListener {
+
+  private final Map<Integer, MongoCommandEvent> startedCommands = new ConcurrentHashMap<>();
+
+  @Override
+  public void commandStarted(CommandStartedEvent event) {
+    String commandName = event.getCommandName();
+    BsonValue collection = event.getCommand().get(commandName);
+    MongoCommandEvent jfrEvent = MongoCommandEvent.begin(commandName, event.getDatabaseName(),
+        collection != null && collection.isString() ? collection.asString().getValue() : null);
+
+    if (jfrEvent.isEnabled()) {
+      startedCommands.put(event.getRequestId(), jfrEvent);
+    }
+  }
+
+  @Override
+  public void commandSucceeded(CommandSucceededEvent event) {
+    completeCommand(event.getRequestId(), "succeeded");
+  }
+
+  @Override
+  public void commandFailed(CommandFailedEvent event) {
+    completeCommand(event.getRequestId(), "failed");
+  }
+
+  /**
+   * Complete a command, committing its JFR event if one was started.
+   *
+   * @param requestId The request ID of the command.
+   * @param outcome   The outcome of the command.
+   */
+  private void completeCommand(int requestId, String outcome) {
+    MongoCommandEvent jfrEvent = startedCommands.remove(requestId);
+
+    if (jfrEvent != null) {
+      jfrEvent.complete(outcome);
+    }
+  }
+
+  /**
+   * Get the number of commands which have started but not yet completed.
+   *
+   * @return The number of in-flight commands.
+   */
+  int getInFlightCount() {
+    return startedCommands.size();
+  }
+}
@@ -21,6 +21,13 @@
 
 package uk.nhs.hee.tis.trainee.forms.config;
 
+import com.mongodb.ReadPreference;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 
@@ -28,8 +35,70 @@ import org.springframework.data.mongodb.config.EnableMongoAuditing;
  * Configuration for the Mongo database.
  * TODO: Fix test failures when moving @EnabledMongoAuditing to the application class.
  */
+@Slf4j
 @Configuration
 @EnableMongoAuditing
 public class MongoConfiguration {
 
+  /**
+   * The smallest max staleness accepted by MongoDB for a secondary read preference.
+   */
+  static final Duration MIN_MAX_STALENESS = Duration.ofSeconds(90);
+
+  /**
+   * Create a read preference for reporting workloads, such as refresh jobs and admin listings,
+   * which can tolerate slightly stale data. Read-before-write paths should continue to use the
+   * default primary read preference.
+   *
+   * @param secondaryPreferred Whether reporting reads should prefer secondary members.
+   * @param maxStaleness       The maximum replication lag of a secondary before it is ignored.
+   * @return The read preference to use for reporting reads.
+   * @throws IllegalStateException if the max staleness is below the MongoDB minimum.
+   */
+  @Bean
+  public ReadPreference reportingReadPreference(
+      @Value("${application.mongo.reporting-reads.secondary-preferred}") boolean secondaryPreferred,
+      @Value("${application.mongo.reporting-reads.max-staleness}") Duration maxStaleness) {
+    if (!secondaryPreferred) {
+      log.info("Reporting reads will use the primary read preference.");
+      return ReadPreference.primary();
+    }
+
+    if (maxStaleness.compareTo(MIN_MAX_STALENESS) < 0) {
+      throw new IllegalStateException(
+          "Reporting read max staleness must be at least %s, but was %s."
+              .formatted(MIN_MAX_STALENESS, maxStaleness));
+    }
+
+    log.info("Reporting reads will prefer secondaries with a max staleness of {}.", maxStaleness);
+    return ReadPreference.secondaryPreferred(maxStaleness.toSeconds(), TimeUnit.SECONDS);
+  }
+
+  /**
+   * Register a command listener which logs slow Mongo commands with their redacted filter shape.
+   * Command latency and connection pool metrics are published separately by the Actuator Mongo
+   * metrics listeners.
+   *
+   * @param threshold The duration above which a command is considered slow.
+   * @return The customizer which registers the listener.
+   */
+  @Bean
+  public MongoClientSettingsBuilderCustomizer slowCommandListenerCustomizer(
+      @Value("${application.mongo.slow-command-threshold}") Duration threshold) {
+    log.info("Mongo commands slower than {} will be logged.", threshold);
+    SlowMongoCommandListener listener = new SlowMongoCommandListener(threshold);
+    return builder -> builder.addCommandListener(listener);
+  }
+
+  /**
+   * Register a command listener which emits a JFR event for each Mongo command, allowing command
+   * latency outliers to be found in flight recordings.
+   *
+   * @return The customizer which registers the listener.
+   */
+  @Bean
+  public MongoClientSettingsBuilderCustomizer jfrCommandListenerCustomizer() {
+    JfrMongoCommandListener listener = new JfrMongoCommandListener();
+    return builder -> builder.addCommandListener(listener);
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+
+package uk.nhs.hee.tis.trainee.forms.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import uk.nhs.hee.tis.trainee.forms.interceptor.PdfRenderBulkheadInterceptor;
+
+/**
+ * Configuration for the PDF render bulkhead, which limits concurrent PDF requests so that a burst
+ * of renders cannot starve the other APIs.
+ */
+@Configuration
+public class PdfRenderBulkheadConfiguration implements WebMvcConfigurer {
+
+  protected static final String[] PDF_APIS = {"/api/**"};
+
+  private final int maxConcurrent;
+  private final Duration queueTimeout;
+  private final Duration retryAfter;
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  /**
+   * Create the configuration for the PDF render bulkhead.
+   *
+   * @param maxConcurrent The maximum number of PDF requests to handle concurrently.
+   * @param queueTimeout  How long a request may wait for a permit before being rejected.
+   * @param retryAfter    The delay clients are told to wait before retrying a rejected request.
+   * @param meterRegistry The registry for bulkhead metrics, the global registry if unavailable.
+   */
+  public PdfRenderBulkheadConfiguration(
+      @Value("${application.pdf.bulkhead.max-concurrent}") int maxConcurrent,
+      @Value("${application.pdf.bulkhead.queue-timeout}") Duration queueTimeout,
+      @Value("${application.pdf.bulkhead.retry-after}") Duration retryAfter,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.maxConcurrent = maxConcurrent;
+    this.queueTimeout = queueTimeout;
+    this.retryAfter = retryAfter;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(pdfRenderBulkheadInterceptor())
+        .addPathPatterns(PDF_APIS);
+  }
+
+  /**
+   * Create an interceptor which limits the number of concurrent requests for PDF content.
+   *
+   * @return The PDF render bulkhead interceptor.
+   */
+  @Bean
+  public PdfRenderBulkheadInterceptor pdfRenderBulkheadInterceptor() {
+    return new PdfRenderBulkheadInterceptor(maxConcurrent, queueTimeout, retryAfter,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+}
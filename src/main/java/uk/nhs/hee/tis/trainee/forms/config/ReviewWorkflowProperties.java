@@ -58,9 +58,10 @@ import org.springframework.stereotype.Component;
 public class ReviewWorkflowProperties {
 
   /**
-   * Map of DBC code to its ordered list of review stages.
+   * Map of DBC code to its ordered list of review stages, this may be replaced at runtime when the
+   * stored review workflows change.
    */
-  private Map<String, List<StateStage>> reviewWorkflows = new HashMap<>();
+  private volatile Map<String, List<StateStage>> reviewWorkflows = new HashMap<>();
 
   /**
    * Validates the configured review workflows after properties have been bound.
@@ -69,7 +70,20 @@ public class ReviewWorkflowProperties {
    */
   @PostConstruct
   void validate() {
-    reviewWorkflows.forEach((dbc, stages) -> {
+    validateWorkflows(reviewWorkflows);
+
+    log.info("Loaded review workflows for {} DBC(s): {}", reviewWorkflows.size(),
+        reviewWorkflows.keySet());
+  }
+
+  /**
+   * Validates the given review workflows.
+   *
+   * @param workflows Map of DBC code to its ordered list of review stages.
+   * @throws IllegalStateException if any stage label is blank or duplicated within a DBC.
+   */
+  public static void validateWorkflows(Map<String, List<StateStage>> workflows) {
+    workflows.forEach((dbc, stages) -> {
       Set<String> seenLabels = new HashSet<>();
       for (int i = 0; i < stages.size(); i++) {
         String label = stages.get(i).label();
@@ -85,8 +99,5 @@ public class ReviewWorkflowProperties {
         }
       }
     });
-
-    log.info("Loaded review workflows for {} DBC(s): {}", reviewWorkflows.size(),
-        reviewWorkflows.keySet());
   }
 }
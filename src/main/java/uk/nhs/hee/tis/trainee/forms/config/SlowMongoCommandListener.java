@@ -0,0 +1,184 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.config;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * A Mongo command listener which logs commands slower than a threshold, along with the shape of
+ * their filters. Filter values are redacted so that no trainee data is written to the logs.
+ *
+ * <p>The command document is only valid during the started callback, so the redacted shape of
+ * every command is captured when it starts and held until it completes. The number of held
+ * commands is bounded, commands started while the bound is reached are not tracked.
+ */
+@Slf4j
+public class SlowMongoCommandListener implements CommandListener {
+
+  static final BsonString REDACTED = new BsonString("?");
+  static final int MAX_IN_FLIGHT_COMMANDS = 1000;
+
+  /**
+   * The command fields which describe the documents targeted by a command.
+   */
+  private static final Set<String> SHAPE_FIELDS = Set.of("filter", "query", "q", "pipeline",
+      "updates", "deletes", "sort", "projection", "hint");
+
+  private final long thresholdNanos;
+  private final Map<Integer, StartedCommand> startedCommands = new ConcurrentHashMap<>();
+
+  /**
+   * Create a listener which logs commands slower than the given threshold.
+   *
+   * @param threshold The duration above which a command is considered slow.
+   */
+  public SlowMongoCommandListener(Duration threshold) {
+    this.thresholdNanos = threshold.toNanos();
+  }
+
+  @Override
+  public void commandStarted(CommandStartedEvent event) {
+    if (startedCommands.size() >= MAX_IN_FLIGHT_COMMANDS) {
+      log.debug("Too many in-flight Mongo commands, request {} will not be tracked.",
+          event.getRequestId());
+      return;
+    }
+
+    String commandName = event.getCommandName();
+    BsonDocument command = event.getCommand();
+    BsonValue collectionValue = command.get(commandName);
+    String collection = collectionValue != null && collectionValue.isString()
+        ? collectionValue.asString().getValue() : null;
+
+    // The command document is only valid during the callback, so the shape must be taken now.
+    startedCommands.put(event.getRequestId(),
+        new StartedCommand(collection, redactShape(command)));
+  }
+
+  @Override
+  public void commandSucceeded(CommandSucceededEvent event) {
+    completeCommand(event.getRequestId(), event.getCommandName(),
+        event.getElapsedTime(TimeUnit.NANOSECONDS), "succeeded");
+  }
+
+  @Override
+  public void commandFailed(CommandFailedEvent event) {
+    completeCommand(event.getRequestId(), event.getCommandName(),
+        event.getElapsedTime(TimeUnit.NANOSECONDS), "failed");
+  }
+
+  /**
+   * Complete a command, logging it if it was slower than the threshold.
+   *
+   * @param requestId    The request ID of the command.
+   * @param commandName  The name of the command.
+   * @param elapsedNanos The elapsed time of the command in nanoseconds.
+   * @param outcome      The outcome of the command.
+   */
+  private void completeCommand(int requestId, String commandName, long elapsedNanos,
+      String outcome) {
+    StartedCommand started = startedCommands.remove(requestId);
+
+    if (started != null && elapsedNanos > thresholdNanos) {
+      log.warn("Slow Mongo command '{}' on collection '{}' {} after {}ms with shape {}",
+          commandName, started.collection(), outcome, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+          started.shape());
+    }
+  }
+
+  /**
+   * Get the number of commands which have started but not yet completed.
+   *
+   * @return The number of in-flight commands.
+   */
+  int getInFlightCount() {
+    return startedCommands.size();
+  }
+
+  /**
+   * Build the redacted shape of a command, including only the fields which describe the targeted
+   * documents.
+   *
+   * @param command The command to build the shape of.
+   * @return The redacted command shape, as JSON.
+   */
+  static String redactShape(BsonDocument command) {
+    BsonDocument shape = new BsonDocument();
+    command.forEach((key, value) -> {
+      if (SHAPE_FIELDS.contains(key)) {
+        shape.append(key, redact(value));
+      }
+    });
+    return shape.toJson();
+  }
+
+  /**
+   * Redact a BSON value, keeping any field names and operators but replacing all values.
+   *
+   * @param value The value to redact.
+   * @return The redacted value.
+   */
+  private static BsonValue redact(BsonValue value) {
+    if (value.isDocument()) {
+      BsonDocument redacted = new BsonDocument();
+      value.asDocument().forEach((key, nested) -> redacted.append(key, redact(nested)));
+      return redacted;
+    }
+
+    if (value.isArray()) {
+      List<BsonValue> values = value.asArray().getValues();
+
+      // Collapse scalar arrays, e.g. $in values, so that their length is not revealed.
+      if (values.stream().noneMatch(v -> v.isDocument() || v.isArray())) {
+        return new BsonArray(values.isEmpty() ? List.<BsonValue>of() : List.of(REDACTED));
+      }
+      return new BsonArray(values.stream().map(SlowMongoCommandListener::redact).toList());
+    }
+
+    return REDACTED;
+  }
+
+  /**
+   * The details of a started command, retained until the command completes.
+   *
+   * @param collection The collection targeted by the command, may be null.
+   * @param shape      The redacted shape of the command.
+   */
+  private record StartedCommand(String collection, String shape) {
+
+  }
+}
@@ -30,7 +30,10 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import org.springframework.util.StreamUtils;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * A request wrapper which caches the content of the original request's input stream so it can be
@@ -38,6 +41,9 @@ import org.springframework.util.StreamUtils;
  */
 public class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
 
+  // Some VMs reserve header words in an array, stay below the usual soft maximum.
+  private static final int MAX_BODY_SIZE = Integer.MAX_VALUE - 8;
+
   private final byte[] cachedBody;
 
   /**
@@ -48,9 +54,76 @@ public class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
    * @throws IOException if the request's input stream could not be cached.
    */
   public CachedBodyRequestWrapper(HttpServletRequest request) throws IOException {
+    this(request, MAX_BODY_SIZE);
+  }
+
+  /**
+   * Create a request wrapper which caches the content of the original request's input stream so it
+   * can be read multiple times. Bodies larger than the maximum size are rejected as soon as the
+   * size is known, before they are fully read.
+   *
+   * @param request     The request to wrap.
+   * @param maxBodySize The maximum size of body to cache, in bytes.
+   * @throws BodyTooLargeException if the request's body is larger than the maximum size.
+   * @throws IOException           if the request's input stream could not be cached.
+   */
+  public CachedBodyRequestWrapper(HttpServletRequest request, long maxBodySize)
+      throws IOException {
     super(request);
-    InputStream requestInputStream = request.getInputStream();
-    cachedBody = StreamUtils.copyToByteArray(requestInputStream);
+    int limit = (int) Math.min(maxBodySize, MAX_BODY_SIZE);
+    long contentLength = request.getContentLengthLong();
+
+    if (contentLength > limit) {
+      throw new BodyTooLargeException(contentLength, limit);
+    }
+
+    cachedBody = contentLength >= 0
+        ? readKnownLength(request.getInputStream(), (int) contentLength)
+        : readUnknownLength(request.getInputStream(), limit);
+  }
+
+  /**
+   * Read a body with a declared length, the buffer is allocated once at the exact size.
+   *
+   * @param inputStream   The stream to read.
+   * @param contentLength The declared length of the body.
+   * @return The read body.
+   * @throws IOException if the stream could not be read.
+   */
+  private static byte[] readKnownLength(InputStream inputStream, int contentLength)
+      throws IOException {
+    byte[] body = new byte[contentLength];
+    int read = inputStream.readNBytes(body, 0, contentLength);
+    return read == contentLength ? body : Arrays.copyOf(body, read);
+  }
+
+  /**
+   * Read a body without a declared length, e.g. a chunked request, up to the given limit.
+   *
+   * @param inputStream The stream to read.
+   * @param limit       The maximum number of bytes to read.
+   * @return The read body.
+   * @throws BodyTooLargeException if the body is larger than the limit.
+   * @throws IOException           if the stream could not be read.
+   */
+  private static byte[] readUnknownLength(InputStream inputStream, int limit)
+      throws IOException {
+    byte[] body = inputStream.readNBytes(limit);
+
+    if (body.length == limit && inputStream.read() != -1) {
+      throw new BodyTooLargeException(-1, limit);
+    }
+    return body;
+  }
+
+  @Override
+  public int getContentLength() {
+    return cachedBody.length;
+  }
+
+  @Override
+  public long getContentLengthLong() {
+    return cachedBody.length;
   }
 
   @Override
@@ -60,8 +133,9 @@ public class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
 
   @Override
   public BufferedReader getReader() {
-    ByteArrayInputStream inputStream = new ByteArrayInputStream(this.cachedBody);
-    return new BufferedReader(new InputStreamReader(inputStream));
+    String encoding = getCharacterEncoding();
+    Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+    return new BufferedReader(new InputStreamReader(getInputStream(), charset));
   }
 
   /**
@@ -85,6 +159,36 @@ public class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
       return cachedBody.read();
     }
 
+    @Override
+    public int read(byte[] b, int off, int len) {
+      return cachedBody.read(b, off, len);
+    }
+
+    @Override
+    public byte[] readAllBytes() {
+      return cachedBody.readAllBytes();
+    }
+
+    @Override
+    public int readNBytes(byte[] b, int off, int len) {
+      return cachedBody.readNBytes(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) {
+      return cachedBody.skip(n);
+    }
+
+    @Override
+    public int available() {
+      return cachedBody.available();
+    }
+
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+      return cachedBody.transferTo(out);
+    }
+
     @Override
     public boolean isFinished() {
       return cachedBody.available() == 0;
@@ -100,4 +204,23 @@ public class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
       throw new UnsupportedOperationException();
     }
   }
+
+  /**
+   * An exception thrown when a request body exceeds the maximum size to cache.
+   */
+  public static class BodyTooLargeException extends IOException {
+
+    /**
+     * Create an exception for a request body which exceeds the maximum size to cache.
+     *
+     * @param contentLength The declared length of the body, or -1 if not declared.
+     * @param maxBodySize   The maximum size of body to cache.
+     */
+    public BodyTooLargeException(long contentLength, long maxBodySize) {
+      super(contentLength < 0
+          ? "Request body exceeds the maximum of %d bytes.".formatted(maxBodySize)
+          : "Request body of %d bytes exceeds the maximum of %d bytes.".formatted(contentLength,
+              maxBodySize));
+    }
+  }
 }
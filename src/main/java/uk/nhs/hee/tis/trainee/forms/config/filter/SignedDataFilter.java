@@ -29,47 +29,74 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Instant;
+import javax.crypto.Mac;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.HmacAlgorithms;
 import org.apache.commons.codec.digest.HmacUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.filter.OncePerRequestFilter;
+import uk.nhs.hee.tis.trainee.forms.config.filter.CachedBodyRequestWrapper.BodyTooLargeException;
 
 /**
- * A request filter that verifies the signature of signed data.
+ * A request filter that verifies the signature of signed data. The verified payload is parsed once
+ * and made available to downstream consumers as the {@link #SIGNED_BODY_ATTRIBUTE} request
+ * attribute, see {@link SignedRequestBody}.
  */
 @Slf4j
 @Component
 public class SignedDataFilter extends OncePerRequestFilter {
 
+  public static final String SIGNED_BODY_ATTRIBUTE = SignedDataFilter.class.getName() + ".BODY";
+
   private static final String SIGNATURE_FIELD = "signature";
   private static final String HMAC_FIELD = "hmac";
 
   private final ObjectMapper mapper;
   private final String signatureSecretKey;
+  private final DataSize maxBodySize;
 
   /**
    * Create a request filter that verifies the signature of signed data.
    *
    * @param mapper             An {@link ObjectMapper} to use when reading the request payload.
    * @param signatureSecretKey The secret key used to sign and verify the signature.
+   * @param maxBodySize        The maximum size of request payload to accept.
    */
   public SignedDataFilter(ObjectMapper mapper,
-      @Value("${application.signature.secret-key}") String signatureSecretKey) {
+      @Value("${application.signature.secret-key}") String signatureSecretKey,
+      @Value("${application.signature.max-body-size}") DataSize maxBodySize) {
     this.mapper = mapper;
     this.signatureSecretKey = signatureSecretKey;
+    this.maxBodySize = maxBodySize;
   }
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
       FilterChain filterChain) throws ServletException, IOException {
-    request = new CachedBodyRequestWrapper(request);
+    CachedBodyRequestWrapper wrappedRequest;
+
+    try {
+      wrappedRequest = new CachedBodyRequestWrapper(request, maxBodySize.toBytes());
+    } catch (BodyTooLargeException e) {
+      log.warn("Rejecting signed data: {}", e.getMessage());
+      response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+      return;
+    }
 
     try {
-      if (hasValidSignature(request)) {
-        filterChain.doFilter(request, response);
+      JsonNode tree = mapper.readTree(wrappedRequest.getInputStream());
+
+      if (hasValidSignature(tree)) {
+        wrappedRequest.setAttribute(SIGNED_BODY_ATTRIBUTE, tree);
+        filterChain.doFilter(wrappedRequest, response);
       } else {
         response.setStatus(403);
       }
@@ -80,35 +107,56 @@ public class SignedDataFilter extends OncePerRequestFilter {
   }
 
   /**
-   * Validate whether the given request has a payload with a valid signature.
+   * Validate whether the given payload has a valid signature.
    *
-   * @param request The request to validate.
-   * @return Whether the request was signed and valid.
-   * @throws IOException If the request could not be parsed to signed data.
+   * @param tree The parsed payload to validate.
+   * @return Whether the payload was signed and valid.
+   * @throws IOException If the payload could not be parsed to signed data.
    */
-  private boolean hasValidSignature(HttpServletRequest request) throws IOException {
-    JsonNode tree = mapper.readTree(request.getInputStream());
+  private boolean hasValidSignature(JsonNode tree) throws IOException {
     JsonNode signatureNode = tree.get(SIGNATURE_FIELD);
 
-    if (signatureNode != null) {
-      Signature signature = mapper.treeToValue(signatureNode, Signature.class);
+    if (signatureNode instanceof ObjectNode signatureObject) {
+      Signature signature = mapper.treeToValue(signatureObject, Signature.class);
 
       String hmac = signature.hmac();
       Instant signedAt = signature.signedAt();
       Instant validUntil = signature.validUntil();
 
       if (hmac != null && isValidInstant(signedAt, true) && isValidInstant(validUntil, false)) {
-        ((ObjectNode) signatureNode).remove(HMAC_FIELD);
-        byte[] treeBytes = mapper.writeValueAsBytes(tree);
-        String verificationSignature = new HmacUtils(HmacAlgorithms.HMAC_SHA_256,
-            signatureSecretKey).hmacHex(treeBytes);
-        return hmac.equals(verificationSignature);
+        // The HMAC is calculated over the payload without the HMAC, restore it afterwards so the
+        // payload is unchanged for downstream consumers.
+        JsonNode hmacNode = signatureObject.remove(HMAC_FIELD);
+        String verificationSignature = calculateHmac(tree);
+        signatureObject.set(HMAC_FIELD, hmacNode);
+
+        return MessageDigest.isEqual(hmac.getBytes(StandardCharsets.UTF_8),
+            verificationSignature.getBytes(StandardCharsets.UTF_8));
       }
     }
 
     return false;
   }
 
+  /**
+   * Calculate the HMAC of the given payload, the serialized payload is streamed directly in to the
+   * HMAC calculation to avoid buffering a second copy of the payload.
+   *
+   * @param tree The payload to calculate the HMAC of.
+   * @return The hex encoded HMAC.
+   * @throws IOException If the payload could not be serialized.
+   */
+  private String calculateHmac(JsonNode tree) throws IOException {
+    Mac mac = HmacUtils.getInitializedMac(HmacAlgorithms.HMAC_SHA_256,
+        signatureSecretKey.getBytes(StandardCharsets.UTF_8));
+
+    try (OutputStream macStream = new MacOutputStream(mac)) {
+      mapper.writeValue(macStream, tree);
+    }
+
+    return Hex.encodeHexString(mac.doFinal());
+  }
+
   /**
    * Validate the provided {@link Instant} against the current Instant.
    *
@@ -131,4 +179,26 @@ public class SignedDataFilter extends OncePerRequestFilter {
   private record Signature(String hmac, Instant signedAt, Instant validUntil) {
 
   }
+
+  /**
+   * An output stream which passes all written bytes to a {@link Mac}.
+   */
+  private static class MacOutputStream extends OutputStream {
+
+    private final Mac mac;
+
+    MacOutputStream(Mac mac) {
+      this.mac = mac;
+    }
+
+    @Override
+    public void write(int b) {
+      mac.update((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      mac.update(b, off, len);
+    }
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.config.filter;
+
+import static uk.nhs.hee.tis.trainee.forms.config.filter.SignedDataFilter.SIGNED_BODY_ATTRIBUTE;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import org.springframework.core.Conventions;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * An argument resolver for {@link SignedRequestBody} parameters, which binds the payload already
+ * parsed during signature verification. The request body is only read if no parsed payload is
+ * available, e.g. when the signature filter was not applied to the request.
+ */
+public class SignedRequestBodyArgumentResolver implements HandlerMethodArgumentResolver {
+
+  private final ObjectMapper mapper;
+
+  /**
+   * Create an argument resolver for {@link SignedRequestBody} parameters.
+   *
+   * @param mapper The mapper to use when binding the payload.
+   */
+  public SignedRequestBodyArgumentResolver(ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    return parameter.hasParameterAnnotation(SignedRequestBody.class);
+  }
+
+  @Override
+  public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+      NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+    HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+    JavaType type = mapper.getTypeFactory().constructType(parameter.getGenericParameterType());
+    Object argument;
+
+    try {
+      JsonNode tree = request.getAttribute(SIGNED_BODY_ATTRIBUTE) instanceof JsonNode signedBody
+          ? signedBody
+          : mapper.readTree(request.getInputStream());
+      argument = mapper.treeToValue(tree, type);
+    } catch (IOException e) {
+      throw new HttpMessageNotReadableException("Unable to read signed request body.", e,
+          new ServletServerHttpRequest(request));
+    }
+
+    if (binderFactory != null) {
+      String name = Conventions.getVariableNameForParameter(parameter);
+      WebDataBinder binder = binderFactory.createBinder(webRequest, argument, name);
+      validateIfApplicable(binder, parameter);
+
+      if (binder.getBindingResult().hasErrors()) {
+        throw new MethodArgumentNotValidException(parameter, binder.getBindingResult());
+      }
+    }
+
+    return argument;
+  }
+
+  /**
+   * Validate the bound argument if the parameter is annotated for validation.
+   *
+   * @param binder    The binder holding the argument to validate.
+   * @param parameter The parameter being resolved.
+   */
+  private void validateIfApplicable(WebDataBinder binder, MethodParameter parameter) {
+    for (Annotation annotation : parameter.getParameterAnnotations()) {
+      Object[] validationHints = ValidationAnnotationUtils.determineValidationHints(annotation);
+
+      if (validationHints != null) {
+        binder.validate(validationHints);
+        break;
+      }
+    }
+  }
+}
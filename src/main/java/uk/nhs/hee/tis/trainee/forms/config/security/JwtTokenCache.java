@@ -0,0 +1,211 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Set;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import uk.nhs.hee.tis.trainee.forms.api.util.AuthTokenUtil;
+import uk.nhs.hee.tis.trainee.forms.dto.FeaturesDto;
+
+/**
+ * A bounded cache of parsed tokens, avoiding repeated parsing and claim conversion for a token
+ * which is presented on every request of a session. Entries are keyed by a hash of the token, so
+ * that raw tokens are not retained as keys, and expire at the token's expiry time.
+ */
+public class JwtTokenCache {
+
+  private static final String HASH_ALGORITHM = "SHA-256";
+
+  private final JwtDecoder decoder;
+  private final Converter<Jwt, Collection<GrantedAuthority>> authoritiesConverter;
+  private final Duration maxTimeToLive;
+  private final Cache<String, CachedToken> cache;
+
+  /**
+   * Create a bounded cache of parsed tokens.
+   *
+   * @param decoder              The decoder to use for tokens not yet cached.
+   * @param authoritiesConverter The converter to use for deriving authorities from a token.
+   * @param maximumSize          The maximum number of tokens to cache.
+   * @param maxTimeToLive        The maximum time to cache a token, used when the token has no
+   *                             expiry or the expiry is further in the future.
+   */
+  public JwtTokenCache(JwtDecoder decoder,
+      Converter<Jwt, Collection<GrantedAuthority>> authoritiesConverter, long maximumSize,
+      Duration maxTimeToLive) {
+    this.decoder = decoder;
+    this.authoritiesConverter = authoritiesConverter;
+    this.maxTimeToLive = maxTimeToLive;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new TokenExpiry())
+        .build();
+  }
+
+  /**
+   * Decode the given token, using the cached result when available.
+   *
+   * @param token The token to decode.
+   * @return The decoded JWT.
+   */
+  public Jwt decode(String token) {
+    return cache.get(hash(token), key -> load(decoder.decode(token))).jwt();
+  }
+
+  /**
+   * Get the authorities of the given token, using the cached result when available.
+   *
+   * @param jwt The token to get the authorities of.
+   * @return The token's authorities.
+   */
+  public Collection<GrantedAuthority> getAuthorities(Jwt jwt) {
+    return get(jwt).authorities();
+  }
+
+  /**
+   * Get the features of the given token, using the cached result when available.
+   *
+   * @param jwt The token to get the features of.
+   * @return The token's features.
+   */
+  public FeaturesDto getFeatures(Jwt jwt) {
+    return get(jwt).features();
+  }
+
+  /**
+   * Get the number of cached tokens, which may include expired tokens not yet evicted.
+   *
+   * @return The estimated number of cached tokens.
+   */
+  long estimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  /**
+   * Get the time the given token should be cached for.
+   *
+   * @param jwt The token to get the cache duration of.
+   * @return The time until the token expires, capped at the maximum time to live.
+   */
+  Duration getTimeToLive(Jwt jwt) {
+    Instant expiresAt = jwt.getExpiresAt();
+
+    if (expiresAt == null) {
+      return maxTimeToLive;
+    }
+
+    Duration untilExpiry = Duration.between(Instant.now(), expiresAt);
+
+    if (untilExpiry.isNegative()) {
+      return Duration.ZERO;
+    }
+    return untilExpiry.compareTo(maxTimeToLive) < 0 ? untilExpiry : maxTimeToLive;
+  }
+
+  /**
+   * Get the cached entry for an already decoded token, deriving it if not yet cached.
+   *
+   * @param jwt The decoded token.
+   * @return The cached token.
+   */
+  private CachedToken get(Jwt jwt) {
+    return cache.get(hash(jwt.getTokenValue()), key -> load(jwt));
+  }
+
+  /**
+   * Derive the values to cache for a decoded token.
+   *
+   * @param jwt The decoded token.
+   * @return The token to cache.
+   */
+  private CachedToken load(Jwt jwt) {
+    Collection<GrantedAuthority> authorities = authoritiesConverter.convert(jwt);
+    return new CachedToken(jwt,
+        authorities == null ? Set.of() : Set.copyOf(authorities),
+        AuthTokenUtil.getFeatures(jwt));
+  }
+
+  /**
+   * Hash the token to use as a cache key.
+   *
+   * @param token The token to hash.
+   * @return The hex encoded hash of the token.
+   */
+  private static String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+      byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Unable to hash token.", e);
+    }
+  }
+
+  /**
+   * A parsed token and the values derived from it.
+   *
+   * @param jwt         The decoded token.
+   * @param authorities The authorities granted by the token.
+   * @param features    The features enabled by the token.
+   */
+  private record CachedToken(Jwt jwt, Collection<GrantedAuthority> authorities,
+                             FeaturesDto features) {
+
+  }
+
+  /**
+   * An expiry policy which expires each cached token at the token's own expiry time.
+   */
+  private class TokenExpiry implements Expiry<String, CachedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+      return getTimeToLive(value.jwt()).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, CachedToken value, long currentTime,
+        long currentDuration) {
+      return getTimeToLive(value.jwt()).toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(String key, CachedToken value, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -29,7 +29,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.text.ParseException;
+import java.time.Duration;
 import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
@@ -46,6 +50,8 @@ import org.springframework.security.oauth2.jwt.MappedJwtClaimSetConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
@@ -55,18 +61,42 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @EnableMethodSecurity
 public class SecurityConfiguration {
 
+  private final JwtTokenCache tokenCache;
+
+  /**
+   * Create the application security configuration.
+   *
+   * @param tokenCacheMaximumSize The maximum number of parsed tokens to cache.
+   * @param tokenCacheMaxTtl      The maximum time to cache a parsed token.
+   */
+  public SecurityConfiguration(
+      @Value("${application.security.token-cache.maximum-size}") long tokenCacheMaximumSize,
+      @Value("${application.security.token-cache.max-ttl}") Duration tokenCacheMaxTtl) {
+    tokenCache = new JwtTokenCache(SecurityConfiguration::parseUnverified,
+        new JwtAuthoritiesConverter(), tokenCacheMaximumSize, tokenCacheMaxTtl);
+  }
+
   /**
-   * Configure the security filter chain.
+   * Configure the security filter chain. Actuator endpoints other than health, e.g. metrics, are
+   * only served on the management port, so they are denied entirely unless a separate management
+   * port is configured.
    *
-   * @param http The HTTP security configuration.
+   * @param http           The HTTP security configuration.
+   * @param managementPort The management server port, negative if not separately configured.
    * @return The built configuration chain.
    * @throws Exception If the chain could not be built.
    */
   @Bean
-  public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+  public SecurityFilterChain securityFilterChain(HttpSecurity http,
+      @Value("${management.server.port:-1}") int managementPort) throws Exception {
+    RequestMatcher internalEndpoints = new AndRequestMatcher(
+        EndpointRequest.toAnyEndpoint().excluding(HealthEndpoint.class),
+        request -> request.getLocalPort() != managementPort);
+
     return http
         .csrf(AbstractHttpConfigurer::disable)
         .authorizeHttpRequests(auth -> auth
+            .requestMatchers(internalEndpoints).denyAll()
             // TODO: split public and internal endpoints, then require authenticated.
             .anyRequest().permitAll()
         )
@@ -98,7 +128,7 @@ public class SecurityConfiguration {
         String header = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (header != null) {
           try {
-            Jwt jwt = unsafeJwtDecoder().decode(header);
+            Jwt jwt = tokenCache.decode(header);
             Authentication auth = jwtAuthenticationConverter().convert(jwt);
             SecurityContextHolder.getContext().setAuthentication(auth);
           } catch (Exception e) {
@@ -113,34 +143,25 @@ public class SecurityConfiguration {
   /**
    * A temporary decoder, which skips token verification (same as before). This gives us an
    * incremental move towards a more secure service while further refactoring to separate endpoints
-   * is done.
+   * is done. Parsed tokens are cached until they expire, as the same token is presented on every
+   * request of a session.
    *
    * @return A JWT Decoder.
    */
   @Bean
   public JwtDecoder unsafeJwtDecoder() {
     // TODO: replace with safe JWT Decoder.
-    return token -> {
-      try {
-        SignedJWT signedJwt = SignedJWT.parse(token);
-        Map<String, Object> tokenClaims = signedJwt.getJWTClaimsSet().getClaims();
-
-        JwtClaimsSet claimsSet = JwtClaimsSet.builder()
-            .claims(claims -> claims.putAll(tokenClaims))
-            .build();
-
-        // Convert handles Date -> Instant conversion for common timestamps.
-        Map<String, Object> convertedClaims = MappedJwtClaimSetConverter.withDefaults(Map.of())
-            .convert(claimsSet.getClaims());
+    return tokenCache::decode;
+  }
 
-        return Jwt.withTokenValue(token)
-            .headers(headers -> headers.putAll(signedJwt.getHeader().toJSONObject()))
-            .claims(claims -> claims.putAll(convertedClaims))
-            .build();
-      } catch (ParseException e) {
-        throw new JwtException("Failed to parse JWT.", e);
-      }
-    };
+  /**
+   * A cache of parsed tokens and the authorities and features derived from them.
+   *
+   * @return The token cache.
+   */
+  @Bean
+  public JwtTokenCache jwtTokenCache() {
+    return tokenCache;
   }
 
   /**
@@ -151,7 +172,36 @@ public class SecurityConfiguration {
   @Bean
   public JwtAuthenticationConverter jwtAuthenticationConverter() {
     JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-    converter.setJwtGrantedAuthoritiesConverter(new JwtAuthoritiesConverter());
+    converter.setJwtGrantedAuthoritiesConverter(tokenCache::getAuthorities);
     return converter;
   }
+
+  /**
+   * Parse a token without verifying it.
+   *
+   * @param token The token to parse.
+   * @return The parsed JWT.
+   * @throws JwtException If the token could not be parsed.
+   */
+  private static Jwt parseUnverified(String token) {
+    try {
+      SignedJWT signedJwt = SignedJWT.parse(token);
+      Map<String, Object> tokenClaims = signedJwt.getJWTClaimsSet().getClaims();
+
+      JwtClaimsSet claimsSet = JwtClaimsSet.builder()
+          .claims(claims -> claims.putAll(tokenClaims))
+          .build();
+
+      // Convert handles Date -> Instant conversion for common timestamps.
+      Map<String, Object> convertedClaims = MappedJwtClaimSetConverter.withDefaults(Map.of())
+          .convert(claimsSet.getClaims());
+
+      return Jwt.withTokenValue(token)
+          .headers(headers -> headers.putAll(signedJwt.getHeader().toJSONObject()))
+          .claims(claims -> claims.putAll(convertedClaims))
+          .build();
+    } catch (ParseException e) {
+      throw new JwtException("Failed to parse JWT.", e);
+    }
+  }
 }
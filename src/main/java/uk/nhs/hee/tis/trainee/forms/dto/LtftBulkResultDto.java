@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The per-form results of a bulk admin action on LTFT applications.
+ *
+ * @param results The result for each requested form, in request order.
+ */
+public record LtftBulkResultDto(List<ItemResultDto> results) {
+
+  /**
+   * The result of a bulk admin action for a single form.
+   *
+   * @param id      The ID of the form.
+   * @param outcome The outcome of the action.
+   * @param form    The form after the action, null unless updated or unchanged.
+   * @param error   A description of why the action failed, null unless invalid, conflicting or
+   *                failed.
+   */
+  public record ItemResultDto(
+      UUID id,
+      Outcome outcome,
+      LtftFormDto form,
+      String error) {
+
+    /**
+     * Create a result for a form which was updated.
+     *
+     * @param form The updated form.
+     * @return The item result.
+     */
+    public static ItemResultDto updated(LtftFormDto form) {
+      return new ItemResultDto(form.id(), Outcome.UPDATED, form, null);
+    }
+
+    /**
+     * Create a result for a form which already reflected the requested action.
+     *
+     * @param form The unchanged form.
+     * @return The item result.
+     */
+    public static ItemResultDto unchanged(LtftFormDto form) {
+      return new ItemResultDto(form.id(), Outcome.UNCHANGED, form, null);
+    }
+
+    /**
+     * Create a result for a form which did not exist or did not belong to the admin's local
+     * office.
+     *
+     * @param id The ID of the form.
+     * @return The item result.
+     */
+    public static ItemResultDto notFound(UUID id) {
+      return new ItemResultDto(id, Outcome.NOT_FOUND, null, null);
+    }
+
+    /**
+     * Create a result for a form which the action could not be applied to.
+     *
+     * @param id    The ID of the form.
+     * @param error Why the action was not valid for the form.
+     * @return The item result.
+     */
+    public static ItemResultDto invalid(UUID id, String error) {
+      return new ItemResultDto(id, Outcome.INVALID, null, error);
+    }
+
+    /**
+     * Create a result for a form which could not be written.
+     *
+     * @param id    The ID of the form.
+     * @param error Why the form could not be written.
+     * @return The item result.
+     */
+    public static ItemResultDto failed(UUID id, String error) {
+      return new ItemResultDto(id, Outcome.FAILED, null, error);
+    }
+
+    /**
+     * Create a result for a form which was modified by another request before it was written.
+     *
+     * @param id    The ID of the form.
+     * @param error Why the form was not written.
+     * @return The item result.
+     */
+    public static ItemResultDto conflict(UUID id, String error) {
+      return new ItemResultDto(id, Outcome.CONFLICT, null, error);
+    }
+  }
+
+  /**
+   * The possible outcomes of a bulk admin action for a single form.
+   */
+  public enum Outcome {
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND,
+    INVALID,
+    CONFLICT,
+    FAILED
+  }
+}
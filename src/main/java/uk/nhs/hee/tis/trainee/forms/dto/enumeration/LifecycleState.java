@@ -21,6 +21,10 @@
 
 package uk.nhs.hee.tis.trainee.forms.dto.enumeration;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Set;
 import lombok.Getter;
 import uk.nhs.hee.tis.trainee.forms.model.AbstractForm;
@@ -84,6 +88,17 @@ public enum LifecycleState {
     WITHDRAWN.incrementsRevision = false;
   }
 
+  /**
+   * The transitions allowed from each state, compiled once per concrete form type.
+   */
+  private static final ClassValue<Map<LifecycleState, Set<LifecycleState>>> TRANSITION_TABLES =
+      new ClassValue<>() {
+        @Override
+        protected Map<LifecycleState, Set<LifecycleState>> computeValue(Class<?> formType) {
+          return compileTransitionTable(formType);
+        }
+      };
+
   /**
    * Checks whether the transition from the form's current state to the new state is allowed.
    *
@@ -92,11 +107,64 @@ public enum LifecycleState {
    * @return Whether the transition is allowed, false if the form's state is null.
    */
   public static boolean canTransitionTo(AbstractForm form, LifecycleState newLifecycleState) {
-    LifecycleState currentState = form.getLifecycleState();
+    return getAllowedTransitions(form.getClass(), form.getLifecycleState())
+        .contains(newLifecycleState);
+  }
+
+  /**
+   * Get the states a form of the given type may transition to from its current state.
+   *
+   * @param formType     The concrete type of the form.
+   * @param currentState The current state of the form, may be null.
+   * @return The allowed target states, empty if the current state is null.
+   */
+  public static Set<LifecycleState> getAllowedTransitions(Class<? extends AbstractForm> formType,
+      LifecycleState currentState) {
+    if (currentState == null) {
+      return Set.of();
+    }
+
+    return getTransitionTable(formType).get(currentState);
+  }
+
+  /**
+   * Get the transitions allowed from every state for the given form type, the table is compiled
+   * on first use and cached for the lifetime of the form type.
+   *
+   * @param formType The concrete type of the form.
+   * @return A read-only map of current state to allowed target states.
+   */
+  public static Map<LifecycleState, Set<LifecycleState>> getTransitionTable(
+      Class<? extends AbstractForm> formType) {
+    return TRANSITION_TABLES.get(formType);
+  }
+
+  /**
+   * Compile the allowed transitions from every state for the given form type.
+   *
+   * @param formType The concrete type of the form.
+   * @return A read-only map of current state to allowed target states.
+   */
+  private static Map<LifecycleState, Set<LifecycleState>> compileTransitionTable(
+      Class<?> formType) {
+    Map<LifecycleState, Set<LifecycleState>> table = new EnumMap<>(LifecycleState.class);
+
+    for (LifecycleState currentState : values()) {
+      Set<LifecycleState> targetStates = EnumSet.noneOf(LifecycleState.class);
+
+      for (LifecycleState targetState : currentState.allowedTransitions) {
+        // NOTE: we check the _new_ state's allowedFormTypes, not the current state's
+        boolean allowed = targetState.allowedFormTypes.stream()
+            .anyMatch(type -> type.isAssignableFrom(formType));
+
+        if (allowed) {
+          targetStates.add(targetState);
+        }
+      }
+
+      table.put(currentState, Collections.unmodifiableSet(targetStates));
+    }
 
-    return currentState != null && currentState.allowedTransitions.contains(newLifecycleState)
-        && newLifecycleState.allowedFormTypes.stream()
-        .anyMatch(type -> type.isAssignableFrom(form.getClass()));
-    // NOTE: we check the _new_ state's allowedFormTypes, not the current state's
+    return Collections.unmodifiableMap(table);
   }
 }
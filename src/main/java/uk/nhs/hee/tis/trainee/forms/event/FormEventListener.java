@@ -22,6 +22,8 @@
 package uk.nhs.hee.tis.trainee.forms.event;
 
 import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -35,10 +37,14 @@ import uk.nhs.hee.tis.trainee.forms.service.PdfService;
 @Component
 public class FormEventListener {
 
+  private static final String LISTENER_COJ_RECEIVED = "coj-received";
+
   private final PdfService pdfService;
+  private final MeterRegistry meterRegistry;
 
-  FormEventListener(PdfService pdfService) {
+  FormEventListener(PdfService pdfService, MeterRegistry meterRegistry) {
     this.pdfService = pdfService;
+    this.meterRegistry = meterRegistry;
   }
 
   /**
@@ -50,9 +56,17 @@ public class FormEventListener {
   @SqsListener("${application.aws.sqs.coj-received}")
   public void handleCojReceivedEvent(ConditionsOfJoiningSignedEvent event) throws IOException {
     log.info("Signed Conditions of Joining received: {}", event);
-    ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(
-        event.traineeId(), event.programmeMembershipId(), event.programmeName(),
-        event.conditionsOfJoining());
-    pdfService.generateConditionsOfJoining(request, true);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    boolean success = false;
+
+    try {
+      ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(
+          event.traineeId(), event.programmeMembershipId(), event.programmeName(),
+          event.conditionsOfJoining());
+      pdfService.generateConditionsOfJoining(request, true);
+      success = true;
+    } finally {
+      ListenerMetrics.recordProcessing(meterRegistry, sample, LISTENER_COJ_RECEIVED, success);
+    }
   }
 }
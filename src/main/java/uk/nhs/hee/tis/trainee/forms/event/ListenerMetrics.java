@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Metrics shared by the SQS listeners, recording the processing time of each received message.
+ */
+final class ListenerMetrics {
+
+  static final String METRIC_PROCESSING_DURATION = "forms.sqs.listener.duration";
+
+  private static final String TAG_LISTENER = "listener";
+  private static final String TAG_OUTCOME = "outcome";
+  private static final String OUTCOME_SUCCESS = "success";
+  private static final String OUTCOME_FAILURE = "failure";
+
+  private ListenerMetrics() {
+  }
+
+  /**
+   * Record the processing time of a message.
+   *
+   * @param meterRegistry The registry to record the processing time in.
+   * @param sample        The timer sample started when the message was received.
+   * @param listener      The name of the listener which processed the message.
+   * @param success       Whether the message was processed successfully.
+   */
+  static void recordProcessing(MeterRegistry meterRegistry, Timer.Sample sample, String listener,
+      boolean success) {
+    sample.stop(Timer.builder(METRIC_PROCESSING_DURATION)
+        .description("The time taken to process a message received from SQS.")
+        .tag(TAG_LISTENER, listener)
+        .tag(TAG_OUTCOME, success ? OUTCOME_SUCCESS : OUTCOME_FAILURE)
+        .register(meterRegistry));
+  }
+}
@@ -22,6 +22,8 @@
 package uk.nhs.hee.tis.trainee.forms.event;
 
 import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
@@ -36,15 +38,20 @@ import uk.nhs.hee.tis.trainee.forms.service.LtftService;
 @Component
 public class NotificationEventListener {
 
+  private static final String LISTENER_NOTIFICATION_EVENT = "notification-event";
+
   LtftService service;
+  private final MeterRegistry meterRegistry;
 
   /**
    * Constructor for NotificationEventListener.
    *
-   * @param service The LTFT service to handle the notification events.
+   * @param service       The LTFT service to handle the notification events.
+   * @param meterRegistry The registry for message processing metrics.
    */
-  public NotificationEventListener(LtftService service) {
+  public NotificationEventListener(LtftService service, MeterRegistry meterRegistry) {
     this.service = service;
+    this.meterRegistry = meterRegistry;
   }
 
   /**
@@ -56,16 +63,25 @@ public class NotificationEventListener {
   @SqsListener("${application.aws.sqs.notification-event}")
   public void handleTpdNotificationEvent(NotificationEventDto event) throws IOException {
     log.info("Notification event received: {}", event);
-    if (isLtftTpdNotification(event.notificationType())
-        && event.tisReference() != null && event.tisReference().type().equals("LTFT")) {
-      UUID formId = UUID.fromString(event.tisReference().id());
-      log.info("Updating LTFT form TPD notification status: form {}, status {}",
-          formId, event.status());
-      //assuming events are received in the correct order, since there is no tracking of lastRetry
-      //to ensure no anachronistic updates are made.
-      service.updateTpdNotificationStatus(formId, event.status());
-    } else {
-      log.info("Ignoring non LTFT TPD notification event.");
+    Timer.Sample sample = Timer.start(meterRegistry);
+    boolean success = false;
+
+    try {
+      if (isLtftTpdNotification(event.notificationType())
+          && event.tisReference() != null && event.tisReference().type().equals("LTFT")) {
+        UUID formId = UUID.fromString(event.tisReference().id());
+        log.info("Updating LTFT form TPD notification status: form {}, status {}",
+            formId, event.status());
+        //assuming events are received in the correct order, since there is no tracking of
+        //lastRetry to ensure no anachronistic updates are made.
+        service.updateTpdNotificationStatus(formId, event.status());
+      } else {
+        log.info("Ignoring non LTFT TPD notification event.");
+      }
+      success = true;
+    } finally {
+      ListenerMetrics.recordProcessing(meterRegistry, sample, LISTENER_NOTIFICATION_EVENT,
+          success);
     }
   }
 
@@ -22,6 +22,8 @@
 package uk.nhs.hee.tis.trainee.forms.event;
 
 import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.forms.dto.ProfileMoveEvent;
@@ -34,15 +36,21 @@ import uk.nhs.hee.tis.trainee.forms.service.FormRelocateService;
 @Component
 public class ProfileMoveListener {
 
+  private static final String LISTENER_PROFILE_MOVE = "profile-move";
+
   private final FormRelocateService formRelocateService;
+  private final MeterRegistry meterRegistry;
 
   /**
    * Construct a listener for profile move events.
    *
    * @param formRelocateService The Form Relocation service.
+   * @param meterRegistry       The registry for message processing metrics.
    */
-  public ProfileMoveListener(FormRelocateService formRelocateService) {
+  public ProfileMoveListener(FormRelocateService formRelocateService,
+      MeterRegistry meterRegistry) {
     this.formRelocateService = formRelocateService;
+    this.meterRegistry = meterRegistry;
   }
 
   /**
@@ -54,7 +62,14 @@ public class ProfileMoveListener {
   public void handleProfileMove(ProfileMoveEvent event) {
     log.info("Handling profile move FormR A's and B's from trainee {} to trainee {}",
         event.fromTraineeId(), event.toTraineeId());
+    Timer.Sample sample = Timer.start(meterRegistry);
+    boolean success = false;
 
-    formRelocateService.moveAllForms(event.fromTraineeId(), event.toTraineeId());
+    try {
+      formRelocateService.moveAllForms(event.fromTraineeId(), event.toTraineeId());
+      success = true;
+    } finally {
+      ListenerMetrics.recordProcessing(meterRegistry, sample, LISTENER_PROFILE_MOVE, success);
+    }
   }
 }
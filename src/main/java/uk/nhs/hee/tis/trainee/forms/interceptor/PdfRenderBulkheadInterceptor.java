@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+
+package uk.nhs.hee.tis.trainee.forms.interceptor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * An interceptor which limits the number of concurrent requests for PDF content, rejecting
+ * requests with a 503 when no render permit becomes available within the queue timeout.
+ */
+@Slf4j
+public class PdfRenderBulkheadInterceptor implements HandlerInterceptor {
+
+  protected static final String METRIC_BULKHEAD_WAIT = "forms.pdf.bulkhead.wait";
+  protected static final String METRIC_BULKHEAD_ACTIVE = "forms.pdf.bulkhead.active";
+  protected static final String METRIC_BULKHEAD_QUEUED = "forms.pdf.bulkhead.queued";
+  protected static final String TAG_OUTCOME = "outcome";
+  protected static final String OUTCOME_ACQUIRED = "acquired";
+  protected static final String OUTCOME_REJECTED = "rejected";
+
+  private static final String PERMIT_ATTRIBUTE =
+      PdfRenderBulkheadInterceptor.class.getName() + ".PERMIT";
+
+  private final int maxConcurrent;
+  private final Semaphore permits;
+  private final Duration queueTimeout;
+  private final String retryAfter;
+
+  private final Timer acquiredTimer;
+  private final Timer rejectedTimer;
+
+  /**
+   * Create an interceptor which limits the number of concurrent requests for PDF content.
+   *
+   * @param maxConcurrent The maximum number of PDF requests to handle concurrently.
+   * @param queueTimeout  How long a request may wait for a permit before being rejected.
+   * @param retryAfter    The delay clients are told to wait before retrying a rejected request.
+   * @param meterRegistry The registry for bulkhead metrics.
+   */
+  public PdfRenderBulkheadInterceptor(int maxConcurrent, Duration queueTimeout,
+      Duration retryAfter, MeterRegistry meterRegistry) {
+    this.maxConcurrent = maxConcurrent;
+    this.permits = new Semaphore(maxConcurrent, true);
+    this.queueTimeout = queueTimeout;
+    this.retryAfter = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+
+    acquiredTimer = buildWaitTimer(meterRegistry, OUTCOME_ACQUIRED);
+    rejectedTimer = buildWaitTimer(meterRegistry, OUTCOME_REJECTED);
+    Gauge.builder(METRIC_BULKHEAD_ACTIVE, this::getActiveCount)
+        .description("The number of PDF requests currently holding a render permit.")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_BULKHEAD_QUEUED, permits::getQueueLength)
+        .description("The number of PDF requests waiting for a render permit.")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (!isPdfRequest(request)) {
+      return true;
+    }
+
+    long start = System.nanoTime();
+    boolean acquired;
+
+    try {
+      acquired = permits.tryAcquire(queueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+
+    long waited = System.nanoTime() - start;
+
+    if (!acquired) {
+      rejectedTimer.record(waited, TimeUnit.NANOSECONDS);
+      log.warn("PDF render capacity exhausted, rejecting request for '{}'.",
+          request.getRequestURI());
+      response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+      return false;
+    }
+
+    acquiredTimer.record(waited, TimeUnit.NANOSECONDS);
+    request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+      request.removeAttribute(PERMIT_ATTRIBUTE);
+      permits.release();
+    }
+  }
+
+  /**
+   * Whether the request has been mapped to a handler which produces PDF content.
+   *
+   * @param request The request to check.
+   * @return true if the handler produces PDF content, else false.
+   */
+  private boolean isPdfRequest(HttpServletRequest request) {
+    Object producible = request.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE);
+    return producible instanceof Set<?> mediaTypes
+        && mediaTypes.contains(MediaType.APPLICATION_PDF);
+  }
+
+  /**
+   * Get the number of PDF requests currently holding a permit.
+   *
+   * @return The number of active PDF requests.
+   */
+  int getActiveCount() {
+    return maxConcurrent - permits.availablePermits();
+  }
+
+  /**
+   * Build a timer for the time spent waiting for a permit.
+   *
+   * @param meterRegistry The registry to register the timer with.
+   * @param outcome       Whether the permit was acquired or the request rejected.
+   * @return The built timer.
+   */
+  private static Timer buildWaitTimer(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder(METRIC_BULKHEAD_WAIT)
+        .description("The time PDF requests spent waiting for a render permit.")
+        .tag(TAG_OUTCOME, outcome)
+        .register(meterRegistry);
+  }
+}
@@ -31,6 +31,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.servlet.HandlerInterceptor;
 import uk.nhs.hee.tis.trainee.forms.api.util.AuthTokenUtil;
+import uk.nhs.hee.tis.trainee.forms.config.security.JwtTokenCache;
 import uk.nhs.hee.tis.trainee.forms.dto.identity.TraineeIdentity;
 
 /**
@@ -45,9 +46,18 @@ public class TraineeIdentityInterceptor implements HandlerInterceptor {
   private static final String FAMILY_NAME_ATTRIBUTE = "family_name";
 
   private final TraineeIdentity traineeIdentity;
+  private final JwtTokenCache tokenCache;
 
-  public TraineeIdentityInterceptor(TraineeIdentity traineeIdentity) {
+  /**
+   * Create an interceptor for creating a {@link TraineeIdentity} from a request.
+   *
+   * @param traineeIdentity The trainee identity to populate.
+   * @param tokenCache      The cache of parsed tokens, used to get the token's features. May be
+   *                        null, in which case the features are derived from each token.
+   */
+  public TraineeIdentityInterceptor(TraineeIdentity traineeIdentity, JwtTokenCache tokenCache) {
     this.traineeIdentity = traineeIdentity;
+    this.tokenCache = tokenCache;
   }
 
   @Override
@@ -70,7 +80,9 @@ public class TraineeIdentityInterceptor implements HandlerInterceptor {
 
       Map<String, Object> features = authToken.getClaimAsMap("features");
       if (features != null) {
-        traineeIdentity.setFeatures(AuthTokenUtil.getFeatures(authToken));
+        traineeIdentity.setFeatures(tokenCache != null
+            ? tokenCache.getFeatures(authToken)
+            : AuthTokenUtil.getFeatures(authToken));
       } else {
         log.warn("No features found in token claims {}.", authToken.getClaims());
       }
@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
+
+/**
+ * A JFR event for a form lifecycle transition, covering validation, save and publish.
+ */
+@Name(FormTransitionEvent.NAME)
+@Label("Form Lifecycle Transition")
+@Category({JfrEvents.CATEGORY, "Forms"})
+@Description("A form lifecycle transition, including validation, save and publish.")
+@StackTrace(false)
+public class FormTransitionEvent extends Event {
+
+  public static final String NAME = JfrEvents.PREFIX + "FormTransition";
+
+  @Label("Form Type")
+  String formType;
+
+  @Label("From State")
+  String fromState;
+
+  @Label("To State")
+  String toState;
+
+  @Label("Outcome")
+  String outcome;
+
+  /**
+   * Begin timing a lifecycle transition.
+   *
+   * @param formType  The type of the form being transitioned.
+   * @param fromState The current state of the form, may be null.
+   * @param toState   The state the form is being transitioned to.
+   * @return The begun event.
+   */
+  public static FormTransitionEvent begin(String formType, LifecycleState fromState,
+      LifecycleState toState) {
+    FormTransitionEvent event = new FormTransitionEvent();
+
+    if (event.isEnabled()) {
+      event.formType = formType;
+      event.fromState = fromState == null ? null : fromState.name();
+      event.toState = toState.name();
+      event.begin();
+    }
+
+    return event;
+  }
+
+  /**
+   * Complete the transition, committing the event if it is enabled and over the threshold.
+   *
+   * @param outcome The outcome of the transition.
+   */
+  public void complete(String outcome) {
+    if (shouldCommit()) {
+      this.outcome = outcome;
+      commit();
+    }
+  }
+}
@@ -20,17 +20,18 @@
  *
  */
 
-package uk.nhs.hee.tis.trainee.forms.dto;
-
-import uk.nhs.hee.tis.trainee.forms.model.content.FormContent;
+package uk.nhs.hee.tis.trainee.forms.jfr;
 
 /**
- * A result from a {@link FormPatchDto} triggered update.
- *
- * @param patchedContent The content after patching.
- * @param changed        Whether the patch actually modified the content.
- * @param <T>            The type of {@link FormContent} being patched.
+ * Shared naming for the application's JFR events. The events are always registered, but are only
+ * recorded while a flight recording is running, so they may be enabled at any time with e.g.
+ * {@code jcmd <pid> JFR.start}.
  */
-public record FormPatchResultDto<T extends FormContent>(T patchedContent, boolean changed) {
+public final class JfrEvents {
+
+  public static final String CATEGORY = "TIS Trainee Forms";
+  static final String PREFIX = "uk.nhs.hee.tis.trainee.forms.";
 
+  private JfrEvents() {
+  }
 }
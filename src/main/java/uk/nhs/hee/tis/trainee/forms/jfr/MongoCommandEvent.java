@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A JFR event for a Mongo command issued by the repositories or templates.
+ */
+@Name(MongoCommandEvent.NAME)
+@Label("Mongo Command")
+@Category({JfrEvents.CATEGORY, "Mongo"})
+@Description("A Mongo command, from being sent until the response or failure is received.")
+@StackTrace(false)
+@Threshold("10 ms")
+public class MongoCommandEvent extends Event {
+
+  public static final String NAME = JfrEvents.PREFIX + "MongoCommand";
+
+  @Label("Command")
+  String commandName;
+
+  @Label("Database")
+  String databaseName;
+
+  @Label("Collection")
+  String collection;
+
+  @Label("Outcome")
+  String outcome;
+
+  /**
+   * Begin timing a Mongo command.
+   *
+   * @param commandName  The name of the command.
+   * @param databaseName The database the command is run against.
+   * @param collection   The collection targeted by the command, may be null.
+   * @return The begun event.
+   */
+  public static MongoCommandEvent begin(String commandName, String databaseName,
+      String collection) {
+    MongoCommandEvent event = new MongoCommandEvent();
+
+    if (event.isEnabled()) {
+      event.commandName = commandName;
+      event.databaseName = databaseName;
+      event.collection = collection;
+      event.begin();
+    }
+
+    return event;
+  }
+
+  /**
+   * Complete the command, committing the event if it is enabled and over the threshold.
+   *
+   * @param outcome The outcome of the command.
+   */
+  public void complete(String outcome) {
+    if (shouldCommit()) {
+      this.outcome = outcome;
+      commit();
+    }
+  }
+}
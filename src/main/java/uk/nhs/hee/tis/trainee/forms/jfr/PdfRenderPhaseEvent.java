@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event for a single phase of rendering a PDF from a template.
+ */
+@Name(PdfRenderPhaseEvent.NAME)
+@Label("PDF Render Phase")
+@Category({JfrEvents.CATEGORY, "PDF"})
+@Description("A phase of rendering a PDF from a template.")
+@StackTrace(false)
+public class PdfRenderPhaseEvent extends Event {
+
+  public static final String NAME = JfrEvents.PREFIX + "PdfRenderPhase";
+
+  public static final String PHASE_TEMPLATE = "template";
+  public static final String PHASE_PARSE = "parse";
+  public static final String PHASE_DOM = "dom";
+  public static final String PHASE_LAYOUT = "layout";
+
+  @Label("Template")
+  String template;
+
+  @Label("Phase")
+  String phase;
+
+  @Label("Payload Size")
+  @Description("The size of the phase output, in characters for markup or bytes for the PDF.")
+  @DataAmount
+  long payloadSize;
+
+  /**
+   * Begin timing a render phase.
+   *
+   * @param template The template being rendered.
+   * @param phase    The render phase.
+   * @return The begun event.
+   */
+  public static PdfRenderPhaseEvent begin(String template, String phase) {
+    PdfRenderPhaseEvent event = new PdfRenderPhaseEvent();
+
+    if (event.isEnabled()) {
+      event.template = template;
+      event.phase = phase;
+      event.begin();
+    }
+
+    return event;
+  }
+
+  /**
+   * Complete the render phase, committing the event if it is enabled and over the threshold.
+   *
+   * @param payloadSize The size of the phase output.
+   */
+  public void complete(long payloadSize) {
+    if (shouldCommit()) {
+      this.payloadSize = payloadSize;
+      commit();
+    }
+  }
+}
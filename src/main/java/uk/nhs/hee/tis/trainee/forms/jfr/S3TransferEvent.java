@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.jfr;
+
+import java.util.function.LongSupplier;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event for an upload to, or download from, S3.
+ */
+@Name(S3TransferEvent.NAME)
+@Label("S3 Transfer")
+@Category({JfrEvents.CATEGORY, "AWS"})
+@Description("An upload to, or download from, S3.")
+@StackTrace(false)
+public class S3TransferEvent extends Event {
+
+  public static final String NAME = JfrEvents.PREFIX + "S3Transfer";
+
+  public static final String OPERATION_UPLOAD = "upload";
+  public static final String OPERATION_DOWNLOAD = "download";
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Bucket")
+  String bucket;
+
+  @Label("Form Type")
+  String formType;
+
+  @Label("Payload Size")
+  @DataAmount
+  long payloadSize;
+
+  /**
+   * Begin timing an S3 transfer.
+   *
+   * @param operation The transfer operation, either upload or download.
+   * @param bucket    The bucket being transferred to or from.
+   * @param formType  The type of form being transferred, may be null if not known.
+   * @return The begun event.
+   */
+  public static S3TransferEvent begin(String operation, String bucket, String formType) {
+    S3TransferEvent event = new S3TransferEvent();
+
+    if (event.isEnabled()) {
+      event.operation = operation;
+      event.bucket = bucket;
+      event.formType = formType;
+      event.begin();
+    }
+
+    return event;
+  }
+
+  /**
+   * Complete the transfer, committing the event if it is enabled and over the threshold. The
+   * payload size is only resolved when the event is committed.
+   *
+   * @param payloadSize The size of the transferred object in bytes, or -1 if not known.
+   */
+  public void complete(LongSupplier payloadSize) {
+    end();
+
+    if (shouldCommit()) {
+      this.payloadSize = payloadSize.getAsLong();
+      commit();
+    }
+  }
+}
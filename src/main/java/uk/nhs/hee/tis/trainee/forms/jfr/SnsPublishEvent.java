@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event for a single or batch publish request to SNS.
+ */
+@Name(SnsPublishEvent.NAME)
+@Label("SNS Publish")
+@Category({JfrEvents.CATEGORY, "AWS"})
+@Description("A single or batch publish request to SNS.")
+@StackTrace(false)
+public class SnsPublishEvent extends Event {
+
+  public static final String NAME = JfrEvents.PREFIX + "SnsPublish";
+
+  @Label("Topic")
+  String topic;
+
+  @Label("Mode")
+  String mode;
+
+  @Label("Message Count")
+  int messageCount;
+
+  @Label("Payload Size")
+  @Description("The total size of the published messages, in characters.")
+  @DataAmount
+  long payloadSize;
+
+  @Label("Published")
+  int published;
+
+  @Label("Failed")
+  int failed;
+
+  /**
+   * Begin timing an SNS publish request.
+   *
+   * @param topic        The name of the topic being published to.
+   * @param mode         Whether the request is a single or batch publish.
+   * @param messageCount The number of messages in the request.
+   * @param payloadSize  The total size of the messages in the request.
+   * @return The begun event.
+   */
+  public static SnsPublishEvent begin(String topic, String mode, int messageCount,
+      long payloadSize) {
+    SnsPublishEvent event = new SnsPublishEvent();
+
+    if (event.isEnabled()) {
+      event.topic = topic;
+      event.mode = mode;
+      event.messageCount = messageCount;
+      event.payloadSize = payloadSize;
+      event.begin();
+    }
+
+    return event;
+  }
+
+  /**
+   * Complete the publish request, committing the event if it is enabled and over the threshold.
+   *
+   * @param published The number of messages successfully published.
+   * @param failed    The number of messages which failed to publish.
+   */
+  public void complete(int published, int failed) {
+    if (shouldCommit()) {
+      this.published = published;
+      this.failed = failed;
+      commit();
+    }
+  }
+}
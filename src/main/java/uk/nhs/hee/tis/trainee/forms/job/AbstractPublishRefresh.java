@@ -22,12 +22,20 @@
 
 package uk.nhs.hee.tis.trainee.forms.job;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
 
 /**
  * An abstract execution to publish all exportable forms as if they have been updated, useful for
@@ -38,6 +46,25 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class AbstractPublishRefresh<T> {
 
+  public static final String METRIC_REFRESH_DURATION = "forms.refresh.duration";
+  public static final String METRIC_REFRESH_PUBLISHED = "forms.refresh.published";
+
+  private static final String TAG_FORM_TYPE = "form.type";
+  private static final String TAG_OUTCOME = "outcome";
+  private static final String OUTCOME_SUCCESS = "success";
+  private static final String OUTCOME_FAILURE = "failure";
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Create a refresh job which records its throughput in the given registry.
+   *
+   * @param meterRegistry The registry for refresh metrics.
+   */
+  protected AbstractPublishRefresh(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
   /**
    * Get the type name of the form to be refreshed.
    *
@@ -62,6 +89,24 @@ public abstract class AbstractPublishRefresh<T> {
    */
   protected abstract Stream<T> streamForms(Optional<LocalDate> cutoffDate);
 
+  /**
+   * Build a query for forms in any of the given states, optionally filtered by a cutoff date.
+   *
+   * @param states     The states to include.
+   * @param cutoffDate An optional cutoff start date; only forms last modified on or after this date
+   *                   will be included. If empty, all forms are included.
+   * @return The built query.
+   */
+  protected static Query buildRefreshQuery(Set<LifecycleState> states,
+      Optional<LocalDate> cutoffDate) {
+    Criteria criteria = Criteria.where("status.current.state").in(states);
+
+    // Use UTC since we're dealing with modification timestamps, which are stored in UTC.
+    cutoffDate.ifPresent(date -> criteria.and("lastModified")
+        .gte(date.atStartOfDay(ZoneOffset.UTC).toInstant()));
+    return Query.query(criteria);
+  }
+
   /**
    * Refresh the given form by publishing to an event topic.
    *
@@ -79,30 +124,55 @@ public abstract class AbstractPublishRefresh<T> {
   protected Integer execute(Optional<LocalDate> cutoffDate) {
     String formType = getFormTypeName();
     log.info("Starting {} downstream refresh.", formType);
+    Timer.Sample sample = Timer.start(meterRegistry);
 
     AtomicInteger total = new AtomicInteger();
     AtomicInteger published = new AtomicInteger();
 
-    streamForms(cutoffDate)
-        .forEach(
-            form -> {
-              total.getAndIncrement();
+    try (Stream<T> forms = streamForms(cutoffDate)) {
+      forms.forEach(
+          form -> {
+            total.getAndIncrement();
+
+            UUID formId = getFormId(form);
+            log.debug("Publishing refresh notification for {} {}.", formType, formId);
 
-              UUID formId = getFormId(form);
-              log.debug("Publishing refresh notification for {} {}.", formType, formId);
+            try {
+              publishForm(form);
+              published.getAndIncrement();
+            } catch (Exception e) {
+              log.error("Unable to publish refresh notification for {} {}.", formType, formId);
+            }
+          });
+    }
 
-              try {
-                publishForm(form);
-                published.getAndIncrement();
-              } catch (Exception e) {
-                log.error("Unable to publish refresh notification for {} {}.", formType, formId);
-              }
-            });
+    sample.stop(Timer.builder(METRIC_REFRESH_DURATION)
+        .description("The time taken to publish a downstream refresh of all forms of a type.")
+        .tag(TAG_FORM_TYPE, formType)
+        .register(meterRegistry));
+    countPublished(formType, OUTCOME_SUCCESS, published.get());
+    countPublished(formType, OUTCOME_FAILURE, total.get() - published.get());
 
     log.info("Finished {} downstream refresh, published count: {}/{}.", formType, published, total);
     return published.get();
   }
 
+  /**
+   * Count the forms handled by a refresh.
+   *
+   * @param formType The type name of the refreshed forms.
+   * @param outcome  Whether the forms were published successfully.
+   * @param count    The number of forms to count.
+   */
+  private void countPublished(String formType, String outcome, int count) {
+    Counter.builder(METRIC_REFRESH_PUBLISHED)
+        .description("The number of forms handled by downstream refreshes.")
+        .tag(TAG_FORM_TYPE, formType)
+        .tag(TAG_OUTCOME, outcome)
+        .register(meterRegistry)
+        .increment(count);
+  }
+
   /**
    * Execute the job to publish all exportable forms as a refresh with no date cutoff.
    *
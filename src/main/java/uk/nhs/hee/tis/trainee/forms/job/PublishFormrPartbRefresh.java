@@ -22,12 +22,13 @@
 
 package uk.nhs.hee.tis.trainee.forms.job;
 
-import static java.time.ZoneOffset.UTC;
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.DELETED;
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.SUBMITTED;
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.UNSUBMITTED;
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
+import com.mongodb.ReadPreference;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.Set;
@@ -36,12 +37,13 @@ import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
 import uk.nhs.hee.tis.trainee.forms.mapper.FormRPartBMapper;
 import uk.nhs.hee.tis.trainee.forms.model.FormRPartB;
-import uk.nhs.hee.tis.trainee.forms.repository.FormRPartBRepository;
 import uk.nhs.hee.tis.trainee.forms.service.FormRPartBService;
 
 /**
@@ -53,7 +55,8 @@ import uk.nhs.hee.tis.trainee.forms.service.FormRPartBService;
 @XRayEnabled
 public class PublishFormrPartbRefresh extends AbstractPublishRefresh<FormRPartB> {
 
-  private final FormRPartBRepository repository;
+  private final MongoTemplate mongoTemplate;
+  private final ReadPreference readPreference;
   private final FormRPartBService service;
   private final FormRPartBMapper mapper;
   private final String topic;
@@ -61,13 +64,19 @@ public class PublishFormrPartbRefresh extends AbstractPublishRefresh<FormRPartB>
   /**
    * Create an instance of a job for publishing Form-R refreshes.
    *
-   * @param repository The repository used to retrieve Form-R records.
-   * @param service    The Form-R service used to send notifications.
-   * @param topic      The refresh topic to publish to.
+   * @param mongoTemplate  The Mongo template used to retrieve Form-R records.
+   * @param readPreference The read preference to use when retrieving Form-R records.
+   * @param service        The Form-R service used to send notifications.
+   * @param mapper         The Form-R mapper.
+   * @param meterRegistry  The registry for refresh metrics.
+   * @param topic          The refresh topic to publish to.
    */
-  public PublishFormrPartbRefresh(FormRPartBRepository repository, FormRPartBService service,
-      FormRPartBMapper mapper, @Value("${application.aws.sns.formr-refresh}") String topic) {
-    this.repository = repository;
+  public PublishFormrPartbRefresh(MongoTemplate mongoTemplate, ReadPreference readPreference,
+      FormRPartBService service, FormRPartBMapper mapper, MeterRegistry meterRegistry,
+      @Value("${application.aws.sns.formr-refresh}") String topic) {
+    super(meterRegistry);
+    this.mongoTemplate = mongoTemplate;
+    this.readPreference = readPreference;
     this.service = service;
     this.mapper = mapper;
     this.topic = topic;
@@ -87,13 +96,8 @@ public class PublishFormrPartbRefresh extends AbstractPublishRefresh<FormRPartB>
   public Stream<FormRPartB> streamForms(Optional<LocalDate> cutoffDate) {
     Set<LifecycleState> states = Set.of(DELETED, SUBMITTED, UNSUBMITTED);
     // Listing allowed (non-DRAFT) states avoids any accidental inclusions of future states.
-    if (cutoffDate.isPresent()) {
-
-      // Use UTC since we're dealing with modification timestamps, which are stored in UTC.
-      return repository.streamByLifecycleStateInAndLastModifiedDateGreaterThanEqual(
-          states, cutoffDate.get().atStartOfDay().toInstant(UTC));
-    }
-    return repository.streamByLifecycleStateIn(states);
+    Query query = buildRefreshQuery(states, cutoffDate).withReadPreference(readPreference);
+    return mongoTemplate.stream(query, FormRPartB.class);
   }
 
   @Override
@@ -29,9 +29,9 @@ import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.UNSUBM
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.WITHDRAWN;
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
-import java.time.Instant;
+import com.mongodb.ReadPreference;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDate;
-import java.time.ZoneOffset;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -39,11 +39,12 @@ import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
 import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
-import uk.nhs.hee.tis.trainee.forms.repository.LtftFormRepository;
 import uk.nhs.hee.tis.trainee.forms.service.LtftService;
 
 /**
@@ -55,20 +56,26 @@ import uk.nhs.hee.tis.trainee.forms.service.LtftService;
 @XRayEnabled
 public class PublishLtftRefresh extends AbstractPublishRefresh<LtftForm> {
 
-  private final LtftFormRepository repository;
+  private final MongoTemplate mongoTemplate;
+  private final ReadPreference readPreference;
   private final LtftService service;
   private final String topic;
 
   /**
    * Create an instance of a job for publishing LTFT refreshes.
    *
-   * @param repository The repository used to retrieve LTFT records.
-   * @param service    The LTFT service used to send notifications.
-   * @param topic      The refresh topic to publish to.
+   * @param mongoTemplate  The Mongo template used to retrieve LTFT records.
+   * @param readPreference The read preference to use when retrieving LTFT records.
+   * @param service        The LTFT service used to send notifications.
+   * @param meterRegistry  The registry for refresh metrics.
+   * @param topic          The refresh topic to publish to.
    */
-  public PublishLtftRefresh(LtftFormRepository repository, LtftService service,
+  public PublishLtftRefresh(MongoTemplate mongoTemplate, ReadPreference readPreference,
+      LtftService service, MeterRegistry meterRegistry,
       @Value("${application.aws.sns.ltft-refresh}") String topic) {
-    this.repository = repository;
+    super(meterRegistry);
+    this.mongoTemplate = mongoTemplate;
+    this.readPreference = readPreference;
     this.service = service;
     this.topic = topic;
   }
@@ -88,12 +95,8 @@ public class PublishLtftRefresh extends AbstractPublishRefresh<LtftForm> {
     Set<LifecycleState> states = Set.of(APPROVED, DELETED, REJECTED, SUBMITTED, UNSUBMITTED,
         WITHDRAWN);
     // Listing allowed (non-DRAFT) states avoids any accidental inclusions of future states.
-    if (cutoffDate.isPresent()) {
-      Instant cutoff = cutoffDate.get().atStartOfDay(ZoneOffset.UTC).toInstant();
-      return repository.streamByStatus_Current_StateInAndLastModifiedGreaterThanEqual(
-          states, cutoff);
-    }
-    return repository.streamByStatus_Current_StateIn(states);
+    Query query = buildRefreshQuery(states, cutoffDate).withReadPreference(readPreference);
+    return mongoTemplate.stream(query, LtftForm.class);
   }
 
   @Override
@@ -46,12 +46,14 @@ import uk.nhs.hee.tis.trainee.forms.dto.LtftAdminSummaryDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftAdminSummaryDto.LtftAdminPersonalDetailsDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto.StatusDto.LftfStatusInfoDetailDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto.StatusDto.StatusInfoDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftSummaryDto;
 import uk.nhs.hee.tis.trainee.forms.dto.PersonDto;
 import uk.nhs.hee.tis.trainee.forms.dto.PersonalDetailsDto;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.EmailValidityType;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
 import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status.StatusDetail;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status.StatusInfo;
 import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
 import uk.nhs.hee.tis.trainee.forms.model.LtftSubmissionHistory;
 import uk.nhs.hee.tis.trainee.forms.model.Person;
@@ -177,6 +179,14 @@ public abstract class LtftMapper implements FormMapper<LtftForm, LtftFormDto>,
    */
   public abstract Person toEntity(PersonDto dto);
 
+  /**
+   * Convert a list of {@link StatusInfo} to {@link StatusInfoDto} DTOs.
+   *
+   * @param entities The status history entries to convert.
+   * @return The equivalent status info DTOs.
+   */
+  public abstract List<StatusInfoDto> toStatusInfoDtos(List<StatusInfo> entities);
+
   /**
    * Convert a {@link LftfStatusInfoDetailDto} to a {@link StatusDetail}.
    *
@@ -230,14 +240,9 @@ public abstract class LtftMapper implements FormMapper<LtftForm, LtftFormDto>,
       return null;
     }
 
-    Instant submitted = entity.getStatus().submitted();
-    LifecycleState state = entity.getStatus().current().state();
-
-    // If the form is UNSUBMITTED/DRAFT, use the current date instead of the last submission date.
-    Instant referenceInstant =
-        (state == UNSUBMITTED || state == DRAFT || submitted == null) ? Instant.now() : submitted;
-
-    LocalDate referenceDate = getTemporalMapper().toLocalDate(referenceInstant);
+    LocalDate currentReferenceDate = getCurrentShortNoticeReferenceDate(entity);
+    LocalDate referenceDate = currentReferenceDate != null ? currentReferenceDate
+        : getTemporalMapper().toLocalDate(entity.getStatus().submitted());
 
     return Optional.ofNullable(entity.getContent())
         .map(LtftContent::change)
@@ -246,6 +251,33 @@ public abstract class LtftMapper implements FormMapper<LtftForm, LtftFormDto>,
         .orElse(null);
   }
 
+  /**
+   * Get the date short notice is calculated against, when that date is the current date rather
+   * than the last submission date. The short notice value of such forms changes over time without
+   * the form being modified.
+   *
+   * @param entity The LTFT application, only the status is required.
+   * @return The current date if the form is UNSUBMITTED, DRAFT or has never been submitted, or null
+   *     if short notice is calculated from the last submission date or cannot be calculated.
+   */
+  @Named("CurrentShortNoticeReferenceDate")
+  @Nullable
+  public LocalDate getCurrentShortNoticeReferenceDate(LtftForm entity) {
+    if (entity.getStatus() == null || entity.getStatus().current() == null) {
+      return null;
+    }
+
+    Instant submitted = entity.getStatus().submitted();
+    LifecycleState state = entity.getStatus().current().state();
+
+    // If the form is UNSUBMITTED/DRAFT, use the current date instead of the last submission date.
+    if (state == UNSUBMITTED || state == DRAFT || submitted == null) {
+      return getTemporalMapper().toLocalDate(Instant.now());
+    }
+
+    return null;
+  }
+
   /**
    * Convert an email status string to an {@link EmailValidityType}.
    *
@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.migration;
+
+import static uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.STATUS_HISTORY_TAIL_SIZE;
+
+import com.mongodb.client.result.UpdateResult;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm;
+import uk.nhs.hee.tis.trainee.forms.model.FormRPartA;
+import uk.nhs.hee.tis.trainee.forms.model.FormRPartB;
+import uk.nhs.hee.tis.trainee.forms.model.FormStatusHistory;
+import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
+
+/**
+ * Copy the embedded status history of all forms to the status history collection, then trim the
+ * embedded history down to the most recent entries.
+ *
+ * <p>History entry IDs are derived from the form ID and entry content, and entries are upserted,
+ * so that rerunning the migration after a partial failure does not duplicate any entries.
+ */
+@Slf4j
+@ChangeUnit(id = "externaliseStatusHistory", order = "012")
+public class ExternaliseStatusHistory {
+
+  private static final String FIELD_ID = "_id";
+  private static final String FIELD_CLASS = "_class";
+  private static final String FIELD_HISTORY = "status.history";
+
+  private static final int BATCH_SIZE = 500;
+
+  private final MongoTemplate mongoTemplate;
+
+  public ExternaliseStatusHistory(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Externalise the status history of all form collections.
+   */
+  @Execution
+  public void migrate() {
+    migrateCollection(new LtftForm());
+    migrateCollection(new FormRPartA());
+    migrateCollection(new FormRPartB());
+  }
+
+  /**
+   * Externalise the status history of a single form collection.
+   *
+   * @param form An instance of the form type to migrate, used to resolve collection and type.
+   */
+  private void migrateCollection(AbstractAuditedForm<?> form) {
+    String formCollection = mongoTemplate.getCollectionName(form.getClass());
+    String historyCollection = mongoTemplate.getCollectionName(FormStatusHistory.class);
+    String formType = form.getFormType();
+
+    Query query = Query.query(Criteria.where(FIELD_HISTORY).exists(true).ne(List.of()));
+    query.fields().include(FIELD_ID, FIELD_HISTORY);
+
+    List<Document> batch = new ArrayList<>(BATCH_SIZE);
+    int entryCount = 0;
+
+    try (Stream<Document> forms = mongoTemplate.stream(query, Document.class, formCollection)) {
+      for (Document document : (Iterable<Document>) forms::iterator) {
+        Object formId = document.get(FIELD_ID);
+        List<Document> history = document.get("status", Document.class)
+            .getList("history", Document.class);
+
+        for (Document statusInfo : history) {
+          Document entry = new Document(FIELD_ID, getEntryId(formId, statusInfo))
+              .append("formId", formId)
+              .append("formType", formType)
+              .append("status", statusInfo)
+              .append(FIELD_CLASS, FormStatusHistory.class.getName());
+          batch.add(entry);
+
+          if (batch.size() == BATCH_SIZE) {
+            entryCount += upsert(batch, historyCollection);
+            batch.clear();
+          }
+        }
+      }
+    }
+
+    if (!batch.isEmpty()) {
+      entryCount += upsert(batch, historyCollection);
+    }
+
+    log.info("Copied {} status history entries from collection {}.", entryCount, formCollection);
+
+    Query trimQuery = Query.query(
+        Criteria.where(FIELD_HISTORY + "." + STATUS_HISTORY_TAIL_SIZE).exists(true));
+    Update trimUpdate = new Update().push(FIELD_HISTORY).slice(-STATUS_HISTORY_TAIL_SIZE).each();
+    UpdateResult result = mongoTemplate.updateMulti(trimQuery, trimUpdate, formCollection);
+    log.info("Trimmed the embedded status history of {} forms in collection {}.",
+        result.getModifiedCount(), formCollection);
+  }
+
+  /**
+   * Upsert a batch of history entries by ID with a single bulk write.
+   *
+   * @param entries           The history entries to upsert.
+   * @param historyCollection The name of the history collection.
+   * @return The number of entries written.
+   */
+  private int upsert(List<Document> entries, String historyCollection) {
+    BulkOperations bulkOps = mongoTemplate.bulkOps(BulkMode.UNORDERED, historyCollection);
+
+    for (Document entry : entries) {
+      bulkOps.replaceOne(Query.query(Criteria.where(FIELD_ID).is(entry.get(FIELD_ID))), entry,
+          FindAndReplaceOptions.options().upsert());
+    }
+
+    bulkOps.execute();
+    return entries.size();
+  }
+
+  /**
+   * Derive a deterministic history entry ID from the form ID and the entry content, so that the
+   * same entry always has the same ID.
+   *
+   * @param formId     The ID of the form the entry belongs to.
+   * @param statusInfo The status information of the entry.
+   * @return The derived entry ID.
+   */
+  static UUID getEntryId(Object formId, Document statusInfo) {
+    String source = formId + ":" + statusInfo.toJson();
+    return UUID.nameUUIDFromBytes(source.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Do not attempt rollback, the full history remains available in the status history collection.
+   */
+  @RollbackExecution
+  public void rollback() {
+    log.warn("Rollback requested but not available for 'externaliseStatusHistory' migration.");
+  }
+}
@@ -27,9 +27,12 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -53,6 +56,12 @@ import uk.nhs.hee.tis.trainee.forms.model.content.FormContent;
 public abstract class AbstractAuditedForm<T extends FormContent> extends AbstractForm implements
     Persistable<UUID> {
 
+  /**
+   * The number of most recent status history entries kept on the form itself, the full history is
+   * stored in the {@link FormStatusHistory} collection.
+   */
+  public static final int STATUS_HISTORY_TAIL_SIZE = 10;
+
   @Indexed
   private String formRef;
   private int revision;
@@ -66,6 +75,12 @@ public abstract class AbstractAuditedForm<T extends FormContent> extends Abstrac
   @LastModifiedDate
   private Instant lastModified;
 
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @ToString.Exclude
+  private transient List<StatusInfo> unrecordedHistory = new ArrayList<>();
+
   @JsonIgnore
   @Transient
   public abstract String getFormReferencePrefix();
@@ -193,7 +208,20 @@ public abstract class AbstractAuditedForm<T extends FormContent> extends Abstrac
   }
 
   /**
-   * Update the form's current and historical status to include in given {@link StatusInfo}.
+   * Get the status history entries added since the form was loaded, or last drained, and clear
+   * them so that they are only returned once.
+   *
+   * @return The status history entries which have not yet been recorded in the full history.
+   */
+  public List<StatusInfo> drainUnrecordedHistory() {
+    List<StatusInfo> drained = List.copyOf(unrecordedHistory);
+    unrecordedHistory.clear();
+    return drained;
+  }
+
+  /**
+   * Update the form's current and historical status to include in given {@link StatusInfo}. Only
+   * the most recent {@link #STATUS_HISTORY_TAIL_SIZE} history entries are retained on the form.
    *
    * @param statusInfo           The status info to add to the form.
    * @param affectsSubmittedDate Whether this status change affects the submitted date. In
@@ -212,10 +240,15 @@ public abstract class AbstractAuditedForm<T extends FormContent> extends Abstrac
     if (status == null || status.history == null) {
       setStatus(new Status(statusInfo, submitted, List.of(statusInfo)));
     } else {
-      List<StatusInfo> newHistory = new ArrayList<>(status.history);
+      List<StatusInfo> history = status.history;
+      int retained = Math.min(history.size(), STATUS_HISTORY_TAIL_SIZE - 1);
+      List<StatusInfo> newHistory = new ArrayList<>(retained + 1);
+      newHistory.addAll(history.subList(history.size() - retained, history.size()));
       newHistory.add(statusInfo);
       setStatus(new Status(statusInfo, submitted, newHistory));
     }
+
+    unrecordedHistory.add(statusInfo);
   }
 
   @Override
@@ -229,7 +262,7 @@ public abstract class AbstractAuditedForm<T extends FormContent> extends Abstrac
    *
    * @param current   The information for the current form status.
    * @param submitted When the form was last submitted.
-   * @param history   A list of form status history.
+   * @param history   A list of the most recent form status history.
    */
   @Builder
   public record Status(
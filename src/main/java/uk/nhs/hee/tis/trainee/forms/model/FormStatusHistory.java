@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.model;
+
+import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status.StatusInfo;
+
+/**
+ * A single entry of a form's full status history, stored separately from the form so that the
+ * form document only needs to carry the most recent entries.
+ *
+ * @param id       The ID of the history entry.
+ * @param formId   The ID of the form the entry belongs to.
+ * @param formType The type of the form the entry belongs to.
+ * @param status   The recorded status information.
+ */
+@Document("FormStatusHistory")
+@CompoundIndex(def = "{'formId': 1, 'status.timestamp': 1}")
+public record FormStatusHistory(
+    @Id
+    UUID id,
+    UUID formId,
+    String formType,
+    StatusInfo status) {
+
+  /**
+   * Create a new status history entry for the given form.
+   *
+   * @param form   The form the status belongs to.
+   * @param status The status information to record.
+   * @return The new status history entry.
+   */
+  public static FormStatusHistory of(AbstractAuditedForm<?> form, StatusInfo status) {
+    return new FormStatusHistory(UUID.randomUUID(), form.getId(), form.getFormType(), status);
+  }
+}
@@ -44,6 +44,7 @@ public record CctChange(
     UUID id,
     UUID calculationId,
     CctChangeType type,
+    @With
     Double wte,
     @With
     LocalDate startDate,
@@ -25,6 +25,7 @@ package uk.nhs.hee.tis.trainee.forms.repository;
 import java.util.UUID;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.data.repository.NoRepositoryBean;
 import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm;
 import uk.nhs.hee.tis.trainee.forms.model.content.FormContent;
@@ -46,4 +47,15 @@ public interface BaseAuditedFormRepository<T extends AbstractAuditedForm<? exten
       }
       """, count = true)
   long countSubmittedByTraineeId(String traineeId);
+
+  /**
+   * Move all forms belonging to one trainee to another trainee in a single update.
+   *
+   * @param fromTraineeId The ID of the trainee to move the forms from.
+   * @param toTraineeId   The ID of the trainee to move the forms to.
+   * @return The number of moved forms.
+   */
+  @Query("{ 'traineeTisId': ?0 }")
+  @Update("{ '$set': { 'traineeTisId': ?1 }, '$currentDate': { 'lastModified': true } }")
+  long updateTraineeTisIdByTraineeTisId(String fromTraineeId, String toTraineeId);
 }
@@ -25,6 +25,8 @@ package uk.nhs.hee.tis.trainee.forms.repository;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.data.repository.NoRepositoryBean;
 import uk.nhs.hee.tis.trainee.forms.model.FormSubmissionHistory;
 
@@ -44,4 +46,15 @@ public interface BaseSubmissionHistoryRepository<T extends FormSubmissionHistory
    * @return A list of found form submissions.
    */
   List<T> findByTraineeTisId(String traineeId);
+
+  /**
+   * Move all form submissions belonging to one trainee to another trainee in a single update.
+   *
+   * @param fromTraineeId The ID of the trainee to move the submissions from.
+   * @param toTraineeId   The ID of the trainee to move the submissions to.
+   * @return The number of moved submissions.
+   */
+  @Query("{ 'traineeTisId': ?0 }")
+  @Update("{ '$set': { 'traineeTisId': ?1 }, '$currentDate': { 'lastModified': true } }")
+  long updateTraineeTisIdByTraineeTisId(String fromTraineeId, String toTraineeId);
 }
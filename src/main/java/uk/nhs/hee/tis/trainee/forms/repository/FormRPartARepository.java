@@ -21,12 +21,9 @@
 
 package uk.nhs.hee.tis.trainee.forms.repository;
 
-import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Stream;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
@@ -43,6 +40,10 @@ public interface FormRPartARepository extends BaseAuditedFormRepository<FormRPar
 
   Optional<FormRPartA> findByIdAndTraineeTisId(UUID id, String traineeTisId);
 
+  @Query(value = "{ '_id': ?0, 'traineeTisId': ?1, 'content': { $ne: null } }",
+      fields = "{ 'revision': 1, 'lastModified': 1 }")
+  Optional<FormRPartA> findVersionByIdAndTraineeTisIdWithContent(UUID id, String traineeTisId);
+
   @Query(
       value = "{ 'traineeTisId': ?0, 'status.current.state': ?1 }",
       fields = "{'traineeTisId':1, id:1, 'content.programmeMembershipId':1, 'status.submitted':1,"
@@ -52,24 +53,4 @@ public interface FormRPartARepository extends BaseAuditedFormRepository<FormRPar
       LifecycleState lifecycleState);
 
   List<FormRPartA> findByTraineeTisId(String traineeTisId);
-
-  /**
-   * Stream all Form-R Part As with the given states.
-   *
-   * @param states The states to filter by.
-   * @return The found forms, empty if none found.
-   */
-  @Query("{ 'status.current.state': { $in: ?0 } }")
-  Stream<FormRPartA> streamByLifecycleStateIn(Set<LifecycleState> states);
-
-  /**
-   * Stream all Form-R Part As with the given states and last modified on or after the cutoff.
-   *
-   * @param states             The states to filter by.
-   * @param lastModifiedCutoff The cutoff date/time; only forms modified on or after are included.
-   * @return The found forms, empty if none found.
-   */
-  @Query("{ 'status.current.state': { $in: ?0 }, 'lastModified': { $gte: ?1 } }")
-  Stream<FormRPartA> streamByLifecycleStateInAndLastModifiedDateGreaterThanEqual(
-      Set<LifecycleState> states, Instant lastModifiedCutoff);
 }
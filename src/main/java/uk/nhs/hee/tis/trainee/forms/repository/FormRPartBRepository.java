@@ -20,12 +20,9 @@
 
 package uk.nhs.hee.tis.trainee.forms.repository;
 
-import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Stream;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
@@ -51,24 +48,4 @@ public interface FormRPartBRepository extends BaseAuditedFormRepository<FormRPar
       LifecycleState lifecycleState);
 
   List<FormRPartB> findByTraineeTisId(String traineeTisId);
-
-  /**
-   * Stream all Form-R Part Bs with the given states.
-   *
-   * @param states The states to filter by.
-   * @return The found forms, empty if none found.
-   */
-  @Query("{ 'status.current.state': { $in: ?0 } }")
-  Stream<FormRPartB> streamByLifecycleStateIn(Set<LifecycleState> states);
-
-  /**
-   * Stream all Form-R Part Bs with the given states and last modified on or after the cutoff.
-   *
-   * @param states             The states to filter by.
-   * @param lastModifiedCutoff The cutoff date/time; only forms modified on or after are included.
-   * @return The found forms, empty if none found.
-   */
-  @Query("{ 'status.current.state': { $in: ?0 }, 'lastModified': { $gte: ?1 } }")
-  Stream<FormRPartB> streamByLifecycleStateInAndLastModifiedDateGreaterThanEqual(
-      Set<LifecycleState> states, Instant lastModifiedCutoff);
 }
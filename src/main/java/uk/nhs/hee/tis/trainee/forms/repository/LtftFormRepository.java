@@ -22,13 +22,12 @@
 package uk.nhs.hee.tis.trainee.forms.repository;
 
 import jakarta.validation.constraints.NotNull;
-import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Stream;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
 import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
@@ -39,6 +38,13 @@ import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
 @Repository
 public interface LtftFormRepository extends BaseAuditedFormRepository<LtftForm> {
 
+  /**
+   * The fields required to build the ETag of an LTFT form, including those which determine
+   * whether the form's short notice value depends on the current date.
+   */
+  String VERSION_FIELDS = "{ 'revision': 1, 'lastModified': 1, 'status.current.state': 1, "
+      + "'status.submitted': 1 }";
+
   /**
    * Count the number of non-draft LTFT forms belonging to the given trainee.
    *
@@ -65,33 +71,52 @@ public interface LtftFormRepository extends BaseAuditedFormRepository<LtftForm>
   Optional<LtftForm> findByTraineeTisIdAndId(String traineeId, UUID id);
 
   /**
-   * Stream all LTFT forms with the given states.
+   * Find the version fields of the LTFT form with the given id that belongs to the given trainee.
    *
-   * @param states The states to filter by.
-   * @return The found forms, empty if none found.
+   * @param traineeId The ID of the trainee.
+   * @param id        The ID of the form.
+   * @return The LTFT form with only the ID, revision, last modified, current state and submitted
+   *     fields populated, or optional empty if not found (or does not belong to trainee).
    */
-  Stream<LtftForm> streamByStatus_Current_StateIn(Set<LifecycleState> states);
+  @Query(fields = VERSION_FIELDS)
+  Optional<LtftForm> findVersionByTraineeTisIdAndId(String traineeId, UUID id);
 
   /**
-   * Stream all LTFT forms with the given states and last modified on or after the cutoff.
+   * Find the LTFT form with the given ID and one of the given DBCs.
    *
-   * @param states             The states to filter by.
-   * @param lastModifiedCutoff The cutoff instant; only forms modified on or after are included.
-   * @return The found forms, empty if none found.
+   * @param id     The ID of the form to find.
+   * @param states The states to exclude from the search.
+   * @param dbcs   The designated body codes to include in the search.
+   * @return The found LTFT form, empty if not found.
    */
-  Stream<LtftForm> streamByStatus_Current_StateInAndLastModifiedGreaterThanEqual(
-      Set<LifecycleState> states, Instant lastModifiedCutoff);
+  Optional<LtftForm>
+  findByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+      UUID id, Set<LifecycleState> states, Set<String> dbcs);
 
   /**
-   * Find the LTFT form with the given ID and one of the given DBCs.
+   * Find the version fields of the LTFT form with the given ID and one of the given DBCs.
    *
    * @param id     The ID of the form to find.
    * @param states The states to exclude from the search.
    * @param dbcs   The designated body codes to include in the search.
-   * @return The found LTFT form, empty if not found.
+   * @return The found LTFT form with only the ID, revision, last modified, current state and
+   *     submitted fields populated, empty if not found.
    */
+  @Query(fields = VERSION_FIELDS)
   Optional<LtftForm>
-  findByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+  findVersionByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+      UUID id, Set<LifecycleState> states, Set<String> dbcs);
+
+  /**
+   * Check whether an LTFT form exists with the given ID and one of the given DBCs.
+   *
+   * @param id     The ID of the form to find.
+   * @param states The states to exclude from the search.
+   * @param dbcs   The designated body codes to include in the search.
+   * @return Whether a matching LTFT form exists.
+   */
+  boolean
+  existsByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
       UUID id, Set<LifecycleState> states, Set<String> dbcs);
 
   /**
@@ -104,6 +129,16 @@ public interface LtftFormRepository extends BaseAuditedFormRepository<LtftForm>
   Optional<LtftForm> findByIdAndContent_ProgrammeMembership_DesignatedBodyCodeIn(UUID id,
       Set<String> dbcs);
 
+  /**
+   * Find the LTFT forms with the given IDs associated with one of the given DBCs.
+   *
+   * @param ids  The IDs of the forms.
+   * @param dbcs The designated body codes to include in the search.
+   * @return The found LTFT forms, IDs which were not found or did not match DBCs are omitted.
+   */
+  List<LtftForm> findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+      Collection<UUID> ids, Set<String> dbcs);
+
   /**
    * Find LTFT forms in one of the given DBCs and one of the given review stage labels.
    *
@@ -24,14 +24,14 @@ package uk.nhs.hee.tis.trainee.forms.service;
 
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.SUBMITTED;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.MethodParameter;
-import org.springframework.validation.BeanPropertyBindingResult;
-import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
 import uk.nhs.hee.tis.trainee.forms.dto.identity.UserIdentity;
+import uk.nhs.hee.tis.trainee.forms.jfr.FormTransitionEvent;
 import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm;
 import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status.StatusDetail;
 import uk.nhs.hee.tis.trainee.forms.model.Person;
@@ -45,19 +45,43 @@ import uk.nhs.hee.tis.trainee.forms.repository.BaseAuditedFormRepository;
 @Slf4j
 public abstract class AbstractAuditedFormService<F extends AbstractAuditedForm<?>> {
 
+  protected static final String METRIC_TRANSITIONS = "forms.lifecycle.transitions";
+  protected static final String METRIC_TRANSITION_DURATION = "forms.lifecycle.transition.duration";
+
+  protected static final String TAG_FORM_TYPE = "form.type";
+  protected static final String TAG_FROM = "from";
+  protected static final String TAG_TO = "to";
+  protected static final String TAG_OUTCOME = "outcome";
+
+  protected static final String OUTCOME_SUCCESS = "success";
+  protected static final String OUTCOME_REJECTED = "rejected";
+  protected static final String OUTCOME_FAILED = "failed";
+
+  private static final String NO_STATE = "NONE";
+
   private final BaseAuditedFormRepository<F> repository;
   private final SubmissionHistoryService<F> historyService;
+  private final FormReferenceService formReferenceService;
+  private final LifecycleStateMachine stateMachine;
+  private final MeterRegistry meterRegistry;
 
   /**
    * Constructor for AbstractAuditedFormService.
    *
-   * @param repository     The repository for audited forms.
-   * @param historyService The service for managing submission history of audited forms.
+   * @param repository           The repository for audited forms.
+   * @param historyService       The service for managing submission history of audited forms.
+   * @param formReferenceService The service for generating form references.
+   * @param stateMachine         The state machine for form lifecycle transitions.
+   * @param meterRegistry        The registry for lifecycle transition metrics.
    */
   protected AbstractAuditedFormService(BaseAuditedFormRepository<F> repository,
-      SubmissionHistoryService<F> historyService) {
+      SubmissionHistoryService<F> historyService, FormReferenceService formReferenceService,
+      LifecycleStateMachine stateMachine, MeterRegistry meterRegistry) {
     this.repository = repository;
     this.historyService = historyService;
+    this.formReferenceService = formReferenceService;
+    this.stateMachine = stateMachine;
+    this.meterRegistry = meterRegistry;
   }
 
   /**
@@ -80,42 +104,19 @@ public abstract class AbstractAuditedFormService<F extends AbstractAuditedForm<?
   protected F updateStatus(F form, LifecycleState targetState,
       UserIdentity identity, @Nullable StatusDetail detail)
       throws MethodArgumentNotValidException {
-
-    if (!LifecycleState.canTransitionTo(form, targetState)) {
-      log.warn(
-          "Could not update form {}, invalid lifecycle transition from {} to {} for form type '{}'",
-          form.getId(), form.getLifecycleState(), targetState, form.getFormType());
-
-      BeanPropertyBindingResult result = new BeanPropertyBindingResult(form, "form");
-      result.addError(new FieldError(form.getClass().getSimpleName(), "status.current.state",
-          "can not be transitioned to %s".formatted(targetState)));
-
-      try {
-        MethodParameter parameter = new MethodParameter(AbstractAuditedFormService.class
-            .getDeclaredMethod("updateStatus", AbstractAuditedForm.class, LifecycleState.class,
-                UserIdentity.class, StatusDetail.class), 1);
-        throw new MethodArgumentNotValidException(parameter, result);
-      } catch (NoSuchMethodException e) {
-        throw new IllegalStateException("Unable to reflect updateStatus method.", e);
-      }
-    }
-
-    if (targetState.isRequiresDetails() && (detail == null || detail.reason() == null)) {
-      log.warn("Form {} requires a reason to change to state [{}]", form.getId(), targetState);
-
-      BeanPropertyBindingResult result = new BeanPropertyBindingResult(detail, "detail");
-      String field = detail == null ? "detail" : "detail.reason";
-      result.addError(new FieldError("StatusInfo", field,
-          "must not be null when transitioning to %s".formatted(targetState)));
-
-      try {
-        MethodParameter parameter = new MethodParameter(AbstractAuditedFormService.class
-            .getDeclaredMethod("updateStatus", AbstractAuditedForm.class, LifecycleState.class,
-                UserIdentity.class, StatusDetail.class), 3);
-        throw new MethodArgumentNotValidException(parameter, result);
-      } catch (NoSuchMethodException e) {
-        throw new IllegalStateException("Unable to reflect updateStatus method.", e);
-      }
+    Timer.Sample sample = startTransitionTimer();
+    LifecycleState fromState = form.getLifecycleState();
+    FormTransitionEvent transitionEvent = FormTransitionEvent.begin(form.getFormType(), fromState,
+        targetState);
+
+    try {
+      stateMachine.validateTransition(form, targetState);
+      stateMachine.validateDetail(form, targetState, detail,
+          detail == null ? null : detail.reason());
+    } catch (MethodArgumentNotValidException e) {
+      countTransition(form, fromState, targetState, OUTCOME_REJECTED);
+      transitionEvent.complete(OUTCOME_REJECTED);
+      throw e;
     }
 
     if (targetState.isIncrementsRevision()) {
@@ -138,9 +139,54 @@ public abstract class AbstractAuditedFormService<F extends AbstractAuditedForm<?
 
     publishStatusUpdateNotification(savedForm);
 
+    countTransition(savedForm, fromState, targetState, OUTCOME_SUCCESS);
+    stopTransitionTimer(sample, savedForm, targetState);
+    transitionEvent.complete(OUTCOME_SUCCESS);
     return savedForm;
   }
 
+  /**
+   * Start timing a lifecycle transition.
+   *
+   * @return The started timer sample.
+   */
+  protected Timer.Sample startTransitionTimer() {
+    return Timer.start(meterRegistry);
+  }
+
+  /**
+   * Stop timing a completed lifecycle transition, recording the duration by form type and target
+   * state.
+   *
+   * @param sample      The timer sample started before the transition.
+   * @param form        The transitioned form.
+   * @param targetState The state the form was transitioned to.
+   */
+  protected void stopTransitionTimer(Timer.Sample sample, F form, LifecycleState targetState) {
+    sample.stop(Timer.builder(METRIC_TRANSITION_DURATION)
+        .description("The time taken to validate, save and publish a lifecycle transition.")
+        .tag(TAG_FORM_TYPE, form.getFormType())
+        .tag(TAG_TO, targetState.name())
+        .register(meterRegistry));
+  }
+
+  /**
+   * Count a lifecycle transition attempt by form type, source and target state and outcome.
+   *
+   * @param form        The form being transitioned.
+   * @param fromState   The state the form was in before the transition, may be null.
+   * @param targetState The state the form was transitioned to.
+   * @param outcome     The outcome of the transition, either success, rejected or failed.
+   */
+  protected void countTransition(F form, @Nullable LifecycleState fromState,
+      LifecycleState targetState, String outcome) {
+    meterRegistry.counter(METRIC_TRANSITIONS,
+        TAG_FORM_TYPE, form.getFormType(),
+        TAG_FROM, fromState == null ? NO_STATE : fromState.name(),
+        TAG_TO, targetState.name(),
+        TAG_OUTCOME, outcome).increment();
+  }
+
   /**
    * Generates a form reference for the given form if it has been submitted and does not already
    * have a reference.
@@ -150,8 +196,8 @@ public abstract class AbstractAuditedFormService<F extends AbstractAuditedForm<?
   private void generateFormReference(F form) {
     if (form.getFormRef() == null && form.getLifecycleState() == SUBMITTED) {
       String traineeId = form.getTraineeTisId();
-      long count = repository.countSubmittedByTraineeId(traineeId);
-      String formRef = "%s_%s_%03d".formatted(form.getFormReferencePrefix(), traineeId, count + 1);
+      String formRef = formReferenceService.nextFormReference(form.getFormReferencePrefix(),
+          traineeId, () -> repository.countSubmittedByTraineeId(traineeId));
       log.debug("Assigning form reference {} to form {}", formRef, form.getId());
       form.setFormRef(formRef);
     }
@@ -22,7 +22,6 @@
 
 package uk.nhs.hee.tis.trainee.forms.service;
 
-import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import uk.nhs.hee.tis.trainee.forms.mapper.SubmissionHistoryMapper;
 import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm;
@@ -67,18 +66,10 @@ public abstract class AbstractSubmissionHistoryService<
 
   @Override
   public int moveHistory(String fromTraineeId, String toTraineeId) {
-    int movedCount = 0;
-    List<H> submissions = historyRepository.findByTraineeTisId(fromTraineeId);
-
-    for (H submission : submissions) {
-      log.debug("Moving submission [{}] from trainee [{}] to trainee [{}]", submission.getId(),
-          fromTraineeId, toTraineeId);
-      submission.setTraineeTisId(toTraineeId);
-      historyRepository.save(submission); //lastModifiedDate will be overwritten here
-      movedCount++;
-    }
+    long movedCount = historyRepository.updateTraineeTisIdByTraineeTisId(fromTraineeId,
+        toTraineeId);
     log.info("Moved {} submissions from trainee [{}] to trainee [{}]", movedCount,
         fromTraineeId, toTraineeId);
-    return movedCount;
+    return Math.toIntExact(movedCount);
   }
 }
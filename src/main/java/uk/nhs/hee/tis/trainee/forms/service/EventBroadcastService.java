@@ -25,19 +25,29 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
 import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
 import software.amazon.awssdk.services.sns.model.PublishRequest;
 import software.amazon.awssdk.services.sns.model.SnsException;
 import uk.nhs.hee.tis.trainee.forms.dto.FormRPartADto;
 import uk.nhs.hee.tis.trainee.forms.dto.FormRPartBDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
+import uk.nhs.hee.tis.trainee.forms.jfr.SnsPublishEvent;
 
 /**
  * A service for broadcasting form events to SNS.
@@ -49,15 +59,30 @@ public class EventBroadcastService {
   protected static final String MESSAGE_ATTRIBUTE_KEY = "trigger";
   protected static final String MESSAGE_ATTRIBUTE_KEY_FORM_TYPE = "formType";
   protected static final String MESSAGE_ATTRIBUTE_DEFAULT_VALUE = "default";
+  protected static final int MAX_BATCH_SIZE = 10;
+
+  protected static final String METRIC_PUBLISH_DURATION = "forms.events.publish.duration";
+  protected static final String METRIC_PUBLISHED = "forms.events.published";
+  protected static final String METRIC_FAILED = "forms.events.failed";
+
+  private static final String TAG_TOPIC = "topic";
+  private static final String TAG_MODE = "mode";
+  private static final String TAG_OUTCOME = "outcome";
+  private static final String MODE_SINGLE = "single";
+  private static final String MODE_BATCH = "batch";
+  private static final String OUTCOME_SUCCESS = "success";
+  private static final String OUTCOME_FAILURE = "failure";
 
   private final SnsClient snsClient;
   private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
 
   private final String formrFileTopic;
 
-  EventBroadcastService(SnsClient snsClient,
+  EventBroadcastService(SnsClient snsClient, MeterRegistry meterRegistry,
       @Value("${application.aws.sns.formr-file-event}") String formrFileTopic) {
     this.snsClient = snsClient;
+    this.meterRegistry = meterRegistry;
     objectMapper = new ObjectMapper()
         .registerModule(new JavaTimeModule())
         .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -84,6 +109,60 @@ public class EventBroadcastService {
         formDto.id() == null ? null : formDto.id().toString());
   }
 
+  /**
+   * Publish a number of LTFT form updates to SNS, using batch requests of up to ten events.
+   * Failures of individual events within a batch do not stop later batches, but once all batches
+   * have been sent an exception is thrown if any event failed to publish.
+   *
+   * @param formDtos         The LTFT form DTOs to publish.
+   * @param messageAttribute The message attribute to include in each event (a default is used if
+   *                         this is missing).
+   * @param snsTopic         The SNS topic ARN to publish to.
+   * @throws SnsException if any of the events failed to publish.
+   */
+  public void publishLtftFormUpdateEvents(List<LtftFormDto> formDtos, String messageAttribute,
+      String snsTopic) {
+    if (snsTopic == null || snsTopic.isBlank()) {
+      log.warn("SNS topic ARN is null or blank, skipping SNS publish.");
+      return;
+    }
+
+    List<PublishBatchRequestEntry> entries = new ArrayList<>(MAX_BATCH_SIZE);
+    List<String> failedIds = new ArrayList<>();
+
+    for (LtftFormDto formDto : formDtos) {
+      if (formDto == null) {
+        log.warn("LTFT form is null, skipping SNS publish.");
+        continue;
+      }
+
+      JsonNode eventJson = objectMapper.valueToTree(formDto);
+      if (isJsonNodeEmpty(eventJson)) {
+        log.warn("Event JSON is empty, skipping SNS publish.");
+        continue;
+      }
+
+      String id = formDto.id() == null ? null : formDto.id().toString();
+      entries.add(buildSnsBatchEntry(eventJson, messageAttribute, id));
+
+      if (entries.size() == MAX_BATCH_SIZE) {
+        failedIds.addAll(publishBatch(entries, snsTopic));
+        entries.clear();
+      }
+    }
+
+    if (!entries.isEmpty()) {
+      failedIds.addAll(publishBatch(entries, snsTopic));
+    }
+
+    if (!failedIds.isEmpty()) {
+      String message = String.format(
+          "Failed to broadcast %d batched events to SNS topic '%s' for ids %s",
+          failedIds.size(), snsTopic, failedIds);
+      throw (SnsException) SnsException.builder().message(message).build();
+    }
+  }
+
   /**
    * Publish a Form R Part A event to SNS.
    *
@@ -139,11 +218,17 @@ public class EventBroadcastService {
     PublishRequest request = buildSnsRequest(snsTopic, eventJson, messageAttribute, id);
 
     if (request != null) {
+      Timer.Sample sample = Timer.start(meterRegistry);
+      SnsPublishEvent publishEvent = SnsPublishEvent.begin(getTopicName(snsTopic), MODE_SINGLE,
+          1, request.message().length());
+
       try {
         snsClient.publish(request);
+        recordPublish(sample, publishEvent, snsTopic, MODE_SINGLE, 1, 0);
         log.info("Broadcast event sent to SNS for id {} with attribute {}.",
             id, messageAttribute);
       } catch (SnsException e) {
+        recordPublish(sample, publishEvent, snsTopic, MODE_SINGLE, 0, 1);
         String message = String.format(
             "Failed to broadcast event to SNS topic '%s' for id '%s'",
             snsTopic, id);
@@ -173,11 +258,17 @@ public class EventBroadcastService {
         = buildSnsRequestWithAttributes(snsTopic, eventJson, messageAttributes, id);
 
     if (request != null) {
+      Timer.Sample sample = Timer.start(meterRegistry);
+      SnsPublishEvent publishEvent = SnsPublishEvent.begin(getTopicName(snsTopic), MODE_SINGLE,
+          1, request.message().length());
+
       try {
         snsClient.publish(request);
+        recordPublish(sample, publishEvent, snsTopic, MODE_SINGLE, 1, 0);
         log.info("Broadcast event sent to SNS for id {} with attributes {}.",
             id, messageAttributes == null ? "null" : messageAttributes.keySet());
       } catch (SnsException e) {
+        recordPublish(sample, publishEvent, snsTopic, MODE_SINGLE, 0, 1);
         String message = String.format(
             "Failed to broadcast event to SNS topic '%s' for id '%s'",
             snsTopic, id);
@@ -187,6 +278,126 @@ public class EventBroadcastService {
     }
   }
 
+  /**
+   * Publish a batch of events to SNS.
+   *
+   * @param entries  The batch entries to publish, at most ten.
+   * @param snsTopic The SNS topic ARN to publish to.
+   * @return The event ids of any entries which failed to publish.
+   */
+  private List<String> publishBatch(List<PublishBatchRequestEntry> entries, String snsTopic) {
+    PublishBatchRequest request = PublishBatchRequest.builder()
+        .topicArn(snsTopic)
+        .publishBatchRequestEntries(entries)
+        .build();
+    Timer.Sample sample = Timer.start(meterRegistry);
+    long payloadSize = entries.stream().mapToLong(entry -> entry.message().length()).sum();
+    SnsPublishEvent publishEvent = SnsPublishEvent.begin(getTopicName(snsTopic), MODE_BATCH,
+        entries.size(), payloadSize);
+
+    try {
+      PublishBatchResponse response = snsClient.publishBatch(request);
+      recordPublish(sample, publishEvent, snsTopic, MODE_BATCH, response.successful().size(),
+          response.failed().size());
+      log.info("Broadcast {} of {} batched events sent to SNS.", response.successful().size(),
+          entries.size());
+
+      // The event id is carried by the message group, as entry ids are only unique per batch.
+      Map<String, String> entryEventIds = entries.stream()
+          .collect(Collectors.toMap(PublishBatchRequestEntry::id,
+              PublishBatchRequestEntry::messageGroupId));
+      List<String> failedIds = new ArrayList<>();
+
+      for (BatchResultErrorEntry failure : response.failed()) {
+        String eventId = entryEventIds.get(failure.id());
+        log.error("Failed to broadcast batched event '{}' to SNS topic '{}': {} {}",
+            eventId, snsTopic, failure.code(), failure.message());
+        failedIds.add(eventId);
+      }
+
+      return failedIds;
+    } catch (SnsException e) {
+      recordPublish(sample, publishEvent, snsTopic, MODE_BATCH, 0, entries.size());
+      String message = String.format("Failed to broadcast %d batched events to SNS topic '%s'",
+          entries.size(), snsTopic);
+      log.error(message, e);
+      throw e;
+    }
+  }
+
+  /**
+   * Record the latency and event counts of a publish request, by topic name.
+   *
+   * @param sample       The timer sample started before the request.
+   * @param publishEvent The JFR event begun before the request.
+   * @param snsTopic     The SNS topic ARN published to.
+   * @param mode         Whether the request was a single or batch publish.
+   * @param published    The number of events successfully published.
+   * @param failed       The number of events which failed to publish.
+   */
+  private void recordPublish(Timer.Sample sample, SnsPublishEvent publishEvent, String snsTopic,
+      String mode, int published, int failed) {
+    publishEvent.complete(published, failed);
+
+    String topicName = getTopicName(snsTopic);
+    String outcome = published == 0 && failed > 0 ? OUTCOME_FAILURE : OUTCOME_SUCCESS;
+
+    sample.stop(Timer.builder(METRIC_PUBLISH_DURATION)
+        .description("The time taken to publish events to SNS.")
+        .tag(TAG_TOPIC, topicName)
+        .tag(TAG_MODE, mode)
+        .tag(TAG_OUTCOME, outcome)
+        .register(meterRegistry));
+    meterRegistry.counter(METRIC_PUBLISHED, TAG_TOPIC, topicName).increment(published);
+    meterRegistry.counter(METRIC_FAILED, TAG_TOPIC, topicName).increment(failed);
+  }
+
+  /**
+   * Serialize the given payloads without publishing them, so that the serializers for each payload
+   * type are created and cached before the first real event is published.
+   *
+   * @param payloads The payloads to serialize.
+   */
+  void warmUpMapper(List<?> payloads) {
+    for (Object payload : payloads) {
+      objectMapper.valueToTree(payload).toString();
+    }
+  }
+
+  /**
+   * Get the name of a topic from its ARN.
+   *
+   * @param snsTopic The SNS topic ARN.
+   * @return The topic name.
+   */
+  private String getTopicName(String snsTopic) {
+    return snsTopic.substring(snsTopic.lastIndexOf(':') + 1);
+  }
+
+  /**
+   * Build an SNS publish batch entry.
+   *
+   * @param eventJson        The SNS message contents.
+   * @param messageAttribute The message attribute to include in the entry.
+   * @param id               The event id.
+   * @return the built entry.
+   */
+  private PublishBatchRequestEntry buildSnsBatchEntry(JsonNode eventJson, String messageAttribute,
+      String id) {
+    MessageAttributeValue messageAttributeValue = MessageAttributeValue.builder()
+        .dataType("String")
+        .stringValue(messageAttribute == null ? MESSAGE_ATTRIBUTE_DEFAULT_VALUE : messageAttribute)
+        .build();
+
+    // Entry IDs only need to be unique within a batch, but an event ID may be repeated.
+    return PublishBatchRequestEntry.builder()
+        .id(UUID.randomUUID().toString())
+        .message(eventJson.toString())
+        .messageAttributes(Map.of(MESSAGE_ATTRIBUTE_KEY, messageAttributeValue))
+        .messageGroupId(id == null ? UUID.randomUUID().toString() : id)
+        .build();
+  }
+
   /**
    * Build an SNS publish request.
    *
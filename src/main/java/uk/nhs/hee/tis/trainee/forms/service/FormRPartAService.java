@@ -28,6 +28,7 @@ import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.UNSUBM
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +41,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import uk.nhs.hee.tis.trainee.forms.api.util.EtagUtil;
 import uk.nhs.hee.tis.trainee.forms.dto.FormRPartADto;
 import uk.nhs.hee.tis.trainee.forms.dto.FormRPartSimpleDto;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
@@ -81,14 +83,20 @@ public class FormRPartAService extends AbstractAuditedFormService<FormRPartA> {
    * @param objectMapper           The object mapper.
    * @param identityResolver       A resolver for the identity of the user making the request.
    * @param eventBroadcastService  The event broadcast service.
+   * @param historyService         The service for managing submission history.
+   * @param formReferenceService   The service for generating form references.
+   * @param stateMachine           The state machine for form lifecycle transitions.
+   * @param meterRegistry          The registry for lifecycle transition metrics.
    * @param formRPartAUpdatedTopic The SNS topic for FormR PartA updated events.
    */
   public FormRPartAService(FormRPartARepository repository, FormRPartAMapper mapper,
       ObjectMapper objectMapper, UserIdentityResolver identityResolver,
       EventBroadcastService eventBroadcastService,
       SubmissionHistoryService<FormRPartA> historyService,
+      FormReferenceService formReferenceService, LifecycleStateMachine stateMachine,
+      MeterRegistry meterRegistry,
       @Value("${application.aws.sns.formr-updated}") String formRPartAUpdatedTopic) {
-    super(repository, historyService);
+    super(repository, historyService, formReferenceService, stateMachine, meterRegistry);
 
     this.eventBroadcastService = eventBroadcastService;
     this.formRPartAUpdatedTopic = formRPartAUpdatedTopic;
@@ -204,6 +212,18 @@ public class FormRPartAService extends AbstractAuditedFormService<FormRPartA> {
         .map(mapper::toDto);
   }
 
+  /**
+   * Get the ETag of a FormRPartA belonging to the current user, without loading the full form.
+   *
+   * @param id The ID of the form.
+   * @return The ETag of the form, or empty if not found, not owned by the user or has no content.
+   */
+  public Optional<String> getFormRPartAEtag(String id) {
+    String traineeId = identityResolver.requireTraineeIdentity().getTraineeId();
+    return repository.findVersionByIdAndTraineeTisIdWithContent(UUID.fromString(id), traineeId)
+        .map(EtagUtil::forForm);
+  }
+
   /**
    * get FormRPartA by id for admins.
    *
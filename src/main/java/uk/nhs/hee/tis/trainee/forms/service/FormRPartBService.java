@@ -28,6 +28,7 @@ import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.UNSUBM
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -81,14 +82,20 @@ public class FormRPartBService extends AbstractAuditedFormService<FormRPartB> {
    * @param objectMapper           The object mapper.
    * @param identityResolver       The user identity resolver.
    * @param eventBroadcastService  The event broadcast service.
+   * @param historyService         The service for managing submission history.
+   * @param formReferenceService   The service for generating form references.
+   * @param stateMachine           The state machine for form lifecycle transitions.
+   * @param meterRegistry          The registry for lifecycle transition metrics.
    * @param formRPartBUpdatedTopic The SNS topic for FormR PartB updated events.
    */
   public FormRPartBService(FormRPartBRepository formRPartBRepository,
       FormRPartBMapper formRPartBMapper, ObjectMapper objectMapper,
       UserIdentityResolver identityResolver, EventBroadcastService eventBroadcastService,
       SubmissionHistoryService<FormRPartB> historyService,
+      FormReferenceService formReferenceService, LifecycleStateMachine stateMachine,
+      MeterRegistry meterRegistry,
       @Value("${application.aws.sns.formr-updated}") String formRPartBUpdatedTopic) {
-    super(formRPartBRepository, historyService);
+    super(formRPartBRepository, historyService, formReferenceService, stateMachine, meterRegistry);
 
     this.formRPartBRepository = formRPartBRepository;
     this.formRPartBMapper = formRPartBMapper;
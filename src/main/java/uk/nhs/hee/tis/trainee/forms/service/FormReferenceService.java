@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import com.amazonaws.xray.spring.aop.XRayEnabled;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.forms.model.FormReferenceCounter;
+
+/**
+ * A service for generating unique form references.
+ */
+@Slf4j
+@Service
+@XRayEnabled
+public class FormReferenceService {
+
+  private static final String FIELD_ID = "_id";
+  private static final String FIELD_SEQUENCE = "sequence";
+
+  private final MongoTemplate mongoTemplate;
+
+  /**
+   * Construct a service for generating unique form references.
+   *
+   * @param mongoTemplate The Mongo template.
+   */
+  public FormReferenceService(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Generate the next form reference for the given prefix and trainee, the reference is unique
+   * even when forms are submitted concurrently.
+   *
+   * @param prefix       The form reference prefix for the form type.
+   * @param traineeId    The ID of the trainee the form belongs to.
+   * @param currentCount A supplier of the number of references already issued to the trainee, only
+   *                     used the first time a reference is generated for the prefix and trainee.
+   * @return The generated form reference.
+   */
+  public String nextFormReference(String prefix, String traineeId, LongSupplier currentCount) {
+    String counterId = "%s_%s".formatted(prefix, traineeId);
+    Query query = Query.query(Criteria.where(FIELD_ID).is(counterId));
+    Update increment = new Update().inc(FIELD_SEQUENCE, 1);
+    FindAndModifyOptions options = FindAndModifyOptions.options().returnNew(true);
+
+    FormReferenceCounter counter = mongoTemplate.findAndModify(query, increment, options,
+        FormReferenceCounter.class);
+
+    if (counter == null) {
+      // Seed the counter from the references issued before counters were introduced, the seed is
+      // only applied by whichever concurrent request inserts the counter.
+      long seed = currentCount.getAsLong();
+      log.info("Seeding form reference counter {} with {}.", counterId, seed);
+      mongoTemplate.upsert(query, new Update().setOnInsert(FIELD_SEQUENCE, seed),
+          FormReferenceCounter.class);
+      counter = mongoTemplate.findAndModify(query, increment, options, FormReferenceCounter.class);
+    }
+
+    if (counter == null) {
+      throw new IllegalStateException(
+          "Unable to generate a form reference for counter '%s'.".formatted(counterId));
+    }
+
+    return "%s_%03d".formatted(counterId, counter.sequence());
+  }
+}
@@ -22,11 +22,9 @@
 package uk.nhs.hee.tis.trainee.forms.service;
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -64,42 +62,38 @@ public class FormRelocateService {
   }
 
   /**
-   * Move all FormR and LTFT forms from source trainee to target trainee. Errors are logged but do
-   * not stop the process.
+   * Move all FormR and LTFT forms from source trainee to target trainee. Each form collection is
+   * updated in a single operation, errors are logged but do not stop the process.
    *
    * @param sourceTraineeTisId The TIS ID of the source trainee.
    * @param targetTraineeTisId The TIS ID of the target trainee.
    */
   public void moveAllForms(String sourceTraineeTisId, String targetTraineeTisId) {
-    AtomicReference<Integer> movedFormA = new AtomicReference<>(0);
-    List<FormRPartA> formRPartAs = formRPartARepository.findByTraineeTisId(sourceTraineeTisId);
-    log.info("Moving {} FormR PartA's from {} to {}.",
-        formRPartAs.size(), sourceTraineeTisId, targetTraineeTisId);
-    formRPartAs.forEach(form -> {
+    if (sourceTraineeTisId == null || targetTraineeTisId == null
+        || sourceTraineeTisId.equals(targetTraineeTisId)) {
+      log.warn("Not moving FormR forms, source or target trainee is null or unchanged: {} -> {}",
+          sourceTraineeTisId, targetTraineeTisId);
+    } else {
       try {
-        relocateForm(form.getId().toString(), targetTraineeTisId);
-        movedFormA.getAndSet(movedFormA.get() + 1);
-      } catch (ApplicationException e) {
-        log.error("Error occurred when moving FormR PartA {}: {}", form.getId(), e.toString());
+        long movedFormA = formRPartARepository.updateTraineeTisIdByTraineeTisId(
+            sourceTraineeTisId, targetTraineeTisId);
+        log.info("Moved {} FormR PartA's from {} to {}.",
+            movedFormA, sourceTraineeTisId, targetTraineeTisId);
+      } catch (RuntimeException e) {
+        log.error("Error occurred when moving FormR PartA's from {} to {}: {}",
+            sourceTraineeTisId, targetTraineeTisId, e.toString());
       }
-    });
-    log.debug("Moved {} of {} FormR PartA from {} to {}.",
-        movedFormA.get(), formRPartAs.size(), sourceTraineeTisId, targetTraineeTisId);
-
-    AtomicReference<Integer> movedFormB = new AtomicReference<>(0);
-    List<FormRPartB> formRPartBs = formRPartBRepository.findByTraineeTisId(sourceTraineeTisId);
-    log.info("Moving {} FormR PartB's from {} to {}",
-        formRPartBs.size(), sourceTraineeTisId, targetTraineeTisId);
-    formRPartBs.forEach(form -> {
+
       try {
-        relocateForm(form.getId().toString(), targetTraineeTisId);
-        movedFormB.getAndSet(movedFormB.get() + 1);
-      } catch (ApplicationException e) {
-        log.error("Error occurred when moving FormR PartB {}: {}", form.getId(), e.toString());
+        long movedFormB = formRPartBRepository.updateTraineeTisIdByTraineeTisId(
+            sourceTraineeTisId, targetTraineeTisId);
+        log.info("Moved {} FormR PartB's from {} to {}.",
+            movedFormB, sourceTraineeTisId, targetTraineeTisId);
+      } catch (RuntimeException e) {
+        log.error("Error occurred when moving FormR PartB's from {} to {}: {}",
+            sourceTraineeTisId, targetTraineeTisId, e.toString());
       }
-    });
-    log.debug("Moved {} of {} FormR PartB from {} to {}.",
-        movedFormB.get(), formRPartBs.size(), sourceTraineeTisId, targetTraineeTisId);
+    }
 
     // Move LTFT forms
     Map<String, Integer> movedStats
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import com.amazonaws.xray.spring.aop.XRayEnabled;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status.StatusInfo;
+import uk.nhs.hee.tis.trainee.forms.model.FormStatusHistory;
+import uk.nhs.hee.tis.trainee.forms.repository.FormStatusHistoryRepository;
+
+/**
+ * A service for managing the full status history of audited forms.
+ */
+@Slf4j
+@Service
+@XRayEnabled
+public class FormStatusHistoryService {
+
+  private final FormStatusHistoryRepository repository;
+
+  /**
+   * Construct a service for managing the full status history of audited forms.
+   *
+   * @param repository The repository for status history entries.
+   */
+  public FormStatusHistoryService(FormStatusHistoryRepository repository) {
+    this.repository = repository;
+  }
+
+  /**
+   * Record any status history entries added to the form since it was loaded.
+   *
+   * @param form The form to record the status history of.
+   */
+  public void recordStatusHistory(AbstractAuditedForm<?> form) {
+    List<StatusInfo> unrecorded = form.drainUnrecordedHistory();
+
+    if (!unrecorded.isEmpty()) {
+      log.debug("Recording {} status history entries for form {}.", unrecorded.size(),
+          form.getId());
+      List<FormStatusHistory> entries = unrecorded.stream()
+          .map(statusInfo -> FormStatusHistory.of(form, statusInfo))
+          .toList();
+      repository.insert(entries);
+    }
+  }
+
+  /**
+   * Record any status history entries added to the forms since they were loaded, using a single
+   * insert for all forms.
+   *
+   * @param forms The forms to record the status history of.
+   */
+  public void recordAllStatusHistory(Collection<? extends AbstractAuditedForm<?>> forms) {
+    List<FormStatusHistory> entries = forms.stream()
+        .flatMap(form -> form.drainUnrecordedHistory().stream()
+            .map(statusInfo -> FormStatusHistory.of(form, statusInfo)))
+        .toList();
+
+    if (!entries.isEmpty()) {
+      log.debug("Recording {} status history entries for {} forms.", entries.size(),
+          forms.size());
+      repository.insert(entries);
+    }
+  }
+
+  /**
+   * Get the full status history of the form with the given ID, this may include entries no longer
+   * retained on the form itself.
+   *
+   * @param formId The ID of the form.
+   * @return The full status history, oldest first.
+   */
+  public List<StatusInfo> getFullHistory(UUID formId) {
+    return repository.findByFormIdOrderByStatus_TimestampAsc(formId).stream()
+        .map(FormStatusHistory::status)
+        .toList();
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import jakarta.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractForm;
+import uk.nhs.hee.tis.trainee.forms.model.FormRPartA;
+import uk.nhs.hee.tis.trainee.forms.model.FormRPartB;
+import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
+
+/**
+ * A state machine for the lifecycle of forms, shared by all form services.
+ *
+ * <p>The transition table of each known form type is compiled when the state machine is created,
+ * and the method parameters referenced by validation errors are resolved once.
+ */
+@Slf4j
+@Component
+public class LifecycleStateMachine {
+
+  static final List<Class<? extends AbstractForm>> FORM_TYPES = List.of(FormRPartA.class,
+      FormRPartB.class, LtftForm.class);
+
+  private static final String FIELD_STATE = "status.current.state";
+
+  private static final MethodParameter TARGET_STATE_PARAMETER;
+  private static final MethodParameter DETAIL_PARAMETER;
+
+  static {
+    try {
+      Method validateTransition = LifecycleStateMachine.class.getDeclaredMethod(
+          "validateTransition", AbstractForm.class, LifecycleState.class);
+      TARGET_STATE_PARAMETER = new MethodParameter(validateTransition, 1);
+
+      Method validateDetail = LifecycleStateMachine.class.getDeclaredMethod("validateDetail",
+          AbstractForm.class, LifecycleState.class, Object.class, String.class);
+      DETAIL_PARAMETER = new MethodParameter(validateDetail, 2);
+    } catch (NoSuchMethodException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  /**
+   * Create a lifecycle state machine, compiling the transition table of each known form type.
+   */
+  public LifecycleStateMachine() {
+    FORM_TYPES.forEach(LifecycleState::getTransitionTable);
+  }
+
+  /**
+   * Get the states the form may transition to from its current state.
+   *
+   * @param form The form to get the allowed transitions for.
+   * @return The allowed target states, empty if the form has no current state.
+   */
+  public Set<LifecycleState> getAllowedTransitions(AbstractForm form) {
+    return LifecycleState.getAllowedTransitions(form.getClass(), form.getLifecycleState());
+  }
+
+  /**
+   * Check whether the form may transition from its current state to the target state.
+   *
+   * @param form        The form to check.
+   * @param targetState The target state.
+   * @return Whether the transition is allowed.
+   */
+  public boolean canTransition(AbstractForm form, LifecycleState targetState) {
+    return getAllowedTransitions(form).contains(targetState);
+  }
+
+  /**
+   * Validate that the form may transition from its current state to the target state.
+   *
+   * @param form        The form being updated.
+   * @param targetState The target state.
+   * @throws MethodArgumentNotValidException If the transition is not allowed.
+   */
+  public void validateTransition(AbstractForm form, LifecycleState targetState)
+      throws MethodArgumentNotValidException {
+    if (!canTransition(form, targetState)) {
+      log.warn(
+          "Could not update form {}, invalid lifecycle transition from {} to {} for form type '{}'",
+          form.getId(), form.getLifecycleState(), targetState, form.getFormType());
+      throw transitionError(form, "can not be transitioned to %s".formatted(targetState));
+    }
+  }
+
+  /**
+   * Validate that a status detail with a reason is present when the target state requires one.
+   *
+   * @param form        The form being updated.
+   * @param targetState The target state.
+   * @param detail      The supplied status detail, may be null.
+   * @param reason      The reason given by the status detail, may be null.
+   * @throws MethodArgumentNotValidException If a reason is required but absent.
+   */
+  public void validateDetail(AbstractForm form, LifecycleState targetState,
+      @Nullable Object detail, @Nullable String reason) throws MethodArgumentNotValidException {
+    if (targetState.isRequiresDetails() && (detail == null || reason == null)) {
+      log.warn("Form {} requires a reason to change to state [{}]", form.getId(), targetState);
+
+      BeanPropertyBindingResult result = new BeanPropertyBindingResult(detail, "detail");
+      String field = detail == null ? "detail" : "detail.reason";
+      result.addError(new FieldError("StatusInfo", field,
+          "must not be null when transitioning to %s".formatted(targetState)));
+      throw new MethodArgumentNotValidException(DETAIL_PARAMETER, result);
+    }
+  }
+
+  /**
+   * Build a validation error rejecting a change to the form's lifecycle state.
+   *
+   * @param form    The form being updated.
+   * @param message The reason the change was rejected.
+   * @return The constructed exception, ready to be thrown.
+   */
+  public MethodArgumentNotValidException transitionError(AbstractForm form, String message) {
+    BeanPropertyBindingResult result = new BeanPropertyBindingResult(form, "form");
+    result.addError(new FieldError(form.getClass().getSimpleName(), FIELD_STATE, message));
+    return new MethodArgumentNotValidException(TARGET_STATE_PARAMETER, result);
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
+import uk.nhs.hee.tis.trainee.forms.model.content.CctChange;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent;
+
+/**
+ * A patch engine for LTFT content, each patchable path has a dedicated handler which validates only
+ * the constraints of the patched field and maps the change to a targeted database update.
+ */
+public class LtftPatchEngine {
+
+  private static final String OP_REPLACE = "replace";
+
+  private static final Map<String, PatchHandler<?>> HANDLERS = Map.of(
+      "/change/startDate", new PatchHandler<>(LocalDate.class, "change.startDate",
+          "content.change.startDate", CctChange::startDate, CctChange::withStartDate),
+      "/change/wte", new PatchHandler<>(Double.class, "change.wte",
+          "content.change.wte", CctChange::wte, CctChange::withWte)
+  );
+
+  /**
+   * The JSON pointer paths which may be patched.
+   */
+  public static final Set<String> PATCHABLE_PATHS = HANDLERS.keySet();
+
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+
+  /**
+   * Create a patch engine for LTFT content.
+   *
+   * @param objectMapper The mapper to use when reading patch values.
+   * @param validator    The validator to use for validating patched values.
+   */
+  public LtftPatchEngine(ObjectMapper objectMapper, Validator validator) {
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+  }
+
+  /**
+   * Compile a JSON patch in to typed operations, each patched value is validated against the
+   * constraints of its field in {@link LtftFormDto}.
+   *
+   * @param patch The patch to compile.
+   * @return The compiled patch.
+   * @throws IllegalArgumentException     If the patch contains an unsupported operation or path.
+   * @throws ConstraintViolationException If any patched value is not valid.
+   */
+  public LtftPatch compile(JsonPatch patch) {
+    ArrayNode operations = objectMapper.convertValue(patch, ArrayNode.class);
+    List<PatchOperation<?>> compiled = new ArrayList<>(operations.size());
+    Set<ConstraintViolation<LtftFormDto>> violations = new HashSet<>();
+
+    for (JsonNode operation : operations) {
+      String op = operation.path("op").asText();
+      String path = operation.path("path").asText();
+
+      if (!Objects.equals(op, OP_REPLACE)) {
+        throw new IllegalArgumentException("Unsupported patch operation '%s'.".formatted(op));
+      }
+
+      PatchHandler<?> handler = HANDLERS.get(path);
+
+      if (handler == null) {
+        throw new IllegalArgumentException("Unsupported patch path '%s'.".formatted(path));
+      }
+
+      PatchOperation<?> compiledOperation = handler.compile(objectMapper,
+          operation.get("value"));
+      violations.addAll(compiledOperation.validate(validator));
+      compiled.add(compiledOperation);
+    }
+
+    if (!violations.isEmpty()) {
+      throw new ConstraintViolationException(violations);
+    }
+
+    return new LtftPatch(List.copyOf(compiled));
+  }
+
+  /**
+   * A compiled LTFT patch.
+   *
+   * @param operations The compiled operations, in the order they should be applied.
+   */
+  public record LtftPatch(List<PatchOperation<?>> operations) {
+
+    /**
+     * Apply the patch to the given content.
+     *
+     * @param content The content to patch.
+     * @return The patched content, or the same content instance if the patch made no changes.
+     */
+    public LtftContent apply(LtftContent content) {
+      CctChange change = content.change() == null ? CctChange.builder().build() : content.change();
+      boolean changed = false;
+
+      for (PatchOperation<?> operation : operations) {
+        if (operation.changes(change)) {
+          change = operation.apply(change);
+          changed = true;
+        }
+      }
+
+      return changed ? content.withChange(change) : content;
+    }
+
+    /**
+     * Create a targeted database update which sets only the patched fields.
+     *
+     * @return The database update.
+     */
+    public Update toUpdate() {
+      Update update = new Update();
+      operations.forEach(operation -> operation.addTo(update));
+      return update;
+    }
+  }
+
+  /**
+   * A single compiled patch operation.
+   *
+   * @param handler The handler for the patched path.
+   * @param value   The new value.
+   * @param <T>     The type of the patched value.
+   */
+  record PatchOperation<T>(PatchHandler<T> handler, T value) {
+
+    private Set<ConstraintViolation<LtftFormDto>> validate(Validator validator) {
+      return validator.validateValue(LtftFormDto.class, handler.validationPath(), value);
+    }
+
+    private boolean changes(CctChange change) {
+      return !Objects.equals(handler.getter().apply(change), value);
+    }
+
+    private CctChange apply(CctChange change) {
+      return handler.setter().apply(change, value);
+    }
+
+    private void addTo(Update update) {
+      update.set(handler.field(), value);
+    }
+  }
+
+  /**
+   * A handler for a single patchable path.
+   *
+   * @param type           The type of the patched value.
+   * @param validationPath The property path of the value in {@link LtftFormDto}.
+   * @param field          The database field of the value.
+   * @param getter         A function to get the current value.
+   * @param setter         A function to set a new value.
+   * @param <T>            The type of the patched value.
+   */
+  record PatchHandler<T>(Class<T> type, String validationPath, String field,
+                         Function<CctChange, T> getter,
+                         BiFunction<CctChange, T, CctChange> setter) {
+
+    private PatchOperation<T> compile(ObjectMapper objectMapper, JsonNode value) {
+      return new PatchOperation<>(this, objectMapper.convertValue(value, type));
+    }
+  }
+}
@@ -28,18 +28,22 @@ import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.UNSUBM
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.WITHDRAWN;
 
 import com.amazonaws.xray.spring.aop.XRayEnabled;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.fge.jsonpatch.JsonPatch;
-import com.github.fge.jsonpatch.JsonPatchException;
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nullable;
-import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -47,30 +51,38 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.MethodParameter;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.BeanPropertyBindingResult;
-import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import uk.nhs.hee.tis.trainee.forms.api.util.EtagUtil;
 import uk.nhs.hee.tis.trainee.forms.dto.FeaturesDto.FormFeatures.LtftFeatures;
 import uk.nhs.hee.tis.trainee.forms.dto.FormPatchDto;
-import uk.nhs.hee.tis.trainee.forms.dto.FormPatchResultDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftAdminSummaryDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftBulkResultDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftBulkResultDto.ItemResultDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto.StatusDto.LftfStatusInfoDetailDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto.StatusDto.StatusInfoDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftSummaryDto;
 import uk.nhs.hee.tis.trainee.forms.dto.PersonDto;
 import uk.nhs.hee.tis.trainee.forms.dto.ReviewWorkflowDto;
@@ -79,8 +91,10 @@ import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
 import uk.nhs.hee.tis.trainee.forms.dto.identity.AdminIdentity;
 import uk.nhs.hee.tis.trainee.forms.dto.identity.TraineeIdentity;
 import uk.nhs.hee.tis.trainee.forms.dto.identity.UserIdentity;
+import uk.nhs.hee.tis.trainee.forms.jfr.FormTransitionEvent;
 import uk.nhs.hee.tis.trainee.forms.mapper.LtftMapper;
 import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status.StatusDetail;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status.StatusInfo;
 import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
 import uk.nhs.hee.tis.trainee.forms.model.Person;
 import uk.nhs.hee.tis.trainee.forms.model.ReviewStageStatus;
@@ -88,6 +102,7 @@ import uk.nhs.hee.tis.trainee.forms.model.content.CctChange;
 import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent;
 import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent.ExceptionalReasons;
 import uk.nhs.hee.tis.trainee.forms.repository.LtftFormRepository;
+import uk.nhs.hee.tis.trainee.forms.service.LtftPatchEngine.LtftPatch;
 
 /**
  * A service for managing LTFT forms.
@@ -101,7 +116,6 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
   protected static final String FORM_ATTRIBUTE_TPD_STATUS = "content.discussions.tpdStatus";
 
   private static final String FORM_OBJECT_NAME = "LtftForm";
-  private static final String METHOD_UPDATE_STATUS = "updateStatus";
   private static final String METHOD_ADVANCE_REVIEW_STAGE = "advanceReviewStage";
 
   private static final int MINIMUM_NOTICE_DAYS = 7 * 16; // 16 weeks in days
@@ -111,10 +125,10 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
 
   private final LtftFormRepository ltftFormRepository;
   private final MongoTemplate mongoTemplate;
+  private final ReadPreference reportingReadPreference;
 
-  private final ObjectMapper objectMapper;
   private final LtftMapper mapper;
-  private final Validator validator;
+  private final LtftPatchEngine patchEngine;
 
   private final EventBroadcastService eventBroadcastService;
 
@@ -125,6 +139,9 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
 
   private final SubmissionHistoryService<LtftForm> ltftSubmissionHistoryService;
   private final ReviewStageService reviewStageService;
+  private final FormStatusHistoryService statusHistoryService;
+  private final FormReferenceService formReferenceService;
+  private final LifecycleStateMachine stateMachine;
   private final ZoneId timezone;
 
   /**
@@ -134,40 +151,53 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
    * @param traineeIdentity              The logged-in trainee, for trainee features.
    * @param ltftFormRepository           The LTFT repository.
    * @param mongoTemplate                The Mongo template.
-   * @param objectMapper                 The JSON mapper.
+   * @param reportingReadPreference      The read preference for admin listing and counts.
+   * @param objectMapper                 The JSON mapper, for reading patch values.
    * @param mapper                       The LTFT mapper.
-   * @param validator                    The validator to use for validating LTFTs.
+   * @param validator                    The validator to use for validating patch values.
    * @param eventBroadcastService        The service for broadcasting events.
    * @param ltftAssignmentUpdateTopic    The SNS topic for LTFT assignment updates.
    * @param ltftStatusUpdateTopic        The SNS topic for LTFT status updates.
    * @param ltftContentUpdateTopic       The SNS topic for LTFT content updates.
    * @param ltftSubmissionHistoryService The service for LTFT submission history.
    * @param reviewStageService           The service for managing review stage transitions.
+   * @param statusHistoryService         The service for the full status history of forms.
+   * @param formReferenceService         The service for generating form references.
+   * @param stateMachine                 The state machine for form lifecycle transitions.
+   * @param meterRegistry                The registry for lifecycle transition metrics.
+   * @param timezone                     The timezone used for date calculations.
    */
   public LtftService(AdminIdentity adminIdentity, TraineeIdentity traineeIdentity,
-      LtftFormRepository ltftFormRepository, MongoTemplate mongoTemplate, ObjectMapper objectMapper,
-      LtftMapper mapper, Validator validator, EventBroadcastService eventBroadcastService,
+      LtftFormRepository ltftFormRepository, MongoTemplate mongoTemplate,
+      ReadPreference reportingReadPreference, ObjectMapper objectMapper, LtftMapper mapper,
+      Validator validator, EventBroadcastService eventBroadcastService,
       @Value("${application.aws.sns.ltft-assignment-updated}") String ltftAssignmentUpdateTopic,
       @Value("${application.aws.sns.ltft-status-updated}") String ltftStatusUpdateTopic,
       @Value("${application.aws.sns.ltft-content-updated}") String ltftContentUpdateTopic,
       SubmissionHistoryService<LtftForm> ltftSubmissionHistoryService,
-      ReviewStageService reviewStageService, @Value("${application.timezone}") ZoneId timezone) {
-    super(ltftFormRepository, ltftSubmissionHistoryService);
+      ReviewStageService reviewStageService, FormStatusHistoryService statusHistoryService,
+      FormReferenceService formReferenceService, LifecycleStateMachine stateMachine,
+      MeterRegistry meterRegistry, @Value("${application.timezone}") ZoneId timezone) {
+    super(ltftFormRepository, ltftSubmissionHistoryService, formReferenceService, stateMachine,
+        meterRegistry);
 
     this.adminIdentity = adminIdentity;
     this.traineeIdentity = traineeIdentity;
     this.ltftFormRepository = ltftFormRepository;
     this.mongoTemplate = mongoTemplate;
-    this.objectMapper = objectMapper;
+    this.reportingReadPreference = reportingReadPreference;
     this.mapper = mapper;
-    this.validator = validator;
     this.ltftAssignmentUpdateTopic = ltftAssignmentUpdateTopic;
     this.ltftStatusUpdateTopic = ltftStatusUpdateTopic;
     this.ltftContentUpdateTopic = ltftContentUpdateTopic;
     this.ltftSubmissionHistoryService = ltftSubmissionHistoryService;
     this.eventBroadcastService = eventBroadcastService;
     this.reviewStageService = reviewStageService;
+    this.statusHistoryService = statusHistoryService;
+    this.formReferenceService = formReferenceService;
+    this.stateMachine = stateMachine;
     this.timezone = timezone;
+    this.patchEngine = new LtftPatchEngine(objectMapper, validator);
   }
 
   /**
@@ -214,7 +244,9 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
     List<LtftForm> formsList = mongoTemplate.find(query, LtftForm.class);
 
     forms = PageableExecutionUtils.getPage(formsList, pageable,
-        () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), LtftForm.class));
+        () -> mongoTemplate.count(
+            Query.of(query).limit(-1).skip(-1).withReadPreference(reportingReadPreference),
+            LtftForm.class));
 
     if (pageable.isPaged()) {
       log.info("Found {} total LTFTs, returning page {} of {}", forms.getTotalElements(),
@@ -225,6 +257,28 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
     return forms.map(mapper::toAdminSummaryDto);
   }
 
+  /**
+   * Get the full status history of a form with a particular ID associated with the local offices
+   * of the calling admin. The form itself only retains the most recent status history entries.
+   *
+   * @param formId The ID of the form.
+   * @return The full status history, empty if the form does not exist or does not match the
+   *     admin's DBCs.
+   */
+  public Optional<List<StatusInfoDto>> getAdminLtftStatusHistory(UUID formId) {
+    boolean exists = ltftFormRepository
+        .existsByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+            formId, Set.of(DRAFT), adminIdentity.getGroups());
+
+    if (!exists) {
+      log.info("LTFT form {} not found for admin {}", formId, adminIdentity.getEmail());
+      return Optional.empty();
+    }
+
+    List<StatusInfo> history = statusHistoryService.getFullHistory(formId);
+    return Optional.of(mapper.toStatusInfoDtos(history));
+  }
+
   /**
    * Find an LTFT form associated with the local offices of the calling admin.
    *
@@ -235,6 +289,21 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
     return getLtftForAdmin(formId).map(mapper::toDto);
   }
 
+  /**
+   * Get the ETag of an LTFT form associated with the local offices of the calling admin, without
+   * loading the full form.
+   *
+   * @param formId The ID of the form.
+   * @return The ETag of the form, empty if the form does not exist or does not match the admin's
+   *     DBCs.
+   */
+  public Optional<String> getAdminLtftDetailEtag(UUID formId) {
+    return ltftFormRepository
+        .findVersionByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+            formId, Set.of(DRAFT), adminIdentity.getGroups())
+        .map(this::getEtag);
+  }
+
   /**
    * Find an LTFT form associated with the local offices of the calling admin.
    *
@@ -251,84 +320,74 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
   }
 
   /**
-   * Apply a patch update to the LTFT with the given ID.
+   * Apply a patch update to the LTFT with the given ID. Only the patched fields, revision and
+   * status are written, rather than replacing the whole form.
    *
    * @param formId    The ID of the form.
    * @param formPatch The patch and metadata to update the form with.
    * @return The patched form, empty if the form does not exist or does not match the admin's DBCs.
+   * @throws IllegalArgumentException          If the patch contains unsupported operations.
+   * @throws ConstraintViolationException      If the patch contains invalid values.
+   * @throws OptimisticLockingFailureException If the form was modified while being patched.
    */
   public Optional<LtftFormDto> applyAdminPatch(UUID formId, FormPatchDto formPatch) {
     log.info("Applying patch to form '{}': {}", formId, formPatch);
+    LtftPatch patch = patchEngine.compile(formPatch.patch());
+
     return getLtftForAdmin(formId)
         // Will result in NOT FOUND when not submitted, which mirrors GET behaviour.
         .filter(ltft -> ltft.getLifecycleState().equals(SUBMITTED))
 
         .map(ltft -> {
-          try {
-            // Patch the content and copy it back in to avoid changes to read-only fields.
-            FormPatchResultDto<LtftContent> patchResult = patchLtftContent(ltft, formPatch.patch());
-
-            // Do not increment revision or snapshot if no changes made to the content.
-            if (patchResult.changed()) {
-              ltft.setContent(patchResult.patchedContent());
-
-              StatusDetail statusDetail = StatusDetail.builder()
-                  .reason(formPatch.reason())
-                  .message(formPatch.message())
-                  .build();
-
-              // An admin patch is considered a shortcut of the un-submit -> re-submit revision flow.
-              Person modifiedBy = Person.builder()
-                  .name(adminIdentity.getName())
-                  .email(adminIdentity.getEmail())
-                  .role(adminIdentity.getRole())
-                  .build();
-              ltft.setRevision(ltft.getRevision() + 1);
-              ltft.setLifecycleState(ltft.getLifecycleState(), statusDetail, modifiedBy,
-                  ltft.getRevision());
-              ltft = ltftFormRepository.save(ltft);
-              ltftSubmissionHistoryService.takeSnapshot(ltft);
-
-              publishUpdateNotification(ltft, null, ltftContentUpdateTopic);
-            } else {
-              log.debug("Patch did not make changes, returning unchanged object.");
+          LtftContent content = ltft.getContent();
+          LtftContent patchedContent = patch.apply(content);
+
+          // Do not increment revision or snapshot if no changes made to the content.
+          if (patchedContent != content) {
+            int previousRevision = ltft.getRevision();
+            ltft.setContent(patchedContent);
+
+            StatusDetail statusDetail = StatusDetail.builder()
+                .reason(formPatch.reason())
+                .message(formPatch.message())
+                .build();
+
+            // An admin patch is considered a shortcut of the un-submit -> re-submit revision flow.
+            Person modifiedBy = Person.builder()
+                .name(adminIdentity.getName())
+                .email(adminIdentity.getEmail())
+                .role(adminIdentity.getRole())
+                .build();
+            ltft.setRevision(previousRevision + 1);
+            ltft.setLifecycleState(ltft.getLifecycleState(), statusDetail, modifiedBy,
+                ltft.getRevision());
+            ltft.setLastModified(Instant.now());
+
+            // Guard on the previous revision, so a concurrent change is not overwritten.
+            Query query = Query.query(Criteria.where("_id").is(ltft.getId())
+                .and("revision").is(previousRevision));
+            Update update = patch.toUpdate()
+                .set("revision", ltft.getRevision())
+                .set("status", ltft.getStatus())
+                .set("lastModified", ltft.getLastModified());
+            UpdateResult result = mongoTemplate.updateFirst(query, update, LtftForm.class);
+
+            if (result.getMatchedCount() == 0) {
+              throw new OptimisticLockingFailureException(
+                  "LTFT form '%s' was modified while being patched.".formatted(formId));
             }
 
-            return mapper.toDto(ltft);
-          } catch (JsonPatchException | JsonProcessingException e) {
-            // Should not happen given validation and known JSON structures, inform caller anyway.
-            throw new RuntimeException(e);
-          }
-        });
-  }
+            // Targeted updates bypass the save lifecycle, so the status history is recorded here.
+            statusHistoryService.recordStatusHistory(ltft);
+            ltftSubmissionHistoryService.takeSnapshot(ltft);
 
-  /**
-   * Update an {@link LtftForm} content with the given patch.
-   *
-   * @param ltft  The LTFT form to apply the patch to.
-   * @param patch The patch to apply to the form.
-   * @return The patched form content.
-   * @throws JsonPatchException      If the patch could not be applied.
-   * @throws JsonProcessingException If the patch creates an invalid form.
-   */
-  private FormPatchResultDto<LtftContent> patchLtftContent(LtftForm ltft, JsonPatch patch)
-      throws JsonPatchException, JsonProcessingException {
-    // Convert the entity to DTO for patching, as the client will base paths on the public DTO.
-    LtftFormDto dto = mapper.toDto(ltft);
-    JsonNode patchedNode = patch.apply(objectMapper.convertValue(dto, JsonNode.class));
-    LtftFormDto patchedDto = objectMapper.treeToValue(patchedNode, LtftFormDto.class);
-
-    // Read-only fields can not be reliably ignored when using the Update validation group so the
-    // default group is used, which may miss some otherwise expected validations.
-    Set<ConstraintViolation<LtftFormDto>> violations = validator.validate(patchedDto);
-
-    if (!violations.isEmpty()) {
-      throw new ConstraintViolationException(violations);
-    }
+            publishUpdateNotification(ltft, null, ltftContentUpdateTopic);
+          } else {
+            log.debug("Patch did not make changes, returning unchanged object.");
+          }
 
-    // The content is returned to avoid any unexpected changes to managed/read-only fields.
-    LtftContent patchedContent = mapper.toEntity(patchedDto).getContent();
-    return new FormPatchResultDto<>(patchedContent, !dto.equals(patchedDto));
+          return mapper.toDto(ltft);
+        });
   }
 
   /**
@@ -348,6 +407,33 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
     return form.map(mapper::toDto);
   }
 
+  /**
+   * Get the ETag of an LTFT form for the current user, without loading the full form.
+   *
+   * @param formId The id of the LTFT form.
+   * @return The ETag of the form, or empty if not found or does not belong to the user.
+   */
+  public Optional<String> getLtftFormEtag(UUID formId) {
+    String traineeId = traineeIdentity.getTraineeId();
+    return ltftFormRepository.findVersionByTraineeTisIdAndId(traineeId, formId)
+        .map(this::getEtag);
+  }
+
+  /**
+   * Build the ETag of an LTFT form. The short notice value of a form may be calculated against the
+   * current date, in which case the date is included so that a cached copy is not used once the
+   * date changes.
+   *
+   * @param version The LTFT form, only the version, current state and submitted fields are
+   *                required.
+   * @return The quoted ETag.
+   */
+  private String getEtag(LtftForm version) {
+    String etag = EtagUtil.forForm(version);
+    LocalDate referenceDate = mapper.getCurrentShortNoticeReferenceDate(version);
+    return referenceDate == null ? etag : EtagUtil.withVariant(etag, referenceDate.toString());
+  }
+
   /**
    * Save the dto as a new LTFT form.
    *
@@ -754,6 +840,301 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
     }
 
     LtftForm form = optForm.get();
+    prepareReviewStageAdvance(form, detail);
+    LtftForm savedForm = ltftFormRepository.save(form);
+    return Optional.of(mapper.toDto(savedForm));
+  }
+
+  /**
+   * Assign an admin to a number of LTFT applications, associated with the admin's local office.
+   *
+   * @param formIds The IDs of the LTFT applications.
+   * @param admin   The admin to assign to the applications.
+   * @return The result for each requested form, in request order.
+   */
+  public LtftBulkResultDto bulkAssignAdmin(List<UUID> formIds, PersonDto admin) {
+    log.info("Bulk assigning admin {} to {} LTFT forms", admin.email(), formIds.size());
+    Person assignedAdmin = mapper.toEntity(admin).withRole("ADMIN");
+    Person modifiedBy = Person.builder()
+        .name(adminIdentity.getName())
+        .email(adminIdentity.getEmail())
+        .role(adminIdentity.getRole())
+        .build();
+
+    return applyBulkAction(formIds, form -> {
+      if (form.getStatus() != null && form.getStatus().current() != null
+          && Objects.equals(form.getStatus().current().assignedAdmin(), assignedAdmin)) {
+        return false;
+      }
+
+      form.setAssignedAdmin(assignedAdmin, modifiedBy);
+      return true;
+    }, null, ltftAssignmentUpdateTopic);
+  }
+
+  /**
+   * Advance the review stage of a number of LTFT applications, associated with the admin's local
+   * office.
+   *
+   * @param formIds The IDs of the LTFT applications.
+   * @param detail  Optional detail to record alongside each stage change.
+   * @return The result for each requested form, in request order.
+   */
+  public LtftBulkResultDto bulkAdvanceReviewStage(List<UUID> formIds,
+      @Nullable LftfStatusInfoDetailDto detail) {
+    log.info("Bulk advancing review stage of {} LTFT forms for admin [{}]", formIds.size(),
+        adminIdentity.getEmail());
+    return applyBulkAction(formIds, form -> {
+      prepareReviewStageAdvance(form, detail);
+      return true;
+    }, null, null);
+  }
+
+  /**
+   * Update the status of a number of LTFT applications as an admin, associated with the admin's
+   * local office.
+   *
+   * @param formIds The IDs of the LTFT applications.
+   * @param state   The new state, must not be SUBMITTED.
+   * @param detail  A detailed reason for the change, may be null.
+   * @return The result for each requested form, in request order.
+   * @throws IllegalArgumentException If the new state is SUBMITTED.
+   */
+  public LtftBulkResultDto bulkUpdateStatusAsAdmin(List<UUID> formIds, LifecycleState state,
+      @Nullable LftfStatusInfoDetailDto detail) {
+    // Submission allocates form references and snapshots per form, so is not supported in bulk.
+    if (state == SUBMITTED) {
+      throw new IllegalArgumentException("Bulk status updates do not support SUBMITTED.");
+    }
+
+    log.info("Bulk updating {} LTFT forms as admin [{}]: New state = {}", formIds.size(),
+        adminIdentity.getEmail(), state);
+    Timer.Sample sample = startTransitionTimer();
+    Map<UUID, LtftForm> preparedForms = new HashMap<>();
+    Map<UUID, LifecycleState> fromStates = new HashMap<>();
+    Map<UUID, FormTransitionEvent> transitionEvents = new HashMap<>();
+
+    LtftBulkResultDto result = applyBulkAction(formIds, form -> {
+      fromStates.put(form.getId(), form.getLifecycleState());
+      FormTransitionEvent transitionEvent = FormTransitionEvent.begin(form.getFormType(),
+          form.getLifecycleState(), state);
+
+      try {
+        prepareStatusUpdate(form, state, adminIdentity, detail);
+      } catch (MethodArgumentNotValidException e) {
+        transitionEvent.complete(OUTCOME_REJECTED);
+        throw e;
+      }
+
+      preparedForms.put(form.getId(), form);
+      transitionEvents.put(form.getId(), transitionEvent);
+      return true;
+    }, FORM_ATTRIBUTE_FORM_STATUS, ltftStatusUpdateTopic);
+
+    // Only count, time and complete the transitions of forms which reached the bulk write.
+    for (ItemResultDto itemResult : result.results()) {
+      LtftForm form = preparedForms.get(itemResult.id());
+
+      switch (itemResult.outcome()) {
+        case UPDATED -> {
+          countTransition(form, fromStates.get(form.getId()), state, OUTCOME_SUCCESS);
+          stopTransitionTimer(sample, form, state);
+          transitionEvents.get(form.getId()).complete(OUTCOME_SUCCESS);
+        }
+        case CONFLICT, FAILED -> {
+          countTransition(form, fromStates.get(form.getId()), state, OUTCOME_FAILED);
+          transitionEvents.get(form.getId()).complete(OUTCOME_FAILED);
+        }
+        default -> {
+          // Not found or invalid forms were not transitioned, rejections are already counted.
+        }
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Apply an action to a number of LTFT applications associated with the admin's local office.
+   * The forms are found with a single query, changed forms are written with a single bulk write
+   * and update notifications are published in batches.
+   *
+   * @param formIds          The IDs of the LTFT applications.
+   * @param action           The action to apply to each found form.
+   * @param messageAttribute The message attribute to include in update notifications.
+   * @param snsTopic         The SNS topic to publish update notifications to, null to not publish.
+   * @return The result for each requested form, in request order.
+   */
+  private LtftBulkResultDto applyBulkAction(List<UUID> formIds, BulkAction action,
+      @Nullable String messageAttribute, @Nullable String snsTopic) {
+    Set<UUID> uniqueIds = new LinkedHashSet<>(formIds);
+    Set<String> dbcs = adminIdentity.getGroups();
+    Map<UUID, LtftForm> forms = ltftFormRepository
+        .findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(uniqueIds, dbcs).stream()
+        .collect(Collectors.toMap(LtftForm::getId, Function.identity()));
+
+    Map<UUID, ItemResultDto> results = new HashMap<>();
+    List<LtftForm> changedForms = new ArrayList<>();
+    Map<UUID, LoadedVersion> loadedVersions = new HashMap<>();
+
+    for (UUID formId : uniqueIds) {
+      LtftForm form = forms.get(formId);
+
+      if (form == null) {
+        log.warn("Skipping form {} since no form exists with this ID for DBCs [{}]", formId, dbcs);
+        results.put(formId, ItemResultDto.notFound(formId));
+        continue;
+      }
+
+      // The action may change the revision, so the loaded version is kept to guard the write.
+      loadedVersions.put(formId, new LoadedVersion(form.getRevision(), form.getLastModified()));
+
+      try {
+        if (action.apply(form)) {
+          changedForms.add(form);
+        } else {
+          results.put(formId, ItemResultDto.unchanged(mapper.toDto(form)));
+        }
+      } catch (MethodArgumentNotValidException e) {
+        String error = e.getBindingResult().getFieldErrors().stream()
+            .map(fieldError -> fieldError.getField() + " " + fieldError.getDefaultMessage())
+            .collect(Collectors.joining("; "));
+        results.put(formId, ItemResultDto.invalid(formId, error));
+      }
+    }
+
+    Map<UUID, ItemResultDto> unwrittenResults = bulkReplace(changedForms, loadedVersions);
+    results.putAll(unwrittenResults);
+    List<LtftForm> writtenForms = changedForms.stream()
+        .filter(form -> !unwrittenResults.containsKey(form.getId()))
+        .toList();
+
+    // Bulk replaces still publish an AfterSaveEvent per form when the whole write succeeds, so the
+    // save listener will already have recorded (and drained) each form's status history. When the
+    // write partially fails no after-save events are published, so the history of the forms which
+    // were written is recorded here. History is not duplicated only because recording drains it.
+    statusHistoryService.recordAllStatusHistory(writtenForms);
+    List<LtftFormDto> writtenDtos = writtenForms.stream()
+        .map(mapper::toDto)
+        .toList();
+    writtenDtos.forEach(dto -> results.put(dto.id(), ItemResultDto.updated(dto)));
+
+    if (snsTopic != null && !writtenDtos.isEmpty()) {
+      eventBroadcastService.publishLtftFormUpdateEvents(writtenDtos, messageAttribute, snsTopic);
+    }
+
+    log.info("Bulk action updated {} of {} requested LTFT forms.", writtenDtos.size(),
+        uniqueIds.size());
+    return new LtftBulkResultDto(uniqueIds.stream().map(results::get).toList());
+  }
+
+  /**
+   * Replace the given forms with a single unordered bulk write. Each replacement is guarded on the
+   * loaded revision and last modified timestamp of the form, so a concurrent change is not
+   * overwritten.
+   *
+   * @param forms          The forms to write.
+   * @param loadedVersions The version of each form when it was loaded, keyed by form ID.
+   * @return The failed or conflicting result for each form which was not written, keyed by ID.
+   */
+  private Map<UUID, ItemResultDto> bulkReplace(List<LtftForm> forms,
+      Map<UUID, LoadedVersion> loadedVersions) {
+    if (forms.isEmpty()) {
+      return Map.of();
+    }
+
+    BulkOperations bulkOps = mongoTemplate.bulkOps(BulkMode.UNORDERED, LtftForm.class);
+
+    for (LtftForm form : forms) {
+      LoadedVersion loaded = loadedVersions.get(form.getId());
+      Query query = Query.query(Criteria.where("_id").is(form.getId())
+          .and("revision").is(loaded.revision())
+          .and("lastModified").is(loaded.lastModified()));
+      bulkOps.replaceOne(query, form);
+    }
+
+    Map<UUID, ItemResultDto> unwrittenResults = new HashMap<>();
+    BulkWriteResult result;
+
+    try {
+      result = bulkOps.execute();
+    } catch (BulkOperationException e) {
+      log.error("Failed to write {} of {} LTFT forms in bulk.", e.getErrors().size(),
+          forms.size(), e);
+
+      for (BulkWriteError error : e.getErrors()) {
+        UUID formId = forms.get(error.getIndex()).getId();
+        unwrittenResults.put(formId, ItemResultDto.failed(formId, error.getMessage()));
+      }
+      result = e.getResult();
+    }
+
+    // The bulk result only counts matches, so any forms which did not match are found by checking
+    // whether the stored timestamp is the one set (by auditing) when the replacement was queued.
+    List<LtftForm> unfailedForms = forms.stream()
+        .filter(form -> !unwrittenResults.containsKey(form.getId()))
+        .toList();
+
+    if (result.getMatchedCount() < unfailedForms.size()) {
+      Query query = Query.query(Criteria.where("_id").in(
+          unfailedForms.stream().map(LtftForm::getId).toList()));
+      query.fields().include("_id", "lastModified");
+      Map<UUID, Instant> storedModified = mongoTemplate.find(query, LtftForm.class).stream()
+          .filter(stored -> stored.getLastModified() != null)
+          .collect(Collectors.toMap(LtftForm::getId, LtftForm::getLastModified));
+
+      for (LtftForm form : unfailedForms) {
+        Instant stored = storedModified.get(form.getId());
+
+        if (stored == null || form.getLastModified() == null
+            || stored.toEpochMilli() != form.getLastModified().toEpochMilli()) {
+          log.warn("Skipping form {} since it was modified during the bulk write.", form.getId());
+          unwrittenResults.put(form.getId(), ItemResultDto.conflict(form.getId(),
+              "The form was modified by another request, reload and retry."));
+        }
+      }
+    }
+
+    return unwrittenResults;
+  }
+
+  /**
+   * The version of a form when it was loaded, used to guard bulk writes.
+   *
+   * @param revision     The loaded revision.
+   * @param lastModified The loaded last modified timestamp.
+   */
+  private record LoadedVersion(int revision, @Nullable Instant lastModified) {
+
+  }
+
+  /**
+   * An admin action which can be applied to a number of LTFT applications.
+   */
+  @FunctionalInterface
+  private interface BulkAction {
+
+    /**
+     * Validate and apply the action to the given form, without persisting it.
+     *
+     * @param form The form to apply the action to.
+     * @return Whether the form was changed by the action.
+     * @throws MethodArgumentNotValidException If the action is not valid for the form.
+     */
+    boolean apply(LtftForm form) throws MethodArgumentNotValidException;
+  }
+
+  /**
+   * Validate and apply a review stage advance to the LTFT without persisting it.
+   *
+   * @param form   The form to advance.
+   * @param detail Optional detail to record alongside the stage change.
+   * @throws MethodArgumentNotValidException If the form is not currently SUBMITTED or is already at
+   *                                         the final review stage.
+   */
+  private void prepareReviewStageAdvance(LtftForm form, @Nullable LftfStatusInfoDetailDto detail)
+      throws MethodArgumentNotValidException {
+    UUID formId = form.getId();
 
     if (form.getStatus() == null || form.getStatus().current() == null
         || form.getStatus().current().state() != SUBMITTED) {
@@ -799,8 +1180,6 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
           .build();
       StatusDetail detailEntity = mapper.toStatusDetail(detail);
       form.setReviewStage(nextStage.get(), detailEntity, modifiedBy);
-      LtftForm savedForm = ltftFormRepository.save(form);
-      return Optional.of(mapper.toDto(savedForm));
     } else {
       // Already at the final stage — advancing further is not permitted via this action.
       // Use updateStatus to transition to APPROVED (or other states) from the final stage.
@@ -833,88 +1212,81 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
   private LtftForm updateStatus(LtftForm form, LifecycleState targetState,
       UserIdentity identity, @Nullable LftfStatusInfoDetailDto detail)
       throws MethodArgumentNotValidException {
+    Timer.Sample sample = startTransitionTimer();
+    LifecycleState fromState = form.getLifecycleState();
+    FormTransitionEvent transitionEvent = FormTransitionEvent.begin(form.getFormType(),
+        fromState, targetState);
 
-    validateLifecycleTransition(form, targetState);
-    validateStatusDetail(form, targetState, detail);
-    validateReviewStageTransition(form, targetState);
-
-    if (targetState.isIncrementsRevision()) {
-      form.setRevision(form.getRevision() + 1);
+    try {
+      prepareStatusUpdate(form, targetState, identity, detail);
+    } catch (MethodArgumentNotValidException e) {
+      transitionEvent.complete(OUTCOME_REJECTED);
+      throw e;
     }
 
-    StatusDetail detailEntity = mapper.toStatusDetail(detail);
-    ReviewStageStatus reviewStage = reviewStageService.resolveReviewStageForTransition(form,
-        targetState);
-
-    Person modifiedBy = Person.builder()
-        .name(identity.getName())
-        .email(identity.getEmail())
-        .role(identity.getRole())
-        .build();
-    form.setLifecycleState(targetState, detailEntity, modifiedBy, form.getRevision(), reviewStage);
-
-    assignFormRefIfNew(form, targetState);
-    calculateNonExceptionalStartDate(form, targetState);
-
     LtftForm savedForm = ltftFormRepository.save(form);
     if (targetState == SUBMITTED) {
       ltftSubmissionHistoryService.takeSnapshot(savedForm);
     }
 
     publishUpdateNotification(savedForm, FORM_ATTRIBUTE_FORM_STATUS, ltftStatusUpdateTopic);
+    countTransition(savedForm, fromState, targetState, OUTCOME_SUCCESS);
+    stopTransitionTimer(sample, savedForm, targetState);
+    transitionEvent.complete(OUTCOME_SUCCESS);
     return savedForm;
   }
 
   /**
-   * Validate that the requested lifecycle transition is permitted for the given form.
+   * Validate and apply a status change to the LTFT without persisting it. Rejected transitions are
+   * counted, successful transitions are left for the caller to count once the form is written.
    *
-   * @param form        The form being updated.
-   * @param targetState The intended target lifecycle state.
-   * @throws MethodArgumentNotValidException If the transition is not allowed.
+   * @param form        The form to update the status of.
+   * @param targetState The state to change to.
+   * @param identity    Who is performing the status change.
+   * @param detail      A detailed reason for the change, may be null.
+   * @throws MethodArgumentNotValidException If the state transition is not allowed.
    */
-  private void validateLifecycleTransition(LtftForm form, LifecycleState targetState)
+  private void prepareStatusUpdate(LtftForm form, LifecycleState targetState,
+      UserIdentity identity, @Nullable LftfStatusInfoDetailDto detail)
       throws MethodArgumentNotValidException {
-    if (!LifecycleState.canTransitionTo(form, targetState)) {
-      LifecycleState currentState = (form.getStatus() != null && form.getStatus().current() != null)
-          ? form.getStatus().current().state() : null;
-      log.warn("Could not update form {}, invalid lifecycle transition from {} to {} "
-          + "for form type '{}'", form.getId(), currentState, targetState, form.getFormType());
+    LifecycleState fromState = form.getLifecycleState();
 
-      BeanPropertyBindingResult result = new BeanPropertyBindingResult(form, "form");
-      result.addError(new FieldError(FORM_OBJECT_NAME, FORM_ATTRIBUTE_FORM_STATUS,
-          "can not be transitioned to %s".formatted(targetState)));
-      throw buildUpdateStatusException(result, 1);
+    try {
+      stateMachine.validateTransition(form, targetState);
+      stateMachine.validateDetail(form, targetState, detail,
+          detail == null ? null : detail.reason());
+      validateReviewStageTransition(form, targetState);
+    } catch (MethodArgumentNotValidException e) {
+      countTransition(form, fromState, targetState, OUTCOME_REJECTED);
+      throw e;
     }
-  }
 
-  /**
-   * Validate that a status detail with a reason is present when the target state requires one.
-   *
-   * @param form        The form being updated.
-   * @param targetState The intended target lifecycle state.
-   * @param detail      The supplied status detail, which may be {@code null}.
-   * @throws MethodArgumentNotValidException If a reason is required but absent.
-   */
-  private void validateStatusDetail(LtftForm form, LifecycleState targetState,
-      @Nullable LftfStatusInfoDetailDto detail) throws MethodArgumentNotValidException {
-    if (targetState.isRequiresDetails() && (detail == null || detail.reason() == null)) {
-      log.warn("Form {} requires a reason to change to state [{}]", form.getId(), targetState);
-
-      BeanPropertyBindingResult result = new BeanPropertyBindingResult(detail, "detail");
-      String field = detail == null ? "detail" : "detail.reason";
-      result.addError(new FieldError("StatusInfo", field,
-          "must not be null when transitioning to %s".formatted(targetState)));
-      throw buildUpdateStatusException(result, 3);
+    if (targetState.isIncrementsRevision()) {
+      form.setRevision(form.getRevision() + 1);
     }
+
+    StatusDetail detailEntity = mapper.toStatusDetail(detail);
+    ReviewStageStatus reviewStage = reviewStageService.resolveReviewStageForTransition(form,
+        targetState);
+
+    Person modifiedBy = Person.builder()
+        .name(identity.getName())
+        .email(identity.getEmail())
+        .role(identity.getRole())
+        .build();
+    form.setLifecycleState(targetState, detailEntity, modifiedBy, form.getRevision(), reviewStage);
+
+    assignFormRefIfNew(form, targetState);
+    calculateNonExceptionalStartDate(form, targetState);
   }
 
   /**
    * Validate that the form's current review stage permits a transition to the target state.
    *
-   * <p>This method is only called after {@link #validateLifecycleTransition}, which guarantees
-   * that {@code form.getStatus()} and {@code form.getStatus().current()} are non-null (a null
-   * current state would have caused {@code canTransitionTo} to return false and thrown before
-   * reaching this point).
+   * <p>This method is only called after the lifecycle transition has been validated, which
+   * guarantees that {@code form.getStatus()} and {@code form.getStatus().current()} are non-null (a
+   * null current state has no allowed transitions and would have thrown before reaching this
+   * point).
    *
    * @param form        The form being updated.
    * @param targetState The intended target lifecycle state.
@@ -927,32 +1299,8 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
       log.warn("Form {} cannot transition from review stage {} to {}.",
           form.getId(), form.getStatus().current().reviewStage(), targetState);
 
-      BeanPropertyBindingResult result = new BeanPropertyBindingResult(form, "form");
-      result.addError(new FieldError(FORM_OBJECT_NAME, FORM_ATTRIBUTE_FORM_STATUS,
-          "can not be transitioned to %s from the current review stage".formatted(targetState)));
-      throw buildUpdateStatusException(result, 1);
-    }
-  }
-
-  /**
-   * Build a {@link MethodArgumentNotValidException} whose {@link MethodParameter} refers to the
-   * private {@code updateStatus} method.
-   *
-   * @param result     The binding result containing the validation errors.
-   * @param paramIndex The zero-based index of the offending parameter.
-   * @return The constructed exception, ready to be thrown.
-   * @throws IllegalStateException If the {@code updateStatus} method cannot be found via
-   *                               reflection.
-   */
-  private MethodArgumentNotValidException buildUpdateStatusException(
-      BindingResult result, int paramIndex) {
-    try {
-      MethodParameter parameter = new MethodParameter(this.getClass()
-          .getDeclaredMethod(METHOD_UPDATE_STATUS, LtftForm.class, LifecycleState.class,
-              UserIdentity.class, LftfStatusInfoDetailDto.class), paramIndex);
-      return new MethodArgumentNotValidException(parameter, result);
-    } catch (NoSuchMethodException e) {
-      throw new IllegalStateException("Unable to reflect updateStatus method.", e);
+      throw stateMachine.transitionError(form,
+          "can not be transitioned to %s from the current review stage".formatted(targetState));
     }
   }
 
@@ -965,9 +1313,9 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
   private void assignFormRefIfNew(LtftForm form, LifecycleState targetState) {
     if (form.getFormRef() == null && targetState == SUBMITTED) {
       String traineeId = form.getTraineeTisId();
-      int previousFormCount = ltftFormRepository
-          .countByTraineeTisIdAndStatus_SubmittedIsNotNull(traineeId);
-      String formRef = "ltft_%s_%03d".formatted(traineeId, previousFormCount + 1);
+      String formRef = formReferenceService.nextFormReference(form.getFormReferencePrefix(),
+          traineeId, () -> ltftFormRepository.countByTraineeTisIdAndStatus_SubmittedIsNotNull(
+              traineeId));
       log.info("Assigning form reference {} to LTFT {}", formRef, form.getId());
       form.setFormRef(formRef);
     }
@@ -1073,7 +1421,9 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
             query.addCriteria(Criteria.where(key).is(value));
           }
         });
-    return query;
+
+    // Admin listing and counts can tolerate replication lag, so may be served by secondaries.
+    return query.withReadPreference(reportingReadPreference);
   }
 
   /**
@@ -1119,27 +1469,34 @@ public class LtftService extends AbstractAuditedFormService<LtftForm> {
     }
     List<LtftForm> ltfts = ltftFormRepository
         .findByTraineeTisIdOrderByLastModified(fromTraineeId);
+    int movedForms = 0;
 
-    AtomicReference<Integer> movedForms = new AtomicReference<>(0);
-    ltfts.forEach(form -> {
-      log.debug("Moving LTFT form [{}] from trainee [{}] to trainee [{}]",
-          form.getId(), fromTraineeId, toTraineeId);
+    if (!ltfts.isEmpty()) {
       // note no form content changes, just the trainee ID
-      form.setTraineeTisId(toTraineeId);
-      form = ltftFormRepository.save(form);
+      movedForms = Math.toIntExact(
+          ltftFormRepository.updateTraineeTisIdByTraineeTisId(fromTraineeId, toTraineeId));
+
+      Instant moved = Instant.now();
+      List<LtftFormDto> dtos = ltfts.stream()
+          .map(form -> {
+            form.setTraineeTisId(toTraineeId);
+            form.setLastModified(moved);
+            return mapper.toDto(form);
+          })
+          .toList();
+
       // note: ltftAssignmentUpdateTopic is used here to publish an update to NDW (as the form
       // content has not changed). Don't use ltftStatusUpdateTopic, which would generate emails
       // to TPD and trainee.
-      publishUpdateNotification(form, null, ltftAssignmentUpdateTopic);
-      movedForms.getAndSet(movedForms.get() + 1);
-    });
+      eventBroadcastService.publishLtftFormUpdateEvents(dtos, null, ltftAssignmentUpdateTopic);
+    }
 
     Integer movedHistory
         = ltftSubmissionHistoryService.moveHistory(fromTraineeId, toTraineeId);
     log.info("Moved {} LTFT forms and {} submission histories from trainee [{}] to trainee [{}]",
-        movedForms.get(), movedHistory, fromTraineeId, toTraineeId);
+        movedForms, movedHistory, fromTraineeId, toTraineeId);
     return Map.of(
-        "ltft", movedForms.get(),
+        "ltft", movedForms,
         "ltft-submission", movedHistory
     );
   }
@@ -21,6 +21,17 @@
 
 package uk.nhs.hee.tis.trainee.forms.service;
 
+import static uk.nhs.hee.tis.trainee.forms.jfr.PdfRenderPhaseEvent.PHASE_DOM;
+import static uk.nhs.hee.tis.trainee.forms.jfr.PdfRenderPhaseEvent.PHASE_LAYOUT;
+import static uk.nhs.hee.tis.trainee.forms.jfr.PdfRenderPhaseEvent.PHASE_PARSE;
+import static uk.nhs.hee.tis.trainee.forms.jfr.PdfRenderPhaseEvent.PHASE_TEMPLATE;
+import static uk.nhs.hee.tis.trainee.forms.jfr.S3TransferEvent.OPERATION_DOWNLOAD;
+import static uk.nhs.hee.tis.trainee.forms.jfr.S3TransferEvent.OPERATION_UPLOAD;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
 import com.openhtmltopdf.slf4j.Slf4jLogger;
 import com.openhtmltopdf.util.XRLog;
@@ -29,27 +40,51 @@ import io.awspring.cloud.s3.S3Resource;
 import io.awspring.cloud.s3.S3Template;
 import io.awspring.cloud.sns.core.SnsNotification;
 import io.awspring.cloud.sns.core.SnsTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.helper.W3CDom;
 import org.jsoup.nodes.Document;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.FastByteArrayOutputStream;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.TemplateSpec;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.templatemode.TemplateMode;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import uk.nhs.hee.tis.trainee.forms.dto.ConditionsOfJoiningPdfRequestDto;
 import uk.nhs.hee.tis.trainee.forms.dto.FormRPartADto;
 import uk.nhs.hee.tis.trainee.forms.dto.FormRPartAPdfRequestDto;
@@ -62,6 +97,10 @@ import uk.nhs.hee.tis.trainee.forms.dto.enumeration.GoldGuideVersion;
 import uk.nhs.hee.tis.trainee.forms.event.ConditionsOfJoiningPublishedEvent;
 import uk.nhs.hee.tis.trainee.forms.event.FormRPartAPublishedEvent;
 import uk.nhs.hee.tis.trainee.forms.event.FormRPartBPublishedEvent;
+import uk.nhs.hee.tis.trainee.forms.jfr.PdfRenderPhaseEvent;
+import uk.nhs.hee.tis.trainee.forms.jfr.S3TransferEvent;
+import uk.nhs.hee.tis.trainee.forms.model.PdfPublication;
+import uk.nhs.hee.tis.trainee.forms.repository.PdfPublicationRepository;
 
 /**
  * A service handling PDF generation and publishing via S3 and SNS.
@@ -78,6 +117,18 @@ public class PdfService {
   private static final String FORM_TYPE_FORMR_PARTA = "FORMR_PARTA";
   private static final String FORM_TYPE_FORMR_PARTB = "FORMR_PARTB";
 
+  protected static final String METRIC_RENDER_DURATION = "forms.pdf.render.duration";
+  protected static final String METRIC_RENDER_SIZE = "forms.pdf.render.size";
+  protected static final String METRIC_PUBLISH_SKIPPED = "forms.pdf.publish.skipped";
+  protected static final String TAG_TEMPLATE = "template";
+  protected static final String TAG_FORM_TYPE = "form.type";
+
+  private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+  private static final String XHTML_NAMESPACE = "http://www.w3.org/1999/xhtml";
+  private static final String TEMPLATE_LOCATION = "templates/";
+  private static final Pattern STYLESHEET_PATTERN = Pattern.compile(
+      "<link[^>]+href=\"([^\"]+\\.css)\"");
+
   private final TemplateEngine templateEngine;
 
   private final S3Template s3Template;
@@ -88,25 +139,48 @@ public class PdfService {
 
   private final ZoneId timezone;
 
+  private final MeterRegistry meterRegistry;
+
+  private final PdfPublicationRepository publicationRepository;
+  private final UploadedPdfLookup uploadedPdfLookup;
+  private final ObjectMapper hashMapper;
+  private final Map<String, byte[]> templateFingerprints = new ConcurrentHashMap<>();
+
+  private final DocumentBuilderFactory documentBuilderFactory = createDocumentBuilderFactory();
+
   /**
    * A service handling PDF generation and publishing via S3 and SNS.
    *
-   * @param templateEngine The template engine to use for creating an HTML version of the form.
-   * @param s3Template     The S3 template to use for uploaded.
-   * @param uploadBucket   The bucket to upload the PDFs to.
-   * @param snsTemplate    The SNS template to use for notifying.
-   * @param publishTopic   The topic to send PDF publish notifications to.
+   * @param templateEngine        The template engine to use for creating an HTML version of the
+   *                              form.
+   * @param s3Template            The S3 template to use for uploaded.
+   * @param uploadBucket          The bucket to upload the PDFs to.
+   * @param snsTemplate           The SNS template to use for notifying.
+   * @param publishTopic          The topic to send PDF publish notifications to.
+   * @param timezone              The timezone to display dates in.
+   * @param meterRegistry         The registry for PDF render metrics.
+   * @param publicationRepository The repository of published PDF content hashes.
+   * @param uploadedPdfLookup     The lookup to use for finding uploaded PDFs.
    */
   public PdfService(TemplateEngine templateEngine,
       S3Template s3Template, @Value("${application.file-store.bucket}") String uploadBucket,
       SnsTemplate snsTemplate, @Value("${application.aws.sns.pdf-generated}") String publishTopic,
-      @Value("${application.timezone}") ZoneId timezone) {
+      @Value("${application.timezone}") ZoneId timezone, MeterRegistry meterRegistry,
+      PdfPublicationRepository publicationRepository, UploadedPdfLookup uploadedPdfLookup) {
     this.templateEngine = templateEngine;
     this.s3Template = s3Template;
     this.uploadBucket = uploadBucket;
     this.snsTemplate = snsTemplate;
     this.publishTopic = publishTopic;
     this.timezone = timezone;
+    this.meterRegistry = meterRegistry;
+    this.publicationRepository = publicationRepository;
+    this.uploadedPdfLookup = uploadedPdfLookup;
+    hashMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
 
     XRLog.setLoggerImpl(new Slf4jLogger());
   }
@@ -119,8 +193,10 @@ public class PdfService {
    */
   public Optional<Resource> getUploadedPdf(String key) {
     log.info("Retrieving uploaded PDF '{}'.", key);
-    S3Resource pdf = s3Template.download(uploadBucket, key);
-    return Optional.ofNullable(pdf.exists() ? pdf : null);
+    S3TransferEvent transferEvent = S3TransferEvent.begin(OPERATION_DOWNLOAD, uploadBucket, null);
+    Optional<Resource> pdf = uploadedPdfLookup.open(uploadBucket, key);
+    transferEvent.complete(() -> pdf.map(this::getContentLength).orElse(0L));
+    return pdf;
   }
 
   /**
@@ -141,9 +217,17 @@ public class PdfService {
         version, traineeId, programmeMembershipId);
 
     TemplateSpec templateSpec = version.getConditionsOfJoiningTemplate();
-    byte[] pdf = generatePdf(templateSpec, Map.of("var", request));
+    Map<String, Object> templateVariables = Map.of("var", request);
+    String key = getKey(traineeId, FORM_TYPE_COJ, programmeMembershipId);
+    String contentHash = publish ? hashContent(templateSpec, templateVariables) : null;
+    Optional<S3Resource> published = findPublishedPdf(FORM_TYPE_COJ, key, contentHash);
+
+    if (published.isPresent()) {
+      return published.get();
+    }
 
-    S3Resource uploaded = upload(traineeId, FORM_TYPE_COJ, programmeMembershipId, pdf);
+    byte[] pdf = generatePdf(templateSpec, templateVariables);
+    S3Resource uploaded = upload(traineeId, FORM_TYPE_COJ, key, pdf);
 
     if (publish) {
       Location location = uploaded.getLocation();
@@ -153,6 +237,7 @@ public class PdfService {
       publish(FORM_TYPE_COJ, programmeMembershipId, publishEvent);
     }
 
+    recordPublishedPdf(key, contentHash);
     return uploaded;
   }
 
@@ -173,9 +258,17 @@ public class PdfService {
         type, traineeId, formId);
 
     TemplateSpec templateSpec = type.getFormRTemplate();
-    byte[] pdf = generatePdf(templateSpec, Map.of("var", request.form()));
+    Map<String, Object> templateVariables = Map.of("var", request.form());
+    String key = getKey(traineeId, FORM_TYPE_FORMR_PARTA, formId);
+    String contentHash = publish ? hashContent(templateSpec, templateVariables) : null;
+    Optional<S3Resource> published = findPublishedPdf(FORM_TYPE_FORMR_PARTA, key, contentHash);
 
-    S3Resource uploaded = upload(traineeId, FORM_TYPE_FORMR_PARTA, formId, pdf);
+    if (published.isPresent()) {
+      return published.get();
+    }
+
+    byte[] pdf = generatePdf(templateSpec, templateVariables);
+    S3Resource uploaded = upload(traineeId, FORM_TYPE_FORMR_PARTA, key, pdf);
 
     if (publish) {
       Location location = uploaded.getLocation();
@@ -184,6 +277,7 @@ public class PdfService {
       publish(FORM_TYPE_FORMR_PARTA, formId, publishEvent);
     }
 
+    recordPublishedPdf(key, contentHash);
     return uploaded;
   }
 
@@ -204,9 +298,17 @@ public class PdfService {
         type, traineeId, formId);
 
     TemplateSpec templateSpec = type.getFormRTemplate();
-    byte[] pdf = generatePdf(templateSpec, Map.of("var", request.form()));
+    Map<String, Object> templateVariables = Map.of("var", request.form());
+    String key = getKey(traineeId, FORM_TYPE_FORMR_PARTB, formId);
+    String contentHash = publish ? hashContent(templateSpec, templateVariables) : null;
+    Optional<S3Resource> published = findPublishedPdf(FORM_TYPE_FORMR_PARTB, key, contentHash);
+
+    if (published.isPresent()) {
+      return published.get();
+    }
 
-    S3Resource uploaded = upload(traineeId, FORM_TYPE_FORMR_PARTB, formId, pdf);
+    byte[] pdf = generatePdf(templateSpec, templateVariables);
+    S3Resource uploaded = upload(traineeId, FORM_TYPE_FORMR_PARTB, key, pdf);
 
     if (publish) {
       Location location = uploaded.getLocation();
@@ -215,6 +317,7 @@ public class PdfService {
       publish(FORM_TYPE_FORMR_PARTB, formId, publishEvent);
     }
 
+    recordPublishedPdf(key, contentHash);
     return uploaded;
   }
 
@@ -290,23 +393,319 @@ public class PdfService {
    */
   private byte[] generatePdf(TemplateSpec templateSpec, Map<String, Object> templateVariables)
       throws IOException {
-    log.info("Generating a PDF using template '{}'.", templateSpec.getTemplate());
+    String template = templateSpec.getTemplate();
+    log.info("Generating a PDF using template '{}'.", template);
+    Timer.Sample sample = Timer.start(meterRegistry);
 
     Map<String, Object> enhancedVariables = new HashMap<>(templateVariables);
     enhancedVariables.put("timezone", timezone.getId());
 
-    String body = templateEngine.process(templateSpec,
-        new Context(Locale.ENGLISH, enhancedVariables));
-    Document parsedBody = Jsoup.parse(body);
+    PdfRenderPhaseEvent templateEvent = PdfRenderPhaseEvent.begin(template, PHASE_TEMPLATE);
+    FastByteArrayOutputStream body = new FastByteArrayOutputStream();
 
+    Writer writer = new OutputStreamWriter(body, StandardCharsets.UTF_8);
+    templateEngine.process(templateSpec, new Context(Locale.ENGLISH, enhancedVariables), writer);
+    writer.flush();
+    templateEvent.complete(body.size());
+
+    org.w3c.dom.Document w3cDocument = parseXhtml(template, body);
+
+    if (w3cDocument == null) {
+      w3cDocument = parseHtml(template, body);
+    }
 
+    PdfRenderPhaseEvent layoutEvent = PdfRenderPhaseEvent.begin(template, PHASE_LAYOUT);
     ByteArrayOutputStream os = new ByteArrayOutputStream();
     new PdfRendererBuilder()
         .toStream(os)
-        .withW3cDocument(W3CDom.convert(parsedBody), "classpath:/")
+        .withW3cDocument(w3cDocument, "classpath:/")
         .run();
 
-    return os.toByteArray();
+    byte[] pdf = os.toByteArray();
+    layoutEvent.complete(pdf.length);
+    sample.stop(Timer.builder(METRIC_RENDER_DURATION)
+        .description("The time taken to render a PDF from a template.")
+        .tag(TAG_TEMPLATE, template)
+        .register(meterRegistry));
+    DistributionSummary.builder(METRIC_RENDER_SIZE)
+        .description("The size of PDFs rendered from a template.")
+        .baseUnit("bytes")
+        .tag(TAG_TEMPLATE, template)
+        .register(meterRegistry)
+        .record(pdf.length);
+
+    return pdf;
+  }
+
+  /**
+   * Parse rendered template output directly to a DOM, this avoids the cost of an intermediate
+   * HTML parse but requires the output to be well-formed XHTML. The output may not be well-formed
+   * due to the template or the rendered data, so the fallback applies to a single render only.
+   *
+   * @param template The name of the rendered template.
+   * @param body     The rendered template output.
+   * @return The parsed DOM, or null if the output was not well-formed XHTML.
+   * @throws IOException If the rendered output could not be read.
+   */
+  private org.w3c.dom.Document parseXhtml(String template, FastByteArrayOutputStream body)
+      throws IOException {
+    PdfRenderPhaseEvent parseEvent = PdfRenderPhaseEvent.begin(template, PHASE_PARSE);
+    DocumentBuilder documentBuilder;
+
+    try {
+      documentBuilder = documentBuilderFactory.newDocumentBuilder();
+    } catch (ParserConfigurationException e) {
+      throw new IllegalStateException("Unable to create XHTML parser.", e);
+    }
+
+    try {
+      documentBuilder.setErrorHandler(new DefaultHandler());
+      org.w3c.dom.Document document = documentBuilder.parse(body.getInputStream());
+      parseEvent.complete(body.size());
+
+      PdfRenderPhaseEvent domEvent = PdfRenderPhaseEvent.begin(template, PHASE_DOM);
+      moveToXhtmlNamespace(document, document.getDocumentElement());
+      domEvent.complete(body.size());
+      return document;
+    } catch (SAXException e) {
+      log.warn("Output of template '{}' is not well-formed XHTML, falling back to HTML parsing: {}",
+          template, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Move any elements without a namespace in to the XHTML namespace, the renderer's default
+   * stylesheet only applies to XHTML elements. Templates should declare the XHTML namespace, in
+   * which case no elements are changed.
+   *
+   * @param document The document containing the element.
+   * @param node     The node to move, along with its descendants.
+   */
+  private static void moveToXhtmlNamespace(org.w3c.dom.Document document, Node node) {
+    if (node.getNodeType() != Node.ELEMENT_NODE) {
+      return;
+    }
+
+    Node element = node.getNamespaceURI() == null
+        ? document.renameNode(node, XHTML_NAMESPACE, node.getNodeName())
+        : node;
+
+    for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+      moveToXhtmlNamespace(document, child);
+    }
+  }
+
+  /**
+   * Parse rendered template output as HTML and convert it to a DOM, supporting legacy templates
+   * which do not produce well-formed XHTML.
+   *
+   * @param template The name of the rendered template.
+   * @param body     The rendered template output.
+   * @return The parsed DOM.
+   * @throws IOException If the rendered output could not be read.
+   */
+  private org.w3c.dom.Document parseHtml(String template, FastByteArrayOutputStream body)
+      throws IOException {
+    PdfRenderPhaseEvent parseEvent = PdfRenderPhaseEvent.begin(template, PHASE_PARSE);
+    Document parsedBody = Jsoup.parse(body.getInputStream(), StandardCharsets.UTF_8.name(), "");
+    parseEvent.complete(body.size());
+
+    PdfRenderPhaseEvent domEvent = PdfRenderPhaseEvent.begin(template, PHASE_DOM);
+    org.w3c.dom.Document w3cDocument = W3CDom.convert(parsedBody);
+    domEvent.complete(body.size());
+    return w3cDocument;
+  }
+
+  /**
+   * Create a document builder factory for parsing rendered XHTML, with external entity and DTD
+   * resolution disabled.
+   *
+   * @return The created document builder factory.
+   */
+  private static DocumentBuilderFactory createDocumentBuilderFactory() {
+    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setNamespaceAware(true);
+    factory.setExpandEntityReferences(false);
+
+    try {
+      factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+      factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+      factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+      factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+    } catch (ParserConfigurationException e) {
+      throw new IllegalStateException("Unable to configure XHTML parsing.", e);
+    }
+
+    return factory;
+  }
+
+  /**
+   * Get the S3 key for a form PDF.
+   *
+   * @param traineeId The trainee ID the form belongs to.
+   * @param formType  The type of form.
+   * @param filename  The filename without extension e.g. PM ID.
+   * @return The S3 key for the form PDF.
+   */
+  private String getKey(String traineeId, String formType, String filename) {
+    return String.format("%s/forms/%s/%s.pdf", traineeId, formType.toLowerCase(), filename);
+  }
+
+  /**
+   * Calculate a hash of the content a PDF would be rendered from, so that unchanged content does
+   * not need to be rendered and published again. The hash includes a fingerprint of the template
+   * and its stylesheets, so that PDFs are rendered again when the template changes.
+   *
+   * @param templateSpec      The template spec to be rendered.
+   * @param templateVariables The variables to be inserted in to the template.
+   * @return The hex encoded SHA-256 hash of the content.
+   * @throws IOException If the content could not be serialized.
+   */
+  private String hashContent(TemplateSpec templateSpec, Map<String, Object> templateVariables)
+      throws IOException {
+    String template = templateSpec.getTemplate();
+    MessageDigest digest = createDigest();
+    digest.update(template.getBytes(StandardCharsets.UTF_8));
+    digest.update(getTemplateFingerprint(template));
+    digest.update(timezone.getId().getBytes(StandardCharsets.UTF_8));
+    digest.update(hashMapper.writeValueAsBytes(templateVariables));
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * Get a fingerprint of a template's content, including any stylesheets it links to. Templates
+   * do not change at runtime, so each fingerprint is only calculated once.
+   *
+   * @param template The name of the template.
+   * @return The SHA-256 hash of the template content.
+   */
+  byte[] getTemplateFingerprint(String template) {
+    return templateFingerprints.computeIfAbsent(template, this::createTemplateFingerprint);
+  }
+
+  /**
+   * Calculate a fingerprint of a template's content, including any stylesheets it links to.
+   *
+   * @param template The name of the template.
+   * @return The SHA-256 hash of the template content.
+   */
+  private byte[] createTemplateFingerprint(String template) {
+    MessageDigest digest = createDigest();
+    String templatePath = TEMPLATE_LOCATION + template.replace(File.separatorChar, '/');
+
+    try {
+      byte[] content = readResource(templatePath);
+      digest.update(content);
+
+      Matcher stylesheets = STYLESHEET_PATTERN.matcher(
+          new String(content, StandardCharsets.UTF_8));
+
+      while (stylesheets.find()) {
+        digest.update(readResource(stylesheets.group(1)));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to fingerprint template '%s'.".formatted(template),
+          e);
+    }
+
+    return digest.digest();
+  }
+
+  /**
+   * Read the content of a classpath resource.
+   *
+   * @param path The path of the resource.
+   * @return The resource content, empty if the resource does not exist.
+   * @throws IOException If the resource could not be read.
+   */
+  private static byte[] readResource(String path) throws IOException {
+    ClassPathResource resource = new ClassPathResource(path);
+
+    if (!resource.exists()) {
+      log.warn("Resource '{}' could not be found for template fingerprinting.", path);
+      return new byte[0];
+    }
+
+    return resource.getContentAsByteArray();
+  }
+
+  /**
+   * Create a digest for calculating content hashes.
+   *
+   * @return The created digest.
+   */
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Unable to hash PDF content.", e);
+    }
+  }
+
+  /**
+   * Find a previously published PDF which was rendered from the same content.
+   *
+   * @param formType    The type of form.
+   * @param key         The S3 key of the PDF.
+   * @param contentHash The hash of the content to be rendered, null if not publishing.
+   * @return The previously published PDF, empty if the content has changed or was not published.
+   */
+  private Optional<S3Resource> findPublishedPdf(String formType, String key,
+      String contentHash) {
+    if (contentHash == null) {
+      return Optional.empty();
+    }
+
+    Optional<S3Resource> published = publicationRepository.findById(key)
+        .filter(publication -> publication.contentHash().equals(contentHash))
+        .filter(publication -> isUploaded(key))
+        .map(publication -> s3Template.download(uploadBucket, key));
+
+    if (published.isPresent()) {
+      log.info("Content of {} PDF '{}' is unchanged, skipping render and publish.", formType,
+          key);
+      Counter.builder(METRIC_PUBLISH_SKIPPED)
+          .description("The number of PDF publishes skipped because the content was unchanged.")
+          .tag(TAG_FORM_TYPE, formType)
+          .register(meterRegistry)
+          .increment();
+    }
+
+    return published;
+  }
+
+  /**
+   * Check whether a PDF is still uploaded. The PDF may have been deleted by another instance since
+   * it was cached, so S3 is always checked. If S3 cannot be checked the PDF is treated as missing,
+   * so that it is rendered and published again rather than the publish failing.
+   *
+   * @param key The S3 key of the PDF.
+   * @return Whether the PDF is uploaded.
+   */
+  private boolean isUploaded(String key) {
+    try {
+      return uploadedPdfLookup.refresh(uploadBucket, key).isPresent();
+    } catch (S3Exception e) {
+      log.warn("Unable to check whether PDF '{}' is uploaded, it will be published again: {}", key,
+          e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Record the content hash of an uploaded PDF, or forget any previous hash if the PDF was not
+   * published.
+   *
+   * @param key         The S3 key of the PDF.
+   * @param contentHash The hash of the rendered content, null if not published.
+   */
+  private void recordPublishedPdf(String key, String contentHash) {
+    if (contentHash == null) {
+      publicationRepository.deleteById(key);
+    } else {
+      publicationRepository.save(new PdfPublication(key, contentHash, Instant.now()));
+    }
   }
 
   /**
@@ -314,15 +713,33 @@ public class PdfService {
    *
    * @param traineeId The trainee ID the form belongs to.
    * @param formType  The type of form being uploaded.
-   * @param filename  The filename without extension e.g. PM ID.
+   * @param key       The S3 key to upload to.
    * @param pdf       The bytes of the PDF file.
    * @return An object referencing the published PDF.
    */
-  private S3Resource upload(String traineeId, String formType, String filename, byte[] pdf) {
-    log.info("Uploading generated {} for trainee '{}': {}.pdf", formType, traineeId, filename);
-    String key = String.format("%s/forms/%s/%s.pdf", traineeId, formType.toLowerCase(), filename);
+  private S3Resource upload(String traineeId, String formType, String key, byte[] pdf) {
+    log.info("Uploading generated {} for trainee '{}': {}", formType, traineeId, key);
+
+    S3TransferEvent transferEvent = S3TransferEvent.begin(OPERATION_UPLOAD, uploadBucket,
+        formType);
+    S3Resource resource = s3Template.upload(uploadBucket, key, new ByteArrayInputStream(pdf));
+    uploadedPdfLookup.evict(uploadBucket, key);
+    transferEvent.complete(() -> pdf.length);
+    return resource;
+  }
 
-    return s3Template.upload(uploadBucket, key, new ByteArrayInputStream(pdf));
+  /**
+   * Get the content length of a resource, for diagnostics only.
+   *
+   * @param resource The resource to get the content length of.
+   * @return The content length in bytes, or -1 if it could not be retrieved.
+   */
+  private long getContentLength(Resource resource) {
+    try {
+      return resource.contentLength();
+    } catch (IOException e) {
+      return -1;
+    }
   }
 
   /**
@@ -27,10 +27,14 @@ import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.UNSUBM
 import jakarta.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import uk.nhs.hee.tis.trainee.forms.config.ReviewWorkflowProperties;
@@ -58,6 +62,9 @@ import uk.nhs.hee.tis.trainee.forms.model.ReviewStageStatus;
  *   <li>If no enabled stages are configured for a DBC, that DBC is treated as having no review
  *       workflow at all.
  * </ul>
+ *
+ * <p>The configured workflows are compiled into an immutable per-DBC index, which is rebuilt and
+ * swapped atomically whenever the configured workflows are replaced.
  */
 @Slf4j
 @Service
@@ -71,6 +78,7 @@ public class ReviewStageService {
   static final String TERMINAL_STAGE_LABEL = "Review complete";
 
   private final ReviewWorkflowProperties reviewWorkflowProperties;
+  private final AtomicReference<WorkflowIndex> workflowIndex = new AtomicReference<>();
 
   ReviewStageService(ReviewWorkflowProperties reviewWorkflowProperties) {
     this.reviewWorkflowProperties = reviewWorkflowProperties;
@@ -93,10 +101,10 @@ public class ReviewStageService {
    * @return The workflow DTO describing the visible stages and the form's current position.
    */
   public ReviewWorkflowDto getWorkflowDto(LtftForm form) {
-    List<StateStage> allStages = getConfiguredStages(getDesignatedBodyCode(form));
+    CompiledWorkflow workflow = getWorkflow(getDesignatedBodyCode(form));
     String activeLabel = getActiveReviewLabel(form);
 
-    List<String> visibleLabels = buildVisibleLabels(allStages, activeLabel);
+    List<String> visibleLabels = workflow.visibleLabels(activeLabel);
     Integer currentPosition =
         activeLabel != null ? indexOfOrNull(visibleLabels, activeLabel) : null;
 
@@ -117,30 +125,6 @@ public class ReviewStageService {
     return stage != null ? stage.label() : null;
   }
 
-  /**
-   * Build the list of visible stage labels for the workflow DTO.
-   *
-   * <p>Includes all enabled stages, plus the {@code activeLabel} stage if it is disabled but
-   * current. Appends the terminal "Review complete" stage when the workflow is active (has enabled
-   * stages) or the form is genuinely in-flight.
-   */
-  private List<String> buildVisibleLabels(List<StateStage> allStages,
-      @Nullable String activeLabel) {
-    List<String> labels = allStages.stream()
-        .filter(s -> s.enabled() || s.label().equals(activeLabel))
-        .map(StateStage::label)
-        .collect(Collectors.toCollection(ArrayList::new));
-
-    boolean anyEnabled = allStages.stream().anyMatch(StateStage::enabled);
-    boolean inFlight = activeLabel != null
-        && (labels.contains(activeLabel) || TERMINAL_STAGE_LABEL.equals(activeLabel));
-
-    if (anyEnabled || inFlight) {
-      labels.add(TERMINAL_STAGE_LABEL);
-    }
-    return labels;
-  }
-
   /**
    * Return the index of {@code label} in the list, or {@code null} if not found.
    */
@@ -171,14 +155,14 @@ public class ReviewStageService {
 
     // Entering (or re-entering) SUBMITTED always starts from the first enabled stage.
     String dbc = getDesignatedBodyCode(form);
-    List<StateStage> stages = getConfiguredStages(dbc);
+    CompiledWorkflow workflow = getWorkflow(dbc);
 
-    if (stages.isEmpty()) {
+    if (workflow.isEmpty()) {
       log.debug("No review workflow configured for DBC '{}', setting review stage to null.", dbc);
       return null;
     }
 
-    Optional<ReviewStageStatus> firstEnabled = nextEnabledStageAfter(stages, -1);
+    Optional<ReviewStageStatus> firstEnabled = workflow.nextEnabledStageAfter(-1);
     if (firstEnabled.isPresent()) {
       log.debug(
           "Resolving first enabled review stage for DBC '{}': index={}, label='{}'.",
@@ -210,7 +194,7 @@ public class ReviewStageService {
    */
   public Optional<ReviewStageStatus> resolveAdvance(LtftForm form) {
     String dbc = getDesignatedBodyCode(form);
-    List<StateStage> stages = getConfiguredStages(dbc);
+    CompiledWorkflow workflow = getWorkflow(dbc);
 
     ReviewStageStatus current = getCurrentReviewStage(form);
     if (current == null) {
@@ -230,7 +214,7 @@ public class ReviewStageService {
       return Optional.empty();
     }
 
-    int currentAbsoluteIndex = findAbsoluteIndexByLabel(stages, current.label());
+    int currentAbsoluteIndex = workflow.absoluteIndexOf(current.label());
     if (currentAbsoluteIndex == -1) {
       log.warn(
           "Form {} has review stage label '{}' which does not match any configured stage for "
@@ -241,7 +225,7 @@ public class ReviewStageService {
       return Optional.empty();
     }
 
-    Optional<ReviewStageStatus> next = nextEnabledStageAfter(stages, currentAbsoluteIndex);
+    Optional<ReviewStageStatus> next = workflow.nextEnabledStageAfter(currentAbsoluteIndex);
     if (next.isPresent()) {
       log.debug(
           "Advancing form {} from review stage index {} to {} ('{}').",
@@ -253,7 +237,7 @@ public class ReviewStageService {
     }
 
     // At the effective final configured stage — advance to the implicit terminal stage.
-    int enabledCount = (int) stages.stream().filter(StateStage::enabled).count();
+    int enabledCount = workflow.enabledCount();
     log.debug(
         "Advancing form {} from final configured stage (index {}) to terminal stage.",
         form.getId(),
@@ -281,10 +265,7 @@ public class ReviewStageService {
       return true;
     }
 
-    String dbc = getDesignatedBodyCode(form);
-    List<StateStage> stages = getConfiguredStages(dbc);
-
-    if (stages.isEmpty()) {
+    if (getWorkflow(getDesignatedBodyCode(form)).isEmpty()) {
       return true;
     }
 
@@ -319,7 +300,9 @@ public class ReviewStageService {
    * @return A deduplicated set of enabled stage labels.
    */
   public Set<String> getEnabledStageLabels(Collection<String> dbcs) {
-    return getStageLabels(dbcs, true);
+    Set<String> labels = new HashSet<>();
+    dbcs.forEach(dbc -> labels.addAll(getWorkflow(dbc).enabledLabels()));
+    return labels;
   }
 
   /**
@@ -329,38 +312,46 @@ public class ReviewStageService {
    * @return A deduplicated set of disabled stage labels.
    */
   public Set<String> getDisabledStageLabels(Collection<String> dbcs) {
-    return getStageLabels(dbcs, false);
+    Set<String> labels = new HashSet<>();
+    dbcs.forEach(dbc -> labels.addAll(getWorkflow(dbc).disabledLabels()));
+    return labels;
   }
 
   /**
-   * Collect the labels of all review stages across the given DBCs matching the given
-   * enabled/disabled status.
+   * Return the compiled review workflow for the given DBC code, or an empty workflow if none is
+   * configured.
    *
-   * @param dbcs The designated body codes to inspect.
-   * @param enabled The enabled/disabled status.
-   * @return A deduplicated set of matched stage labels.
+   * @param dbc The designated body code to look up.
+   * @return The compiled workflow, never {@code null}.
    */
-  private Set<String> getStageLabels(Collection<String> dbcs, boolean enabled) {
-    return dbcs.stream()
-        .flatMap(dbc -> getConfiguredStages(dbc).stream())
-        .filter(stage -> stage.enabled() == enabled)
-        .map(StateStage::label)
-        .collect(Collectors.toSet());
+  private CompiledWorkflow getWorkflow(@Nullable String dbc) {
+    if (dbc == null) {
+      return CompiledWorkflow.EMPTY;
+    }
+    return getWorkflowIndex().workflows().getOrDefault(dbc, CompiledWorkflow.EMPTY);
   }
 
   /**
-   * Return the configured review-workflow stages for the given DBC code, or an empty list if no
-   * workflow is configured.
+   * Get the compiled index of all configured workflows, rebuilding it if the configured workflows
+   * have been replaced since it was last compiled.
    *
-   * @param dbc The designated body code to look up.
-   * @return The list of configured stages, never {@code null}.
+   * @return The current workflow index.
    */
-  private List<StateStage> getConfiguredStages(@Nullable String dbc) {
-    if (dbc == null) {
-      return List.of();
+  private WorkflowIndex getWorkflowIndex() {
+    Map<String, List<StateStage>> configured = reviewWorkflowProperties.getReviewWorkflows();
+    WorkflowIndex index = workflowIndex.get();
+
+    if (index == null || index.source() != configured) {
+      WorkflowIndex compiled = WorkflowIndex.compile(configured);
+
+      // Only publish the compiled index if no other thread has published a newer one.
+      if (workflowIndex.compareAndSet(index, compiled)) {
+        log.info("Compiled review workflows for {} DBC(s).", compiled.workflows().size());
+      }
+      index = compiled;
     }
-    List<StateStage> stages = reviewWorkflowProperties.getReviewWorkflows().get(dbc);
-    return stages != null ? stages : List.of();
+
+    return index;
   }
 
   /**
@@ -378,56 +369,188 @@ public class ReviewStageService {
     return form.getStatus().current().reviewStage();
   }
 
+  @Nullable
+  private String getDesignatedBodyCode(LtftForm form) {
+    if (form.getContent() == null || form.getContent().programmeMembership() == null) {
+      return null;
+    }
+    return form.getContent().programmeMembership().designatedBodyCode();
+  }
+
   /**
-   * Find the next enabled stage in {@code stages} whose index is strictly greater than {@code
-   * fromAbsoluteIndex}.
-   *
-   * <p>Pass {@code -1} as {@code fromAbsoluteIndex} to find the very first enabled stage.
-   *
-   * <p>The returned {@link ReviewStageStatus} uses a <em>visible</em> index: the zero-based
-   * position among enabled stages only.
+   * An immutable index of compiled review workflows, keyed by DBC.
    *
-   * @param stages The ordered list of configured stages.
-   * @param fromAbsoluteIndex The absolute index to start searching <em>after</em> (exclusive).
-   * @return The first enabled stage found, or empty if none exists.
+   * @param source    The configured workflows the index was compiled from.
+   * @param workflows The compiled workflows, keyed by DBC.
    */
-  private Optional<ReviewStageStatus> nextEnabledStageAfter(
-      List<StateStage> stages, int fromAbsoluteIndex) {
-    int enabledCount = 0;
-    for (int i = 0; i <= fromAbsoluteIndex && i < stages.size(); i++) {
-      if (stages.get(i).enabled()) {
-        enabledCount++;
-      }
-    }
-    for (int i = fromAbsoluteIndex + 1; i < stages.size(); i++) {
-      if (stages.get(i).enabled()) {
-        return Optional.of(new ReviewStageStatus(enabledCount, stages.get(i).label()));
-      }
+  private record WorkflowIndex(Map<String, List<StateStage>> source,
+                               Map<String, CompiledWorkflow> workflows) {
+
+    /**
+     * Compile the given configured workflows.
+     *
+     * @param source The configured workflows, keyed by DBC.
+     * @return The compiled index.
+     */
+    static WorkflowIndex compile(Map<String, List<StateStage>> source) {
+      Map<String, CompiledWorkflow> workflows = new HashMap<>();
+      source.forEach((dbc, stages) -> workflows.put(dbc, CompiledWorkflow.compile(stages)));
+      return new WorkflowIndex(source, Map.copyOf(workflows));
     }
-    return Optional.empty();
   }
 
   /**
-   * Find the absolute index of the stage with the given label in the configured stages list.
+   * An immutable review workflow for a single DBC, with all per-call lookups precomputed.
    *
-   * @param stages The ordered list of configured stages.
-   * @param label The label to find.
-   * @return The absolute index, or {@code -1} if not found.
+   * @param stages         The ordered list of configured stages.
+   * @param indexByLabel   The absolute index of each configured stage, keyed by label.
+   * @param enabledBefore  The number of enabled stages before each absolute index, with one extra
+   *                       trailing entry holding the total.
+   * @param nextEnabled    The absolute index of the first enabled stage at or after each absolute
+   *                       index, or {@code -1} if there is none, with one extra trailing entry.
+   * @param visibleLabels  The visible labels when the active stage is enabled, terminal or absent.
+   * @param terminalLabels The visible labels when the form is at the terminal stage.
+   * @param visibleLabelsByDisabledLabel The visible labels when the active stage is disabled,
+   *                       keyed by the disabled label.
+   * @param enabledLabels  The labels of all enabled stages.
+   * @param disabledLabels The labels of all disabled stages.
    */
-  private int findAbsoluteIndexByLabel(List<StateStage> stages, String label) {
-    for (int i = 0; i < stages.size(); i++) {
-      if (stages.get(i).label().equals(label)) {
-        return i;
+  private record CompiledWorkflow(List<StateStage> stages, Map<String, Integer> indexByLabel,
+                                  int[] enabledBefore, int[] nextEnabled,
+                                  List<String> visibleLabels, List<String> terminalLabels,
+                                  Map<String, List<String>> visibleLabelsByDisabledLabel,
+                                  Set<String> enabledLabels, Set<String> disabledLabels) {
+
+    static final CompiledWorkflow EMPTY = compile(List.of());
+
+    /**
+     * Compile the given ordered list of configured stages.
+     *
+     * @param stages The ordered list of configured stages.
+     * @return The compiled workflow.
+     */
+    static CompiledWorkflow compile(List<StateStage> stages) {
+      int size = stages.size();
+      Map<String, Integer> indexByLabel = new HashMap<>();
+      int[] enabledBefore = new int[size + 1];
+      Set<String> enabledLabels = new LinkedHashSet<>();
+      Set<String> disabledLabels = new LinkedHashSet<>();
+
+      for (int i = 0; i < size; i++) {
+        StateStage stage = stages.get(i);
+        indexByLabel.putIfAbsent(stage.label(), i);
+        enabledBefore[i + 1] = enabledBefore[i] + (stage.enabled() ? 1 : 0);
+
+        if (stage.enabled()) {
+          enabledLabels.add(stage.label());
+        } else {
+          disabledLabels.add(stage.label());
+        }
+      }
+
+      int[] nextEnabled = new int[size + 1];
+      nextEnabled[size] = -1;
+      for (int i = size - 1; i >= 0; i--) {
+        nextEnabled[i] = stages.get(i).enabled() ? i : nextEnabled[i + 1];
+      }
+
+      boolean anyEnabled = !enabledLabels.isEmpty();
+      List<String> visibleLabels = buildVisibleLabels(stages, null, anyEnabled);
+      List<String> terminalLabels = anyEnabled ? visibleLabels : List.of(TERMINAL_STAGE_LABEL);
+
+      Map<String, List<String>> visibleLabelsByDisabledLabel = new HashMap<>();
+      for (String disabledLabel : disabledLabels) {
+        visibleLabelsByDisabledLabel.put(disabledLabel,
+            buildVisibleLabels(stages, disabledLabel, true));
       }
+
+      return new CompiledWorkflow(List.copyOf(stages), Map.copyOf(indexByLabel), enabledBefore,
+          nextEnabled, visibleLabels, terminalLabels, Map.copyOf(visibleLabelsByDisabledLabel),
+          Set.copyOf(enabledLabels), Set.copyOf(disabledLabels));
     }
-    return -1;
-  }
 
-  @Nullable
-  private String getDesignatedBodyCode(LtftForm form) {
-    if (form.getContent() == null || form.getContent().programmeMembership() == null) {
-      return null;
+    /**
+     * Build the list of visible stage labels, including all enabled stages and the given disabled
+     * stage, optionally followed by the terminal stage.
+     */
+    private static List<String> buildVisibleLabels(List<StateStage> stages,
+        @Nullable String disabledLabel, boolean includeTerminal) {
+      List<String> labels = new ArrayList<>();
+      for (StateStage stage : stages) {
+        if (stage.enabled() || stage.label().equals(disabledLabel)) {
+          labels.add(stage.label());
+        }
+      }
+
+      if (includeTerminal) {
+        labels.add(TERMINAL_STAGE_LABEL);
+      }
+      return List.copyOf(labels);
+    }
+
+    /**
+     * Whether no stages are configured for the workflow.
+     */
+    boolean isEmpty() {
+      return stages.isEmpty();
+    }
+
+    /**
+     * The number of enabled stages in the workflow.
+     */
+    int enabledCount() {
+      return enabledBefore[stages.size()];
+    }
+
+    /**
+     * Find the absolute index of the stage with the given label.
+     *
+     * @param label The label to find.
+     * @return The absolute index, or {@code -1} if not found.
+     */
+    int absoluteIndexOf(String label) {
+      return indexByLabel.getOrDefault(label, -1);
+    }
+
+    /**
+     * Find the next enabled stage whose index is strictly greater than {@code fromAbsoluteIndex}.
+     *
+     * <p>Pass {@code -1} as {@code fromAbsoluteIndex} to find the very first enabled stage.
+     *
+     * <p>The returned {@link ReviewStageStatus} uses a <em>visible</em> index: the zero-based
+     * position among enabled stages only.
+     *
+     * @param fromAbsoluteIndex The absolute index to start searching <em>after</em> (exclusive).
+     * @return The first enabled stage found, or empty if none exists.
+     */
+    Optional<ReviewStageStatus> nextEnabledStageAfter(int fromAbsoluteIndex) {
+      int from = Math.min(fromAbsoluteIndex + 1, stages.size());
+      int next = nextEnabled[from];
+
+      if (next == -1) {
+        return Optional.empty();
+      }
+      return Optional.of(new ReviewStageStatus(enabledBefore[next], stages.get(next).label()));
+    }
+
+    /**
+     * Get the visible stage labels for a form at the given active stage.
+     *
+     * <p>Includes all enabled stages, plus the {@code activeLabel} stage if it is disabled but
+     * current. Includes the terminal "Review complete" stage when the workflow is active (has
+     * enabled stages) or the form is genuinely in-flight.
+     *
+     * @param activeLabel The label of the form's active review stage, may be null.
+     * @return The visible stage labels.
+     */
+    List<String> visibleLabels(@Nullable String activeLabel) {
+      if (activeLabel == null) {
+        return visibleLabels;
+      }
+      if (TERMINAL_STAGE_LABEL.equals(activeLabel)) {
+        return terminalLabels;
+      }
+      return visibleLabelsByDisabledLabel.getOrDefault(activeLabel, visibleLabels);
     }
-    return form.getContent().programmeMembership().designatedBodyCode();
   }
 }
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.forms.config.ReviewWorkflowProperties;
+import uk.nhs.hee.tis.trainee.forms.config.StateStage;
+import uk.nhs.hee.tis.trainee.forms.model.ReviewWorkflow;
+import uk.nhs.hee.tis.trainee.forms.repository.ReviewWorkflowRepository;
+
+/**
+ * A service for keeping the in-memory review workflows in sync with the stored review workflows.
+ *
+ * <p>Each instance polls the versions of the stored workflows and, only when they have changed,
+ * reloads and validates them before replacing the active workflows. Stored workflows take
+ * precedence over those configured by {@code application.review-workflows}, which remain in use
+ * for any DBC without a stored workflow.
+ */
+@Slf4j
+@Service
+public class ReviewWorkflowService {
+
+  private final ReviewWorkflowRepository repository;
+  private final ReviewWorkflowProperties properties;
+  private final Map<String, List<StateStage>> configuredWorkflows;
+
+  private volatile Map<String, Long> loadedVersions = Map.of();
+
+  /**
+   * Construct a service for keeping the in-memory review workflows up to date.
+   *
+   * @param repository The repository for stored review workflows.
+   * @param properties The active review workflows, initially those configured at startup.
+   */
+  public ReviewWorkflowService(ReviewWorkflowRepository repository,
+      ReviewWorkflowProperties properties) {
+    this.repository = repository;
+    this.properties = properties;
+    this.configuredWorkflows = Map.copyOf(properties.getReviewWorkflows());
+  }
+
+  /**
+   * Reload the stored review workflows if any have been added, changed or removed since they were
+   * last loaded.
+   *
+   * @return Whether the active review workflows were replaced.
+   */
+  @Scheduled(fixedDelayString = "${application.review-workflow-poll-interval}")
+  public synchronized boolean refresh() {
+    Map<String, Long> versions = toVersions(repository.findAllVersions());
+
+    if (versions.equals(loadedVersions)) {
+      return false;
+    }
+
+    List<ReviewWorkflow> storedWorkflows = repository.findAll();
+
+    // Record the loaded versions even when invalid, so the failure is only reported once.
+    loadedVersions = toVersions(storedWorkflows);
+    Map<String, List<StateStage>> workflows = new HashMap<>(configuredWorkflows);
+
+    try {
+      storedWorkflows.forEach(workflow -> workflows.put(workflow.designatedBodyCode(),
+          toStages(workflow)));
+      ReviewWorkflowProperties.validateWorkflows(workflows);
+    } catch (IllegalStateException e) {
+      log.error("Stored review workflows are invalid, the active workflows were not replaced.", e);
+      return false;
+    }
+
+    properties.setReviewWorkflows(Map.copyOf(workflows));
+    log.info("Reloaded review workflows for {} DBC(s), {} stored: {}", workflows.size(),
+        storedWorkflows.size(), workflows.keySet());
+    return true;
+  }
+
+  /**
+   * Get the stages of a stored review workflow.
+   *
+   * @param workflow The stored review workflow.
+   * @return The stages of the workflow, empty if it has none.
+   * @throws IllegalStateException If any of the stages are null.
+   */
+  private static List<StateStage> toStages(ReviewWorkflow workflow) {
+    if (workflow.stages() == null) {
+      return List.of();
+    }
+
+    if (workflow.stages().contains(null)) {
+      throw new IllegalStateException(
+          "Review workflow for DBC '%s' has a null stage.".formatted(workflow.designatedBodyCode()));
+    }
+
+    return List.copyOf(workflow.stages());
+  }
+
+  /**
+   * Get the version of each of the given review workflows.
+   *
+   * @param workflows The review workflows.
+   * @return The versions keyed by DBC, a missing version is treated as zero.
+   */
+  private static Map<String, Long> toVersions(List<ReviewWorkflow> workflows) {
+    Map<String, Long> versions = new HashMap<>();
+    workflows.forEach(workflow -> versions.put(workflow.designatedBodyCode(),
+        Objects.requireNonNullElse(workflow.version(), 0L)));
+    return versions;
+  }
+}
@@ -0,0 +1,282 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * A lookup of uploaded PDFs which remembers recent results, so that repeated requests for the same
+ * PDF do not each need an existence check against S3. Found PDFs are cached as key, ETag and size,
+ * while missing PDFs are cached for a shorter time so that a newly uploaded PDF is soon visible.
+ */
+@Slf4j
+@Component
+public class UploadedPdfLookup {
+
+  protected static final String CACHE_NAME = "uploaded-pdf";
+
+  private final S3Client s3Client;
+  private final Duration timeToLive;
+  private final Duration negativeTimeToLive;
+  private final Cache<String, Optional<UploadedPdf>> cache;
+
+  /**
+   * Create a lookup of uploaded PDFs.
+   *
+   * @param s3Client           The S3 client to use for uncached lookups.
+   * @param maximumSize        The maximum number of lookup results to cache.
+   * @param timeToLive         The time to cache the metadata of a found PDF.
+   * @param negativeTimeToLive The time to cache a PDF being missing.
+   * @param meterRegistry      The registry for cache metrics.
+   */
+  public UploadedPdfLookup(S3Client s3Client,
+      @Value("${application.pdf.lookup-cache.maximum-size}") long maximumSize,
+      @Value("${application.pdf.lookup-cache.time-to-live}") Duration timeToLive,
+      @Value("${application.pdf.lookup-cache.negative-time-to-live}") Duration negativeTimeToLive,
+      MeterRegistry meterRegistry) {
+    this.s3Client = s3Client;
+    this.timeToLive = timeToLive;
+    this.negativeTimeToLive = negativeTimeToLive;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new LookupExpiry())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Find the metadata of an uploaded PDF, using the cached result when available.
+   *
+   * @param bucket The bucket the PDF was uploaded to.
+   * @param key    The key of the PDF.
+   * @return The found PDF metadata, empty if the PDF does not exist.
+   */
+  public Optional<UploadedPdf> find(String bucket, String key) {
+    return cache.get(getCacheKey(bucket, key), cacheKey -> head(bucket, key));
+  }
+
+  /**
+   * Find the metadata of an uploaded PDF, always checking S3 and replacing any cached result. Used
+   * where a PDF deleted by another instance must not be treated as present.
+   *
+   * @param bucket The bucket the PDF was uploaded to.
+   * @param key    The key of the PDF.
+   * @return The found PDF metadata, empty if the PDF does not exist.
+   */
+  public Optional<UploadedPdf> refresh(String bucket, String key) {
+    String cacheKey = getCacheKey(bucket, key);
+    cache.invalidate(cacheKey);
+    Optional<UploadedPdf> pdf = head(bucket, key);
+    cache.put(cacheKey, pdf);
+    return pdf;
+  }
+
+  /**
+   * Open an uploaded PDF for reading with a single request, skipping the request entirely if the
+   * PDF is already known to be missing.
+   *
+   * @param bucket The bucket the PDF was uploaded to.
+   * @param key    The key of the PDF.
+   * @return The PDF contents, empty if the PDF does not exist.
+   */
+  public Optional<Resource> open(String bucket, String key) {
+    String cacheKey = getCacheKey(bucket, key);
+    Optional<UploadedPdf> cached = cache.getIfPresent(cacheKey);
+
+    if (cached != null && cached.isEmpty()) {
+      log.debug("Uploaded PDF '{}' is known to be missing.", key);
+      return Optional.empty();
+    }
+
+    GetObjectRequest request = GetObjectRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .build();
+
+    try {
+      ResponseInputStream<GetObjectResponse> object = s3Client.getObject(request);
+      GetObjectResponse response = object.response();
+      UploadedPdf pdf = new UploadedPdf(key, response.eTag(), response.contentLength());
+      cache.put(cacheKey, Optional.of(pdf));
+      return Optional.of(new UploadedPdfResource(pdf, object));
+    } catch (S3Exception e) {
+      if (!isNotFound(e)) {
+        throw e;
+      }
+
+      cache.put(cacheKey, Optional.empty());
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Forget any cached result for a PDF, e.g. after it has been uploaded.
+   *
+   * @param bucket The bucket the PDF was uploaded to.
+   * @param key    The key of the PDF.
+   */
+  public void evict(String bucket, String key) {
+    cache.invalidate(getCacheKey(bucket, key));
+  }
+
+  /**
+   * Get the metadata of an uploaded PDF from S3.
+   *
+   * @param bucket The bucket the PDF was uploaded to.
+   * @param key    The key of the PDF.
+   * @return The found PDF metadata, empty if the PDF does not exist.
+   */
+  private Optional<UploadedPdf> head(String bucket, String key) {
+    HeadObjectRequest request = HeadObjectRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .build();
+
+    try {
+      HeadObjectResponse response = s3Client.headObject(request);
+      return Optional.of(new UploadedPdf(key, response.eTag(), response.contentLength()));
+    } catch (S3Exception e) {
+      if (!isNotFound(e)) {
+        throw e;
+      }
+
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Check whether an S3 error indicates that the requested object does not exist.
+   *
+   * @param e The S3 error.
+   * @return Whether the object was not found.
+   */
+  private static boolean isNotFound(S3Exception e) {
+    return e.statusCode() == HttpStatus.NOT_FOUND.value();
+  }
+
+  /**
+   * Get the cache key for a PDF.
+   *
+   * @param bucket The bucket the PDF was uploaded to.
+   * @param key    The key of the PDF.
+   * @return The cache key.
+   */
+  private static String getCacheKey(String bucket, String key) {
+    return bucket + "/" + key;
+  }
+
+  /**
+   * The metadata of an uploaded PDF.
+   *
+   * @param key           The key of the PDF.
+   * @param eTag          The ETag of the PDF.
+   * @param contentLength The size of the PDF in bytes.
+   */
+  public record UploadedPdf(String key, String eTag, long contentLength) {
+
+  }
+
+  /**
+   * The contents of an uploaded PDF, streamed from the response of a single S3 request.
+   */
+  private static class UploadedPdfResource extends InputStreamResource {
+
+    private final UploadedPdf pdf;
+
+    /**
+     * Create a resource for the contents of an uploaded PDF.
+     *
+     * @param pdf         The metadata of the PDF.
+     * @param inputStream The stream of the PDF contents.
+     */
+    UploadedPdfResource(UploadedPdf pdf, InputStream inputStream) {
+      super(inputStream, pdf.key());
+      this.pdf = pdf;
+    }
+
+    @Override
+    public long contentLength() {
+      return pdf.contentLength();
+    }
+
+    @Override
+    public String getFilename() {
+      String key = pdf.key();
+      return key.substring(key.lastIndexOf('/') + 1);
+    }
+  }
+
+  /**
+   * An expiry policy which caches missing PDFs for a shorter time than found PDFs.
+   */
+  private class LookupExpiry implements Expiry<String, Optional<UploadedPdf>> {
+
+    @Override
+    public long expireAfterCreate(String key, Optional<UploadedPdf> value, long currentTime) {
+      return getTimeToLive(value).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Optional<UploadedPdf> value, long currentTime,
+        long currentDuration) {
+      return getTimeToLive(value).toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(String key, Optional<UploadedPdf> value, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+
+    /**
+     * Get the time the given lookup result should be cached for.
+     *
+     * @param value The lookup result.
+     * @return The time to cache the result.
+     */
+    private Duration getTimeToLive(Optional<UploadedPdf> value) {
+      return value.isPresent() ? timeToLive : negativeTimeToLive;
+    }
+  }
+}
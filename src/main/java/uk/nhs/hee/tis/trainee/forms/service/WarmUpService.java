@@ -0,0 +1,272 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.trainee.forms.dto.ConditionsOfJoining;
+import uk.nhs.hee.tis.trainee.forms.dto.ConditionsOfJoiningPdfRequestDto;
+import uk.nhs.hee.tis.trainee.forms.dto.FormRPartADto;
+import uk.nhs.hee.tis.trainee.forms.dto.FormRPartBDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
+import uk.nhs.hee.tis.trainee.forms.dto.content.FormrPartaContentDto;
+import uk.nhs.hee.tis.trainee.forms.dto.content.FormrPartbContentDto;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.FormRType;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.GoldGuideVersion;
+
+/**
+ * A service which warms up the PDF render path and JSON mappers on startup, before the application
+ * reports itself as ready to accept traffic.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "application.warm-up.enabled", havingValue = "true")
+public class WarmUpService implements ApplicationRunner {
+
+  protected static final String METRIC_WARM_UP_DURATION = "forms.warm-up.duration";
+  protected static final String TAG_STEP = "step";
+  protected static final String TAG_OUTCOME = "outcome";
+
+  protected static final String STEP_PDF = "pdf";
+  protected static final String STEP_JSON = "json";
+
+  private static final String OUTCOME_SUCCESS = "success";
+  private static final String OUTCOME_FAILURE = "failure";
+
+  private static final String LTFT_TEMPLATE_PATTERN = "classpath:templates/ltft/*.html";
+  private static final String WARM_UP_ID = "warm-up";
+
+  private final PdfService pdfService;
+  private final EventBroadcastService eventBroadcastService;
+  private final ObjectMapper objectMapper;
+  private final ResourcePatternResolver resourceResolver;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Construct a service which warms up the PDF render path and JSON mappers.
+   *
+   * @param pdfService            The PDF service to warm up the templates of.
+   * @param eventBroadcastService The event broadcast service to warm up the mapper of.
+   * @param objectMapper          The application object mapper to warm up.
+   * @param resourceResolver      The resolver used to find the LTFT templates.
+   * @param meterRegistry         The registry for warm-up metrics.
+   */
+  public WarmUpService(PdfService pdfService, EventBroadcastService eventBroadcastService,
+      ObjectMapper objectMapper, ResourcePatternResolver resourceResolver,
+      MeterRegistry meterRegistry) {
+    this.pdfService = pdfService;
+    this.eventBroadcastService = eventBroadcastService;
+    this.objectMapper = objectMapper;
+    this.resourceResolver = resourceResolver;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    log.info("Warming up PDF templates and JSON mappers.");
+    Instant start = Instant.now();
+
+    warmUpPdfTemplates();
+    warmUpMappers();
+
+    log.info("Warm-up completed in {} ms.", Duration.between(start, Instant.now()).toMillis());
+  }
+
+  /**
+   * Render every Conditions of Joining, FormR and LTFT template with synthetic data.
+   */
+  void warmUpPdfTemplates() {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    boolean success = true;
+
+    for (GoldGuideVersion version : GoldGuideVersion.values()) {
+      ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(WARM_UP_ID,
+          UUID.randomUUID(), WARM_UP_ID, new ConditionsOfJoining(version, Instant.now()));
+      success &= warmUpTemplate(version.toString(), () -> pdfService.generatePdf(request));
+    }
+
+    for (FormRType type : FormRType.values()) {
+      success &= warmUpTemplate(type.toString(), switch (type) {
+        case PARTA -> () -> pdfService.generatePdf(buildFormRPartA());
+        case PARTB -> () -> pdfService.generatePdf(buildFormRPartB());
+      });
+    }
+
+    LtftFormDto ltft = buildLtft();
+
+    for (String templateFileName : getLtftTemplateFileNames()) {
+      success &= warmUpTemplate("ltft/" + templateFileName,
+          () -> pdfService.generatePdf(ltft, templateFileName));
+    }
+
+    recordStep(sample, STEP_PDF, success);
+  }
+
+  /**
+   * Round trip synthetic forms through the application and event object mappers, so that the
+   * serializers and deserializers for each form type are created and cached.
+   */
+  void warmUpMappers() {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    boolean success = true;
+
+    List<Object> forms = List.of(buildFormRPartA(), buildFormRPartB(), buildLtft());
+
+    for (Object form : forms) {
+      try {
+        String json = objectMapper.writeValueAsString(form);
+        objectMapper.readValue(json, form.getClass());
+      } catch (IOException | RuntimeException e) {
+        log.warn("Unable to warm up the object mapper for {}.", form.getClass().getSimpleName(),
+            e);
+        success = false;
+      }
+    }
+
+    try {
+      eventBroadcastService.warmUpMapper(forms);
+    } catch (RuntimeException e) {
+      log.warn("Unable to warm up the event object mapper.", e);
+      success = false;
+    }
+
+    recordStep(sample, STEP_JSON, success);
+  }
+
+  /**
+   * Render a single template, logging rather than propagating any failure so that startup is not
+   * blocked.
+   *
+   * @param name     The name of the template, for logging.
+   * @param renderer The renderer for the template.
+   * @return Whether the template was successfully rendered.
+   */
+  private boolean warmUpTemplate(String name, PdfRenderer renderer) {
+    try {
+      renderer.render();
+      log.debug("Warmed up template '{}'.", name);
+      return true;
+    } catch (IOException | RuntimeException e) {
+      log.warn("Unable to warm up template '{}'.", name, e);
+      return false;
+    }
+  }
+
+  /**
+   * Get the file names, without extension, of the available LTFT templates.
+   *
+   * @return The LTFT template file names.
+   */
+  private List<String> getLtftTemplateFileNames() {
+    try {
+      return Arrays.stream(resourceResolver.getResources(LTFT_TEMPLATE_PATTERN))
+          .map(Resource::getFilename)
+          .filter(Objects::nonNull)
+          .map(filename -> filename.substring(0, filename.lastIndexOf('.')))
+          .sorted()
+          .toList();
+    } catch (IOException e) {
+      log.warn("Unable to find LTFT templates to warm up.", e);
+      return List.of();
+    }
+  }
+
+  /**
+   * Record the duration and outcome of a warm-up step.
+   *
+   * @param sample  The timer sample started at the beginning of the step.
+   * @param step    The name of the step.
+   * @param success Whether the step was fully successful.
+   */
+  private void recordStep(Timer.Sample sample, String step, boolean success) {
+    long durationNanos = sample.stop(Timer.builder(METRIC_WARM_UP_DURATION)
+        .description("The time taken to warm up the application on startup.")
+        .tag(TAG_STEP, step)
+        .tag(TAG_OUTCOME, success ? OUTCOME_SUCCESS : OUTCOME_FAILURE)
+        .register(meterRegistry));
+    log.info("Warm-up step '{}' completed in {} ms.", step, durationNanos / 1_000_000);
+  }
+
+  /**
+   * Build a synthetic FormR Part A.
+   *
+   * @return The built form.
+   */
+  private static FormRPartADto buildFormRPartA() {
+    FormRPartADto dto = new FormRPartADto();
+    dto.setId(WARM_UP_ID);
+    dto.setTraineeTisId(WARM_UP_ID);
+    dto.setContent(new FormrPartaContentDto());
+    return dto;
+  }
+
+  /**
+   * Build a synthetic FormR Part B.
+   *
+   * @return The built form.
+   */
+  private static FormRPartBDto buildFormRPartB() {
+    FormRPartBDto dto = new FormRPartBDto();
+    dto.setId(WARM_UP_ID);
+    dto.setTraineeTisId(WARM_UP_ID);
+    dto.setContent(new FormrPartbContentDto());
+    return dto;
+  }
+
+  /**
+   * Build a synthetic LTFT form.
+   *
+   * @return The built form.
+   */
+  private static LtftFormDto buildLtft() {
+    return LtftFormDto.builder()
+        .traineeTisId(WARM_UP_ID)
+        .formRef(WARM_UP_ID)
+        .build();
+  }
+
+  /**
+   * A PDF render which may fail with an {@link IOException}.
+   */
+  @FunctionalInterface
+  private interface PdfRenderer {
+
+    void render() throws IOException;
+  }
+}
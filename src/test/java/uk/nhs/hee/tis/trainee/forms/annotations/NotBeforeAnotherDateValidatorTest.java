@@ -23,6 +23,7 @@ package uk.nhs.hee.tis.trainee.forms.annotations;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -61,6 +62,10 @@ class NotBeforeAnotherDateValidatorTest {
     }
   }
 
+  public record SimpleRecord(LocalDate startDate, LocalDate endDate) {
+
+  }
+
   @Mock
   ConstraintValidatorContext constraintValidatorContext;
 
@@ -121,6 +126,41 @@ class NotBeforeAnotherDateValidatorTest {
         validator.isValid(twoDates, constraintValidatorContext), is(true));
   }
 
+  @Test
+  void isValidIfDependentFieldIsSameAsFieldTest() {
+    SimpleDto twoDates = new SimpleDto();
+    twoDates.setStartDate(LocalDate.now());
+    twoDates.setEndDate(LocalDate.now());
+
+    assertThat("Unexpected invalid NotBeforeAnotherDateValidator.",
+        validator.isValid(twoDates, constraintValidatorContext), is(true));
+  }
+
+  @Test
+  void isNotValidIfRecordDependentFieldIsBeforeFieldTest() {
+    SimpleRecord twoDates = new SimpleRecord(LocalDate.now(), LocalDate.now().minusDays(1));
+
+    assertThat("Unexpected valid NotBeforeAnotherDateValidator.",
+        validator.isValid(twoDates, constraintValidatorContext), is(false));
+  }
+
+  @Test
+  void isValidIfRecordDependentFieldIsAfterFieldTest() {
+    SimpleRecord twoDates = new SimpleRecord(LocalDate.now(), LocalDate.now().plusDays(1));
+
+    assertThat("Unexpected invalid NotBeforeAnotherDateValidator.",
+        validator.isValid(twoDates, constraintValidatorContext), is(true));
+  }
+
+  @Test
+  void shouldThrowExceptionIfFieldNotReadableTest() {
+    SimpleDto twoDates = new SimpleDto();
+    validator.initWithValues("unknown", "endDate", "error");
+
+    assertThrows(IllegalArgumentException.class,
+        () -> validator.isValid(twoDates, constraintValidatorContext));
+  }
+
   /**
    * Helper function to return a dummy ConstraintViolationBuilder for the mocked
    * constraintValidatorContext.
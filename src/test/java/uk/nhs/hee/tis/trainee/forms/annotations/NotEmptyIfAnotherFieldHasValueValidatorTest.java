@@ -23,12 +23,14 @@ package uk.nhs.hee.tis.trainee.forms.annotations;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.ConstraintValidatorContext.ConstraintViolationBuilder;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -62,6 +64,14 @@ class NotEmptyIfAnotherFieldHasValueValidatorTest {
     }
   }
 
+  public record TypedDto(Boolean flag, List<String> items) {
+
+  }
+
+  public record ArrayDto(Boolean flag, String[] items) {
+
+  }
+
   @Mock
   ConstraintValidatorContext constraintValidatorContext;
 
@@ -163,6 +173,69 @@ class NotEmptyIfAnotherFieldHasValueValidatorTest {
         validator.isValid(dto, constraintValidatorContext), is(true));
   }
 
+  @Test
+  void isNotValidIfNonTextFieldHasValueAndDependentFieldIsNullTest() {
+    TypedDto dto = new TypedDto(true, null);
+    validator.initWithValues("flag", "true", false, "items", "error");
+
+    assertThat("Unexpected valid NotEmptyIfAnotherFieldHasValueValidator.",
+        validator.isValid(dto, constraintValidatorContext), is(false));
+  }
+
+  @Test
+  void isValidIfNonTextFieldDoesNotHaveValueTest() {
+    TypedDto dto = new TypedDto(false, null);
+    validator.initWithValues("flag", "true", false, "items", "error");
+
+    assertThat("Unexpected invalid NotEmptyIfAnotherFieldHasValueValidator.",
+        validator.isValid(dto, constraintValidatorContext), is(true));
+  }
+
+  @Test
+  void isValidIfNonTextDependentFieldIsNotEmptyTest() {
+    TypedDto dto = new TypedDto(true, List.of("item"));
+    validator.initWithValues("flag", "true", false, "items", "error");
+
+    assertThat("Unexpected invalid NotEmptyIfAnotherFieldHasValueValidator.",
+        validator.isValid(dto, constraintValidatorContext), is(true));
+  }
+
+  @Test
+  void isNotValidIfNonTextFieldHasValueAndDependentListIsEmptyTest() {
+    TypedDto dto = new TypedDto(true, List.of());
+    validator.initWithValues("flag", "true", false, "items", "error");
+
+    assertThat("Unexpected valid NotEmptyIfAnotherFieldHasValueValidator.",
+        validator.isValid(dto, constraintValidatorContext), is(false));
+  }
+
+  @Test
+  void isNotValidIfNonTextFieldHasValueAndDependentArrayIsEmptyTest() {
+    ArrayDto dto = new ArrayDto(true, new String[0]);
+    validator.initWithValues("flag", "true", false, "items", "error");
+
+    assertThat("Unexpected valid NotEmptyIfAnotherFieldHasValueValidator.",
+        validator.isValid(dto, constraintValidatorContext), is(false));
+  }
+
+  @Test
+  void isValidIfNonTextFieldHasValueAndDependentArrayIsNotEmptyTest() {
+    ArrayDto dto = new ArrayDto(true, new String[]{"item"});
+    validator.initWithValues("flag", "true", false, "items", "error");
+
+    assertThat("Unexpected invalid NotEmptyIfAnotherFieldHasValueValidator.",
+        validator.isValid(dto, constraintValidatorContext), is(true));
+  }
+
+  @Test
+  void shouldThrowExceptionIfFieldNotReadableTest() {
+    SimpleDto dto = new SimpleDto();
+    validator.initWithValues("unknown", "value", false, "dependentField", "error");
+
+    assertThrows(IllegalArgumentException.class,
+        () -> validator.isValid(dto, constraintValidatorContext));
+  }
+
   /**
    * Helper function to return a dummy ConstraintViolationBuilder for the mocked
    * constraintValidatorContext.
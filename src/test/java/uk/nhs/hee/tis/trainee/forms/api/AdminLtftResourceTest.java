@@ -29,10 +29,12 @@ import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 import static org.springframework.http.MediaType.TEXT_PLAIN;
@@ -60,12 +62,21 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import uk.nhs.hee.tis.trainee.forms.api.util.EtagUtil;
 import uk.nhs.hee.tis.trainee.forms.dto.FormPatchDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftAdminSummaryDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftBulkActionDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftBulkAssignDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftBulkResultDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto.StatusDto.LftfStatusInfoDetailDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto.StatusDto.StatusInfoDto;
 import uk.nhs.hee.tis.trainee.forms.dto.PersonDto;
 import uk.nhs.hee.tis.trainee.forms.dto.ReviewWorkflowDto;
 import uk.nhs.hee.tis.trainee.forms.service.LtftService;
@@ -73,17 +84,25 @@ import uk.nhs.hee.tis.trainee.forms.service.PdfService;
 
 class AdminLtftResourceTest {
 
+  private static final String ETAG = "\"etag-value\"";
+
   private AdminLtftResource controller;
   private LtftService service;
   private PdfService pdfService;
   private JsonMapper jsonMapper;
 
+  private MockHttpServletRequest servletRequest;
+  private ServletWebRequest request;
+
   @BeforeEach
   void setUp() {
     service = mock(LtftService.class);
     pdfService = mock(PdfService.class);
     jsonMapper = (JsonMapper) new JsonMapper().registerModule(new JavaTimeModule());
     controller = new AdminLtftResource(service, pdfService, jsonMapper);
+
+    servletRequest = new MockHttpServletRequest("GET", "/api/admin/ltft");
+    request = new ServletWebRequest(servletRequest, new MockHttpServletResponse());
   }
 
   @Test
@@ -169,7 +188,7 @@ class AdminLtftResourceTest {
     UUID id = UUID.randomUUID();
     when(service.getAdminLtftDetail(id)).thenReturn(Optional.empty());
 
-    ResponseEntity<LtftFormDto> response = controller.getLtftAdminDetail(id);
+    ResponseEntity<LtftFormDto> response = controller.getLtftAdminDetail(id, request);
 
     assertThat("Unexpected response code.", response.getStatusCode(), is(NOT_FOUND));
     assertThat("Unexpected response body.", response.getBody(), nullValue());
@@ -181,7 +200,7 @@ class AdminLtftResourceTest {
     LtftFormDto dto = LtftFormDto.builder().id(id).build();
     when(service.getAdminLtftDetail(id)).thenReturn(Optional.of(dto));
 
-    ResponseEntity<LtftFormDto> response = controller.getLtftAdminDetail(id);
+    ResponseEntity<LtftFormDto> response = controller.getLtftAdminDetail(id, request);
 
     assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
     assertThat("Unexpected response body.", response.getBody(), sameInstance(dto));
@@ -192,7 +211,7 @@ class AdminLtftResourceTest {
     UUID id = UUID.randomUUID();
     when(service.getAdminLtftDetail(id)).thenReturn(Optional.empty());
 
-    ResponseEntity<byte[]> response = controller.getLtftAdminDetailPdf(id);
+    ResponseEntity<byte[]> response = controller.getLtftAdminDetailPdf(id, request);
 
     assertThat("Unexpected response code.", response.getStatusCode(), is(NOT_FOUND));
     assertThat("Unexpected response body.", response.getBody(), nullValue());
@@ -208,7 +227,7 @@ class AdminLtftResourceTest {
 
     when(pdfService.generatePdf(dto, "admin")).thenThrow(IOException.class);
 
-    ResponseEntity<byte[]> response = controller.getLtftAdminDetailPdf(id);
+    ResponseEntity<byte[]> response = controller.getLtftAdminDetailPdf(id, request);
 
     assertThat("Unexpected response code.", response.getStatusCode(), is(UNPROCESSABLE_ENTITY));
     assertThat("Unexpected response body.", response.getBody(), nullValue());
@@ -223,12 +242,56 @@ class AdminLtftResourceTest {
     byte[] body = "body".getBytes();
     when(pdfService.generatePdf(dto, "admin")).thenReturn(body);
 
-    ResponseEntity<byte[]> response = controller.getLtftAdminDetailPdf(id);
+    ResponseEntity<byte[]> response = controller.getLtftAdminDetailPdf(id, request);
 
     assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
     assertThat("Unexpected response body.", response.getBody(), sameInstance(body));
   }
 
+  @Test
+  void shouldReturnNotModifiedWithoutLoadingDetailWhenEtagMatches() {
+    UUID id = UUID.randomUUID();
+    when(service.getAdminLtftDetailEtag(id)).thenReturn(Optional.of(ETAG));
+    servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+    ResponseEntity<LtftFormDto> response = controller.getLtftAdminDetail(id, request);
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(NOT_MODIFIED));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), is(ETAG));
+    assertThat("Unexpected response body.", response.getBody(), nullValue());
+    verify(service, never()).getAdminLtftDetail(any());
+  }
+
+  @Test
+  void shouldGetDetailWithEtagWhenEtagDoesNotMatch() {
+    UUID id = UUID.randomUUID();
+    LtftFormDto dto = LtftFormDto.builder().id(id).build();
+    when(service.getAdminLtftDetailEtag(id)).thenReturn(Optional.of(ETAG));
+    when(service.getAdminLtftDetail(id)).thenReturn(Optional.of(dto));
+    servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other-etag\"");
+
+    ResponseEntity<LtftFormDto> response = controller.getLtftAdminDetail(id, request);
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), is(ETAG));
+    assertThat("Unexpected response body.", response.getBody(), sameInstance(dto));
+  }
+
+  @Test
+  void shouldReturnNotModifiedWithoutGeneratingDetailPdfWhenEtagMatches() {
+    UUID id = UUID.randomUUID();
+    String pdfEtag = EtagUtil.withVariant(ETAG, "pdf");
+    when(service.getAdminLtftDetailEtag(id)).thenReturn(Optional.of(ETAG));
+    servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, pdfEtag);
+
+    ResponseEntity<byte[]> response = controller.getLtftAdminDetailPdf(id, request);
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(NOT_MODIFIED));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), is(pdfEtag));
+    verify(service, never()).getAdminLtftDetail(any());
+    verifyNoInteractions(pdfService);
+  }
+
   @Test
   void shouldThrowValidationExceptionWhenPatchIsEmpty() throws IOException {
     UUID id = UUID.randomUUID();
@@ -607,4 +670,112 @@ class AdminLtftResourceTest {
     assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
     assertThat("Unexpected response body size.", response.getBody(), hasSize(0));
   }
+
+  @Test
+  void shouldReturnNotFoundStatusHistoryWhenFormNotFound() {
+    UUID id = UUID.randomUUID();
+    when(service.getAdminLtftStatusHistory(id)).thenReturn(Optional.empty());
+
+    ResponseEntity<List<StatusInfoDto>> response = controller.getLtftAdminStatusHistory(id);
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(NOT_FOUND));
+    assertThat("Unexpected response body.", response.getBody(), nullValue());
+  }
+
+  @Test
+  void shouldReturnStatusHistoryWhenFormFound() {
+    UUID id = UUID.randomUUID();
+    List<StatusInfoDto> history = List.of(
+        StatusInfoDto.builder().state(SUBMITTED).build(),
+        StatusInfoDto.builder().state(APPROVED).build());
+    when(service.getAdminLtftStatusHistory(id)).thenReturn(Optional.of(history));
+
+    ResponseEntity<List<StatusInfoDto>> response = controller.getLtftAdminStatusHistory(id);
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected response body.", response.getBody(), sameInstance(history));
+  }
+
+  @Test
+  void shouldReturnBulkResultWhenBulkAssigningAdmin() {
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+    PersonDto admin = PersonDto.builder().email("admin@example.com").build();
+    LtftBulkResultDto result = new LtftBulkResultDto(List.of());
+    when(service.bulkAssignAdmin(ids, admin)).thenReturn(result);
+
+    ResponseEntity<LtftBulkResultDto> response = controller.bulkAssignAdmin(
+        new LtftBulkAssignDto(ids, admin));
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected response body.", response.getBody(), sameInstance(result));
+  }
+
+  @Test
+  void shouldReturnBulkResultWhenBulkAdvancingReviewStage() {
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+    LftfStatusInfoDetailDto detail = LftfStatusInfoDetailDto.builder().reason("reason").build();
+    LtftBulkResultDto result = new LtftBulkResultDto(List.of());
+    when(service.bulkAdvanceReviewStage(ids, detail)).thenReturn(result);
+
+    ResponseEntity<LtftBulkResultDto> response = controller.bulkAdvanceReviewStage(
+        new LtftBulkActionDto(ids, detail));
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected response body.", response.getBody(), sameInstance(result));
+  }
+
+  @Test
+  void shouldReturnBulkResultWhenBulkApproving() {
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+    LtftBulkResultDto result = new LtftBulkResultDto(List.of());
+    when(service.bulkUpdateStatusAsAdmin(ids, APPROVED, null)).thenReturn(result);
+
+    ResponseEntity<LtftBulkResultDto> response = controller.bulkApproveLtft(
+        new LtftBulkActionDto(ids, null));
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected response body.", response.getBody(), sameInstance(result));
+  }
+
+  @Test
+  void shouldIgnoreDetailWhenBulkApproving() {
+    List<UUID> ids = List.of(UUID.randomUUID());
+    LftfStatusInfoDetailDto detail = LftfStatusInfoDetailDto.builder().reason("reason").build();
+    LtftBulkResultDto result = new LtftBulkResultDto(List.of());
+    when(service.bulkUpdateStatusAsAdmin(ids, APPROVED, null)).thenReturn(result);
+
+    ResponseEntity<LtftBulkResultDto> response = controller.bulkApproveLtft(
+        new LtftBulkActionDto(ids, detail));
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected response body.", response.getBody(), sameInstance(result));
+  }
+
+  @Test
+  void shouldReturnBulkResultWhenBulkRejecting() {
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+    LftfStatusInfoDetailDto detail = LftfStatusInfoDetailDto.builder().reason("reason").build();
+    LtftBulkResultDto result = new LtftBulkResultDto(List.of());
+    when(service.bulkUpdateStatusAsAdmin(ids, REJECTED, detail)).thenReturn(result);
+
+    ResponseEntity<LtftBulkResultDto> response = controller.bulkRejectLtft(
+        new LtftBulkActionDto(ids, detail));
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected response body.", response.getBody(), sameInstance(result));
+  }
+
+  @Test
+  void shouldReturnBulkResultWhenBulkUnsubmitting() {
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+    LftfStatusInfoDetailDto detail = LftfStatusInfoDetailDto.builder().reason("reason").build();
+    LtftBulkResultDto result = new LtftBulkResultDto(List.of());
+    when(service.bulkUpdateStatusAsAdmin(ids, UNSUBMITTED, detail)).thenReturn(result);
+
+    ResponseEntity<LtftBulkResultDto> response = controller.bulkUnsubmitLtft(
+        new LtftBulkActionDto(ids, detail));
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected response body.", response.getBody(), sameInstance(result));
+  }
 }
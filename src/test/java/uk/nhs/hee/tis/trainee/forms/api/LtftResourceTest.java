@@ -28,10 +28,13 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
@@ -41,7 +44,12 @@ import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import uk.nhs.hee.tis.trainee.forms.api.util.EtagUtil;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftSummaryDto;
 import uk.nhs.hee.tis.trainee.forms.service.LtftService;
@@ -51,15 +59,23 @@ class LtftResourceTest {
 
   private static final UUID ID = UUID.randomUUID();
 
+  private static final String ETAG = "\"etag-value\"";
+
   private LtftResource controller;
   private LtftService service;
   private PdfService pdfService;
 
+  private MockHttpServletRequest servletRequest;
+  private ServletWebRequest request;
+
   @BeforeEach
   void setUp() {
     service = mock(LtftService.class);
     pdfService = mock(PdfService.class);
     controller = new LtftResource(service, pdfService);
+
+    servletRequest = new MockHttpServletRequest("GET", "/api/ltft");
+    request = new ServletWebRequest(servletRequest, new MockHttpServletResponse());
   }
 
   @Test
@@ -124,7 +140,7 @@ class LtftResourceTest {
   void shouldReturnNotFoundWhenServiceCantFindLtftForm() {
     when(service.getLtftForm(any())).thenReturn(Optional.empty());
 
-    ResponseEntity<LtftFormDto> response = controller.getLtft(ID);
+    ResponseEntity<LtftFormDto> response = controller.getLtft(ID, request);
 
     assertThat("Unexpected response code.", response.getStatusCode(), is(NOT_FOUND));
   }
@@ -176,7 +192,7 @@ class LtftResourceTest {
         .build();
     when(service.getLtftForm(ID)).thenReturn(Optional.of(existingForm));
 
-    ResponseEntity<LtftFormDto> response = controller.getLtft(ID);
+    ResponseEntity<LtftFormDto> response = controller.getLtft(ID, request);
 
     assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
     LtftFormDto responseDto = response.getBody();
@@ -288,7 +304,7 @@ class LtftResourceTest {
     UUID id = UUID.randomUUID();
     when(service.getLtftForm(id)).thenReturn(Optional.empty());
 
-    ResponseEntity<byte[]> response = controller.getLtftPdf(id);
+    ResponseEntity<byte[]> response = controller.getLtftPdf(id, request);
 
     assertThat("Unexpected response code.", response.getStatusCode(), is(NOT_FOUND));
     assertThat("Unexpected response body.", response.getBody(), nullValue());
@@ -304,7 +320,7 @@ class LtftResourceTest {
 
     when(pdfService.generatePdf(dto, "trainee")).thenThrow(IOException.class);
 
-    ResponseEntity<byte[]> response = controller.getLtftPdf(id);
+    ResponseEntity<byte[]> response = controller.getLtftPdf(id, request);
 
     assertThat("Unexpected response code.", response.getStatusCode(), is(UNPROCESSABLE_ENTITY));
     assertThat("Unexpected response body.", response.getBody(), nullValue());
@@ -319,9 +335,90 @@ class LtftResourceTest {
     byte[] body = "body".getBytes();
     when(pdfService.generatePdf(dto, "trainee")).thenReturn(body);
 
-    ResponseEntity<byte[]> response = controller.getLtftPdf(id);
+    ResponseEntity<byte[]> response = controller.getLtftPdf(id, request);
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected response body.", response.getBody(), sameInstance(body));
+  }
+
+  @Test
+  void shouldIncludeEtagWhenGettingLtftSummaries() {
+    LtftSummaryDto dto = LtftSummaryDto.builder().id(ID).name("Test LTFT").build();
+    when(service.getLtftSummaries()).thenReturn(List.of(dto));
+
+    ResponseEntity<List<LtftSummaryDto>> response = controller.getLtftSummaries();
+
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(),
+        is(EtagUtil.forContent(List.of(dto))));
+  }
+
+  @Test
+  void shouldChangeSummariesEtagWhenSummariesChange() {
+    LtftSummaryDto dto1 = LtftSummaryDto.builder().id(ID).name("Test LTFT").build();
+    LtftSummaryDto dto2 = LtftSummaryDto.builder().id(ID).name("Renamed LTFT").build();
+    when(service.getLtftSummaries()).thenReturn(List.of(dto1), List.of(dto2));
+
+    String etag1 = controller.getLtftSummaries().getHeaders().getETag();
+    String etag2 = controller.getLtftSummaries().getHeaders().getETag();
+
+    assertThat("Unexpected ETag equality.", etag1.equals(etag2), is(false));
+  }
+
+  @Test
+  void shouldReturnNotModifiedWithoutLoadingLtftWhenEtagMatches() {
+    when(service.getLtftFormEtag(ID)).thenReturn(Optional.of(ETAG));
+    servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+    ResponseEntity<LtftFormDto> response = controller.getLtft(ID, request);
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(NOT_MODIFIED));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), is(ETAG));
+    assertThat("Unexpected response body.", response.getBody(), nullValue());
+    verify(service, never()).getLtftForm(any());
+  }
+
+  @Test
+  void shouldReturnLtftWithEtagWhenEtagDoesNotMatch() {
+    LtftFormDto existingForm = LtftFormDto.builder().id(ID).build();
+    when(service.getLtftFormEtag(ID)).thenReturn(Optional.of(ETAG));
+    when(service.getLtftForm(ID)).thenReturn(Optional.of(existingForm));
+    servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other-etag\"");
+
+    ResponseEntity<LtftFormDto> response = controller.getLtft(ID, request);
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), is(ETAG));
+    assertThat("Unexpected response body.", response.getBody(), is(existingForm));
+  }
+
+  @Test
+  void shouldReturnNotModifiedWithoutGeneratingPdfWhenEtagMatches() {
+    String pdfEtag = EtagUtil.withVariant(ETAG, "pdf");
+    when(service.getLtftFormEtag(ID)).thenReturn(Optional.of(ETAG));
+    servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, pdfEtag);
+
+    ResponseEntity<byte[]> response = controller.getLtftPdf(ID, request);
+
+    assertThat("Unexpected response code.", response.getStatusCode(), is(NOT_MODIFIED));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(), is(pdfEtag));
+    verify(service, never()).getLtftForm(any());
+    verifyNoInteractions(pdfService);
+  }
+
+  @Test
+  void shouldNotReturnNotModifiedForPdfWhenJsonEtagMatches() throws IOException {
+    LtftFormDto dto = LtftFormDto.builder().id(ID).build();
+    when(service.getLtftFormEtag(ID)).thenReturn(Optional.of(ETAG));
+    when(service.getLtftForm(ID)).thenReturn(Optional.of(dto));
+    byte[] body = "body".getBytes();
+    when(pdfService.generatePdf(dto, "trainee")).thenReturn(body);
+    servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+    ResponseEntity<byte[]> response = controller.getLtftPdf(ID, request);
 
     assertThat("Unexpected response code.", response.getStatusCode(), is(OK));
+    assertThat("Unexpected ETag.", response.getHeaders().getETag(),
+        is(EtagUtil.withVariant(ETAG, "pdf")));
     assertThat("Unexpected response body.", response.getBody(), sameInstance(body));
   }
 }
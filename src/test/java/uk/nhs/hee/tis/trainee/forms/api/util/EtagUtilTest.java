@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.api.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
+
+class EtagUtilTest {
+
+  private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+  @Test
+  void forFormShouldBuildQuotedEtagFromIdRevisionAndLastModified() {
+    LtftForm form = new LtftForm();
+    form.setId(ID);
+    form.setRevision(3);
+    form.setLastModified(Instant.ofEpochMilli(255));
+
+    String etag = EtagUtil.forForm(form);
+
+    assertThat("Unexpected ETag.", etag, is("\"" + ID + "-3-ff\""));
+  }
+
+  @Test
+  void forFormShouldChangeWhenRevisionChanges() {
+    LtftForm form = new LtftForm();
+    form.setId(ID);
+    form.setRevision(1);
+    String before = EtagUtil.forForm(form);
+
+    form.setRevision(2);
+    String after = EtagUtil.forForm(form);
+
+    assertThat("Unexpected ETag.", after, not(before));
+  }
+
+  @Test
+  void forContentShouldBeStableForEqualContent() {
+    String first = EtagUtil.forContent(List.of("a", "b"));
+    String second = EtagUtil.forContent(List.of("a", "b"));
+
+    assertThat("Unexpected ETag.", second, is(first));
+    assertThat("Unexpected ETag quoting.", first.matches("\"[0-9a-f]{32}\""), is(true));
+  }
+
+  @Test
+  void forContentShouldChangeWhenContentChanges() {
+    String first = EtagUtil.forContent(List.of("a", "b"));
+    String second = EtagUtil.forContent(List.of("a", "c"));
+
+    assertThat("Unexpected ETag.", second, not(first));
+  }
+
+  @Test
+  void withVariantShouldAppendVariantInsideQuotes() {
+    String etag = EtagUtil.withVariant("\"abc\"", "pdf");
+
+    assertThat("Unexpected ETag.", etag, is("\"abc-pdf\""));
+  }
+}
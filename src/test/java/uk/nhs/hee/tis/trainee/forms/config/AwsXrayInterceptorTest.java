@@ -22,22 +22,27 @@
 package uk.nhs.hee.tis.trainee.forms.config;
 
 import static io.awspring.cloud.sqs.listener.SqsHeaders.MessageSystemAttributes.SQS_AWS_TRACE_HEADER;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.amazonaws.xray.AWSXRay;
 import com.amazonaws.xray.AWSXRayRecorder;
 import com.amazonaws.xray.entities.Segment;
+import com.amazonaws.xray.entities.Subsegment;
 import com.amazonaws.xray.entities.TraceHeader;
 import com.amazonaws.xray.entities.TraceHeader.SampleDecision;
 import com.amazonaws.xray.entities.TraceID;
 import com.amazonaws.xray.strategy.sampling.AllSamplingStrategy;
 import com.amazonaws.xray.strategy.sampling.NoSamplingStrategy;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
 import org.junit.jupiter.api.AfterAll;
@@ -49,6 +54,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InOrder;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.GenericMessage;
+import uk.nhs.hee.tis.trainee.forms.config.AwsXrayInterceptor.TracingMode;
 
 class AwsXrayInterceptorTest {
 
@@ -69,7 +75,7 @@ class AwsXrayInterceptorTest {
 
   @BeforeEach
   void setUp() {
-    interceptor = new AwsXrayInterceptor(TRACING_NAME);
+    interceptor = new AwsXrayInterceptor(TRACING_NAME, TracingMode.FULL, Set.of(), Set.of());
   }
 
   @AfterAll
@@ -230,6 +236,233 @@ class AwsXrayInterceptorTest {
     verify(pjp).proceed();
   }
 
+  @Test
+  void shouldTraceAroundScheduledJobWithMergedSubsegmentWhenLowOverheadAndSampled()
+      throws Throwable {
+    interceptor = new AwsXrayInterceptor(TRACING_NAME, TracingMode.LOW_OVERHEAD, Set.of(),
+        Set.of());
+    ProceedingJoinPoint pjp = mockJoinPoint();
+
+    AWSXRayRecorder recorder = mock(AWSXRayRecorder.class);
+    when(recorder.getSamplingStrategy()).thenReturn(new AllSamplingStrategy());
+    AWSXRay.setGlobalRecorder(recorder);
+
+    Segment segment = mock(Segment.class);
+    when(segment.isSampled()).thenReturn(true);
+    when(recorder.beginSegment(any())).thenReturn(segment);
+
+    interceptor.traceAroundScheduledJobs(pjp);
+
+    InOrder inOrder = inOrder(recorder);
+    inOrder.verify(recorder).beginSegment(TRACING_NAME);
+    inOrder.verify(recorder).beginSubsegment("TestTracedClass.testTracedMethod");
+    verify(recorder, never()).beginSubsegment("TestTracedClass");
+    verify(recorder, never()).beginSubsegment("testTracedMethod");
+
+    verify(segment).setSampled(true);
+    verify(pjp).proceed();
+  }
+
+  @Test
+  void shouldNotBeginSubsegmentsAroundScheduledJobWhenLowOverheadAndNotSampled()
+      throws Throwable {
+    interceptor = new AwsXrayInterceptor(TRACING_NAME, TracingMode.LOW_OVERHEAD, Set.of(),
+        Set.of());
+    ProceedingJoinPoint pjp = mockJoinPoint();
+
+    AWSXRayRecorder recorder = mock(AWSXRayRecorder.class);
+    when(recorder.getSamplingStrategy()).thenReturn(new NoSamplingStrategy());
+    AWSXRay.setGlobalRecorder(recorder);
+
+    Segment segment = mock(Segment.class);
+    when(recorder.beginSegment(any())).thenReturn(segment);
+
+    interceptor.traceAroundScheduledJobs(pjp);
+
+    verify(recorder).beginSegment(TRACING_NAME);
+    verify(recorder, never()).beginSubsegment(any());
+    verify(segment).setSampled(false);
+    verify(pjp).proceed();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"TestTracedClass", "TestTracedClass.testTracedMethod"})
+  void shouldBeginSegmentWithoutSubsegmentsAroundScheduledJobWhenExcluded(String excludedTarget)
+      throws Throwable {
+    interceptor = new AwsXrayInterceptor(TRACING_NAME, TracingMode.FULL, Set.of(),
+        Set.of(excludedTarget));
+    ProceedingJoinPoint pjp = mockJoinPoint();
+
+    AWSXRayRecorder recorder = mock(AWSXRayRecorder.class);
+    when(recorder.getSamplingStrategy()).thenReturn(new AllSamplingStrategy());
+    AWSXRay.setGlobalRecorder(recorder);
+
+    Segment segment = mock(Segment.class);
+    when(recorder.beginSegment(any())).thenReturn(segment);
+
+    interceptor.traceAroundScheduledJobs(pjp);
+
+    verify(recorder).beginSegment(TRACING_NAME);
+    verify(recorder, never()).beginSubsegment(any());
+    verify(segment).close();
+    verify(pjp).proceed();
+  }
+
+  @Test
+  void shouldBeginSegmentWithoutSubsegmentsAroundSqsListenerWhenNotIncluded() throws Throwable {
+    interceptor = new AwsXrayInterceptor(TRACING_NAME, TracingMode.FULL,
+        Set.of("OtherClass"), Set.of());
+    ProceedingJoinPoint pjp = mockJoinPoint();
+
+    AWSXRayRecorder recorder = mock(AWSXRayRecorder.class);
+    AWSXRay.setGlobalRecorder(recorder);
+
+    Segment segment = mock(Segment.class);
+    when(recorder.beginSegment(any())).thenReturn(segment);
+
+    interceptor.traceAroundSqsListeners(pjp);
+
+    verify(recorder).beginSegment(TRACING_NAME);
+    verify(recorder, never()).beginSubsegment(any());
+    verify(segment).close();
+    verify(pjp).proceed();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"TestTracedClass", "TestTracedClass.testTracedMethod"})
+  void shouldTraceMethodWhenIncluded(String includedTarget) throws Throwable {
+    interceptor = new AwsXrayInterceptor(TRACING_NAME, TracingMode.LOW_OVERHEAD,
+        Set.of(includedTarget), Set.of());
+    ProceedingJoinPoint pjp = mockJoinPoint();
+
+    AWSXRayRecorder recorder = mock(AWSXRayRecorder.class);
+    AWSXRay.setGlobalRecorder(recorder);
+
+    Segment segment = mock(Segment.class);
+    when(segment.isSampled()).thenReturn(true);
+    when(recorder.getCurrentSegmentOptional()).thenReturn(Optional.of(segment));
+
+    interceptor.processXRayTrace(pjp);
+
+    verify(recorder).beginSubsegment("TestTracedClass.testTracedMethod");
+    verify(pjp).proceed();
+  }
+
+  @Test
+  void shouldNotTraceMethodWhenExcluded() throws Throwable {
+    interceptor = new AwsXrayInterceptor(TRACING_NAME, TracingMode.FULL, Set.of(),
+        Set.of("TestTracedClass.testTracedMethod"));
+    ProceedingJoinPoint pjp = mockJoinPoint();
+
+    AWSXRayRecorder recorder = mock(AWSXRayRecorder.class);
+    AWSXRay.setGlobalRecorder(recorder);
+
+    interceptor.processXRayTrace(pjp);
+
+    verifyNoInteractions(recorder);
+    verify(pjp).proceed();
+  }
+
+  @Test
+  void shouldNotBeginSubsegmentForMethodWhenLowOverheadAndNotSampled() throws Throwable {
+    interceptor = new AwsXrayInterceptor(TRACING_NAME, TracingMode.LOW_OVERHEAD, Set.of(),
+        Set.of());
+    ProceedingJoinPoint pjp = mockJoinPoint();
+
+    AWSXRayRecorder recorder = mock(AWSXRayRecorder.class);
+    AWSXRay.setGlobalRecorder(recorder);
+
+    Segment segment = mock(Segment.class);
+    when(segment.isSampled()).thenReturn(false);
+    when(recorder.getCurrentSegmentOptional()).thenReturn(Optional.of(segment));
+
+    interceptor.processXRayTrace(pjp);
+
+    verify(recorder, never()).beginSubsegment(any());
+    verify(pjp).proceed();
+  }
+
+  @Test
+  void shouldNotBeginSubsegmentForMethodWhenLowOverheadAndNoSegment() throws Throwable {
+    interceptor = new AwsXrayInterceptor(TRACING_NAME, TracingMode.LOW_OVERHEAD, Set.of(),
+        Set.of());
+    ProceedingJoinPoint pjp = mockJoinPoint();
+
+    AWSXRayRecorder recorder = mock(AWSXRayRecorder.class);
+    AWSXRay.setGlobalRecorder(recorder);
+
+    when(recorder.getCurrentSegmentOptional()).thenReturn(Optional.empty());
+
+    interceptor.processXRayTrace(pjp);
+
+    verify(recorder, never()).beginSubsegment(any());
+    verify(pjp).proceed();
+  }
+
+  @Test
+  void shouldBeginMergedSubsegmentForMethodWhenLowOverheadAndSampled() throws Throwable {
+    interceptor = new AwsXrayInterceptor(TRACING_NAME, TracingMode.LOW_OVERHEAD, Set.of(),
+        Set.of());
+    ProceedingJoinPoint pjp = mockJoinPoint();
+
+    AWSXRayRecorder recorder = mock(AWSXRayRecorder.class);
+    AWSXRay.setGlobalRecorder(recorder);
+
+    Segment segment = mock(Segment.class);
+    when(segment.isSampled()).thenReturn(true);
+    when(recorder.getCurrentSegmentOptional()).thenReturn(Optional.of(segment));
+
+    Subsegment subsegment = mock(Subsegment.class);
+    when(recorder.beginSubsegment(any())).thenReturn(subsegment);
+
+    interceptor.processXRayTrace(pjp);
+
+    verify(recorder).beginSubsegment("TestTracedClass.testTracedMethod");
+    verify(subsegment).close();
+    verify(pjp).proceed();
+  }
+
+  @Test
+  void shouldRecordExceptionOnMergedSubsegmentWhenLowOverheadAndProceedThrows()
+      throws Throwable {
+    interceptor = new AwsXrayInterceptor(TRACING_NAME, TracingMode.LOW_OVERHEAD, Set.of(),
+        Set.of());
+    ProceedingJoinPoint pjp = mockJoinPoint();
+    IllegalStateException exception = new IllegalStateException("expected");
+    when(pjp.proceed()).thenThrow(exception);
+
+    AWSXRayRecorder recorder = mock(AWSXRayRecorder.class);
+    AWSXRay.setGlobalRecorder(recorder);
+
+    Segment segment = mock(Segment.class);
+    when(segment.isSampled()).thenReturn(true);
+    when(recorder.getCurrentSegmentOptional()).thenReturn(Optional.of(segment));
+
+    Subsegment subsegment = mock(Subsegment.class);
+    when(recorder.beginSubsegment(any())).thenReturn(subsegment);
+
+    assertThrows(IllegalStateException.class, () -> interceptor.processXRayTrace(pjp));
+
+    verify(subsegment).addException(exception);
+    verify(subsegment).close();
+  }
+
+  /**
+   * Create a join point for the dummy traced class and method.
+   *
+   * @return The mocked join point.
+   */
+  private ProceedingJoinPoint mockJoinPoint() {
+    Signature signature = mock(Signature.class);
+    when(signature.getDeclaringType()).thenReturn(TestTracedClass.class);
+    when(signature.getName()).thenReturn("testTracedMethod");
+
+    ProceedingJoinPoint pjp = mock(ProceedingJoinPoint.class);
+    when(pjp.getSignature()).thenReturn(signature);
+    when(pjp.getArgs()).thenReturn(new Object[]{});
+    return pjp;
+  }
+
   /**
    * A dummy class for trace testing.
    */
@@ -36,6 +36,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.util.unit.DataSize;
 import uk.nhs.hee.tis.trainee.forms.config.filter.SignedDataFilter;
 
 class FilterConfigurationTest {
@@ -55,7 +56,7 @@ class FilterConfigurationTest {
   void shouldNotRegisterTracingFilterWhenDaemonAddressNotSet() {
     ApplicationContextRunner runner = new ApplicationContextRunner()
         .withUserConfiguration(FilterConfiguration.class)
-        .withBean(SignedDataFilter.class, () -> new SignedDataFilter(null, null));
+        .withBean(SignedDataFilter.class, () -> new SignedDataFilter(null, null, null));
 
     runner
         .withPropertyValues(DAEMON_PROPERTY + "=")
@@ -67,7 +68,7 @@ class FilterConfigurationTest {
   void shouldRegisterTracingFilterWhenDaemonAddressSet() {
     ApplicationContextRunner runner = new ApplicationContextRunner()
         .withUserConfiguration(FilterConfiguration.class)
-        .withBean(SignedDataFilter.class, () -> new SignedDataFilter(null, null));
+        .withBean(SignedDataFilter.class, () -> new SignedDataFilter(null, null, null));
 
     runner
         .withPropertyValues(DAEMON_PROPERTY + "=https://localhost:1234")
@@ -88,7 +89,8 @@ class FilterConfigurationTest {
 
   @Test
   void shouldRegisterSignedDataFilter() {
-    SignedDataFilter filter = new SignedDataFilter(new ObjectMapper(), SIGNATURE_SECRET_KEY);
+    SignedDataFilter filter = new SignedDataFilter(new ObjectMapper(), SIGNATURE_SECRET_KEY,
+        DataSize.ofMegabytes(1));
 
     var registrationBean = configuration.registerSignedDataFilter(filter);
 
@@ -98,7 +100,8 @@ class FilterConfigurationTest {
 
   @Test
   void shouldRegisterSignedDataFilterOnCojEndpoints() {
-    SignedDataFilter filter = new SignedDataFilter(new ObjectMapper(), SIGNATURE_SECRET_KEY);
+    SignedDataFilter filter = new SignedDataFilter(new ObjectMapper(), SIGNATURE_SECRET_KEY,
+        DataSize.ofMegabytes(1));
 
     var registrationBean = configuration.registerSignedDataFilter(filter);
 
@@ -35,8 +35,10 @@ import static uk.nhs.hee.tis.trainee.forms.config.InterceptorConfiguration.TRAIN
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import uk.nhs.hee.tis.trainee.forms.config.security.JwtTokenCache;
 import uk.nhs.hee.tis.trainee.forms.interceptor.AdminIdentityInterceptor;
 import uk.nhs.hee.tis.trainee.forms.interceptor.TraineeIdentityInterceptor;
 
@@ -49,7 +51,9 @@ class InterceptorConfigurationTest {
 
   @BeforeEach
   void setUp() {
-    configuration = new InterceptorConfiguration();
+    ObjectProvider<JwtTokenCache> tokenCache = mock(ObjectProvider.class);
+    when(tokenCache.getIfAvailable()).thenReturn(mock(JwtTokenCache.class));
+    configuration = new InterceptorConfiguration(tokenCache);
   }
 
   @Test
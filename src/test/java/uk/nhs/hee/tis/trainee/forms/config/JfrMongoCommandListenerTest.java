@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+
+package uk.nhs.hee.tis.trainee.forms.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.nhs.hee.tis.trainee.forms.jfr.MongoCommandEvent;
+
+class JfrMongoCommandListenerTest {
+
+  private static final ConnectionDescription CONNECTION = new ConnectionDescription(
+      new ServerId(new ClusterId(), new ServerAddress()));
+
+  private JfrMongoCommandListener listener;
+
+  @TempDir
+  Path tempDir;
+
+  @BeforeEach
+  void setUp() {
+    listener = new JfrMongoCommandListener();
+  }
+
+  @Test
+  void shouldNotTrackCommandsWhenNotRecording() {
+    listener.commandStarted(startedEvent(1));
+
+    assertThat("Unexpected in-flight count.", listener.getInFlightCount(), is(0));
+  }
+
+  @Test
+  void shouldTrackCommandsWhenRecording() {
+    try (Recording recording = new Recording()) {
+      recording.enable(MongoCommandEvent.NAME).withThreshold(Duration.ZERO);
+      recording.start();
+
+      listener.commandStarted(startedEvent(2));
+      listener.commandStarted(startedEvent(3));
+
+      assertThat("Unexpected in-flight count.", listener.getInFlightCount(), is(2));
+    }
+  }
+
+  @Test
+  void shouldRecordSucceededCommand() throws IOException {
+    List<RecordedEvent> events = record(() -> {
+      listener.commandStarted(startedEvent(4));
+      listener.commandSucceeded(new CommandSucceededEvent(null, 1L, 4, CONNECTION, "forms",
+          "find", new BsonDocument(), TimeUnit.MILLISECONDS.toNanos(5)));
+    });
+
+    assertThat("Unexpected in-flight count.", listener.getInFlightCount(), is(0));
+    assertThat("Unexpected event count.", events.size(), is(1));
+
+    RecordedEvent event = events.get(0);
+    assertThat("Unexpected command.", event.getString("commandName"), is("find"));
+    assertThat("Unexpected database.", event.getString("databaseName"), is("forms"));
+    assertThat("Unexpected collection.", event.getString("collection"), is("LtftForm"));
+    assertThat("Unexpected outcome.", event.getString("outcome"), is("succeeded"));
+  }
+
+  @Test
+  void shouldRecordFailedCommand() throws IOException {
+    List<RecordedEvent> events = record(() -> {
+      listener.commandStarted(startedEvent(5));
+      listener.commandFailed(new CommandFailedEvent(null, 1L, 5, CONNECTION, "forms", "find",
+          TimeUnit.MILLISECONDS.toNanos(5), new RuntimeException()));
+    });
+
+    assertThat("Unexpected in-flight count.", listener.getInFlightCount(), is(0));
+    assertThat("Unexpected event count.", events.size(), is(1));
+    assertThat("Unexpected outcome.", events.get(0).getString("outcome"), is("failed"));
+  }
+
+  /**
+   * Run the given action during a recording of Mongo command events.
+   *
+   * @param action The action to run.
+   * @return The recorded Mongo command events.
+   * @throws IOException If the recording could not be dumped or read.
+   */
+  private List<RecordedEvent> record(Runnable action) throws IOException {
+    Path dump = tempDir.resolve("mongo.jfr");
+
+    try (Recording recording = new Recording()) {
+      recording.enable(MongoCommandEvent.NAME).withThreshold(Duration.ZERO);
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    return RecordingFile.readAllEvents(dump).stream()
+        .filter(event -> event.getEventType().getName().equals(MongoCommandEvent.NAME))
+        .toList();
+  }
+
+  /**
+   * Build a started event for a find command.
+   *
+   * @param requestId The request ID of the command.
+   * @return The built event.
+   */
+  private static CommandStartedEvent startedEvent(int requestId) {
+    BsonDocument command = BsonDocument.parse("""
+        { "find": "LtftForm", "filter": { "traineeTisId": "40" } }
+        """);
+    return new CommandStartedEvent(null, 1L, requestId, CONNECTION, "forms", "find", command);
+  }
+}
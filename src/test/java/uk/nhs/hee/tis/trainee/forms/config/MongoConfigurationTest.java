@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
+import com.mongodb.TaggableReadPreference;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+
+class MongoConfigurationTest {
+
+  private MongoConfiguration configuration;
+
+  @BeforeEach
+  void setUp() {
+    configuration = new MongoConfiguration();
+  }
+
+  @Test
+  void shouldUsePrimaryReportingReadsWhenSecondaryPreferredDisabled() {
+    ReadPreference readPreference = configuration.reportingReadPreference(false,
+        Duration.ofMinutes(2));
+
+    assertThat("Unexpected read preference.", readPreference, is(ReadPreference.primary()));
+  }
+
+  @Test
+  void shouldPreferSecondaryReportingReadsWhenEnabled() {
+    ReadPreference readPreference = configuration.reportingReadPreference(true,
+        Duration.ofMinutes(2));
+
+    assertThat("Unexpected read preference.", readPreference.getName(),
+        is(ReadPreference.secondaryPreferred().getName()));
+  }
+
+  @Test
+  void shouldApplyMaxStalenessToReportingReads() {
+    ReadPreference readPreference = configuration.reportingReadPreference(true,
+        Duration.ofMinutes(2));
+
+    assertThat("Unexpected read preference type.", readPreference,
+        instanceOf(TaggableReadPreference.class));
+    Long maxStaleness = ((TaggableReadPreference) readPreference).getMaxStaleness(
+        TimeUnit.SECONDS);
+    assertThat("Unexpected max staleness.", maxStaleness, is(120L));
+  }
+
+  @Test
+  void shouldAllowMinimumMaxStalenessForReportingReads() {
+    ReadPreference readPreference = configuration.reportingReadPreference(true,
+        MongoConfiguration.MIN_MAX_STALENESS);
+
+    Long maxStaleness = ((TaggableReadPreference) readPreference).getMaxStaleness(
+        TimeUnit.SECONDS);
+    assertThat("Unexpected max staleness.", maxStaleness, is(90L));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenMaxStalenessBelowMinimum() {
+    Duration maxStaleness = Duration.ofSeconds(89);
+
+    assertThrows(IllegalStateException.class,
+        () -> configuration.reportingReadPreference(true, maxStaleness));
+  }
+
+  @Test
+  void shouldRegisterSlowCommandListener() {
+    MongoClientSettingsBuilderCustomizer customizer
+        = configuration.slowCommandListenerCustomizer(Duration.ofMillis(500));
+
+    MongoClientSettings.Builder builder = MongoClientSettings.builder();
+    customizer.customize(builder);
+    MongoClientSettings settings = builder.build();
+
+    assertThat("Unexpected command listener count.", settings.getCommandListeners(), hasSize(1));
+    assertThat("Unexpected command listener type.", settings.getCommandListeners().get(0),
+        instanceOf(SlowMongoCommandListener.class));
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+
+package uk.nhs.hee.tis.trainee.forms.config;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.trainee.forms.config.PdfRenderBulkheadConfiguration.PDF_APIS;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import uk.nhs.hee.tis.trainee.forms.interceptor.PdfRenderBulkheadInterceptor;
+
+class PdfRenderBulkheadConfigurationTest {
+
+  private PdfRenderBulkheadConfiguration configuration;
+
+  @BeforeEach
+  void setUp() {
+    ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+    when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+    configuration = new PdfRenderBulkheadConfiguration(4, Duration.ofSeconds(2),
+        Duration.ofSeconds(5), meterRegistry);
+  }
+
+  @Test
+  void shouldAddPdfRenderBulkheadInterceptorToRegistry() {
+    InterceptorRegistry registry = mock(InterceptorRegistry.class);
+    InterceptorRegistration registration = mock(InterceptorRegistration.class);
+    when(registry.addInterceptor(any(PdfRenderBulkheadInterceptor.class)))
+        .thenReturn(registration);
+
+    configuration.addInterceptors(registry);
+
+    ArgumentCaptor<PdfRenderBulkheadInterceptor> interceptorCaptor = ArgumentCaptor.captor();
+    verify(registry).addInterceptor(interceptorCaptor.capture());
+    assertThat("Unexpected interceptor.", interceptorCaptor.getValue(), notNullValue());
+
+    ArgumentCaptor<String[]> pathPatternsCaptor = ArgumentCaptor.captor();
+    verify(registration).addPathPatterns(pathPatternsCaptor.capture());
+    assertThat("Unexpected path patterns.", pathPatternsCaptor.getValue(), is(PDF_APIS));
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SlowMongoCommandListenerTest {
+
+  private static final ConnectionDescription CONNECTION = new ConnectionDescription(
+      new ServerId(new ClusterId(), new ServerAddress()));
+
+  private SlowMongoCommandListener listener;
+
+  @BeforeEach
+  void setUp() {
+    listener = new SlowMongoCommandListener(Duration.ofMillis(100));
+  }
+
+  @Test
+  void shouldRedactFilterValues() {
+    BsonDocument command = BsonDocument.parse("""
+        {
+          "find": "LtftForm",
+          "filter": {
+            "traineeTisId": "40",
+            "status.current.state": { "$in": ["SUBMITTED", "APPROVED"] },
+            "revision": 3
+          }
+        }
+        """);
+
+    String shape = SlowMongoCommandListener.redactShape(command);
+
+    assertThat("Unexpected shape.", shape, is(BsonDocument.parse("""
+        {
+          "filter": {
+            "traineeTisId": "?",
+            "status.current.state": { "$in": ["?"] },
+            "revision": "?"
+          }
+        }
+        """).toJson()));
+  }
+
+  @Test
+  void shouldRedactNestedArraysOfDocuments() {
+    BsonDocument command = BsonDocument.parse("""
+        {
+          "aggregate": "LtftForm",
+          "pipeline": [
+            { "$match": { "$or": [{ "formRef": "ltft_40_001" }, { "traineeTisId": "40" }] } },
+            { "$limit": 10 }
+          ]
+        }
+        """);
+
+    String shape = SlowMongoCommandListener.redactShape(command);
+
+    assertThat("Unexpected shape.", shape, is(BsonDocument.parse("""
+        {
+          "pipeline": [
+            { "$match": { "$or": [{ "formRef": "?" }, { "traineeTisId": "?" }] } },
+            { "$limit": "?" }
+          ]
+        }
+        """).toJson()));
+  }
+
+  @Test
+  void shouldExcludeDocumentPayloadsFromShape() {
+    BsonDocument command = BsonDocument.parse("""
+        {
+          "insert": "LtftForm",
+          "documents": [{ "traineeTisId": "40" }]
+        }
+        """);
+
+    String shape = SlowMongoCommandListener.redactShape(command);
+
+    assertThat("Unexpected shape.", shape, is("{}"));
+  }
+
+  @Test
+  void shouldForgetCommandWhenSucceeded() {
+    listener.commandStarted(startedEvent(1));
+    listener.commandSucceeded(new CommandSucceededEvent(null, 1L, 1, CONNECTION, "forms", "find",
+        new BsonDocument(), TimeUnit.MILLISECONDS.toNanos(500)));
+
+    assertThat("Unexpected in-flight count.", listener.getInFlightCount(), is(0));
+  }
+
+  @Test
+  void shouldForgetCommandWhenFailed() {
+    listener.commandStarted(startedEvent(2));
+    listener.commandFailed(new CommandFailedEvent(null, 1L, 2, CONNECTION, "forms", "find",
+        TimeUnit.MILLISECONDS.toNanos(5), new RuntimeException()));
+
+    assertThat("Unexpected in-flight count.", listener.getInFlightCount(), is(0));
+  }
+
+  @Test
+  void shouldTrackInFlightCommands() {
+    listener.commandStarted(startedEvent(3));
+    listener.commandStarted(startedEvent(4));
+
+    assertThat("Unexpected in-flight count.", listener.getInFlightCount(), is(2));
+  }
+
+  @Test
+  void shouldNotTrackCommandsBeyondInFlightLimit() {
+    for (int i = 0; i <= SlowMongoCommandListener.MAX_IN_FLIGHT_COMMANDS; i++) {
+      listener.commandStarted(startedEvent(i));
+    }
+
+    assertThat("Unexpected in-flight count.", listener.getInFlightCount(),
+        is(SlowMongoCommandListener.MAX_IN_FLIGHT_COMMANDS));
+  }
+
+  /**
+   * Build a started event for a find command.
+   *
+   * @param requestId The request ID of the command.
+   * @return The built event.
+   */
+  private static CommandStartedEvent startedEvent(int requestId) {
+    BsonDocument command = BsonDocument.parse("""
+        { "find": "LtftForm", "filter": { "traineeTisId": "40" } }
+        """);
+    return new CommandStartedEvent(null, 1L, requestId, CONNECTION, "forms", "find", command);
+  }
+}
@@ -25,13 +25,20 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
 import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.DelegatingServletInputStream;
 import org.springframework.mock.web.MockHttpServletRequest;
+import uk.nhs.hee.tis.trainee.forms.config.filter.CachedBodyRequestWrapper.BodyTooLargeException;
 
 class CachedBodyRequestWrapperTest {
 
@@ -80,4 +87,110 @@ class CachedBodyRequestWrapperTest {
 
     assertThrows(UnsupportedOperationException.class, () -> inputStream.setReadListener(null));
   }
+
+  @Test
+  void shouldGetContentLengthOfCachedBody() {
+    assertThat("Unexpected content length.", requestWrapper.getContentLength(),
+        is(REQUEST_BYTES.length));
+    assertThat("Unexpected content length.", requestWrapper.getContentLengthLong(),
+        is((long) REQUEST_BYTES.length));
+  }
+
+  @Test
+  void shouldReadCachedBodyInBulk() throws IOException {
+    ServletInputStream inputStream = requestWrapper.getInputStream();
+    byte[] buffer = new byte[REQUEST_BYTES.length + 10];
+
+    int read = inputStream.read(buffer, 0, buffer.length);
+
+    assertThat("Unexpected read count.", read, is(REQUEST_BYTES.length));
+    assertThat("Unexpected stream finished status.", inputStream.isFinished(), is(true));
+    assertThat("Unexpected read count.", inputStream.read(buffer, 0, buffer.length), is(-1));
+  }
+
+  @Test
+  void shouldSkipAndReportAvailableBytes() throws IOException {
+    ServletInputStream inputStream = requestWrapper.getInputStream();
+    assertThat("Unexpected available count.", inputStream.available(),
+        is(REQUEST_BYTES.length));
+
+    long skipped = inputStream.skip(8);
+
+    assertThat("Unexpected skipped count.", skipped, is(8L));
+    assertThat("Unexpected available count.", inputStream.available(),
+        is(REQUEST_BYTES.length - 8));
+    assertThat("Unexpected stream contents.", new String(inputStream.readAllBytes(),
+        StandardCharsets.UTF_8), is("content"));
+  }
+
+  @Test
+  void shouldGetReaderUsingRequestCharacterEncoding() throws IOException {
+    String content = "caf\u00e9";
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setContent(content.getBytes(StandardCharsets.ISO_8859_1));
+    request.setCharacterEncoding(StandardCharsets.ISO_8859_1.name());
+
+    CachedBodyRequestWrapper wrapper = new CachedBodyRequestWrapper(request);
+
+    assertThat("Unexpected request body.", wrapper.getReader().readLine(), is(content));
+  }
+
+  @Test
+  void shouldGetReaderUsingUtf8WhenNoRequestCharacterEncoding() throws IOException {
+    String content = "caf\u00e9";
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setContent(content.getBytes(StandardCharsets.UTF_8));
+
+    CachedBodyRequestWrapper wrapper = new CachedBodyRequestWrapper(request);
+
+    assertThat("Unexpected request body.", wrapper.getReader().readLine(), is(content));
+  }
+
+  @Test
+  void shouldCacheBodyWhenWithinMaximumSize() throws IOException {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setContent(REQUEST_BYTES);
+
+    CachedBodyRequestWrapper wrapper = new CachedBodyRequestWrapper(request,
+        REQUEST_BYTES.length);
+
+    assertThat("Unexpected stream contents.", wrapper.getInputStream().readAllBytes(),
+        is(REQUEST_BYTES));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenDeclaredLengthExceedsMaximumSize() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setContent(REQUEST_BYTES);
+
+    assertThrows(BodyTooLargeException.class,
+        () -> new CachedBodyRequestWrapper(request, REQUEST_BYTES.length - 1));
+  }
+
+  @Test
+  void shouldCacheUndeclaredLengthBodyWhenWithinMaximumSize() throws IOException {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    when(request.getContentLengthLong()).thenReturn(-1L);
+    when(request.getInputStream()).thenReturn(
+        new DelegatingServletInputStream(new ByteArrayInputStream(REQUEST_BYTES)));
+
+    CachedBodyRequestWrapper wrapper = new CachedBodyRequestWrapper(request,
+        REQUEST_BYTES.length);
+
+    assertThat("Unexpected stream contents.", wrapper.getInputStream().readAllBytes(),
+        is(REQUEST_BYTES));
+    assertThat("Unexpected content length.", wrapper.getContentLength(),
+        is(REQUEST_BYTES.length));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenUndeclaredLengthBodyExceedsMaximumSize() throws IOException {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    when(request.getContentLengthLong()).thenReturn(-1L);
+    when(request.getInputStream()).thenReturn(
+        new DelegatingServletInputStream(new ByteArrayInputStream(REQUEST_BYTES)));
+
+    assertThrows(BodyTooLargeException.class,
+        () -> new CachedBodyRequestWrapper(request, REQUEST_BYTES.length - 1));
+  }
 }
@@ -22,6 +22,7 @@
 package uk.nhs.hee.tis.trainee.forms.config.filter;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,6 +31,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.servlet.FilterChain;
@@ -45,6 +47,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
 import uk.nhs.hee.tis.trainee.forms.SignatureTestUtil;
 
 class SignedDataFilterTest {
@@ -53,6 +56,7 @@ class SignedDataFilterTest {
   private static final Instant VALID_UNTIL = Instant.now().plus(Duration.ofDays(1));
 
   private static final String SIGNATURE_SECRET_KEY = "do-not-actually-use-this";
+  private static final DataSize MAX_BODY_SIZE = DataSize.ofKilobytes(1);
 
   private static final String SIGNED_DATA_TEMPLATE = """
       {
@@ -71,7 +75,7 @@ class SignedDataFilterTest {
     ObjectMapper mapper = new ObjectMapper();
     mapper.registerModule(new JavaTimeModule());
 
-    filter = new SignedDataFilter(mapper, SIGNATURE_SECRET_KEY);
+    filter = new SignedDataFilter(mapper, SIGNATURE_SECRET_KEY, MAX_BODY_SIZE);
   }
 
   @Test
@@ -321,4 +325,44 @@ class SignedDataFilterTest {
     assertThat("Unexpected stream contents.", inputStream.readAllBytes(),
         is(signedData.getBytes(UTF_8)));
   }
+
+  @Test
+  void shouldBePayloadTooLargeWhenContentLengthExceedsMaximum() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setContent(new byte[(int) MAX_BODY_SIZE.toBytes() + 1]);
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FilterChain filterChain = mock(FilterChain.class);
+
+    filter.doFilterInternal(request, response, filterChain);
+
+    assertThat("Unexpected response status.", response.getStatus(), is(413));
+    verifyNoInteractions(filterChain);
+  }
+
+  @Test
+  void shouldProvideVerifiedPayloadAsRequestAttribute() throws Exception {
+    String signedData = SignatureTestUtil.signData(
+        SIGNED_DATA_TEMPLATE.formatted(SIGNED_AT, VALID_UNTIL), SIGNATURE_SECRET_KEY);
+
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setServletPath("api/coj");
+    request.setContent(signedData.getBytes(UTF_8));
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FilterChain filterChain = mock(FilterChain.class);
+
+    filter.doFilterInternal(request, response, filterChain);
+
+    ArgumentCaptor<HttpServletRequest> requestCaptor = ArgumentCaptor.captor();
+    verify(filterChain).doFilter(requestCaptor.capture(), any());
+
+    Object attribute = requestCaptor.getValue()
+        .getAttribute(SignedDataFilter.SIGNED_BODY_ATTRIBUTE);
+    assertThat("Unexpected attribute type.", attribute, instanceOf(JsonNode.class));
+
+    JsonNode payload = (JsonNode) attribute;
+    JsonNode expectedPayload = new ObjectMapper().readTree(signedData);
+    assertThat("Unexpected payload.", payload, is(expectedPayload));
+  }
 }
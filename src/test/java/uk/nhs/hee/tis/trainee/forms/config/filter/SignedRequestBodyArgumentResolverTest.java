@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.config.filter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.constraints.NotNull;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.bind.support.DefaultDataBinderFactory;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class SignedRequestBodyArgumentResolverTest {
+
+  private SignedRequestBodyArgumentResolver resolver;
+  private ObjectMapper mapper;
+  private WebDataBinderFactory binderFactory;
+
+  private MethodParameter signedParameter;
+  private MethodParameter unsignedParameter;
+
+  @BeforeEach
+  void setUp() throws NoSuchMethodException {
+    mapper = new ObjectMapper();
+    resolver = new SignedRequestBodyArgumentResolver(mapper);
+
+    ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+    initializer.setValidator(new SpringValidatorAdapter(
+        Validation.buildDefaultValidatorFactory().getValidator()));
+    binderFactory = new DefaultDataBinderFactory(initializer);
+
+    Method method = SignedRequestBodyArgumentResolverTest.class.getDeclaredMethod("handle",
+        TestDto.class, String.class);
+    signedParameter = new MethodParameter(method, 0);
+    unsignedParameter = new MethodParameter(method, 1);
+  }
+
+  @Test
+  void shouldSupportSignedRequestBodyParameters() {
+    assertThat("Unexpected support.", resolver.supportsParameter(signedParameter), is(true));
+  }
+
+  @Test
+  void shouldNotSupportOtherParameters() {
+    assertThat("Unexpected support.", resolver.supportsParameter(unsignedParameter), is(false));
+  }
+
+  @Test
+  void shouldResolveFromVerifiedPayloadWhenAvailable() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setContent("""
+        {"name": "from body"}
+        """.getBytes(UTF_8));
+    request.setAttribute(SignedDataFilter.SIGNED_BODY_ATTRIBUTE, mapper.readTree("""
+        {"name": "from attribute"}
+        """));
+
+    Object argument = resolver.resolveArgument(signedParameter, null,
+        new ServletWebRequest(request), binderFactory);
+
+    assertThat("Unexpected argument.", argument, is(new TestDto("from attribute")));
+  }
+
+  @Test
+  void shouldResolveFromRequestBodyWhenNoVerifiedPayload() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setContent("""
+        {"name": "from body"}
+        """.getBytes(UTF_8));
+
+    Object argument = resolver.resolveArgument(signedParameter, null,
+        new ServletWebRequest(request), binderFactory);
+
+    assertThat("Unexpected argument.", argument, is(new TestDto("from body")));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenPayloadNotReadable() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setContent("not JSON".getBytes(UTF_8));
+    ServletWebRequest webRequest = new ServletWebRequest(request);
+
+    assertThrows(HttpMessageNotReadableException.class,
+        () -> resolver.resolveArgument(signedParameter, null, webRequest, binderFactory));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenPayloadNotValid() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAttribute(SignedDataFilter.SIGNED_BODY_ATTRIBUTE, mapper.readTree("{}"));
+    ServletWebRequest webRequest = new ServletWebRequest(request);
+
+    assertThrows(MethodArgumentNotValidException.class,
+        () -> resolver.resolveArgument(signedParameter, null, webRequest, binderFactory));
+  }
+
+  /**
+   * A handler method used to provide method parameters.
+   */
+  @SuppressWarnings("unused")
+  private void handle(@Valid @SignedRequestBody TestDto signed, @RequestBody String unsigned) {
+
+  }
+
+  /**
+   * A DTO to bind signed payloads to.
+   *
+   * @param name The name, must not be null.
+   */
+  record TestDto(@NotNull String name) {
+
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.config.security;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import uk.nhs.hee.tis.trainee.forms.dto.FeaturesDto;
+
+class JwtTokenCacheTest {
+
+  private static final String TOKEN_1 = "token1";
+  private static final String TOKEN_2 = "token2";
+  private static final Duration MAX_TTL = Duration.ofHours(1);
+
+  private JwtTokenCache cache;
+  private JwtDecoder decoder;
+  private Converter<Jwt, Collection<GrantedAuthority>> authoritiesConverter;
+
+  @BeforeEach
+  void setUp() {
+    decoder = mock(JwtDecoder.class);
+    authoritiesConverter = mock(Converter.class);
+    cache = new JwtTokenCache(decoder, authoritiesConverter, 100, MAX_TTL);
+  }
+
+  @Test
+  void shouldDecodeTokenOnceWhenPresentedRepeatedly() {
+    Jwt jwt = createJwt(TOKEN_1, Instant.now().plusSeconds(300));
+    when(decoder.decode(TOKEN_1)).thenReturn(jwt);
+
+    Jwt decoded1 = cache.decode(TOKEN_1);
+    Jwt decoded2 = cache.decode(TOKEN_1);
+
+    assertThat("Unexpected decoded token.", decoded1, sameInstance(jwt));
+    assertThat("Unexpected decoded token.", decoded2, sameInstance(jwt));
+    verify(decoder, times(1)).decode(TOKEN_1);
+  }
+
+  @Test
+  void shouldDecodeEachTokenSeparately() {
+    Jwt jwt1 = createJwt(TOKEN_1, Instant.now().plusSeconds(300));
+    when(decoder.decode(TOKEN_1)).thenReturn(jwt1);
+    Jwt jwt2 = createJwt(TOKEN_2, Instant.now().plusSeconds(300));
+    when(decoder.decode(TOKEN_2)).thenReturn(jwt2);
+
+    assertThat("Unexpected decoded token.", cache.decode(TOKEN_1), sameInstance(jwt1));
+    assertThat("Unexpected decoded token.", cache.decode(TOKEN_2), sameInstance(jwt2));
+    assertThat("Unexpected cache size.", cache.estimatedSize(), is(2L));
+  }
+
+  @Test
+  void shouldNotCacheTokenWhenDecodingFails() {
+    when(decoder.decode(TOKEN_1)).thenThrow(new JwtException("Invalid token."));
+
+    assertThrows(JwtException.class, () -> cache.decode(TOKEN_1));
+    assertThrows(JwtException.class, () -> cache.decode(TOKEN_1));
+
+    verify(decoder, times(2)).decode(TOKEN_1);
+    assertThat("Unexpected cache size.", cache.estimatedSize(), is(0L));
+  }
+
+  @Test
+  void shouldGetAuthoritiesDerivedWhenDecoded() {
+    Jwt jwt = createJwt(TOKEN_1, Instant.now().plusSeconds(300));
+    when(decoder.decode(TOKEN_1)).thenReturn(jwt);
+    when(authoritiesConverter.convert(jwt)).thenReturn(
+        List.of(new SimpleGrantedAuthority("ROLE_admin")));
+
+    Jwt decoded = cache.decode(TOKEN_1);
+    Collection<GrantedAuthority> authorities1 = cache.getAuthorities(decoded);
+    Collection<GrantedAuthority> authorities2 = cache.getAuthorities(decoded);
+
+    assertThat("Unexpected authorities.", authorities1,
+        contains(new SimpleGrantedAuthority("ROLE_admin")));
+    assertThat("Unexpected authorities.", authorities2, sameInstance(authorities1));
+    verify(authoritiesConverter, times(1)).convert(any());
+  }
+
+  @Test
+  void shouldDeriveAuthoritiesWhenTokenNotDecodedByCache() {
+    Jwt jwt = createJwt(TOKEN_1, Instant.now().plusSeconds(300));
+    when(authoritiesConverter.convert(jwt)).thenReturn(
+        List.of(new SimpleGrantedAuthority("ROLE_admin")));
+
+    Collection<GrantedAuthority> authorities = cache.getAuthorities(jwt);
+
+    assertThat("Unexpected authorities.", authorities,
+        contains(new SimpleGrantedAuthority("ROLE_admin")));
+    assertThat("Unexpected cache size.", cache.estimatedSize(), is(1L));
+  }
+
+  @Test
+  void shouldGetFeaturesDerivedFromToken() {
+    Jwt jwt = Jwt.withTokenValue(TOKEN_1)
+        .header("alg", "none")
+        .claim("features", Map.of("forms", Map.of("ltft", Map.of("enabled", true))))
+        .expiresAt(Instant.now().plusSeconds(300))
+        .build();
+
+    FeaturesDto features1 = cache.getFeatures(jwt);
+    FeaturesDto features2 = cache.getFeatures(jwt);
+
+    assertThat("Unexpected LTFT enabled.", features1.forms().ltft().enabled(), is(true));
+    assertThat("Unexpected features.", features2, sameInstance(features1));
+  }
+
+  @Test
+  void shouldUseMaxTimeToLiveWhenTokenHasNoExpiry() {
+    Jwt jwt = createJwt(TOKEN_1, null);
+
+    Duration timeToLive = cache.getTimeToLive(jwt);
+
+    assertThat("Unexpected time to live.", timeToLive, is(MAX_TTL));
+  }
+
+  @Test
+  void shouldUseMaxTimeToLiveWhenTokenExpiresAfterMax() {
+    Jwt jwt = createJwt(TOKEN_1, Instant.now().plus(MAX_TTL.multipliedBy(2)));
+
+    Duration timeToLive = cache.getTimeToLive(jwt);
+
+    assertThat("Unexpected time to live.", timeToLive, is(MAX_TTL));
+  }
+
+  @Test
+  void shouldExpireAtTokenExpiryWhenBeforeMax() {
+    Jwt jwt = createJwt(TOKEN_1, Instant.now().plusSeconds(300));
+
+    Duration timeToLive = cache.getTimeToLive(jwt);
+
+    assertThat("Unexpected time to live.", timeToLive,
+        allOf(greaterThan(Duration.ofSeconds(290)), lessThanOrEqualTo(Duration.ofSeconds(300))));
+  }
+
+  @Test
+  void shouldExpireImmediatelyWhenTokenAlreadyExpired() {
+    Jwt jwt = createJwt(TOKEN_1, Instant.now().minusSeconds(300));
+
+    Duration timeToLive = cache.getTimeToLive(jwt);
+
+    assertThat("Unexpected time to live.", timeToLive, is(Duration.ZERO));
+  }
+
+  /**
+   * Create a JWT with the given token value and expiry.
+   *
+   * @param tokenValue The token value.
+   * @param expiresAt  The expiry, or null for no expiry.
+   * @return The created JWT.
+   */
+  private static Jwt createJwt(String tokenValue, Instant expiresAt) {
+    Jwt.Builder builder = Jwt.withTokenValue(tokenValue)
+        .header("alg", "none")
+        .claim("sub", "user");
+
+    if (expiresAt != null) {
+      builder.expiresAt(expiresAt);
+    }
+    return builder.build();
+  }
+}
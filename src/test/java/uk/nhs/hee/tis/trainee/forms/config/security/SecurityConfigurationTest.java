@@ -33,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,7 +63,7 @@ class SecurityConfigurationTest {
 
   @BeforeEach
   void setUp() {
-    configuration = new SecurityConfiguration();
+    configuration = new SecurityConfiguration(100, Duration.ofMinutes(5));
     decoder = configuration.unsafeJwtDecoder();
   }
 
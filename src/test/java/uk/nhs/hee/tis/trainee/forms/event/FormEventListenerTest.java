@@ -22,6 +22,7 @@
 package uk.nhs.hee.tis.trainee.forms.event;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,7 +31,11 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.GoldGuideVersion.GG9;
+import static uk.nhs.hee.tis.trainee.forms.event.ListenerMetrics.METRIC_PROCESSING_DURATION;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.UUID;
@@ -45,11 +50,13 @@ class FormEventListenerTest {
 
   private FormEventListener listener;
   private PdfService pdfService;
+  private MeterRegistry meterRegistry;
 
   @BeforeEach
   void setUp() {
     pdfService = mock(PdfService.class);
-    listener = new FormEventListener(pdfService);
+    meterRegistry = new SimpleMeterRegistry();
+    listener = new FormEventListener(pdfService, meterRegistry);
   }
 
   @Test
@@ -83,4 +90,36 @@ class FormEventListenerTest {
 
     assertThrows(IOException.class, () -> listener.handleCojReceivedEvent(event));
   }
+
+  @Test
+  void shouldRecordSuccessfulProcessingTime() throws IOException {
+    ConditionsOfJoining conditionsOfJoining = new ConditionsOfJoining(GG9, Instant.now());
+    ConditionsOfJoiningSignedEvent event = new ConditionsOfJoiningSignedEvent("40",
+        UUID.randomUUID(), "progName", conditionsOfJoining);
+
+    listener.handleCojReceivedEvent(event);
+
+    Timer timer = meterRegistry.find(METRIC_PROCESSING_DURATION)
+        .tags("listener", "coj-received", "outcome", "success")
+        .timer();
+    assertThat("Unexpected processing timer presence.", timer, notNullValue());
+    assertThat("Unexpected processing timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordFailedProcessingTime() throws IOException {
+    ConditionsOfJoining conditionsOfJoining = new ConditionsOfJoining(GG9, Instant.now());
+    ConditionsOfJoiningSignedEvent event = new ConditionsOfJoiningSignedEvent("40",
+        UUID.randomUUID(), "progName", conditionsOfJoining);
+
+    doThrow(IOException.class).when(pdfService).generateConditionsOfJoining(any(), eq(true));
+
+    assertThrows(IOException.class, () -> listener.handleCojReceivedEvent(event));
+
+    Timer timer = meterRegistry.find(METRIC_PROCESSING_DURATION)
+        .tags("listener", "coj-received", "outcome", "failure")
+        .timer();
+    assertThat("Unexpected processing timer presence.", timer, notNullValue());
+    assertThat("Unexpected processing timer count.", timer.count(), is(1L));
+  }
 }
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,7 +44,7 @@ class NotificationEventListenerTest {
   @BeforeEach
   void setUp() {
     ltftService = mock(LtftService.class);
-    listener = new NotificationEventListener(ltftService);
+    listener = new NotificationEventListener(ltftService, new SimpleMeterRegistry());
   }
 
   @Test
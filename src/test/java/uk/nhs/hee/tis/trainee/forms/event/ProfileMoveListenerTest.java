@@ -27,6 +27,7 @@ import static org.mockito.Mockito.verify;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,7 +49,7 @@ class ProfileMoveListenerTest {
   @BeforeEach
   void setUp() {
     service = mock(FormRelocateService.class);
-    listener = new ProfileMoveListener(service);
+    listener = new ProfileMoveListener(service, new SimpleMeterRegistry());
     mapper = JsonMapper.builder()
         .findAndAddModules()
         .build();
@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+
+package uk.nhs.hee.tis.trainee.forms.interceptor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.nhs.hee.tis.trainee.forms.interceptor.PdfRenderBulkheadInterceptor.METRIC_BULKHEAD_ACTIVE;
+import static uk.nhs.hee.tis.trainee.forms.interceptor.PdfRenderBulkheadInterceptor.METRIC_BULKHEAD_WAIT;
+import static uk.nhs.hee.tis.trainee.forms.interceptor.PdfRenderBulkheadInterceptor.OUTCOME_ACQUIRED;
+import static uk.nhs.hee.tis.trainee.forms.interceptor.PdfRenderBulkheadInterceptor.OUTCOME_REJECTED;
+import static uk.nhs.hee.tis.trainee.forms.interceptor.PdfRenderBulkheadInterceptor.TAG_OUTCOME;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class PdfRenderBulkheadInterceptorTest {
+
+  private static final int MAX_CONCURRENT = 2;
+
+  private PdfRenderBulkheadInterceptor interceptor;
+  private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    interceptor = new PdfRenderBulkheadInterceptor(MAX_CONCURRENT, Duration.ZERO,
+        Duration.ofSeconds(5), meterRegistry);
+  }
+
+  @Test
+  void shouldNotLimitNonPdfRequests() {
+    for (int i = 0; i <= MAX_CONCURRENT; i++) {
+      MockHttpServletRequest request = new MockHttpServletRequest();
+      request.setAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE,
+          Set.of(MediaType.APPLICATION_JSON));
+
+      boolean result = interceptor.preHandle(request, new MockHttpServletResponse(),
+          new Object());
+
+      assertThat("Unexpected result.", result, is(true));
+    }
+
+    assertThat("Unexpected active count.", interceptor.getActiveCount(), is(0));
+  }
+
+  @Test
+  void shouldNotLimitRequestsWithoutProducibleMediaTypes() {
+    boolean result = interceptor.preHandle(new MockHttpServletRequest(),
+        new MockHttpServletResponse(), new Object());
+
+    assertThat("Unexpected result.", result, is(true));
+    assertThat("Unexpected active count.", interceptor.getActiveCount(), is(0));
+  }
+
+  @Test
+  void shouldAllowPdfRequestsWhenPermitsAvailable() {
+    for (int i = 0; i < MAX_CONCURRENT; i++) {
+      MockHttpServletResponse response = new MockHttpServletResponse();
+
+      boolean result = interceptor.preHandle(pdfRequest(), response, new Object());
+
+      assertThat("Unexpected result.", result, is(true));
+      assertThat("Unexpected status.", response.getStatus(), is(HttpStatus.OK.value()));
+    }
+
+    assertThat("Unexpected active count.", interceptor.getActiveCount(), is(MAX_CONCURRENT));
+    assertThat("Unexpected acquired count.", meterRegistry.get(METRIC_BULKHEAD_WAIT)
+        .tag(TAG_OUTCOME, OUTCOME_ACQUIRED).timer().count(), is((long) MAX_CONCURRENT));
+  }
+
+  @Test
+  void shouldRejectPdfRequestsWhenPermitsExhausted() {
+    for (int i = 0; i < MAX_CONCURRENT; i++) {
+      interceptor.preHandle(pdfRequest(), new MockHttpServletResponse(), new Object());
+    }
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    boolean result = interceptor.preHandle(pdfRequest(), response, new Object());
+
+    assertThat("Unexpected result.", result, is(false));
+    assertThat("Unexpected status.", response.getStatus(),
+        is(HttpStatus.SERVICE_UNAVAILABLE.value()));
+    assertThat("Unexpected retry after.", response.getHeader(HttpHeaders.RETRY_AFTER), is("5"));
+    assertThat("Unexpected rejected count.", meterRegistry.get(METRIC_BULKHEAD_WAIT)
+        .tag(TAG_OUTCOME, OUTCOME_REJECTED).timer().count(), is(1L));
+  }
+
+  @Test
+  void shouldReleasePermitWhenPdfRequestCompleted() {
+    MockHttpServletRequest request = pdfRequest();
+    interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+    interceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+    assertThat("Unexpected active count.", interceptor.getActiveCount(), is(0));
+    assertThat("Unexpected active gauge.", meterRegistry.get(METRIC_BULKHEAD_ACTIVE).gauge()
+        .value(), is(0.0));
+  }
+
+  @Test
+  void shouldReleasePermitWhenPdfRequestFailed() {
+    MockHttpServletRequest request = pdfRequest();
+    interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+    interceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(),
+        new IllegalStateException("error"));
+
+    assertThat("Unexpected active count.", interceptor.getActiveCount(), is(0));
+  }
+
+  @Test
+  void shouldNotReleasePermitWhenRequestRejected() {
+    for (int i = 0; i < MAX_CONCURRENT; i++) {
+      interceptor.preHandle(pdfRequest(), new MockHttpServletResponse(), new Object());
+    }
+
+    MockHttpServletRequest rejected = pdfRequest();
+    interceptor.preHandle(rejected, new MockHttpServletResponse(), new Object());
+    interceptor.afterCompletion(rejected, new MockHttpServletResponse(), new Object(), null);
+
+    assertThat("Unexpected active count.", interceptor.getActiveCount(), is(MAX_CONCURRENT));
+  }
+
+  @Test
+  void shouldNotReleasePermitTwice() {
+    MockHttpServletRequest request = pdfRequest();
+    interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+    interceptor.preHandle(pdfRequest(), new MockHttpServletResponse(), new Object());
+
+    interceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+    interceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+
+    assertThat("Unexpected active count.", interceptor.getActiveCount(), is(1));
+    assertThat("Unexpected permit attribute.",
+        request.getAttribute(PdfRenderBulkheadInterceptor.class.getName() + ".PERMIT"),
+        nullValue());
+  }
+
+  /**
+   * Create a request which has been mapped to a handler producing PDF content.
+   *
+   * @return The created request.
+   */
+  private static MockHttpServletRequest pdfRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE,
+        Set.of(MediaType.APPLICATION_PDF));
+    return request;
+  }
+}
@@ -23,8 +23,12 @@ package uk.nhs.hee.tis.trainee.forms.interceptor;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.UUID;
@@ -40,6 +44,8 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import uk.nhs.hee.tis.trainee.forms.TestJwtUtil;
+import uk.nhs.hee.tis.trainee.forms.config.security.JwtTokenCache;
+import uk.nhs.hee.tis.trainee.forms.dto.FeaturesDto;
 import uk.nhs.hee.tis.trainee.forms.dto.identity.TraineeIdentity;
 
 class TraineeIdentityInterceptorTest {
@@ -52,6 +58,7 @@ class TraineeIdentityInterceptorTest {
 
   private TraineeIdentityInterceptor interceptor;
   private TraineeIdentity traineeIdentity;
+  private JwtTokenCache tokenCache;
 
   private SecurityContext securityContext;
   private Authentication auth;
@@ -59,7 +66,8 @@ class TraineeIdentityInterceptorTest {
   @BeforeEach
   void setUp() {
     traineeIdentity = new TraineeIdentity();
-    interceptor = new TraineeIdentityInterceptor(traineeIdentity);
+    tokenCache = mock(JwtTokenCache.class);
+    interceptor = new TraineeIdentityInterceptor(traineeIdentity, tokenCache);
 
     auth = mock(Authentication.class);
     securityContext = mock(SecurityContext.class);
@@ -155,4 +163,70 @@ class TraineeIdentityInterceptorTest {
 
     assertThat("Unexpected name.", traineeIdentity.getName(), is(nullValue()));
   }
+
+  @Test
+  void shouldSetFeaturesFromTokenCacheWhenFeaturesInAuthToken() {
+    Jwt token = TestJwtUtil.createToken("""
+        {
+          "custom:tisId": "%s",
+          "features": {
+            "forms": {
+              "ltft": {
+                "enabled": true
+              }
+            }
+          }
+        }
+        """.formatted(TRAINEE_ID));
+    when(auth.getPrincipal()).thenReturn(token);
+
+    FeaturesDto features = FeaturesDto.builder().build();
+    when(tokenCache.getFeatures(token)).thenReturn(features);
+
+    interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(),
+        new Object());
+
+    assertThat("Unexpected features.", traineeIdentity.getFeatures(), sameInstance(features));
+  }
+
+  @Test
+  void shouldNotSetFeaturesWhenNoFeaturesInAuthToken() {
+    Jwt token = TestJwtUtil.createToken("""
+        {
+          "custom:tisId": "%s"
+        }
+        """.formatted(TRAINEE_ID));
+    when(auth.getPrincipal()).thenReturn(token);
+
+    interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(),
+        new Object());
+
+    assertThat("Unexpected features.", traineeIdentity.getFeatures(), nullValue());
+    verify(tokenCache, never()).getFeatures(any());
+  }
+
+  @Test
+  void shouldSetFeaturesFromAuthTokenWhenNoTokenCache() {
+    interceptor = new TraineeIdentityInterceptor(traineeIdentity, null);
+
+    Jwt token = TestJwtUtil.createToken("""
+        {
+          "custom:tisId": "%s",
+          "features": {
+            "forms": {
+              "ltft": {
+                "enabled": true
+              }
+            }
+          }
+        }
+        """.formatted(TRAINEE_ID));
+    when(auth.getPrincipal()).thenReturn(token);
+
+    interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(),
+        new Object());
+
+    FeaturesDto features = traineeIdentity.getFeatures();
+    assertThat("Unexpected LTFT enabled.", features.forms().ltft().enabled(), is(true));
+  }
 }
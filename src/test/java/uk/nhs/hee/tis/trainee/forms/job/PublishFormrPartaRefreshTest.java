@@ -37,14 +37,17 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.base.Objects;
+import com.mongodb.ReadPreference;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -52,35 +55,37 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import uk.nhs.hee.tis.trainee.forms.dto.FormRPartADto;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
 import uk.nhs.hee.tis.trainee.forms.mapper.FormRPartAMapperImpl;
 import uk.nhs.hee.tis.trainee.forms.mapper.TemporalMapper;
 import uk.nhs.hee.tis.trainee.forms.model.FormRPartA;
-import uk.nhs.hee.tis.trainee.forms.repository.FormRPartARepository;
 import uk.nhs.hee.tis.trainee.forms.service.FormRPartAService;
 
 class PublishFormrPartaRefreshTest {
 
+  private static final ReadPreference READ_PREFERENCE = ReadPreference.secondaryPreferred();
   private static final String PUBLISH_TOPIC = "refresh.all.formrs";
 
   private PublishFormrPartaRefresh job;
 
-  private FormRPartARepository repository;
+  private MongoTemplate mongoTemplate;
   private FormRPartAService service;
 
   @BeforeEach
   void setUp() {
-    repository = mock(FormRPartARepository.class);
+    mongoTemplate = mock(MongoTemplate.class);
     service = mock(FormRPartAService.class);
-    job = new PublishFormrPartaRefresh(repository, service,
+    job = new PublishFormrPartaRefresh(mongoTemplate, READ_PREFERENCE, service,
         new FormRPartAMapperImpl(new TemporalMapper(ZoneId.of("Etc/UTC"))),
-        PUBLISH_TOPIC);
+        new SimpleMeterRegistry(), PUBLISH_TOPIC);
   }
 
   @Test
   void shouldNotPublishWhenNoFormrPartasFound() {
-    when(repository.streamByLifecycleStateIn(any())).thenReturn(Stream.of());
+    when(mongoTemplate.stream(any(Query.class), eq(FormRPartA.class))).thenReturn(Stream.of());
 
     job.execute(Optional.empty());
 
@@ -89,8 +94,7 @@ class PublishFormrPartaRefreshTest {
 
   @Test
   void shouldNotPublishWhenNoFormrPartasFoundWithCutoffDate() {
-    when(repository.streamByLifecycleStateInAndLastModifiedDateGreaterThanEqual(any(),
-        any())).thenReturn(Stream.of());
+    when(mongoTemplate.stream(any(Query.class), eq(FormRPartA.class))).thenReturn(Stream.of());
 
     job.execute(Optional.of(LocalDate.of(2025, Month.JANUARY, 1)));
 
@@ -101,12 +105,12 @@ class PublishFormrPartaRefreshTest {
   @EnumSource(value = LifecycleState.class, mode = Mode.EXCLUDE, names = {"APPROVED", "DRAFT",
       "REJECTED", "WITHDRAWN"})
   void shouldNotPublishDraftFormrPartas(LifecycleState state) {
-    ArgumentCaptor<Set<LifecycleState>> statesCaptor = ArgumentCaptor.captor();
-    when(repository.streamByLifecycleStateIn(statesCaptor.capture())).thenReturn(Stream.of());
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(FormRPartA.class))).thenReturn(Stream.of());
 
     job.execute(Optional.empty());
 
-    Set<LifecycleState> states = statesCaptor.getValue();
+    Collection<Object> states = getQueriedStates(queryCaptor.getValue());
     assertThat("Unexpected state query count.", states, hasSize(3));
     assertThat("Unexpected state in query.", states, hasItem(state));
   }
@@ -116,13 +120,12 @@ class PublishFormrPartaRefreshTest {
       "REJECTED", "WITHDRAWN"})
   void shouldNotPublishDraftFormrPartasWithCutoffDate(LifecycleState state) {
     LocalDate since = LocalDate.of(2025, Month.JANUARY, 1);
-    ArgumentCaptor<Set<LifecycleState>> statesCaptor = ArgumentCaptor.captor();
-    when(repository.streamByLifecycleStateInAndLastModifiedDateGreaterThanEqual(
-        statesCaptor.capture(), any())).thenReturn(Stream.of());
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(FormRPartA.class))).thenReturn(Stream.of());
 
     job.execute(Optional.of(since));
 
-    Set<LifecycleState> states = statesCaptor.getValue();
+    Collection<Object> states = getQueriedStates(queryCaptor.getValue());
     assertThat("Unexpected state query count.", states, hasSize(3));
     assertThat("Unexpected state in query.", states, hasItem(state));
   }
@@ -130,16 +133,40 @@ class PublishFormrPartaRefreshTest {
   @Test
   void shouldUseCutoffDateWhenProvided() {
     LocalDate since = LocalDate.of(2025, Month.JUNE, 15);
-    ArgumentCaptor<Instant> cutoffCaptor = ArgumentCaptor.captor();
-    when(repository.streamByLifecycleStateInAndLastModifiedDateGreaterThanEqual(any(),
-        cutoffCaptor.capture())).thenReturn(Stream.of());
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(FormRPartA.class))).thenReturn(Stream.of());
 
     job.execute(Optional.of(since));
 
-    assertThat("Unexpected cutoff date.", cutoffCaptor.getValue(),
+    Document cutoffFilter = queryCaptor.getValue().getQueryObject()
+        .get("lastModified", Document.class);
+    assertThat("Unexpected cutoff date.", cutoffFilter.get("$gte", Instant.class),
         is(since.atStartOfDay().toInstant(UTC)));
   }
 
+  @Test
+  void shouldNotFilterByCutoffDateWhenNotProvided() {
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(FormRPartA.class))).thenReturn(Stream.of());
+
+    job.execute(Optional.empty());
+
+    Document queryObject = queryCaptor.getValue().getQueryObject();
+    assertThat("Unexpected filter count.", queryObject.keySet(), hasSize(1));
+    assertThat("Unexpected filter key.", queryObject.keySet(), hasItem("status.current.state"));
+  }
+
+  @Test
+  void shouldUseReadPreferenceWhenStreamingFormrPartas() {
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(FormRPartA.class))).thenReturn(Stream.of());
+
+    job.execute(Optional.empty());
+
+    assertThat("Unexpected read preference.", queryCaptor.getValue().getReadPreference(),
+        is(READ_PREFERENCE));
+  }
+
   @Test
   void shouldPublishAllFoundFormrPartas() {
     UUID id1 = UUID.randomUUID();
@@ -150,7 +177,8 @@ class PublishFormrPartaRefreshTest {
     FormRPartA form2 = new FormRPartA();
     form2.setId(id2);
 
-    when(repository.streamByLifecycleStateIn(any())).thenReturn(Stream.of(form1, form2));
+    when(mongoTemplate.stream(any(Query.class), eq(FormRPartA.class)))
+        .thenReturn(Stream.of(form1, form2));
 
     int publishCount = job.execute(Optional.empty());
 
@@ -166,8 +194,7 @@ class PublishFormrPartaRefreshTest {
     FormRPartA form1 = new FormRPartA();
     form1.setId(id1);
 
-    when(repository.streamByLifecycleStateInAndLastModifiedDateGreaterThanEqual(any(),
-        any())).thenReturn(Stream.of(form1));
+    when(mongoTemplate.stream(any(Query.class), eq(FormRPartA.class))).thenReturn(Stream.of(form1));
 
     int publishCount = job.execute(Optional.of(LocalDate.of(2025, Month.JANUARY, 1)));
 
@@ -185,7 +212,8 @@ class PublishFormrPartaRefreshTest {
     FormRPartA form2 = new FormRPartA();
     form2.setId(id2);
 
-    when(repository.streamByLifecycleStateIn(any())).thenReturn(Stream.of(form1, form2));
+    when(mongoTemplate.stream(any(Query.class), eq(FormRPartA.class)))
+        .thenReturn(Stream.of(form1, form2));
     doThrow(RuntimeException.class).when(service)
         .publishUpdateNotification(argThat(hasId(id1)), eq(PUBLISH_TOPIC));
 
@@ -207,4 +235,16 @@ class PublishFormrPartaRefreshTest {
   private static ArgumentMatcher<FormRPartADto> hasId(UUID id) {
     return dto -> Objects.equal(dto.getId(), id.toString());
   }
+
+  /**
+   * Get the lifecycle states filtered on by the given refresh query.
+   *
+   * @param query The refresh query.
+   * @return The filtered states.
+   */
+  @SuppressWarnings("unchecked")
+  private static Collection<Object> getQueriedStates(Query query) {
+    Document stateFilter = query.getQueryObject().get("status.current.state", Document.class);
+    return (Collection<Object>) stateFilter.get("$in");
+  }
 }
@@ -37,14 +37,17 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.base.Objects;
+import com.mongodb.ReadPreference;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -52,37 +55,40 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import uk.nhs.hee.tis.trainee.forms.dto.FormRPartBDto;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
 import uk.nhs.hee.tis.trainee.forms.mapper.FormRPartBMapper;
 import uk.nhs.hee.tis.trainee.forms.mapper.FormRPartBMapperImpl;
 import uk.nhs.hee.tis.trainee.forms.mapper.TemporalMapper;
 import uk.nhs.hee.tis.trainee.forms.model.FormRPartB;
-import uk.nhs.hee.tis.trainee.forms.repository.FormRPartBRepository;
 import uk.nhs.hee.tis.trainee.forms.service.FormRPartBService;
 
 class PublishFormrPartbRefreshTest {
 
+  private static final ReadPreference READ_PREFERENCE = ReadPreference.secondaryPreferred();
   private static final String PUBLISH_TOPIC = "refresh.all.formrs";
 
   private PublishFormrPartbRefresh job;
 
-  private FormRPartBRepository repository;
+  private MongoTemplate mongoTemplate;
   private FormRPartBService service;
 
   @BeforeEach
   void setUp() {
-    repository = mock(FormRPartBRepository.class);
+    mongoTemplate = mock(MongoTemplate.class);
     service = mock(FormRPartBService.class);
 
     FormRPartBMapper mapper = new FormRPartBMapperImpl(new TemporalMapper(ZoneId.of("Etc/UTC")));
 
-    job = new PublishFormrPartbRefresh(repository, service, mapper, PUBLISH_TOPIC);
+    job = new PublishFormrPartbRefresh(mongoTemplate, READ_PREFERENCE, service, mapper,
+        new SimpleMeterRegistry(), PUBLISH_TOPIC);
   }
 
   @Test
   void shouldNotPublishWhenNoFormrPartbsFound() {
-    when(repository.streamByLifecycleStateIn(any())).thenReturn(Stream.of());
+    when(mongoTemplate.stream(any(Query.class), eq(FormRPartB.class))).thenReturn(Stream.of());
 
     job.execute(Optional.empty());
 
@@ -91,8 +97,7 @@ class PublishFormrPartbRefreshTest {
 
   @Test
   void shouldNotPublishWhenNoFormrPartbsFoundWithCutoffDate() {
-    when(repository.streamByLifecycleStateInAndLastModifiedDateGreaterThanEqual(any(),
-        any())).thenReturn(Stream.of());
+    when(mongoTemplate.stream(any(Query.class), eq(FormRPartB.class))).thenReturn(Stream.of());
 
     job.execute(Optional.of(LocalDate.of(2025, Month.JANUARY, 1)));
 
@@ -103,12 +108,12 @@ class PublishFormrPartbRefreshTest {
   @EnumSource(value = LifecycleState.class, mode = Mode.EXCLUDE, names = {"APPROVED", "DRAFT",
       "REJECTED", "WITHDRAWN"})
   void shouldNotPublishDraftFormrPartbs(LifecycleState state) {
-    ArgumentCaptor<Set<LifecycleState>> statesCaptor = ArgumentCaptor.captor();
-    when(repository.streamByLifecycleStateIn(statesCaptor.capture())).thenReturn(Stream.of());
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(FormRPartB.class))).thenReturn(Stream.of());
 
     job.execute(Optional.empty());
 
-    Set<LifecycleState> states = statesCaptor.getValue();
+    Collection<Object> states = getQueriedStates(queryCaptor.getValue());
     assertThat("Unexpected state query count.", states, hasSize(3));
     assertThat("Unexpected state in query.", states, hasItem(state));
   }
@@ -118,13 +123,12 @@ class PublishFormrPartbRefreshTest {
       "REJECTED", "WITHDRAWN"})
   void shouldNotPublishDraftFormrPartbsWithCutoffDate(LifecycleState state) {
     LocalDate since = LocalDate.of(2025, Month.JANUARY, 1);
-    ArgumentCaptor<Set<LifecycleState>> statesCaptor = ArgumentCaptor.captor();
-    when(repository.streamByLifecycleStateInAndLastModifiedDateGreaterThanEqual(
-        statesCaptor.capture(), any())).thenReturn(Stream.of());
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(FormRPartB.class))).thenReturn(Stream.of());
 
     job.execute(Optional.of(since));
 
-    Set<LifecycleState> states = statesCaptor.getValue();
+    Collection<Object> states = getQueriedStates(queryCaptor.getValue());
     assertThat("Unexpected state query count.", states, hasSize(3));
     assertThat("Unexpected state in query.", states, hasItem(state));
   }
@@ -132,16 +136,40 @@ class PublishFormrPartbRefreshTest {
   @Test
   void shouldUseCutoffDateWhenProvided() {
     LocalDate since = LocalDate.of(2025, Month.JUNE, 15);
-    ArgumentCaptor<Instant> cutoffCaptor = ArgumentCaptor.captor();
-    when(repository.streamByLifecycleStateInAndLastModifiedDateGreaterThanEqual(any(),
-        cutoffCaptor.capture())).thenReturn(Stream.of());
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(FormRPartB.class))).thenReturn(Stream.of());
 
     job.execute(Optional.of(since));
 
-    assertThat("Unexpected cutoff date.", cutoffCaptor.getValue(),
+    Document cutoffFilter = queryCaptor.getValue().getQueryObject()
+        .get("lastModified", Document.class);
+    assertThat("Unexpected cutoff date.", cutoffFilter.get("$gte", Instant.class),
         is(since.atStartOfDay().toInstant(UTC)));
   }
 
+  @Test
+  void shouldNotFilterByCutoffDateWhenNotProvided() {
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(FormRPartB.class))).thenReturn(Stream.of());
+
+    job.execute(Optional.empty());
+
+    Document queryObject = queryCaptor.getValue().getQueryObject();
+    assertThat("Unexpected filter count.", queryObject.keySet(), hasSize(1));
+    assertThat("Unexpected filter key.", queryObject.keySet(), hasItem("status.current.state"));
+  }
+
+  @Test
+  void shouldUseReadPreferenceWhenStreamingFormrPartbs() {
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(FormRPartB.class))).thenReturn(Stream.of());
+
+    job.execute(Optional.empty());
+
+    assertThat("Unexpected read preference.", queryCaptor.getValue().getReadPreference(),
+        is(READ_PREFERENCE));
+  }
+
   @Test
   void shouldPublishAllFoundFormrPartbs() {
     UUID id1 = UUID.randomUUID();
@@ -152,7 +180,8 @@ class PublishFormrPartbRefreshTest {
     FormRPartB form2 = new FormRPartB();
     form2.setId(id2);
 
-    when(repository.streamByLifecycleStateIn(any())).thenReturn(Stream.of(form1, form2));
+    when(mongoTemplate.stream(any(Query.class), eq(FormRPartB.class)))
+        .thenReturn(Stream.of(form1, form2));
 
     int publishCount = job.execute(Optional.empty());
 
@@ -168,8 +197,7 @@ class PublishFormrPartbRefreshTest {
     FormRPartB form1 = new FormRPartB();
     form1.setId(id1);
 
-    when(repository.streamByLifecycleStateInAndLastModifiedDateGreaterThanEqual(any(),
-        any())).thenReturn(Stream.of(form1));
+    when(mongoTemplate.stream(any(Query.class), eq(FormRPartB.class))).thenReturn(Stream.of(form1));
 
     int publishCount = job.execute(Optional.of(LocalDate.of(2025, Month.JANUARY, 1)));
 
@@ -187,7 +215,8 @@ class PublishFormrPartbRefreshTest {
     FormRPartB form2 = new FormRPartB();
     form2.setId(id2);
 
-    when(repository.streamByLifecycleStateIn(any())).thenReturn(Stream.of(form1, form2));
+    when(mongoTemplate.stream(any(Query.class), eq(FormRPartB.class)))
+        .thenReturn(Stream.of(form1, form2));
     doThrow(RuntimeException.class).when(service)
         .publishUpdateNotification(argThat(hasId(id1)), eq(PUBLISH_TOPIC));
 
@@ -209,4 +238,16 @@ class PublishFormrPartbRefreshTest {
   private static ArgumentMatcher<FormRPartBDto> hasId(UUID id) {
     return dto -> Objects.equal(dto.getId(), id.toString());
   }
+
+  /**
+   * Get the lifecycle states filtered on by the given refresh query.
+   *
+   * @param query The refresh query.
+   * @return The filtered states.
+   */
+  @SuppressWarnings("unchecked")
+  private static Collection<Object> getQueriedStates(Query query) {
+    Document stateFilter = query.getQueryObject().get("status.current.state", Document.class);
+    return (Collection<Object>) stateFilter.get("$in");
+  }
 }
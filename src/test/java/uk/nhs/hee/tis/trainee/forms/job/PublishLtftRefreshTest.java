@@ -25,50 +25,65 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
-
+import static uk.nhs.hee.tis.trainee.forms.job.AbstractPublishRefresh.METRIC_REFRESH_DURATION;
+import static uk.nhs.hee.tis.trainee.forms.job.AbstractPublishRefresh.METRIC_REFRESH_PUBLISHED;
+
+import com.mongodb.ReadPreference;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
 import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
-import uk.nhs.hee.tis.trainee.forms.repository.LtftFormRepository;
 import uk.nhs.hee.tis.trainee.forms.service.LtftService;
 
 class PublishLtftRefreshTest {
 
+  private static final ReadPreference READ_PREFERENCE = ReadPreference.secondaryPreferred();
   private static final String PUBLISH_TOPIC = "refresh.all.ltfts";
 
   private PublishLtftRefresh job;
 
-  private LtftFormRepository repository;
+  private MongoTemplate mongoTemplate;
   private LtftService service;
+  private MeterRegistry meterRegistry;
 
   @BeforeEach
   void setUp() {
-    repository = mock(LtftFormRepository.class);
+    mongoTemplate = mock(MongoTemplate.class);
     service = mock(LtftService.class);
-    job = new PublishLtftRefresh(repository, service, PUBLISH_TOPIC);
+    meterRegistry = new SimpleMeterRegistry();
+    job = new PublishLtftRefresh(mongoTemplate, READ_PREFERENCE, service, meterRegistry,
+        PUBLISH_TOPIC);
   }
 
   @Test
   void shouldNotPublishWhenNoLtftsFound() {
-    when(repository.streamByStatus_Current_StateIn(any())).thenReturn(Stream.of());
+    when(mongoTemplate.stream(any(Query.class), eq(LtftForm.class))).thenReturn(Stream.of());
 
     job.execute(Optional.empty());
 
@@ -77,8 +92,7 @@ class PublishLtftRefreshTest {
 
   @Test
   void shouldNotPublishWhenNoLtftsFoundWithCutoffDate() {
-    when(repository.streamByStatus_Current_StateInAndLastModifiedGreaterThanEqual(any(),
-        any())).thenReturn(Stream.of());
+    when(mongoTemplate.stream(any(Query.class), eq(LtftForm.class))).thenReturn(Stream.of());
 
     job.execute(Optional.of(LocalDate.of(2025, 1, 1)));
 
@@ -88,12 +102,12 @@ class PublishLtftRefreshTest {
   @ParameterizedTest
   @EnumSource(value = LifecycleState.class, mode = Mode.EXCLUDE, names = "DRAFT")
   void shouldNotPublishDraftLtfts(LifecycleState state) {
-    ArgumentCaptor<Set<LifecycleState>> statesCaptor = ArgumentCaptor.captor();
-    when(repository.streamByStatus_Current_StateIn(statesCaptor.capture())).thenReturn(Stream.of());
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(LtftForm.class))).thenReturn(Stream.of());
 
     job.execute(Optional.empty());
 
-    Set<LifecycleState> states = statesCaptor.getValue();
+    Collection<Object> states = getQueriedStates(queryCaptor.getValue());
     assertThat("Unexpected state query count.", states, hasSize(6));
     assertThat("Unexpected state in query.", states, hasItem(state));
   }
@@ -102,13 +116,12 @@ class PublishLtftRefreshTest {
   @EnumSource(value = LifecycleState.class, mode = Mode.EXCLUDE, names = "DRAFT")
   void shouldNotPublishDraftLtftsWithCutoffDate(LifecycleState state) {
     LocalDate since = LocalDate.of(2025, 1, 1);
-    ArgumentCaptor<Set<LifecycleState>> statesCaptor = ArgumentCaptor.captor();
-    when(repository.streamByStatus_Current_StateInAndLastModifiedGreaterThanEqual(
-        statesCaptor.capture(), any())).thenReturn(Stream.of());
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(LtftForm.class))).thenReturn(Stream.of());
 
     job.execute(Optional.of(since));
 
-    Set<LifecycleState> states = statesCaptor.getValue();
+    Collection<Object> states = getQueriedStates(queryCaptor.getValue());
     assertThat("Unexpected state query count.", states, hasSize(6));
     assertThat("Unexpected state in query.", states, hasItem(state));
   }
@@ -117,13 +130,38 @@ class PublishLtftRefreshTest {
   void shouldUseCutoffDateWhenProvided() {
     LocalDate since = LocalDate.of(2025, 6, 15);
     Instant expectedCutoff = since.atStartOfDay(ZoneOffset.UTC).toInstant();
-    ArgumentCaptor<Instant> cutoffCaptor = ArgumentCaptor.captor();
-    when(repository.streamByStatus_Current_StateInAndLastModifiedGreaterThanEqual(any(),
-        cutoffCaptor.capture())).thenReturn(Stream.of());
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(LtftForm.class))).thenReturn(Stream.of());
 
     job.execute(Optional.of(since));
 
-    assertThat("Unexpected cutoff instant.", cutoffCaptor.getValue(), is(expectedCutoff));
+    Document cutoffFilter = queryCaptor.getValue().getQueryObject()
+        .get("lastModified", Document.class);
+    assertThat("Unexpected cutoff instant.", cutoffFilter.get("$gte", Instant.class),
+        is(expectedCutoff));
+  }
+
+  @Test
+  void shouldNotFilterByCutoffDateWhenNotProvided() {
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(LtftForm.class))).thenReturn(Stream.of());
+
+    job.execute(Optional.empty());
+
+    Document queryObject = queryCaptor.getValue().getQueryObject();
+    assertThat("Unexpected filter count.", queryObject.keySet(), hasSize(1));
+    assertThat("Unexpected filter key.", queryObject.keySet(), hasItem("status.current.state"));
+  }
+
+  @Test
+  void shouldUseReadPreferenceWhenStreamingLtfts() {
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    when(mongoTemplate.stream(queryCaptor.capture(), eq(LtftForm.class))).thenReturn(Stream.of());
+
+    job.execute(Optional.empty());
+
+    assertThat("Unexpected read preference.", queryCaptor.getValue().getReadPreference(),
+        is(READ_PREFERENCE));
   }
 
   @Test
@@ -136,7 +174,8 @@ class PublishLtftRefreshTest {
     LtftForm form2 = new LtftForm();
     form2.setId(id2);
 
-    when(repository.streamByStatus_Current_StateIn(any())).thenReturn(Stream.of(form1, form2));
+    when(mongoTemplate.stream(any(Query.class), eq(LtftForm.class)))
+        .thenReturn(Stream.of(form1, form2));
 
     int publishCount = job.execute(Optional.empty());
 
@@ -152,8 +191,7 @@ class PublishLtftRefreshTest {
     LtftForm form1 = new LtftForm();
     form1.setId(id1);
 
-    when(repository.streamByStatus_Current_StateInAndLastModifiedGreaterThanEqual(any(),
-        any())).thenReturn(Stream.of(form1));
+    when(mongoTemplate.stream(any(Query.class), eq(LtftForm.class))).thenReturn(Stream.of(form1));
 
     int publishCount = job.execute(Optional.of(LocalDate.of(2025, 1, 1)));
 
@@ -171,7 +209,8 @@ class PublishLtftRefreshTest {
     LtftForm form2 = new LtftForm();
     form2.setId(id2);
 
-    when(repository.streamByStatus_Current_StateIn(any())).thenReturn(Stream.of(form1, form2));
+    when(mongoTemplate.stream(any(Query.class), eq(LtftForm.class)))
+        .thenReturn(Stream.of(form1, form2));
     doThrow(RuntimeException.class).when(service)
         .publishUpdateNotification(form1, null, PUBLISH_TOPIC);
 
@@ -182,4 +221,48 @@ class PublishLtftRefreshTest {
     verify(service).publishUpdateNotification(form1, null, PUBLISH_TOPIC);
     verify(service).publishUpdateNotification(form2, null, PUBLISH_TOPIC);
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldRecordRefreshMetricsWhenFailures() {
+    LtftForm form1 = new LtftForm();
+    form1.setId(UUID.randomUUID());
+
+    LtftForm form2 = new LtftForm();
+    form2.setId(UUID.randomUUID());
+
+    when(mongoTemplate.stream(any(Query.class), eq(LtftForm.class)))
+        .thenReturn(Stream.of(form1, form2));
+    doThrow(RuntimeException.class).when(service)
+        .publishUpdateNotification(form1, null, PUBLISH_TOPIC);
+
+    job.execute(Optional.empty());
+
+    Counter published = meterRegistry.find(METRIC_REFRESH_PUBLISHED)
+        .tags("form.type", "LTFT", "outcome", "success")
+        .counter();
+    assertThat("Unexpected published counter presence.", published, notNullValue());
+    assertThat("Unexpected published count.", published.count(), is(1.0));
+
+    Counter failed = meterRegistry.find(METRIC_REFRESH_PUBLISHED)
+        .tags("form.type", "LTFT", "outcome", "failure")
+        .counter();
+    assertThat("Unexpected failed counter presence.", failed, notNullValue());
+    assertThat("Unexpected failed count.", failed.count(), is(1.0));
+
+    Timer timer = meterRegistry.find(METRIC_REFRESH_DURATION).tag("form.type", "LTFT").timer();
+    assertThat("Unexpected refresh timer presence.", timer, notNullValue());
+    assertThat("Unexpected refresh timer count.", timer.count(), is(1L));
+  }
+
+  /**
+   * Get the lifecycle states filtered on by the given refresh query.
+   *
+   * @param query The refresh query.
+   * @return The filtered states.
+   */
+  @SuppressWarnings("unchecked")
+  private static Collection<Object> getQueriedStates(Query query) {
+    Document stateFilter = query.getQueryObject().get("status.current.state", Document.class);
+    return (Collection<Object>) stateFilter.get("$in");
+  }
+}
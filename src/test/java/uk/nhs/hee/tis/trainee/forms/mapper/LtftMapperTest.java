@@ -161,6 +161,34 @@ class LtftMapperTest {
     assertThat("Unexpected short notice value.", isShortNotice, nullValue());
   }
 
+  @ParameterizedTest
+  @EnumSource(value = LifecycleState.class, names = {"DRAFT", "UNSUBMITTED"})
+  void shouldReturnCurrentShortNoticeReferenceDateWhenNotSubmitted(LifecycleState state) {
+    LtftForm entity = new LtftForm();
+    entity.setStatus(Status.builder()
+        .current(StatusInfo.builder().state(state).build())
+        .submitted(Instant.now().minus(Duration.ofDays(7)))
+        .build());
+
+    LocalDate referenceDate = mapper.getCurrentShortNoticeReferenceDate(entity);
+
+    assertThat("Unexpected reference date.", referenceDate,
+        is(LocalDate.now(ZoneId.of("Etc/UTC"))));
+  }
+
+  @Test
+  void shouldReturnNullShortNoticeReferenceDateWhenSubmitted() {
+    LtftForm entity = new LtftForm();
+    entity.setStatus(Status.builder()
+        .current(StatusInfo.builder().state(LifecycleState.SUBMITTED).build())
+        .submitted(Instant.now().minus(Duration.ofDays(7)))
+        .build());
+
+    LocalDate referenceDate = mapper.getCurrentShortNoticeReferenceDate(entity);
+
+    assertThat("Unexpected reference date.", referenceDate, nullValue());
+  }
+
   @ParameterizedTest
   @ValueSource(ints = {0, 111})
   void shouldReturnTrueShortNoticeWhenSubmissionWithinNoticePeriod(int days) {
@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.migration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.client.result.UpdateResult;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.nhs.hee.tis.trainee.forms.model.FormRPartA;
+import uk.nhs.hee.tis.trainee.forms.model.FormRPartB;
+import uk.nhs.hee.tis.trainee.forms.model.FormStatusHistory;
+import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
+
+class ExternaliseStatusHistoryTest {
+
+  private static final String HISTORY_COLLECTION = "FormStatusHistory";
+
+  private ExternaliseStatusHistory migration;
+  private MongoTemplate template;
+  private BulkOperations bulkOps;
+
+  @BeforeEach
+  void setUp() {
+    template = mock(MongoTemplate.class);
+    when(template.getCollectionName(LtftForm.class)).thenReturn("LtftForm");
+    when(template.getCollectionName(FormRPartA.class)).thenReturn("FormRPartA");
+    when(template.getCollectionName(FormRPartB.class)).thenReturn("FormRPartB");
+    when(template.getCollectionName(FormStatusHistory.class)).thenReturn(HISTORY_COLLECTION);
+    when(template.stream(any(), eq(Document.class), anyString())).thenReturn(Stream.empty());
+    when(template.updateMulti(any(), any(), anyString())).thenReturn(UpdateResult.unacknowledged());
+
+    bulkOps = mock(BulkOperations.class);
+    when(template.bulkOps(BulkMode.UNORDERED, HISTORY_COLLECTION)).thenReturn(bulkOps);
+
+    migration = new ExternaliseStatusHistory(template);
+  }
+
+  @Test
+  void shouldNotInsertHistoryWhenNoFormsHaveHistory() {
+    migration.migrate();
+
+    verify(template, never()).bulkOps(any(BulkMode.class), anyString());
+  }
+
+  @Test
+  void shouldCopyEmbeddedHistoryToHistoryCollection() {
+    UUID formId = UUID.randomUUID();
+    Document status1 = new Document("state", "SUBMITTED");
+    Document status2 = new Document("state", "APPROVED");
+    Document form = new Document("_id", formId)
+        .append("status", new Document("history", List.of(status1, status2)));
+    when(template.stream(any(), eq(Document.class), eq("LtftForm"))).thenReturn(Stream.of(form));
+
+    migration.migrate();
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    ArgumentCaptor<Document> entriesCaptor = ArgumentCaptor.captor();
+    ArgumentCaptor<FindAndReplaceOptions> optionsCaptor = ArgumentCaptor.captor();
+    verify(bulkOps, times(2)).replaceOne(queryCaptor.capture(), entriesCaptor.capture(),
+        optionsCaptor.capture());
+    verify(bulkOps).execute();
+
+    List<Document> entries = entriesCaptor.getAllValues();
+    assertThat("Unexpected entry count.", entries, hasSize(2));
+
+    Document entry1 = entries.get(0);
+    assertThat("Unexpected entry ID.", entry1.get("_id"),
+        is(ExternaliseStatusHistory.getEntryId(formId, status1)));
+    assertThat("Unexpected entry filter.", queryCaptor.getAllValues().get(0).getQueryObject(),
+        is(new Document("_id", entry1.get("_id"))));
+    assertThat("Unexpected upsert flag.", optionsCaptor.getValue().isUpsert(), is(true));
+    assertThat("Unexpected form ID.", entry1.get("formId"), is(formId));
+    assertThat("Unexpected form type.", entry1.getString("formType"), is("ltft"));
+    assertThat("Unexpected status.", entry1.get("status"), is(status1));
+    assertThat("Unexpected class.", entry1.getString("_class"),
+        is(FormStatusHistory.class.getName()));
+
+    Document entry2 = entries.get(1);
+    assertThat("Unexpected entry ID.", entry2.get("_id"), not(entry1.get("_id")));
+    assertThat("Unexpected form ID.", entry2.get("formId"), is(formId));
+    assertThat("Unexpected status.", entry2.get("status"), is(status2));
+  }
+
+  @Test
+  void shouldDeriveSameEntryIdWhenRerun() {
+    UUID formId = UUID.randomUUID();
+    Document status = new Document("state", "SUBMITTED");
+    Document form = new Document("_id", formId)
+        .append("status", new Document("history", List.of(status)));
+    when(template.stream(any(), eq(Document.class), eq("LtftForm")))
+        .thenReturn(Stream.of(form), Stream.of(form));
+
+    migration.migrate();
+    migration.migrate();
+
+    ArgumentCaptor<Document> entriesCaptor = ArgumentCaptor.captor();
+    verify(bulkOps, times(2)).replaceOne(any(Query.class), entriesCaptor.capture(),
+        any(FindAndReplaceOptions.class));
+
+    List<Document> entries = entriesCaptor.getAllValues();
+    assertThat("Unexpected entry ID.", entries.get(1).get("_id"), is(entries.get(0).get("_id")));
+  }
+
+  @Test
+  void shouldTrimEmbeddedHistoryOfAllFormCollections() {
+    migration.migrate();
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.captor();
+    verify(template).updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq("LtftForm"));
+    verify(template).updateMulti(any(), any(), eq("FormRPartA"));
+    verify(template).updateMulti(any(), any(), eq("FormRPartB"));
+
+    Document queryObject = queryCaptor.getValue().getQueryObject();
+    assertThat("Unexpected trim filter.", queryObject.containsKey("status.history.10"), is(true));
+
+    Document push = updateCaptor.getValue().getUpdateObject().get("$push", Document.class);
+    assertThat("Unexpected trim field.", push.containsKey("status.history"), is(true));
+  }
+}
@@ -642,6 +642,53 @@ class AbstractAuditedFormTest {
     assertThat("Unexpected submitted timestamp.", form.getStatus().submitted(), is(submittedTime));
   }
 
+  @Test
+  void shouldOnlyRetainTailOfStatusHistory() {
+    form.setStatus(null);
+
+    int changeCount = AbstractAuditedForm.STATUS_HISTORY_TAIL_SIZE + 5;
+    for (int i = 0; i < changeCount; i++) {
+      form.setLifecycleState(DRAFT, null, null, i);
+    }
+
+    List<StatusInfo> history = form.getStatus().history();
+    assertThat("Unexpected history count.", history,
+        hasSize(AbstractAuditedForm.STATUS_HISTORY_TAIL_SIZE));
+    assertThat("Unexpected oldest retained revision.", history.get(0).revision(), is(5));
+    assertThat("Unexpected latest retained revision.",
+        history.get(history.size() - 1).revision(), is(changeCount - 1));
+    assertThat("Unexpected latest history entry.", history.get(history.size() - 1),
+        is(form.getStatus().current()));
+  }
+
+  @Test
+  void shouldDrainAllUnrecordedStatusHistory() {
+    form.setStatus(null);
+
+    int changeCount = AbstractAuditedForm.STATUS_HISTORY_TAIL_SIZE + 5;
+    for (int i = 0; i < changeCount; i++) {
+      form.setLifecycleState(DRAFT, null, null, i);
+    }
+
+    List<StatusInfo> unrecorded = form.drainUnrecordedHistory();
+    assertThat("Unexpected unrecorded history count.", unrecorded, hasSize(changeCount));
+    assertThat("Unexpected first unrecorded revision.", unrecorded.get(0).revision(), is(0));
+
+    List<StatusInfo> drainedAgain = form.drainUnrecordedHistory();
+    assertThat("Unexpected unrecorded history count.", drainedAgain, hasSize(0));
+  }
+
+  @Test
+  void shouldNotHaveUnrecordedStatusHistoryWhenStatusSetDirectly() {
+    form.setStatus(Status.builder()
+        .current(StatusInfo.builder().state(SUBMITTED).build())
+        .history(List.of(StatusInfo.builder().state(SUBMITTED).build()))
+        .build());
+
+    List<StatusInfo> unrecorded = form.drainUnrecordedHistory();
+    assertThat("Unexpected unrecorded history count.", unrecorded, hasSize(0));
+  }
+
   /**
    * A stub for testing the behaviour of the AbstractForm event listener.
    */
@@ -27,12 +27,10 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -124,23 +122,13 @@ public abstract class AbstractSubmissionHistoryServiceContractTest<
     String fromTraineeId = "123";
     String toTraineeId = "456";
 
-    H submission1 = getNewHistory();
-    submission1.setTraineeTisId(fromTraineeId);
-    H submission2 = getNewHistory();
-    submission2.setTraineeTisId(fromTraineeId);
-    List<H> submissions = List.of(submission1, submission2);
+    when(repository.updateTraineeTisIdByTraineeTisId(fromTraineeId, toTraineeId)).thenReturn(2L);
 
-    when(repository.findByTraineeTisId(fromTraineeId)).thenReturn(submissions);
+    int movedCount = service.moveHistory(fromTraineeId, toTraineeId);
 
-    service.moveHistory(fromTraineeId, toTraineeId);
-
-    ArgumentCaptor<H> captor = ArgumentCaptor.captor();
-    verify(repository, times(2)).save(captor.capture());
-
-    List<H> savedSubmissions = captor.getAllValues();
-    assertThat("Unexpected number of moved submissions", savedSubmissions.size(), is(2));
-    savedSubmissions.forEach(submission ->
-        assertThat("Unexpected trainee ID", submission.getTraineeTisId(), is(toTraineeId)));
+    assertThat("Unexpected number of moved submissions", movedCount, is(2));
+    verify(repository).updateTraineeTisIdByTraineeTisId(fromTraineeId, toTraineeId);
+    verify(repository, never()).save(any());
   }
 
   @Test
@@ -148,10 +136,11 @@ public abstract class AbstractSubmissionHistoryServiceContractTest<
     String fromTraineeId = "123";
     String toTraineeId = "456";
 
-    when(repository.findByTraineeTisId(fromTraineeId)).thenReturn(List.of());
+    when(repository.updateTraineeTisIdByTraineeTisId(fromTraineeId, toTraineeId)).thenReturn(0L);
 
-    service.moveHistory(fromTraineeId, toTraineeId);
+    int movedCount = service.moveHistory(fromTraineeId, toTraineeId);
 
+    assertThat("Unexpected number of moved submissions", movedCount, is(0));
     verify(repository, never()).save(any());
   }
 }
@@ -21,13 +21,16 @@
 
 package uk.nhs.hee.tis.trainee.forms.service;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -36,14 +39,24 @@ import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.SUBMIT
 import static uk.nhs.hee.tis.trainee.forms.service.EventBroadcastService.MESSAGE_ATTRIBUTE_DEFAULT_VALUE;
 import static uk.nhs.hee.tis.trainee.forms.service.EventBroadcastService.MESSAGE_ATTRIBUTE_KEY;
 import static uk.nhs.hee.tis.trainee.forms.service.EventBroadcastService.MESSAGE_ATTRIBUTE_KEY_FORM_TYPE;
+import static uk.nhs.hee.tis.trainee.forms.service.EventBroadcastService.METRIC_FAILED;
+import static uk.nhs.hee.tis.trainee.forms.service.EventBroadcastService.METRIC_PUBLISHED;
+import static uk.nhs.hee.tis.trainee.forms.service.EventBroadcastService.METRIC_PUBLISH_DURATION;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -51,7 +64,12 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
 import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import software.amazon.awssdk.services.sns.model.PublishBatchResultEntry;
 import software.amazon.awssdk.services.sns.model.PublishRequest;
 import software.amazon.awssdk.services.sns.model.SnsException;
 import uk.nhs.hee.tis.trainee.forms.dto.FormRPartADto;
@@ -84,12 +102,14 @@ class EventBroadcastServiceTest {
 
   private ObjectMapper objectMapper;
   private SnsClient snsClient;
+  private MeterRegistry meterRegistry;
 
   @BeforeEach
   void setUp() {
     snsClient = mock(SnsClient.class);
     objectMapper = new ObjectMapper();
-    service = new EventBroadcastService(snsClient, FORMR_FILE_TOPIC);
+    meterRegistry = new SimpleMeterRegistry();
+    service = new EventBroadcastService(snsClient, meterRegistry, FORMR_FILE_TOPIC);
   }
 
   @Test
@@ -118,6 +138,55 @@ class EventBroadcastServiceTest {
         () -> service.publishLtftFormUpdateEvent(ltftFormDto, MESSAGE_ATTRIBUTE, SNS_TOPIC));
   }
 
+  @Test
+  void shouldCountPublishedEventWhenBroadcastingEvent() {
+    LtftFormDto ltftFormDto = buildDummyLtftFormDto();
+
+    service.publishLtftFormUpdateEvent(ltftFormDto, MESSAGE_ATTRIBUTE, SNS_TOPIC);
+
+    assertThat("Unexpected published count.",
+        meterRegistry.counter(METRIC_PUBLISHED, "topic", SNS_TOPIC).count(), is(1.0));
+    assertThat("Unexpected failed count.",
+        meterRegistry.counter(METRIC_FAILED, "topic", SNS_TOPIC).count(), is(0.0));
+
+    Timer timer = meterRegistry.find(METRIC_PUBLISH_DURATION)
+        .tags("topic", SNS_TOPIC, "mode", "single", "outcome", "success")
+        .timer();
+    assertThat("Unexpected publish timer presence.", timer, notNullValue());
+    assertThat("Unexpected publish timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldCountFailedEventWhenBroadcastingEventFails() {
+    LtftFormDto ltftFormDto = buildDummyLtftFormDto();
+
+    when(snsClient.publish(any(PublishRequest.class))).thenThrow(SnsException.class);
+
+    assertThrows(SnsException.class,
+        () -> service.publishLtftFormUpdateEvent(ltftFormDto, MESSAGE_ATTRIBUTE, SNS_TOPIC));
+
+    assertThat("Unexpected published count.",
+        meterRegistry.counter(METRIC_PUBLISHED, "topic", SNS_TOPIC).count(), is(0.0));
+    assertThat("Unexpected failed count.",
+        meterRegistry.counter(METRIC_FAILED, "topic", SNS_TOPIC).count(), is(1.0));
+
+    Timer timer = meterRegistry.find(METRIC_PUBLISH_DURATION)
+        .tags("topic", SNS_TOPIC, "mode", "single", "outcome", "failure")
+        .timer();
+    assertThat("Unexpected publish timer presence.", timer, notNullValue());
+  }
+
+  @Test
+  void shouldTagPublishMetricsWithTopicNameFromArn() {
+    LtftFormDto ltftFormDto = buildDummyLtftFormDto();
+
+    service.publishLtftFormUpdateEvent(ltftFormDto, MESSAGE_ATTRIBUTE,
+        "arn:aws:sns:eu-west-2:000000000000:ltft-updated");
+
+    assertThat("Unexpected published count.",
+        meterRegistry.counter(METRIC_PUBLISHED, "topic", "ltft-updated").count(), is(1.0));
+  }
+
   @Test
   void shouldSetMessageGroupIdOnIssuedEvent() {
     LtftFormDto ltftFormDto = buildDummyLtftFormDto();
@@ -205,6 +274,138 @@ class EventBroadcastServiceTest {
     verifyNoMoreInteractions(snsClient);
   }
 
+  @ParameterizedTest
+  @NullAndEmptySource
+  void shouldNotPublishLtftFormUpdateEventsIfSnsTopicMissing(String snsTopic) {
+    LtftFormDto ltftFormDto = buildDummyLtftFormDto();
+    service.publishLtftFormUpdateEvents(List.of(ltftFormDto), MESSAGE_ATTRIBUTE, snsTopic);
+
+    verifyNoInteractions(snsClient);
+  }
+
+  @Test
+  void shouldNotPublishLtftFormUpdateEventsIfAllEventDtosAreNull() {
+    List<LtftFormDto> formDtos = new ArrayList<>();
+    formDtos.add(null);
+
+    service.publishLtftFormUpdateEvents(formDtos, MESSAGE_ATTRIBUTE, SNS_TOPIC);
+
+    verifyNoInteractions(snsClient);
+  }
+
+  @Test
+  void shouldPublishLtftFormUpdateEventsInBatchesOfTen() throws JsonProcessingException {
+    when(snsClient.publishBatch(any(PublishBatchRequest.class))).thenReturn(
+        PublishBatchResponse.builder().build());
+
+    List<LtftFormDto> formDtos = IntStream.range(0, 12)
+        .mapToObj(i -> buildDummyLtftFormDto())
+        .toList();
+
+    service.publishLtftFormUpdateEvents(formDtos, MESSAGE_ATTRIBUTE, SNS_TOPIC);
+
+    ArgumentCaptor<PublishBatchRequest> requestCaptor = ArgumentCaptor.captor();
+    verify(snsClient, times(2)).publishBatch(requestCaptor.capture());
+    verifyNoMoreInteractions(snsClient);
+
+    List<PublishBatchRequest> requests = requestCaptor.getAllValues();
+    assertThat("Unexpected first batch size.",
+        requests.get(0).publishBatchRequestEntries().size(), is(10));
+    assertThat("Unexpected second batch size.",
+        requests.get(1).publishBatchRequestEntries().size(), is(2));
+
+    PublishBatchRequestEntry entry = requests.get(0).publishBatchRequestEntries().get(0);
+    assertThat("Unexpected topic ARN.", requests.get(0).topicArn(), is(SNS_TOPIC));
+    assertThat("Unexpected message group id.", entry.messageGroupId(), is(FORM_ID_STRING));
+    assertThat("Unexpected entry id.", entry.id(), notNullValue());
+    assertThat("Unexpected message attribute value.",
+        entry.messageAttributes().get(MESSAGE_ATTRIBUTE_KEY).stringValue(),
+        is(MESSAGE_ATTRIBUTE));
+
+    Map<String, Object> message = objectMapper.readValue(entry.message(),
+        new TypeReference<>() {
+        });
+    assertThat("Unexpected message id.", message.get("id"), is(FORM_ID_STRING));
+    assertThat("Unexpected trainee id.", message.get("traineeTisId"), is(TRAINEE_ID));
+  }
+
+  @Test
+  void shouldUseUniqueEntryIdsWithinBatch() {
+    when(snsClient.publishBatch(any(PublishBatchRequest.class))).thenReturn(
+        PublishBatchResponse.builder().build());
+
+    List<LtftFormDto> formDtos = List.of(buildDummyLtftFormDto(), buildDummyLtftFormDto());
+
+    service.publishLtftFormUpdateEvents(formDtos, null, SNS_TOPIC);
+
+    ArgumentCaptor<PublishBatchRequest> requestCaptor = ArgumentCaptor.captor();
+    verify(snsClient).publishBatch(requestCaptor.capture());
+
+    List<PublishBatchRequestEntry> entries = requestCaptor.getValue().publishBatchRequestEntries();
+    assertThat("Unexpected entry ids.", entries.get(0).id(), not(entries.get(1).id()));
+    assertThat("Unexpected message attribute.",
+        entries.get(0).messageAttributes().get(MESSAGE_ATTRIBUTE_KEY).stringValue(),
+        is(MESSAGE_ATTRIBUTE_DEFAULT_VALUE));
+  }
+
+  @Test
+  void shouldThrowWhenBatchedEventsPartiallyFail() {
+    when(snsClient.publishBatch(any(PublishBatchRequest.class)))
+        .thenAnswer(inv -> failLastEntry(inv.getArgument(0)));
+
+    List<LtftFormDto> formDtos = List.of(buildDummyLtftFormDto());
+
+    SnsException exception = assertThrows(SnsException.class,
+        () -> service.publishLtftFormUpdateEvents(formDtos, MESSAGE_ATTRIBUTE, SNS_TOPIC));
+    assertThat("Unexpected exception message.", exception.getMessage(),
+        containsString("[" + FORM_ID + "]"));
+  }
+
+  @Test
+  void shouldPublishLaterBatchesWhenEarlierBatchPartiallyFails() {
+    when(snsClient.publishBatch(any(PublishBatchRequest.class)))
+        .thenAnswer(inv -> failLastEntry(inv.getArgument(0)))
+        .thenReturn(PublishBatchResponse.builder().build());
+
+    List<LtftFormDto> formDtos = Collections.nCopies(12, buildDummyLtftFormDto());
+
+    assertThrows(SnsException.class,
+        () -> service.publishLtftFormUpdateEvents(formDtos, MESSAGE_ATTRIBUTE, SNS_TOPIC));
+
+    verify(snsClient, times(2)).publishBatch(any(PublishBatchRequest.class));
+  }
+
+  @Test
+  void shouldCountPartiallyFailedBatchedEvents() {
+    when(snsClient.publishBatch(any(PublishBatchRequest.class)))
+        .thenAnswer(inv -> failLastEntry(inv.getArgument(0)));
+
+    List<LtftFormDto> formDtos = List.of(buildDummyLtftFormDto(), buildDummyLtftFormDto());
+
+    assertThrows(SnsException.class,
+        () -> service.publishLtftFormUpdateEvents(formDtos, MESSAGE_ATTRIBUTE, SNS_TOPIC));
+
+    assertThat("Unexpected published count.",
+        meterRegistry.counter(METRIC_PUBLISHED, "topic", SNS_TOPIC).count(), is(1.0));
+    assertThat("Unexpected failed count.",
+        meterRegistry.counter(METRIC_FAILED, "topic", SNS_TOPIC).count(), is(1.0));
+
+    Timer timer = meterRegistry.find(METRIC_PUBLISH_DURATION)
+        .tags("topic", SNS_TOPIC, "mode", "batch", "outcome", "success")
+        .timer();
+    assertThat("Unexpected publish timer presence.", timer, notNullValue());
+  }
+
+  @Test
+  void shouldRethrowSnsExceptionsWhenBroadcastingBatchedEvents() {
+    when(snsClient.publishBatch(any(PublishBatchRequest.class))).thenThrow(SnsException.class);
+
+    List<LtftFormDto> formDtos = List.of(buildDummyLtftFormDto());
+
+    assertThrows(SnsException.class,
+        () -> service.publishLtftFormUpdateEvents(formDtos, MESSAGE_ATTRIBUTE, SNS_TOPIC));
+  }
+
   @Test
   void shouldNotPublishFormRPartAEventIfEventDtoIsNull() {
     service.publishFormRPartAEvent(null, null, SNS_TOPIC);
@@ -493,6 +694,24 @@ class EventBroadcastServiceTest {
    *
    * @return the LTFT DTO entity.
    */
+  /**
+   * Build a batch response in which the last entry of the request failed.
+   *
+   * @param request The batch request to respond to.
+   * @return The built response.
+   */
+  private static PublishBatchResponse failLastEntry(PublishBatchRequest request) {
+    List<PublishBatchRequestEntry> entries = request.publishBatchRequestEntries();
+    List<PublishBatchResultEntry> successful = entries.subList(0, entries.size() - 1).stream()
+        .map(entry -> PublishBatchResultEntry.builder().id(entry.id()).build())
+        .toList();
+    BatchResultErrorEntry failed = BatchResultErrorEntry.builder()
+        .id(entries.get(entries.size() - 1).id())
+        .code("500")
+        .build();
+    return PublishBatchResponse.builder().successful(successful).failed(failed).build();
+  }
+
   private LtftFormDto buildDummyLtftFormDto() {
     PersonalDetailsDto personalDetailsDto = PersonalDetailsDto.builder()
         .id(TRAINEE_ID)
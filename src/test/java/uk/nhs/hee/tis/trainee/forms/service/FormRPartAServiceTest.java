@@ -42,6 +42,7 @@ import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.SUBMIT
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.UNSUBMITTED;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -52,6 +53,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.LongSupplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -104,6 +106,9 @@ class FormRPartAServiceTest {
   @Mock
   private SubmissionHistoryService<FormRPartA> historyService;
 
+  @Mock
+  private FormReferenceService formReferenceService;
+
   private FormRPartA entity;
 
   private TraineeIdentity traineeIdentity;
@@ -126,8 +131,8 @@ class FormRPartAServiceTest {
         repositoryMock,
         new FormRPartAMapperImpl(new TemporalMapper(ZoneId.of("Etc/UTC"))),
         new ObjectMapper().findAndRegisterModules(), identityResolver,
-        eventBroadcastService, historyService,
-        FORM_R_PART_A_UPDATED_TOPIC);
+        eventBroadcastService, historyService, formReferenceService, new LifecycleStateMachine(),
+        new SimpleMeterRegistry(), FORM_R_PART_A_UPDATED_TOPIC);
     entity = createEntity();
   }
 
@@ -352,6 +357,8 @@ class FormRPartAServiceTest {
     content.setSurname(DEFAULT_SURNAME);
     dto.setContent(content);
 
+    when(formReferenceService.nextFormReference(eq("formr_parta"), eq(DEFAULT_TRAINEE_TIS_ID),
+        any())).thenReturn("formr_parta_" + DEFAULT_TRAINEE_TIS_ID + "_005");
     when(repositoryMock.countSubmittedByTraineeId(DEFAULT_TRAINEE_TIS_ID)).thenReturn(4L);
     when(repositoryMock.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
@@ -363,6 +370,10 @@ class FormRPartAServiceTest {
     FormRPartA savedEntity = formCaptor.getValue();
     assertThat("Unexpected form reference.", savedEntity.getFormRef(),
         is("formr_parta_" + DEFAULT_TRAINEE_TIS_ID + "_005"));
+
+    ArgumentCaptor<LongSupplier> seedCaptor = ArgumentCaptor.captor();
+    verify(formReferenceService).nextFormReference(any(), any(), seedCaptor.capture());
+    assertThat("Unexpected counter seed.", seedCaptor.getValue().getAsLong(), is(4L));
   }
 
   @Test
@@ -40,8 +40,20 @@ import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.DELETE
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.DRAFT;
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.SUBMITTED;
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.UNSUBMITTED;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.METRIC_TRANSITIONS;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.METRIC_TRANSITION_DURATION;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.OUTCOME_REJECTED;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.OUTCOME_SUCCESS;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.TAG_FORM_TYPE;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.TAG_FROM;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.TAG_OUTCOME;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.TAG_TO;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -53,6 +65,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.LongSupplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -140,6 +153,9 @@ class FormRPartBServiceTest {
   @Mock
   private SubmissionHistoryService<FormRPartB> historyService;
 
+  @Mock
+  private FormReferenceService formReferenceService;
+
   private ObjectMapper objectMapper;
 
   private TraineeIdentity traineeIdentity;
@@ -149,6 +165,8 @@ class FormRPartBServiceTest {
 
   private FormRPartBMapper mapper;
 
+  private MeterRegistry meterRegistry;
+
   private FormRPartB entity;
   private WorkDto workDto;
   private Work work;
@@ -170,9 +188,11 @@ class FormRPartBServiceTest {
 
     mapper = new FormRPartBMapperImpl(new TemporalMapper(ZoneId.of("Etc/UTC")));
     objectMapper = new ObjectMapper().findAndRegisterModules();
+    meterRegistry = new SimpleMeterRegistry();
 
     service = new FormRPartBService(repositoryMock, mapper, objectMapper, identityResolver,
-        eventBroadcastService, historyService, FORM_R_PART_B_UPDATED_TOPIC);
+        eventBroadcastService, historyService, formReferenceService, new LifecycleStateMachine(),
+        meterRegistry, FORM_R_PART_B_UPDATED_TOPIC);
     initData();
   }
 
@@ -480,6 +500,8 @@ class FormRPartBServiceTest {
     FormRPartBDto dto = mapper.toDto(entity);
     dto.setLifecycleState(SUBMITTED);
 
+    when(formReferenceService.nextFormReference(eq("formr_partb"), eq(DEFAULT_TRAINEE_TIS_ID),
+        any())).thenReturn("formr_partb_" + DEFAULT_TRAINEE_TIS_ID + "_005");
     when(repositoryMock.countSubmittedByTraineeId(DEFAULT_TRAINEE_TIS_ID)).thenReturn(4L);
     when(repositoryMock.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
@@ -491,6 +513,10 @@ class FormRPartBServiceTest {
     FormRPartB savedEntity = formCaptor.getValue();
     assertThat("Unexpected form reference.", savedEntity.getFormRef(),
         is("formr_partb_" + DEFAULT_TRAINEE_TIS_ID + "_005"));
+
+    ArgumentCaptor<LongSupplier> seedCaptor = ArgumentCaptor.captor();
+    verify(formReferenceService).nextFormReference(any(), any(), seedCaptor.capture());
+    assertThat("Unexpected counter seed.", seedCaptor.getValue().getAsLong(), is(4L));
   }
 
   @Test
@@ -847,6 +873,47 @@ class FormRPartBServiceTest {
         hasEntry("surname", DEFAULT_SURNAME));
   }
 
+  @Test
+  void shouldRecordSuccessfulTransitionMetricsWhenUnsubmittingFormRPartB()
+      throws MethodArgumentNotValidException {
+    entity.setLifecycleState(SUBMITTED);
+    when(repositoryMock.findById(DEFAULT_ID)).thenReturn(Optional.of(entity));
+    when(repositoryMock.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+    service.unsubmitFormRPartBById(DEFAULT_ID);
+
+    Counter counter = meterRegistry.find(METRIC_TRANSITIONS)
+        .tags(TAG_FORM_TYPE, "formr-b", TAG_FROM, "SUBMITTED", TAG_TO, "UNSUBMITTED",
+            TAG_OUTCOME, OUTCOME_SUCCESS)
+        .counter();
+    assertThat("Unexpected transition counter presence.", counter, notNullValue());
+    assertThat("Unexpected transition count.", counter.count(), is(1.0));
+
+    Timer timer = meterRegistry.find(METRIC_TRANSITION_DURATION)
+        .tags(TAG_FORM_TYPE, "formr-b", TAG_TO, "UNSUBMITTED")
+        .timer();
+    assertThat("Unexpected transition timer presence.", timer, notNullValue());
+    assertThat("Unexpected transition timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordRejectedTransitionMetricsWhenUnsubmittingDraftFormRPartB() {
+    entity.setLifecycleState(DRAFT);
+    when(repositoryMock.findById(DEFAULT_ID)).thenReturn(Optional.of(entity));
+
+    assertThrows(MethodArgumentNotValidException.class,
+        () -> service.unsubmitFormRPartBById(DEFAULT_ID));
+
+    Counter counter = meterRegistry.find(METRIC_TRANSITIONS)
+        .tags(TAG_FORM_TYPE, "formr-b", TAG_FROM, "DRAFT", TAG_TO, "UNSUBMITTED",
+            TAG_OUTCOME, OUTCOME_REJECTED)
+        .counter();
+    assertThat("Unexpected transition counter presence.", counter, notNullValue());
+    assertThat("Unexpected transition count.", counter.count(), is(1.0));
+    assertThat("Unexpected transition timer presence.",
+        meterRegistry.find(METRIC_TRANSITION_DURATION).timer(), nullValue());
+  }
+
   @Test
   void shouldNotUnsubmitWhenFormRPartBNotFoundInDb() throws MethodArgumentNotValidException {
     when(repositoryMock.findById(DEFAULT_ID)).thenReturn(Optional.empty());
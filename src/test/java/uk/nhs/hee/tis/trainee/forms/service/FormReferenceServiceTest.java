@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.function.LongSupplier;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.nhs.hee.tis.trainee.forms.model.FormReferenceCounter;
+
+class FormReferenceServiceTest {
+
+  private static final String PREFIX = "ltft";
+  private static final String TRAINEE_ID = "40";
+  private static final String COUNTER_ID = PREFIX + "_" + TRAINEE_ID;
+
+  private FormReferenceService service;
+  private MongoTemplate mongoTemplate;
+
+  @BeforeEach
+  void setUp() {
+    mongoTemplate = mock(MongoTemplate.class);
+    service = new FormReferenceService(mongoTemplate);
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', textBlock = """
+      1 | _001
+      2 | _002
+      11 | _011
+      101 | _101
+      1001 | _1001
+      """)
+  void shouldGenerateFormRefFromIncrementedCounter(long sequence, String refSuffix) {
+    when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+        any(FindAndModifyOptions.class), eq(FormReferenceCounter.class)))
+        .thenReturn(new FormReferenceCounter(COUNTER_ID, sequence));
+
+    String formRef = service.nextFormReference(PREFIX, TRAINEE_ID, () -> 0);
+
+    assertThat("Unexpected form ref.", formRef, is(COUNTER_ID + refSuffix));
+  }
+
+  @Test
+  void shouldIncrementCounterForPrefixAndTrainee() {
+    when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+        any(FindAndModifyOptions.class), eq(FormReferenceCounter.class)))
+        .thenReturn(new FormReferenceCounter(COUNTER_ID, 1));
+
+    service.nextFormReference(PREFIX, TRAINEE_ID, () -> 0);
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.captor();
+    ArgumentCaptor<FindAndModifyOptions> optionsCaptor = ArgumentCaptor.captor();
+    verify(mongoTemplate).findAndModify(queryCaptor.capture(), updateCaptor.capture(),
+        optionsCaptor.capture(), eq(FormReferenceCounter.class));
+
+    Document queryObject = queryCaptor.getValue().getQueryObject();
+    assertThat("Unexpected counter ID.", queryObject.get("_id"), is(COUNTER_ID));
+
+    Document updateObject = updateCaptor.getValue().getUpdateObject();
+    Document increment = updateObject.get("$inc", Document.class);
+    assertThat("Unexpected increment.", increment.get("sequence"), is(1));
+
+    assertThat("Unexpected return new option.", optionsCaptor.getValue().isReturnNew(), is(true));
+  }
+
+  @Test
+  void shouldNotSeedCounterWhenCounterExists() {
+    when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+        any(FindAndModifyOptions.class), eq(FormReferenceCounter.class)))
+        .thenReturn(new FormReferenceCounter(COUNTER_ID, 1));
+    LongSupplier currentCount = mock(LongSupplier.class);
+
+    service.nextFormReference(PREFIX, TRAINEE_ID, currentCount);
+
+    verify(currentCount, never()).getAsLong();
+    verify(mongoTemplate, never()).upsert(any(), any(), eq(FormReferenceCounter.class));
+  }
+
+  @Test
+  void shouldSeedCounterWhenCounterDoesNotExist() {
+    when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+        any(FindAndModifyOptions.class), eq(FormReferenceCounter.class)))
+        .thenReturn(null)
+        .thenReturn(new FormReferenceCounter(COUNTER_ID, 5));
+
+    String formRef = service.nextFormReference(PREFIX, TRAINEE_ID, () -> 4);
+
+    assertThat("Unexpected form ref.", formRef, is(COUNTER_ID + "_005"));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.captor();
+    verify(mongoTemplate).upsert(queryCaptor.capture(), updateCaptor.capture(),
+        eq(FormReferenceCounter.class));
+
+    Document queryObject = queryCaptor.getValue().getQueryObject();
+    assertThat("Unexpected counter ID.", queryObject.get("_id"), is(COUNTER_ID));
+
+    Document updateObject = updateCaptor.getValue().getUpdateObject();
+    Document setOnInsert = updateObject.get("$setOnInsert", Document.class);
+    assertThat("Unexpected seed.", setOnInsert.get("sequence"), is(4L));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenCounterCanNotBeIncremented() {
+    when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+        any(FindAndModifyOptions.class), eq(FormReferenceCounter.class)))
+        .thenReturn(null);
+
+    assertThrows(IllegalStateException.class,
+        () -> service.nextFormReference(PREFIX, TRAINEE_ID, () -> 0));
+  }
+}
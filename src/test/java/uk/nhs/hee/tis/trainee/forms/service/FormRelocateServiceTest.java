@@ -35,7 +35,6 @@ import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.SUBMIT
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +44,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
 import software.amazon.awssdk.services.s3.S3Client;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
 import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status;
@@ -293,114 +293,54 @@ class FormRelocateServiceTest {
 
   @Test
   void shouldMoveAllForms() {
-    FormRPartA formA1 = new FormRPartA();
-    formA1.setId(FORM_ID);
-    formA1.setTraineeTisId(DEFAULT_TRAINEE_ID);
-    formA1.setLifecycleState(DRAFT);
-    FormRPartA formA2 = new FormRPartA();
-    formA2.setId(UUID.randomUUID());
-    formA2.setTraineeTisId(DEFAULT_TRAINEE_ID);
-    formA2.setLifecycleState(DRAFT);
-
-    FormRPartB formB1 = new FormRPartB();
-    formB1.setId(UUID.randomUUID());
-    formB1.setTraineeTisId(DEFAULT_TRAINEE_ID);
-    formB1.setLifecycleState(DRAFT);
-    FormRPartB formB2 = new FormRPartB();
-    formB2.setId(UUID.randomUUID());
-    formB2.setTraineeTisId(DEFAULT_TRAINEE_ID);
-    formB2.setLifecycleState(DRAFT);
-
-    when(formRPartARepositoryMock.findByTraineeTisId(DEFAULT_TRAINEE_ID))
-        .thenReturn(List.of(formA1, formA2));
-    when(formRPartBRepositoryMock.findByTraineeTisId(DEFAULT_TRAINEE_ID))
-        .thenReturn(List.of(formB1, formB2));
-
-    when(formRPartARepositoryMock.findById(formA1.getId())).thenReturn(Optional.of(formA1));
-    when(formRPartARepositoryMock.findById(formA2.getId())).thenReturn(Optional.of(formA2));
-    when(formRPartBRepositoryMock.findById(formB1.getId())).thenReturn(Optional.of(formB1));
-    when(formRPartBRepositoryMock.findById(formB2.getId())).thenReturn(Optional.of(formB2));
+    when(formRPartARepositoryMock.updateTraineeTisIdByTraineeTisId(DEFAULT_TRAINEE_ID,
+        TARGET_TRAINEE_ID)).thenReturn(2L);
+    when(formRPartBRepositoryMock.updateTraineeTisIdByTraineeTisId(DEFAULT_TRAINEE_ID,
+        TARGET_TRAINEE_ID)).thenReturn(2L);
 
     service.moveAllForms(DEFAULT_TRAINEE_ID, TARGET_TRAINEE_ID);
 
-    verify(formRPartARepositoryMock, times(2)).save(formRPartACaptor.capture());
-    verify(formRPartBRepositoryMock, times(2)).save(formRPartBCaptor.capture());
-    List<FormRPartA> savedFormRPartAs = formRPartACaptor.getAllValues();
-    for (FormRPartA partA : savedFormRPartAs) {
-      assertThat("Unexpected trainee ID.", partA.getTraineeTisId(), is(TARGET_TRAINEE_ID));
-    }
-    List<FormRPartB> savedFormRPartBs = formRPartBCaptor.getAllValues();
-    for (FormRPartB partB : savedFormRPartBs) {
-      assertThat("Unexpected trainee ID.", partB.getTraineeTisId(), is(TARGET_TRAINEE_ID));
-    }
+    verify(formRPartARepositoryMock).updateTraineeTisIdByTraineeTisId(DEFAULT_TRAINEE_ID,
+        TARGET_TRAINEE_ID);
+    verify(formRPartBRepositoryMock).updateTraineeTisIdByTraineeTisId(DEFAULT_TRAINEE_ID,
+        TARGET_TRAINEE_ID);
+    verify(formRPartARepositoryMock, never()).findById(any());
+    verify(formRPartBRepositoryMock, never()).findById(any());
+    verify(formRPartARepositoryMock, never()).save(any());
+    verify(formRPartBRepositoryMock, never()).save(any());
     verify(ltftServiceMock).moveLtftForms(DEFAULT_TRAINEE_ID, TARGET_TRAINEE_ID);
   }
 
   @Test
-  void shouldContinueMovingFormsWhenOneFormFailsToMove() {
-    FormRPartA formA1 = new FormRPartA();
-    formA1.setId(FORM_ID);
-    formA1.setTraineeTisId(DEFAULT_TRAINEE_ID);
-    FormRPartB formB1 = new FormRPartB();
-    UUID formBid = UUID.randomUUID();
-    formB1.setId(formBid);
-    formB1.setTraineeTisId(DEFAULT_TRAINEE_ID);
-    formB1.setLifecycleState(DRAFT);
-
-    when(formRPartARepositoryMock.findByTraineeTisId(DEFAULT_TRAINEE_ID))
-        .thenReturn(List.of(formA1));
-    when(formRPartBRepositoryMock.findByTraineeTisId(DEFAULT_TRAINEE_ID))
-        .thenReturn(List.of(formB1));
-
-    // Make first form move fail
-    when(formRPartARepositoryMock.findById(any())).thenThrow(ApplicationException.class);
-    when(formRPartBRepositoryMock.findById(formBid)).thenReturn(Optional.of(formB1));
+  void shouldContinueMovingFormsWhenPartAMoveFails() {
+    when(formRPartARepositoryMock.updateTraineeTisIdByTraineeTisId(DEFAULT_TRAINEE_ID,
+        TARGET_TRAINEE_ID)).thenThrow(new DataAccessResourceFailureException("error"));
 
     service.moveAllForms(DEFAULT_TRAINEE_ID, TARGET_TRAINEE_ID);
 
-    verify(formRPartARepositoryMock, never()).save(any());
-    verify(formRPartBRepositoryMock).save(any());
+    verify(formRPartBRepositoryMock).updateTraineeTisIdByTraineeTisId(DEFAULT_TRAINEE_ID,
+        TARGET_TRAINEE_ID);
     verify(ltftServiceMock).moveLtftForms(DEFAULT_TRAINEE_ID, TARGET_TRAINEE_ID);
   }
 
   @Test
-  void shouldMoveFormsWhenLaterFormFailsToMove() {
-    FormRPartA formA1 = new FormRPartA();
-    formA1.setId(FORM_ID);
-    formA1.setTraineeTisId(DEFAULT_TRAINEE_ID);
-    formA1.setLifecycleState(DRAFT);
-    FormRPartB formB1 = new FormRPartB();
-    UUID formBid = UUID.randomUUID();
-    formB1.setId(formBid);
-    formB1.setTraineeTisId(DEFAULT_TRAINEE_ID);
-    formB1.setLifecycleState(DRAFT);
-
-    when(formRPartARepositoryMock.findByTraineeTisId(DEFAULT_TRAINEE_ID))
-        .thenReturn(List.of(formA1));
-    when(formRPartBRepositoryMock.findByTraineeTisId(DEFAULT_TRAINEE_ID))
-        .thenReturn(List.of(formB1));
-
-    // Make second form move fail
-    when(formRPartBRepositoryMock.findById(any())).thenThrow(ApplicationException.class);
-    when(formRPartARepositoryMock.findById(FORM_ID)).thenReturn(Optional.of(formA1));
+  void shouldContinueMovingFormsWhenPartBMoveFails() {
+    when(formRPartBRepositoryMock.updateTraineeTisIdByTraineeTisId(DEFAULT_TRAINEE_ID,
+        TARGET_TRAINEE_ID)).thenThrow(new DataAccessResourceFailureException("error"));
 
     service.moveAllForms(DEFAULT_TRAINEE_ID, TARGET_TRAINEE_ID);
 
-    verify(formRPartBRepositoryMock, never()).save(any());
-    verify(formRPartARepositoryMock).save(any());
+    verify(formRPartARepositoryMock).updateTraineeTisIdByTraineeTisId(DEFAULT_TRAINEE_ID,
+        TARGET_TRAINEE_ID);
     verify(ltftServiceMock).moveLtftForms(DEFAULT_TRAINEE_ID, TARGET_TRAINEE_ID);
   }
 
   @Test
-  void shouldHandleEmptyFormLists() {
-    when(formRPartARepositoryMock.findByTraineeTisId(DEFAULT_TRAINEE_ID))
-        .thenReturn(List.of());
-    when(formRPartBRepositoryMock.findByTraineeTisId(DEFAULT_TRAINEE_ID))
-        .thenReturn(List.of());
-
-    service.moveAllForms(DEFAULT_TRAINEE_ID, TARGET_TRAINEE_ID);
+  void shouldNotMoveFormRsWhenTraineeIdsNullOrUnchanged() {
+    service.moveAllForms(null, TARGET_TRAINEE_ID);
+    service.moveAllForms(DEFAULT_TRAINEE_ID, null);
+    service.moveAllForms(DEFAULT_TRAINEE_ID, DEFAULT_TRAINEE_ID);
 
-    verify(formRPartARepositoryMock, never()).save(any());
-    verify(formRPartBRepositoryMock, never()).save(any());
+    verifyNoInteractions(formRPartARepositoryMock, formRPartBRepositoryMock);
   }
 }
@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.APPROVED;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.DRAFT;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.SUBMITTED;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status.StatusInfo;
+import uk.nhs.hee.tis.trainee.forms.model.FormStatusHistory;
+import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
+import uk.nhs.hee.tis.trainee.forms.repository.FormStatusHistoryRepository;
+
+class FormStatusHistoryServiceTest {
+
+  private static final UUID FORM_ID = UUID.randomUUID();
+
+  private FormStatusHistoryService service;
+  private FormStatusHistoryRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(FormStatusHistoryRepository.class);
+    service = new FormStatusHistoryService(repository);
+  }
+
+  @Test
+  void shouldNotRecordStatusHistoryWhenNoStatusChanges() {
+    LtftForm form = new LtftForm();
+    form.setId(FORM_ID);
+
+    service.recordStatusHistory(form);
+
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  void shouldRecordUnrecordedStatusHistory() {
+    LtftForm form = new LtftForm();
+    form.setId(FORM_ID);
+    form.setLifecycleState(DRAFT);
+    form.setLifecycleState(SUBMITTED);
+
+    service.recordStatusHistory(form);
+
+    ArgumentCaptor<List<FormStatusHistory>> entriesCaptor = ArgumentCaptor.captor();
+    verify(repository).insert(entriesCaptor.capture());
+
+    List<FormStatusHistory> entries = entriesCaptor.getValue();
+    assertThat("Unexpected entry count.", entries, hasSize(2));
+
+    FormStatusHistory entry1 = entries.get(0);
+    assertThat("Unexpected entry ID.", entry1.id(), notNullValue());
+    assertThat("Unexpected form ID.", entry1.formId(), is(FORM_ID));
+    assertThat("Unexpected form type.", entry1.formType(), is("ltft"));
+    assertThat("Unexpected state.", entry1.status().state(), is(DRAFT));
+
+    FormStatusHistory entry2 = entries.get(1);
+    assertThat("Unexpected form ID.", entry2.formId(), is(FORM_ID));
+    assertThat("Unexpected state.", entry2.status().state(), is(SUBMITTED));
+  }
+
+  @Test
+  void shouldOnlyRecordStatusHistoryOnce() {
+    LtftForm form = new LtftForm();
+    form.setId(FORM_ID);
+    form.setLifecycleState(DRAFT);
+
+    service.recordStatusHistory(form);
+    service.recordStatusHistory(form);
+
+    verify(repository, times(1)).insert(ArgumentMatchers.<FormStatusHistory>anyIterable());
+  }
+
+  @Test
+  void shouldNotRecordAllStatusHistoryWhenNoStatusChanges() {
+    LtftForm form1 = new LtftForm();
+    form1.setId(FORM_ID);
+    LtftForm form2 = new LtftForm();
+    form2.setId(UUID.randomUUID());
+
+    service.recordAllStatusHistory(List.of(form1, form2));
+
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  void shouldRecordAllUnrecordedStatusHistoryInSingleInsert() {
+    LtftForm form1 = new LtftForm();
+    form1.setId(FORM_ID);
+    form1.setLifecycleState(SUBMITTED);
+
+    UUID formId2 = UUID.randomUUID();
+    LtftForm form2 = new LtftForm();
+    form2.setId(formId2);
+    form2.setLifecycleState(SUBMITTED);
+    form2.setLifecycleState(APPROVED);
+
+    service.recordAllStatusHistory(List.of(form1, form2));
+
+    ArgumentCaptor<List<FormStatusHistory>> entriesCaptor = ArgumentCaptor.captor();
+    verify(repository).insert(entriesCaptor.capture());
+
+    List<FormStatusHistory> entries = entriesCaptor.getValue();
+    assertThat("Unexpected entry count.", entries, hasSize(3));
+    assertThat("Unexpected form ID.", entries.get(0).formId(), is(FORM_ID));
+    assertThat("Unexpected state.", entries.get(0).status().state(), is(SUBMITTED));
+    assertThat("Unexpected form ID.", entries.get(1).formId(), is(formId2));
+    assertThat("Unexpected state.", entries.get(1).status().state(), is(SUBMITTED));
+    assertThat("Unexpected form ID.", entries.get(2).formId(), is(formId2));
+    assertThat("Unexpected state.", entries.get(2).status().state(), is(APPROVED));
+  }
+
+  @Test
+  void shouldGetFullHistoryInRepositoryOrder() {
+    StatusInfo submitted = StatusInfo.builder().state(SUBMITTED).build();
+    StatusInfo approved = StatusInfo.builder().state(APPROVED).build();
+    when(repository.findByFormIdOrderByStatus_TimestampAsc(FORM_ID)).thenReturn(List.of(
+        new FormStatusHistory(UUID.randomUUID(), FORM_ID, "ltft", submitted),
+        new FormStatusHistory(UUID.randomUUID(), FORM_ID, "ltft", approved)));
+
+    List<StatusInfo> history = service.getFullHistory(FORM_ID);
+
+    assertThat("Unexpected history.", history, is(List.of(submitted, approved)));
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.APPROVED;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.DELETED;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.DRAFT;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.REJECTED;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.SUBMITTED;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.UNSUBMITTED;
+import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.WITHDRAWN;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
+import uk.nhs.hee.tis.trainee.forms.model.AbstractAuditedForm.Status.StatusDetail;
+import uk.nhs.hee.tis.trainee.forms.model.FormRPartA;
+import uk.nhs.hee.tis.trainee.forms.model.FormRPartB;
+import uk.nhs.hee.tis.trainee.forms.model.LtftForm;
+
+class LifecycleStateMachineTest {
+
+  private LifecycleStateMachine stateMachine;
+
+  @BeforeEach
+  void setUp() {
+    stateMachine = new LifecycleStateMachine();
+  }
+
+  @Test
+  void shouldGetLtftTransitionsFromSubmitted() {
+    LtftForm form = new LtftForm();
+    form.setLifecycleState(SUBMITTED);
+
+    Set<LifecycleState> transitions = stateMachine.getAllowedTransitions(form);
+
+    assertThat("Unexpected allowed transitions.", transitions,
+        containsInAnyOrder(APPROVED, REJECTED, UNSUBMITTED, WITHDRAWN));
+  }
+
+  @Test
+  void shouldGetFormRTransitionsFromSubmitted() {
+    FormRPartA form = new FormRPartA();
+    form.setLifecycleState(SUBMITTED);
+
+    Set<LifecycleState> transitions = stateMachine.getAllowedTransitions(form);
+
+    assertThat("Unexpected allowed transitions.", transitions,
+        containsInAnyOrder(DELETED, UNSUBMITTED));
+  }
+
+  @Test
+  void shouldGetNoTransitionsWhenCurrentStateNull() {
+    FormRPartB form = new FormRPartB();
+
+    Set<LifecycleState> transitions = stateMachine.getAllowedTransitions(form);
+
+    assertThat("Unexpected allowed transitions count.", transitions.size(), is(0));
+  }
+
+  @Test
+  void shouldReuseCompiledTransitionsForSameFormType() {
+    FormRPartB form1 = new FormRPartB();
+    form1.setLifecycleState(UNSUBMITTED);
+    FormRPartB form2 = new FormRPartB();
+    form2.setLifecycleState(UNSUBMITTED);
+
+    Set<LifecycleState> transitions1 = stateMachine.getAllowedTransitions(form1);
+    Set<LifecycleState> transitions2 = stateMachine.getAllowedTransitions(form2);
+
+    assertSame(transitions1, transitions2, "Expected the compiled transitions to be reused.");
+  }
+
+  @Test
+  void shouldNotAllowModifyingAllowedTransitions() {
+    LtftForm form = new LtftForm();
+    form.setLifecycleState(DRAFT);
+
+    Set<LifecycleState> transitions = stateMachine.getAllowedTransitions(form);
+
+    assertThrows(UnsupportedOperationException.class, () -> transitions.add(APPROVED));
+  }
+
+  @Test
+  void shouldCompileTransitionTablesForAllKnownFormTypes() {
+    assertThat("Unexpected form types.", LifecycleStateMachine.FORM_TYPES,
+        containsInAnyOrder(FormRPartA.class, FormRPartB.class, LtftForm.class));
+  }
+
+  @Test
+  void shouldAllowValidTransition() {
+    LtftForm form = new LtftForm();
+    form.setLifecycleState(DRAFT);
+
+    assertThat("Unexpected transition result.", stateMachine.canTransition(form, SUBMITTED),
+        is(true));
+    assertDoesNotThrow(() -> stateMachine.validateTransition(form, SUBMITTED));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenTransitionNotAllowed() {
+    FormRPartA form = new FormRPartA();
+    form.setLifecycleState(SUBMITTED);
+
+    MethodArgumentNotValidException exception = assertThrows(
+        MethodArgumentNotValidException.class,
+        () -> stateMachine.validateTransition(form, WITHDRAWN));
+
+    List<FieldError> errors = exception.getBindingResult().getFieldErrors();
+    assertThat("Unexpected error count.", errors.size(), is(1));
+
+    FieldError error = errors.get(0);
+    assertThat("Unexpected error object.", error.getObjectName(), is("FormRPartA"));
+    assertThat("Unexpected error field.", error.getField(), is("status.current.state"));
+    assertThat("Unexpected error message.", error.getDefaultMessage(),
+        is("can not be transitioned to WITHDRAWN"));
+    assertThat("Unexpected parameter index.", exception.getParameter().getParameterIndex(),
+        is(1));
+  }
+
+  @Test
+  void shouldNotThrowExceptionWhenDetailNotRequired() {
+    LtftForm form = new LtftForm();
+
+    assertDoesNotThrow(() -> stateMachine.validateDetail(form, SUBMITTED, null, null));
+  }
+
+  @Test
+  void shouldNotThrowExceptionWhenRequiredDetailHasReason() {
+    LtftForm form = new LtftForm();
+    StatusDetail detail = new StatusDetail("reason", "message");
+
+    assertDoesNotThrow(
+        () -> stateMachine.validateDetail(form, WITHDRAWN, detail, detail.reason()));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenRequiredDetailNull() {
+    LtftForm form = new LtftForm();
+
+    MethodArgumentNotValidException exception = assertThrows(
+        MethodArgumentNotValidException.class,
+        () -> stateMachine.validateDetail(form, WITHDRAWN, null, null));
+
+    List<FieldError> errors = exception.getBindingResult().getFieldErrors();
+    assertThat("Unexpected error count.", errors.size(), is(1));
+
+    FieldError error = errors.get(0);
+    assertThat("Unexpected error object.", error.getObjectName(), is("StatusInfo"));
+    assertThat("Unexpected error field.", error.getField(), is("detail"));
+    assertThat("Unexpected error message.", error.getDefaultMessage(),
+        is("must not be null when transitioning to WITHDRAWN"));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenRequiredDetailReasonNull() {
+    LtftForm form = new LtftForm();
+    StatusDetail detail = new StatusDetail(null, "message");
+
+    MethodArgumentNotValidException exception = assertThrows(
+        MethodArgumentNotValidException.class,
+        () -> stateMachine.validateDetail(form, UNSUBMITTED, detail, detail.reason()));
+
+    FieldError error = exception.getBindingResult().getFieldError();
+    assertThat("Unexpected error.", error, notNullValue());
+    assertThat("Unexpected error field.", error.getField(), is("detail.reason"));
+    assertThat("Unexpected error message.", error.getDefaultMessage(),
+        is("must not be null when transitioning to UNSUBMITTED"));
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.fge.jsonpatch.JsonPatch;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Set;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
+import uk.nhs.hee.tis.trainee.forms.model.content.CctChange;
+import uk.nhs.hee.tis.trainee.forms.model.content.LtftContent;
+import uk.nhs.hee.tis.trainee.forms.service.LtftPatchEngine.LtftPatch;
+
+class LtftPatchEngineTest {
+
+  private LtftPatchEngine engine;
+  private JsonMapper jsonMapper;
+  private Validator validator;
+
+  @BeforeEach
+  void setUp() {
+    jsonMapper = (JsonMapper) new JsonMapper().registerModule(new JavaTimeModule());
+    validator = mock(Validator.class);
+    engine = new LtftPatchEngine(jsonMapper, validator);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"add", "remove", "move", "copy", "test"})
+  void shouldThrowExceptionCompilingWhenOperationNotReplace(String op) throws IOException {
+    JsonPatch patch = JsonPatch.fromJson(jsonMapper.readTree("""
+        [
+          {
+            "op": "%s",
+            "path": "/change/wte",
+            "from": "/change/wte",
+            "value": 0.5
+          }
+        ]
+        """.formatted(op)));
+
+    assertThrows(IllegalArgumentException.class, () -> engine.compile(patch));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"/change", "/change/endDate", "/personalDetails/email", "/status"})
+  void shouldThrowExceptionCompilingWhenPathNotPatchable(String path) throws IOException {
+    JsonPatch patch = JsonPatch.fromJson(jsonMapper.readTree("""
+        [
+          {
+            "op": "replace",
+            "path": "%s",
+            "value": "value1"
+          }
+        ]
+        """.formatted(path)));
+
+    assertThrows(IllegalArgumentException.class, () -> engine.compile(patch));
+  }
+
+  @Test
+  void shouldThrowExceptionCompilingWhenValueInvalid() throws IOException {
+    JsonPatch patch = JsonPatch.fromJson(jsonMapper.readTree("""
+        [
+          {
+            "op": "replace",
+            "path": "/change/wte",
+            "value": 1.1
+          }
+        ]
+        """));
+
+    ConstraintViolation<LtftFormDto> violation = mock(ConstraintViolation.class);
+    when(validator.validateValue(LtftFormDto.class, "change.wte", 1.1)).thenReturn(
+        Set.of(violation));
+
+    ConstraintViolationException exception = assertThrows(ConstraintViolationException.class,
+        () -> engine.compile(patch));
+
+    Set<ConstraintViolation<?>> violations = exception.getConstraintViolations();
+    assertThat("Unexpected violation count.", violations, hasSize(1));
+    assertThat("Unexpected violation.", violations.iterator().next(), sameInstance(violation));
+  }
+
+  @Test
+  void shouldValidateEachPatchedValueAgainstItsField() throws IOException {
+    JsonPatch patch = JsonPatch.fromJson(jsonMapper.readTree("""
+        [
+          {
+            "op": "replace",
+            "path": "/change/startDate",
+            "value": "2030-01-01"
+          },
+          {
+            "op": "replace",
+            "path": "/change/wte",
+            "value": 0.5
+          }
+        ]
+        """));
+
+    engine.compile(patch);
+
+    verify(validator).validateValue(LtftFormDto.class, "change.startDate",
+        LocalDate.of(2030, 1, 1));
+    verify(validator).validateValue(LtftFormDto.class, "change.wte", 0.5);
+  }
+
+  @Test
+  void shouldApplyPatchedValues() throws IOException {
+    JsonPatch patch = JsonPatch.fromJson(jsonMapper.readTree("""
+        [
+          {
+            "op": "replace",
+            "path": "/change/startDate",
+            "value": "2030-01-01"
+          },
+          {
+            "op": "replace",
+            "path": "/change/wte",
+            "value": 0.5
+          }
+        ]
+        """));
+    LtftPatch ltftPatch = engine.compile(patch);
+
+    LtftContent content = LtftContent.builder()
+        .name("name1")
+        .change(CctChange.builder()
+            .wte(0.8)
+            .startDate(LocalDate.of(2029, 1, 1))
+            .endDate(LocalDate.of(2031, 1, 1))
+            .build())
+        .build();
+
+    LtftContent patched = ltftPatch.apply(content);
+
+    assertThat("Unexpected name.", patched.name(), is("name1"));
+    assertThat("Unexpected start date.", patched.change().startDate(),
+        is(LocalDate.of(2030, 1, 1)));
+    assertThat("Unexpected WTE.", patched.change().wte(), is(0.5));
+    assertThat("Unexpected end date.", patched.change().endDate(), is(LocalDate.of(2031, 1, 1)));
+  }
+
+  @Test
+  void shouldApplyPatchedValuesWhenChangeNull() throws IOException {
+    JsonPatch patch = JsonPatch.fromJson(jsonMapper.readTree("""
+        [
+          {
+            "op": "replace",
+            "path": "/change/wte",
+            "value": 0.5
+          }
+        ]
+        """));
+    LtftPatch ltftPatch = engine.compile(patch);
+
+    LtftContent patched = ltftPatch.apply(LtftContent.builder().build());
+
+    assertThat("Unexpected start date.", patched.change().startDate(), nullValue());
+    assertThat("Unexpected WTE.", patched.change().wte(), is(0.5));
+  }
+
+  @Test
+  void shouldReturnSameContentWhenPatchMakesNoChanges() throws IOException {
+    JsonPatch patch = JsonPatch.fromJson(jsonMapper.readTree("""
+        [
+          {
+            "op": "replace",
+            "path": "/change/wte",
+            "value": 0.8
+          }
+        ]
+        """));
+    LtftPatch ltftPatch = engine.compile(patch);
+
+    LtftContent content = LtftContent.builder()
+        .change(CctChange.builder()
+            .wte(0.8)
+            .build())
+        .build();
+
+    LtftContent patched = ltftPatch.apply(content);
+
+    assertThat("Unexpected content.", patched, sameInstance(content));
+  }
+
+  @Test
+  void shouldCreateUpdateSettingOnlyPatchedFields() throws IOException {
+    JsonPatch patch = JsonPatch.fromJson(jsonMapper.readTree("""
+        [
+          {
+            "op": "replace",
+            "path": "/change/startDate",
+            "value": "2030-01-01"
+          },
+          {
+            "op": "replace",
+            "path": "/change/wte",
+            "value": 0.5
+          }
+        ]
+        """));
+    LtftPatch ltftPatch = engine.compile(patch);
+
+    Document updateObject = ltftPatch.toUpdate().getUpdateObject();
+    assertThat("Unexpected update operators.", updateObject.keySet(), is(Set.of("$set")));
+
+    Document setObject = updateObject.get("$set", Document.class);
+    assertThat("Unexpected set count.", setObject.size(), is(2));
+    assertThat("Unexpected start date.", setObject.get("content.change.startDate"),
+        is(LocalDate.of(2030, 1, 1)));
+    assertThat("Unexpected WTE.", setObject.get("content.change.wte"), is(0.5));
+  }
+}
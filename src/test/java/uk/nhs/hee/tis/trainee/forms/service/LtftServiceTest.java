@@ -22,6 +22,7 @@
 package uk.nhs.hee.tis.trainee.forms.service;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
@@ -37,6 +38,7 @@ import static org.junit.jupiter.params.provider.EnumSource.Mode.EXCLUDE;
 import static org.junit.jupiter.params.provider.EnumSource.Mode.INCLUDE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -54,36 +56,55 @@ import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.REJECT
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.SUBMITTED;
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.UNSUBMITTED;
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.WITHDRAWN;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.METRIC_TRANSITIONS;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.METRIC_TRANSITION_DURATION;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.OUTCOME_FAILED;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.OUTCOME_REJECTED;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.OUTCOME_SUCCESS;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.TAG_FROM;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.TAG_OUTCOME;
+import static uk.nhs.hee.tis.trainee.forms.service.AbstractAuditedFormService.TAG_TO;
 import static uk.nhs.hee.tis.trainee.forms.service.LtftService.FORM_ATTRIBUTE_FORM_STATUS;
 import static uk.nhs.hee.tis.trainee.forms.service.LtftService.FORM_ATTRIBUTE_TPD_STATUS;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.github.fge.jsonpatch.JsonPatch;
-import com.github.fge.jsonpatch.JsonPatchException;
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.LongSupplier;
 import java.util.stream.Stream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -93,20 +114,29 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import uk.nhs.hee.tis.trainee.forms.api.util.EtagUtil;
 import uk.nhs.hee.tis.trainee.forms.dto.FeaturesDto;
 import uk.nhs.hee.tis.trainee.forms.dto.FeaturesDto.FormFeatures;
 import uk.nhs.hee.tis.trainee.forms.dto.FeaturesDto.FormFeatures.LtftFeatures;
 import uk.nhs.hee.tis.trainee.forms.dto.FormPatchDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftAdminSummaryDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftBulkResultDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftBulkResultDto.ItemResultDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftBulkResultDto.Outcome;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto.CctChangeDto;
 import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto.DeclarationsDto;
@@ -126,6 +156,7 @@ import uk.nhs.hee.tis.trainee.forms.dto.enumeration.EmailValidityType;
 import uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState;
 import uk.nhs.hee.tis.trainee.forms.dto.identity.AdminIdentity;
 import uk.nhs.hee.tis.trainee.forms.dto.identity.TraineeIdentity;
+import uk.nhs.hee.tis.trainee.forms.jfr.FormTransitionEvent;
 import uk.nhs.hee.tis.trainee.forms.mapper.LtftMapper;
 import uk.nhs.hee.tis.trainee.forms.mapper.LtftMapperImpl;
 import uk.nhs.hee.tis.trainee.forms.mapper.TemporalMapper;
@@ -166,6 +197,8 @@ class LtftServiceTest {
   private static final UUID PM_UUID = UUID.randomUUID();
 
   private static final ZoneId TIMEZONE = ZoneId.of("Europe/London");
+  private static final ReadPreference REPORTING_READ_PREFERENCE
+      = ReadPreference.secondaryPreferred();
 
   private LtftService service;
   private LtftFormRepository repository;
@@ -177,6 +210,9 @@ class LtftServiceTest {
   private EventBroadcastService eventBroadcastService;
   private SubmissionHistoryService<LtftForm> ltftSubmissionHistoryService;
   private ReviewStageService reviewStageService;
+  private FormStatusHistoryService statusHistoryService;
+  private FormReferenceService formReferenceService;
+  private SimpleMeterRegistry meterRegistry;
 
   @BeforeEach
   void setUp() {
@@ -203,6 +239,8 @@ class LtftServiceTest {
     eventBroadcastService = mock();
     ltftSubmissionHistoryService = mock();
     reviewStageService = mock();
+    statusHistoryService = mock();
+    formReferenceService = mock();
     when(reviewStageService.canTransitionToLifecycleState(any(), any())).thenReturn(true);
 
     jsonMapper = (JsonMapper) new JsonMapper().registerModule(new JavaTimeModule());
@@ -210,10 +248,12 @@ class LtftServiceTest {
     mapper = new LtftMapperImpl(temporalMapper);
     mapper.setTemporalMapper(temporalMapper);
     validator = mock();
-    service = new LtftService(adminIdentity, traineeIdentity, repository, mongoTemplate, jsonMapper,
-        mapper, validator, eventBroadcastService, LTFT_ASSIGNMENT_UPDATE_TOPIC,
-        LTFT_STATUS_UPDATE_TOPIC, LTFT_STATUS_CONTENT_TOPIC, ltftSubmissionHistoryService,
-        reviewStageService, TIMEZONE);
+    meterRegistry = new SimpleMeterRegistry();
+    service = new LtftService(adminIdentity, traineeIdentity, repository, mongoTemplate,
+        REPORTING_READ_PREFERENCE, jsonMapper, mapper, validator, eventBroadcastService,
+        LTFT_ASSIGNMENT_UPDATE_TOPIC, LTFT_STATUS_UPDATE_TOPIC, LTFT_STATUS_CONTENT_TOPIC,
+        ltftSubmissionHistoryService, reviewStageService, statusHistoryService,
+        formReferenceService, new LifecycleStateMachine(), meterRegistry, TIMEZONE);
   }
 
   @Test
@@ -342,6 +382,18 @@ class LtftServiceTest {
     assertThat("Unexpected limited flag.", query.isLimited(), is(false));
   }
 
+  @Test
+  void shouldUseReportingReadPreferenceWhenCountingAdminLtfts() {
+    service.getAdminLtftCount(Map.of());
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    verify(mongoTemplate).count(queryCaptor.capture(), eq(LtftForm.class));
+
+    Query query = queryCaptor.getValue();
+    assertThat("Unexpected read preference.", query.getReadPreference(),
+        is(REPORTING_READ_PREFERENCE));
+  }
+
   @Test
   void shouldExcludeNonSubmittedWhenCountingAdminLtfts() {
     service.getAdminLtftCount(Map.of());
@@ -558,6 +610,20 @@ class LtftServiceTest {
     verify(mongoTemplate, never()).count(any(), eq(LtftForm.class));
   }
 
+  @Test
+  void shouldUseReportingReadPreferenceWhenGettingAdminLtftSummaries() {
+    service.getAdminLtftSummaries(Map.of(), PageRequest.of(1, 1));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    verify(mongoTemplate).find(queryCaptor.capture(), eq(LtftForm.class));
+    verify(mongoTemplate).count(queryCaptor.capture(), eq(LtftForm.class));
+
+    List<Query> queries = queryCaptor.getAllValues();
+    assertThat("Unexpected query count.", queries, hasSize(2));
+    queries.forEach(query -> assertThat("Unexpected read preference.", query.getReadPreference(),
+        is(REPORTING_READ_PREFERENCE)));
+  }
+
   @Test
   void shouldExcludeNonSubmittedWhenGettingAdminLtftSummaries() {
     service.getAdminLtftSummaries(Map.of(), PageRequest.of(1, 1));
@@ -843,6 +909,43 @@ class LtftServiceTest {
     assertThat("Unexpected dto presence.", optionalDto.isPresent(), is(false));
   }
 
+  @Test
+  void shouldGetEmptyAdminLtftStatusHistoryWhenFormNotFound() {
+    when(repository
+        .existsByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+            ID, Set.of(DRAFT), Set.of(ADMIN_GROUP))).thenReturn(false);
+
+    Optional<List<StatusInfoDto>> history = service.getAdminLtftStatusHistory(ID);
+
+    assertThat("Unexpected history presence.", history.isPresent(), is(false));
+    verifyNoInteractions(statusHistoryService);
+  }
+
+  @Test
+  void shouldGetFullAdminLtftStatusHistoryWhenFormFound() {
+    when(repository
+        .existsByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+            ID, Set.of(DRAFT), Set.of(ADMIN_GROUP))).thenReturn(true);
+
+    Instant timestamp = Instant.now();
+    StatusInfo submitted = StatusInfo.builder()
+        .state(SUBMITTED)
+        .timestamp(timestamp)
+        .revision(1)
+        .build();
+    when(statusHistoryService.getFullHistory(ID)).thenReturn(List.of(submitted));
+
+    Optional<List<StatusInfoDto>> history = service.getAdminLtftStatusHistory(ID);
+
+    assertThat("Unexpected history presence.", history.isPresent(), is(true));
+    List<StatusInfoDto> entries = history.get();
+    assertThat("Unexpected history count.", entries, hasSize(1));
+    StatusInfoDto entry = entries.get(0);
+    assertThat("Unexpected state.", entry.state(), is(SUBMITTED));
+    assertThat("Unexpected timestamp.", entry.timestamp(), is(timestamp));
+    assertThat("Unexpected revision.", entry.revision(), is(1));
+  }
+
   @Test
   void shouldGetAdminLtftDetailWhenFormFound() {
     LtftForm entity = new LtftForm();
@@ -1552,8 +1655,8 @@ class LtftServiceTest {
         [
           {
             "op": "replace",
-            "path": "/path",
-            "value": "newValue"
+            "path": "/change/wte",
+            "value": 0.5
           }
         ]
         """);
@@ -1562,7 +1665,7 @@ class LtftServiceTest {
     Optional<LtftFormDto> patchedForm = service.applyAdminPatch(ID, formPatch);
 
     assertThat("Unexpected form.", patchedForm, is(Optional.empty()));
-    verify(repository, never()).save(any());
+    verify(mongoTemplate, never()).updateFirst(any(), any(), eq(LtftForm.class));
   }
 
   @ParameterizedTest
@@ -1582,8 +1685,8 @@ class LtftServiceTest {
         [
           {
             "op": "replace",
-            "path": "/path",
-            "value": "newValue"
+            "path": "/change/wte",
+            "value": 0.5
           }
         ]
         """);
@@ -1592,95 +1695,105 @@ class LtftServiceTest {
     Optional<LtftFormDto> patchedForm = service.applyAdminPatch(ID, formPatch);
 
     assertThat("Unexpected form.", patchedForm, is(Optional.empty()));
-    verify(repository, never()).save(any());
+    verify(mongoTemplate, never()).updateFirst(any(), any(), eq(LtftForm.class));
   }
 
   @Test
-  void shouldThrowExceptionPatchingFormWhenTargetPathNotExists() throws IOException {
-    LtftForm entity = new LtftForm();
-    entity.setId(ID);
-    entity.setContent(LtftContent.builder().build());
-    entity.setLifecycleState(SUBMITTED);
-
-    when(repository
-        .findByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
-            any(), any(), any())).thenReturn(Optional.of(entity));
-
+  void shouldThrowExceptionPatchingFormWhenPathNotPatchable() throws IOException {
     JsonNode patchNode = jsonMapper.readTree("""
         [
           {
             "op": "replace",
-            "path": "/path",
-            "value": "newValue"
+            "path": "/personalDetails/email",
+            "value": "new@example.com"
           }
         ]
         """);
     FormPatchDto formPatch = new FormPatchDto(JsonPatch.fromJson(patchNode), "reason1", "message1");
 
-    RuntimeException exception = assertThrows(RuntimeException.class,
-        () -> service.applyAdminPatch(ID, formPatch));
+    assertThrows(IllegalArgumentException.class, () -> service.applyAdminPatch(ID, formPatch));
 
-    assertThat("Unexpected exception.", exception.getCause(), instanceOf(JsonPatchException.class));
-    verify(repository, never()).save(any());
+    verifyNoInteractions(repository);
+    verify(mongoTemplate, never()).updateFirst(any(), any(), eq(LtftForm.class));
   }
 
   @Test
-  void shouldThrowExceptionPatchingFormWhenNewPathNotExists() throws IOException {
-    LtftForm entity = new LtftForm();
-    entity.setId(ID);
-    entity.setContent(LtftContent.builder().build());
-    entity.setLifecycleState(SUBMITTED);
+  void shouldThrowExceptionPatchingFormWhenOperationNotReplace() throws IOException {
+    JsonNode patchNode = jsonMapper.readTree("""
+        [
+          {
+            "op": "add",
+            "path": "/change/wte",
+            "value": 0.5
+          }
+        ]
+        """);
+    FormPatchDto formPatch = new FormPatchDto(JsonPatch.fromJson(patchNode), "reason1", "message1");
 
-    when(repository
-        .findByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
-            any(), any(), any())).thenReturn(Optional.of(entity));
+    assertThrows(IllegalArgumentException.class, () -> service.applyAdminPatch(ID, formPatch));
+
+    verifyNoInteractions(repository);
+    verify(mongoTemplate, never()).updateFirst(any(), any(), eq(LtftForm.class));
+  }
 
+  @Test
+  void shouldThrowExceptionPatchingFormWhenPatchValueInvalid() throws IOException {
     JsonNode patchNode = jsonMapper.readTree("""
         [
           {
-            "op": "add",
-            "path": "/path",
-            "value": "newValue"
+            "op": "replace",
+            "path": "/change/wte",
+            "value": 1.1
           }
         ]
         """);
     FormPatchDto formPatch = new FormPatchDto(JsonPatch.fromJson(patchNode), "reason1", "message1");
 
-    RuntimeException exception = assertThrows(RuntimeException.class,
-        () -> service.applyAdminPatch(ID, formPatch));
+    when(validator.validateValue(LtftFormDto.class, "change.wte", 1.1)).thenReturn(
+        Set.of(mock(ConstraintViolation.class)));
 
-    assertThat("Unexpected exception.", exception.getCause(),
-        instanceOf(JsonProcessingException.class));
-    verify(repository, never()).save(any());
+    assertThrows(ConstraintViolationException.class, () -> service.applyAdminPatch(ID, formPatch));
+
+    verifyNoInteractions(repository);
+    verify(mongoTemplate, never()).updateFirst(any(), any(), eq(LtftForm.class));
   }
 
   @Test
-  void shouldThrowExceptionPatchingFormWhenPatchMakesFormInvalid() throws IOException {
+  void shouldValidateOnlyPatchedValues() throws IOException {
     LtftForm entity = new LtftForm();
     entity.setId(ID);
     entity.setContent(LtftContent.builder().build());
+    entity.setRevision(1);
     entity.setLifecycleState(SUBMITTED);
 
     when(repository
         .findByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
             any(), any(), any())).thenReturn(Optional.of(entity));
+    when(mongoTemplate.updateFirst(any(), any(), eq(LtftForm.class))).thenReturn(
+        UpdateResult.acknowledged(1, 1L, null));
 
     JsonNode patchNode = jsonMapper.readTree("""
         [
           {
             "op": "replace",
-            "path": "/formRef",
-            "value": null
+            "path": "/change/startDate",
+            "value": "2030-01-01"
+          },
+          {
+            "op": "replace",
+            "path": "/change/wte",
+            "value": 0.5
           }
         ]
         """);
     FormPatchDto formPatch = new FormPatchDto(JsonPatch.fromJson(patchNode), "reason1", "message1");
 
-    when(validator.validate(any())).thenReturn(Set.of(mock(ConstraintViolation.class)));
-
-    assertThrows(ConstraintViolationException.class, () -> service.applyAdminPatch(ID, formPatch));
+    service.applyAdminPatch(ID, formPatch);
 
-    verify(repository, never()).save(any());
+    verify(validator).validateValue(LtftFormDto.class, "change.startDate",
+        LocalDate.of(2030, 1, 1));
+    verify(validator).validateValue(LtftFormDto.class, "change.wte", 0.5);
+    verifyNoMoreInteractions(validator);
   }
 
   @Test
@@ -1694,14 +1807,15 @@ class LtftServiceTest {
     when(repository
         .findByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
             any(), any(), any())).thenReturn(Optional.of(entity));
-    when(repository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    when(mongoTemplate.updateFirst(any(), any(), eq(LtftForm.class))).thenReturn(
+        UpdateResult.acknowledged(1, 1L, null));
 
     JsonNode patchNode = jsonMapper.readTree("""
         [
           {
             "op": "replace",
-            "path": "/personalDetails/email",
-            "value": "new@example.com"
+            "path": "/change/wte",
+            "value": 0.5
           }
         ]
         """);
@@ -1714,8 +1828,7 @@ class LtftServiceTest {
     LtftFormDto patchedForm = optionalForm.get();
     assertThat("Unexpected form ID.", patchedForm.id(), is(ID));
     assertThat("Unexpected revision.", patchedForm.revision(), is(2));
-    assertThat("Unexpected email.", patchedForm.personalDetails().email(),
-        is("new@example.com"));
+    assertThat("Unexpected WTE.", patchedForm.change().wte(), is(0.5));
     assertThat("Unexpected status history count.", patchedForm.status().history(), hasSize(2));
 
     StatusInfoDto current = patchedForm.status().current();
@@ -1736,7 +1849,125 @@ class LtftServiceTest {
     assertThat("Unexpected latest status reason.", history.detail().reason(), is("reason1"));
     assertThat("Unexpected latest status message.", history.detail().message(), is("message1"));
 
-    verify(repository).save(any());
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  void shouldUpdateOnlyPatchedFieldsWhenFormSubmitted() throws IOException {
+    LtftForm entity = new LtftForm();
+    entity.setId(ID);
+    entity.setContent(LtftContent.builder()
+        .change(CctChange.builder()
+            .wte(0.8)
+            .startDate(LocalDate.of(2029, 1, 1))
+            .build())
+        .build());
+    entity.setRevision(1);
+    entity.setLifecycleState(SUBMITTED);
+
+    when(repository
+        .findByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+            any(), any(), any())).thenReturn(Optional.of(entity));
+    when(mongoTemplate.updateFirst(any(), any(), eq(LtftForm.class))).thenReturn(
+        UpdateResult.acknowledged(1, 1L, null));
+
+    JsonNode patchNode = jsonMapper.readTree("""
+        [
+          {
+            "op": "replace",
+            "path": "/change/startDate",
+            "value": "2030-01-01"
+          },
+          {
+            "op": "replace",
+            "path": "/change/wte",
+            "value": 0.5
+          }
+        ]
+        """);
+    FormPatchDto formPatch = new FormPatchDto(JsonPatch.fromJson(patchNode), "reason1", "message1");
+
+    service.applyAdminPatch(ID, formPatch);
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.captor();
+    verify(mongoTemplate).updateFirst(queryCaptor.capture(), updateCaptor.capture(),
+        eq(LtftForm.class));
+
+    Document queryObject = queryCaptor.getValue().getQueryObject();
+    assertThat("Unexpected query ID.", queryObject.get("_id"), is(ID));
+    assertThat("Unexpected query revision.", queryObject.get("revision"), is(1));
+
+    Document setObject = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+    assertThat("Unexpected updated start date.", setObject.get("content.change.startDate"),
+        is(LocalDate.of(2030, 1, 1)));
+    assertThat("Unexpected updated WTE.", setObject.get("content.change.wte"), is(0.5));
+    assertThat("Unexpected updated revision.", setObject.get("revision"), is(2));
+    assertThat("Unexpected updated status.", setObject.get("status"), is(entity.getStatus()));
+    assertThat("Unexpected full content update.", setObject.containsKey("content"), is(false));
+  }
+
+  @Test
+  void shouldThrowExceptionPatchingFormWhenModifiedConcurrently() throws IOException {
+    LtftForm entity = new LtftForm();
+    entity.setId(ID);
+    entity.setContent(LtftContent.builder().build());
+    entity.setRevision(1);
+    entity.setLifecycleState(SUBMITTED);
+
+    when(repository
+        .findByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+            any(), any(), any())).thenReturn(Optional.of(entity));
+    when(mongoTemplate.updateFirst(any(), any(), eq(LtftForm.class))).thenReturn(
+        UpdateResult.acknowledged(0, 0L, null));
+
+    JsonNode patchNode = jsonMapper.readTree("""
+        [
+          {
+            "op": "replace",
+            "path": "/change/wte",
+            "value": 0.5
+          }
+        ]
+        """);
+    FormPatchDto formPatch = new FormPatchDto(JsonPatch.fromJson(patchNode), "reason1", "message1");
+
+    assertThrows(OptimisticLockingFailureException.class,
+        () -> service.applyAdminPatch(ID, formPatch));
+
+    verifyNoInteractions(statusHistoryService);
+    verifyNoInteractions(ltftSubmissionHistoryService);
+    verifyNoInteractions(eventBroadcastService);
+  }
+
+  @Test
+  void shouldRecordStatusHistoryOfPatchedFormWhenFormSubmitted() throws IOException {
+    LtftForm entity = new LtftForm();
+    entity.setId(ID);
+    entity.setContent(LtftContent.builder().build());
+    entity.setRevision(1);
+    entity.setLifecycleState(SUBMITTED);
+
+    when(repository
+        .findByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+            any(), any(), any())).thenReturn(Optional.of(entity));
+    when(mongoTemplate.updateFirst(any(), any(), eq(LtftForm.class))).thenReturn(
+        UpdateResult.acknowledged(1, 1L, null));
+
+    JsonNode patchNode = jsonMapper.readTree("""
+        [
+          {
+            "op": "replace",
+            "path": "/change/wte",
+            "value": 0.5
+          }
+        ]
+        """);
+    FormPatchDto formPatch = new FormPatchDto(JsonPatch.fromJson(patchNode), "reason1", "message1");
+
+    service.applyAdminPatch(ID, formPatch);
+
+    verify(statusHistoryService).recordStatusHistory(entity);
   }
 
   @Test
@@ -1750,14 +1981,15 @@ class LtftServiceTest {
     when(repository
         .findByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
             any(), any(), any())).thenReturn(Optional.of(entity));
-    when(repository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    when(mongoTemplate.updateFirst(any(), any(), eq(LtftForm.class))).thenReturn(
+        UpdateResult.acknowledged(1, 1L, null));
 
     JsonNode patchNode = jsonMapper.readTree("""
         [
           {
             "op": "replace",
-            "path": "/personalDetails/email",
-            "value": "new@example.com"
+            "path": "/change/wte",
+            "value": 0.5
           }
         ]
         """);
@@ -1782,14 +2014,15 @@ class LtftServiceTest {
     when(repository
         .findByIdAndStatus_Current_StateNotInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
             any(), any(), any())).thenReturn(Optional.of(entity));
-    when(repository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    when(mongoTemplate.updateFirst(any(), any(), eq(LtftForm.class))).thenReturn(
+        UpdateResult.acknowledged(1, 1L, null));
 
     JsonNode patchNode = jsonMapper.readTree("""
         [
           {
             "op": "replace",
-            "path": "/personalDetails/email",
-            "value": "new@example.com"
+            "path": "/change/wte",
+            "value": 0.5
           }
         ]
         """);
@@ -1811,8 +2044,7 @@ class LtftServiceTest {
     assertThat("Unexpected lifecycle state.", capturedForm.status().current().state(),
         is(SUBMITTED));
 
-    assertThat("Unexpected trainee email.", capturedForm.personalDetails().email(),
-        is("new@example.com"));
+    assertThat("Unexpected WTE.", capturedForm.change().wte(), is(0.5));
 
     assertThat("Unexpected SNS topic.", snsTopicCaptor.getValue(), is(LTFT_STATUS_CONTENT_TOPIC));
     verifyNoMoreInteractions(eventBroadcastService);
@@ -1866,7 +2098,7 @@ class LtftServiceTest {
     assertThat("Unexpected original status reason.", history.detail().reason(), nullValue());
     assertThat("Unexpected original status message.", history.detail().message(), nullValue());
 
-    verify(repository, never()).save(any());
+    verify(mongoTemplate, never()).updateFirst(any(), any(), eq(LtftForm.class));
     verifyNoInteractions(ltftSubmissionHistoryService);
   }
 
@@ -1967,6 +2199,48 @@ class LtftServiceTest {
     verify(repository, never()).save(any());
   }
 
+  @Test
+  void shouldCountTransitionWhenStatusUpdateSaved() throws MethodArgumentNotValidException {
+    LtftForm form = new LtftForm();
+    form.setId(ID);
+    form.setLifecycleState(SUBMITTED);
+
+    when(repository.findByIdAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+        ID, Set.of(ADMIN_GROUP))).thenReturn(Optional.of(form));
+    when(repository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+    service.updateStatusAsAdmin(ID, APPROVED, null);
+
+    Counter counter = meterRegistry.find(METRIC_TRANSITIONS)
+        .tags(TAG_FROM, "SUBMITTED", TAG_TO, "APPROVED", TAG_OUTCOME, OUTCOME_SUCCESS)
+        .counter();
+    assertThat("Unexpected transition counter presence.", counter, notNullValue());
+    assertThat("Unexpected transition count.", counter.count(), is(1.0));
+
+    Timer timer = meterRegistry.find(METRIC_TRANSITION_DURATION).tags(TAG_TO, "APPROVED").timer();
+    assertThat("Unexpected transition timer presence.", timer, notNullValue());
+    assertThat("Unexpected transition timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldNotCountTransitionWhenStatusUpdateSaveFails() {
+    LtftForm form = new LtftForm();
+    form.setId(ID);
+    form.setLifecycleState(SUBMITTED);
+
+    when(repository.findByIdAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+        ID, Set.of(ADMIN_GROUP))).thenReturn(Optional.of(form));
+    when(repository.save(any())).thenThrow(new IllegalStateException("save failed"));
+
+    assertThrows(IllegalStateException.class,
+        () -> service.updateStatusAsAdmin(ID, APPROVED, null));
+
+    assertThat("Unexpected transition counter presence.",
+        meterRegistry.find(METRIC_TRANSITIONS).counter(), nullValue());
+    assertThat("Unexpected transition timer presence.",
+        meterRegistry.find(METRIC_TRANSITION_DURATION).timer(), nullValue());
+  }
+
   @ParameterizedTest
   @EnumSource(LifecycleState.class)
   void shouldReturnEmptyUpdatingStatusWhenFormNotFound(LifecycleState state)
@@ -2838,6 +3112,41 @@ class LtftServiceTest {
     assertThat("Unexpected returned LTFT form.", returnedFormDto, is(mapper.toDto(form)));
   }
 
+  @ParameterizedTest
+  @EnumSource(value = LifecycleState.class, names = {"DRAFT", "UNSUBMITTED"})
+  void shouldIncludeCurrentDateInEtagWhenShortNoticeUsesCurrentDate(LifecycleState state) {
+    LtftForm form = new LtftForm();
+    form.setId(ID);
+    form.setRevision(2);
+    form.setStatus(Status.builder()
+        .current(StatusInfo.builder().state(state).build())
+        .submitted(Instant.now().minus(Duration.ofDays(7)))
+        .build());
+    when(repository.findVersionByTraineeTisIdAndId(TRAINEE_ID, ID)).thenReturn(Optional.of(form));
+
+    Optional<String> etag = service.getLtftFormEtag(ID);
+
+    String expected = EtagUtil.withVariant(EtagUtil.forForm(form),
+        LocalDate.now(ZoneId.of("Etc/UTC")).toString());
+    assertThat("Unexpected ETag.", etag, is(Optional.of(expected)));
+  }
+
+  @Test
+  void shouldNotIncludeCurrentDateInEtagWhenShortNoticeUsesSubmissionDate() {
+    LtftForm form = new LtftForm();
+    form.setId(ID);
+    form.setRevision(2);
+    form.setStatus(Status.builder()
+        .current(StatusInfo.builder().state(SUBMITTED).build())
+        .submitted(Instant.now().minus(Duration.ofDays(7)))
+        .build());
+    when(repository.findVersionByTraineeTisIdAndId(TRAINEE_ID, ID)).thenReturn(Optional.of(form));
+
+    Optional<String> etag = service.getLtftFormEtag(ID);
+
+    assertThat("Unexpected ETag.", etag, is(Optional.of(EtagUtil.forForm(form))));
+  }
+
   @Test
   void shouldNotSaveIfNewLtftFormNotForTrainee() {
     LtftFormDto dtoToSave = LtftFormDto.builder()
@@ -2883,10 +3192,11 @@ class LtftServiceTest {
     TraineeIdentity traineeIdentity = new TraineeIdentity();
     traineeIdentity.setTraineeId(TRAINEE_ID);
 
-    service = new LtftService(adminIdentity, traineeIdentity, repository, mongoTemplate, jsonMapper,
-        mapper, validator, eventBroadcastService, LTFT_ASSIGNMENT_UPDATE_TOPIC,
-        LTFT_STATUS_UPDATE_TOPIC, LTFT_STATUS_CONTENT_TOPIC, ltftSubmissionHistoryService,
-        reviewStageService, TIMEZONE);
+    service = new LtftService(adminIdentity, traineeIdentity, repository, mongoTemplate,
+        REPORTING_READ_PREFERENCE, jsonMapper, mapper, validator, eventBroadcastService,
+        LTFT_ASSIGNMENT_UPDATE_TOPIC, LTFT_STATUS_UPDATE_TOPIC, LTFT_STATUS_CONTENT_TOPIC,
+        ltftSubmissionHistoryService, reviewStageService, statusHistoryService,
+        formReferenceService, new LifecycleStateMachine(), new SimpleMeterRegistry(), TIMEZONE);
 
     LtftFormDto dtoToSave = LtftFormDto.builder()
         .traineeTisId(TRAINEE_ID)
@@ -2921,10 +3231,11 @@ class LtftServiceTest {
             .build())
         .build());
 
-    service = new LtftService(adminIdentity, traineeIdentity, repository, mongoTemplate, jsonMapper,
-        mapper, validator, eventBroadcastService, LTFT_ASSIGNMENT_UPDATE_TOPIC,
-        LTFT_STATUS_UPDATE_TOPIC, LTFT_STATUS_CONTENT_TOPIC, ltftSubmissionHistoryService,
-        reviewStageService, TIMEZONE);
+    service = new LtftService(adminIdentity, traineeIdentity, repository, mongoTemplate,
+        REPORTING_READ_PREFERENCE, jsonMapper, mapper, validator, eventBroadcastService,
+        LTFT_ASSIGNMENT_UPDATE_TOPIC, LTFT_STATUS_UPDATE_TOPIC, LTFT_STATUS_CONTENT_TOPIC,
+        ltftSubmissionHistoryService, reviewStageService, statusHistoryService,
+        formReferenceService, new LifecycleStateMachine(), new SimpleMeterRegistry(), TIMEZONE);
 
     LtftFormDto dtoToSave = LtftFormDto.builder()
         .traineeTisId(TRAINEE_ID)
@@ -2958,10 +3269,11 @@ class LtftServiceTest {
             .build())
         .build());
 
-    service = new LtftService(adminIdentity, traineeIdentity, repository, mongoTemplate, jsonMapper,
-        mapper, validator, eventBroadcastService, LTFT_ASSIGNMENT_UPDATE_TOPIC,
-        LTFT_STATUS_UPDATE_TOPIC, LTFT_STATUS_CONTENT_TOPIC, ltftSubmissionHistoryService,
-        reviewStageService, TIMEZONE);
+    service = new LtftService(adminIdentity, traineeIdentity, repository, mongoTemplate,
+        REPORTING_READ_PREFERENCE, jsonMapper, mapper, validator, eventBroadcastService,
+        LTFT_ASSIGNMENT_UPDATE_TOPIC, LTFT_STATUS_UPDATE_TOPIC, LTFT_STATUS_CONTENT_TOPIC,
+        ltftSubmissionHistoryService, reviewStageService, statusHistoryService,
+        formReferenceService, new LifecycleStateMachine(), new SimpleMeterRegistry(), TIMEZONE);
 
     LtftFormDto dtoToSave = LtftFormDto.builder()
         .traineeTisId(TRAINEE_ID)
@@ -3996,15 +4308,8 @@ class LtftServiceTest {
     verify(ltftSubmissionHistoryService).takeSnapshot(form);
   }
 
-  @ParameterizedTest
-  @CsvSource(delimiter = '|', textBlock = """
-      0 | _001
-      1 | _002
-      10 | _011
-      100 | _101
-      1000 | _1001
-      """)
-  void shouldPopulateFormRefWhenSubmittingForm(long previousFormCount, String refSuffix) {
+  @Test
+  void shouldPopulateFormRefWhenSubmittingForm() {
     LtftForm form = new LtftForm();
     form.setId(ID);
     form.setTraineeTisId(TRAINEE_ID);
@@ -4012,18 +4317,38 @@ class LtftServiceTest {
     form.setContent(LtftContent.builder().name("test").build());
 
     when(repository.findByTraineeTisIdAndId(TRAINEE_ID, ID)).thenReturn(Optional.of(form));
-    when(repository.countByTraineeTisIdAndStatus_SubmittedIsNotNull(TRAINEE_ID))
-        .thenReturn((int) previousFormCount);
+    when(formReferenceService.nextFormReference(eq("ltft"), eq(TRAINEE_ID), any()))
+        .thenReturn("ltft_" + TRAINEE_ID + "_005");
     when(repository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
     Optional<LtftFormDto> result = service.submitLtftForm(ID, null);
 
     assertThat("Unexpected result when form is submitted.", result.isPresent(), is(true));
-    assertThat("Unexpected form ref.", form.getFormRef(), is("ltft_" + TRAINEE_ID + refSuffix));
+    assertThat("Unexpected form ref.", form.getFormRef(), is("ltft_" + TRAINEE_ID + "_005"));
     verify(repository).save(form);
     verify(ltftSubmissionHistoryService).takeSnapshot(form);
   }
 
+  @Test
+  void shouldSeedFormRefCounterFromSubmittedFormCount() {
+    LtftForm form = new LtftForm();
+    form.setId(ID);
+    form.setTraineeTisId(TRAINEE_ID);
+    form.setLifecycleState(DRAFT);
+    form.setContent(LtftContent.builder().name("test").build());
+
+    when(repository.findByTraineeTisIdAndId(TRAINEE_ID, ID)).thenReturn(Optional.of(form));
+    when(repository.countByTraineeTisIdAndStatus_SubmittedIsNotNull(TRAINEE_ID)).thenReturn(4);
+    when(repository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+    service.submitLtftForm(ID, null);
+
+    ArgumentCaptor<LongSupplier> seedCaptor = ArgumentCaptor.captor();
+    verify(formReferenceService).nextFormReference(eq("ltft"), eq(TRAINEE_ID),
+        seedCaptor.capture());
+    assertThat("Unexpected counter seed.", seedCaptor.getValue().getAsLong(), is(4L));
+  }
+
   @Test
   void shouldNotUpdateFormRefWhenResubmittingForm() {
     LtftForm form = new LtftForm();
@@ -4036,14 +4361,13 @@ class LtftServiceTest {
     form.setFormRef(formRef);
 
     when(repository.findByTraineeTisIdAndId(TRAINEE_ID, ID)).thenReturn(Optional.of(form));
-    when(repository.countByTraineeTisIdAndStatus_SubmittedIsNotNull(TRAINEE_ID))
-        .thenReturn(new Random().nextInt());
     when(repository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
     Optional<LtftFormDto> result = service.submitLtftForm(ID, null);
 
     assertThat("Unexpected result when form is submitted.", result.isPresent(), is(true));
     assertThat("Unexpected form ref.", form.getFormRef(), is(formRef));
+    verifyNoInteractions(formReferenceService);
     verify(repository).save(form);
     verify(ltftSubmissionHistoryService).takeSnapshot(form);
   }
@@ -4169,6 +4493,439 @@ class LtftServiceTest {
     verifyNoInteractions(ltftSubmissionHistoryService);
   }
 
+  @Test
+  void shouldReturnNotFoundBulkResultsWhenFormsNotFound() {
+    UUID id1 = UUID.randomUUID();
+    UUID id2 = UUID.randomUUID();
+    when(repository.findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(any(),
+        eq(Set.of(ADMIN_GROUP)))).thenReturn(List.of());
+
+    LtftBulkResultDto result = service.bulkUpdateStatusAsAdmin(List.of(id1, id2), APPROVED, null);
+
+    List<ItemResultDto> results = result.results();
+    assertThat("Unexpected result count.", results, hasSize(2));
+    assertThat("Unexpected result ID.", results.get(0).id(), is(id1));
+    assertThat("Unexpected outcome.", results.get(0).outcome(), is(Outcome.NOT_FOUND));
+    assertThat("Unexpected result ID.", results.get(1).id(), is(id2));
+    assertThat("Unexpected outcome.", results.get(1).outcome(), is(Outcome.NOT_FOUND));
+
+    verify(mongoTemplate, never()).bulkOps(any(BulkMode.class), eq(LtftForm.class));
+    verifyNoInteractions(eventBroadcastService);
+  }
+
+  @Test
+  void shouldFindBulkFormsWithSingleQueryOfUniqueIds() {
+    UUID id1 = UUID.randomUUID();
+    UUID id2 = UUID.randomUUID();
+    when(repository.findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(any(),
+        any())).thenReturn(List.of());
+
+    LtftBulkResultDto result = service.bulkUpdateStatusAsAdmin(List.of(id1, id2, id1), APPROVED,
+        null);
+
+    assertThat("Unexpected result count.", result.results(), hasSize(2));
+
+    ArgumentCaptor<Collection<UUID>> idsCaptor = ArgumentCaptor.captor();
+    verify(repository).findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(
+        idsCaptor.capture(), eq(Set.of(ADMIN_GROUP)));
+    assertThat("Unexpected queried IDs.", Set.copyOf(idsCaptor.getValue()), is(Set.of(id1, id2)));
+    verify(repository, never()).findByIdAndContent_ProgrammeMembership_DesignatedBodyCodeIn(any(),
+        any());
+  }
+
+  @Test
+  void shouldWriteAndPublishBulkApprovedForms() {
+    UUID id1 = UUID.randomUUID();
+    LtftForm form1 = new LtftForm();
+    form1.setId(id1);
+    form1.setLifecycleState(SUBMITTED);
+
+    UUID id2 = UUID.randomUUID();
+    LtftForm form2 = new LtftForm();
+    form2.setId(id2);
+    form2.setLifecycleState(SUBMITTED);
+
+    when(repository.findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(any(),
+        any())).thenReturn(List.of(form2, form1));
+    BulkOperations bulkOps = mock();
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, LtftForm.class)).thenReturn(bulkOps);
+    when(bulkOps.execute()).thenReturn(BulkWriteResult.acknowledged(0, 2, 0, 2, List.of(),
+        List.of()));
+
+    LtftBulkResultDto result = service.bulkUpdateStatusAsAdmin(List.of(id1, id2), APPROVED, null);
+
+    List<ItemResultDto> results = result.results();
+    assertThat("Unexpected result count.", results, hasSize(2));
+    assertThat("Unexpected result ID.", results.get(0).id(), is(id1));
+    assertThat("Unexpected outcome.", results.get(0).outcome(), is(Outcome.UPDATED));
+    assertThat("Unexpected state.", results.get(0).form().status().current().state(),
+        is(APPROVED));
+    assertThat("Unexpected result ID.", results.get(1).id(), is(id2));
+    assertThat("Unexpected outcome.", results.get(1).outcome(), is(Outcome.UPDATED));
+    assertThat("Unexpected state.", results.get(1).form().status().current().state(),
+        is(APPROVED));
+
+    verify(bulkOps).replaceOne(any(Query.class), eq(form1));
+    verify(bulkOps).replaceOne(any(Query.class), eq(form2));
+    verify(bulkOps).execute();
+    verify(repository, never()).save(any());
+    verify(statusHistoryService).recordAllStatusHistory(List.of(form1, form2));
+
+    ArgumentCaptor<List<LtftFormDto>> dtosCaptor = ArgumentCaptor.captor();
+    verify(eventBroadcastService).publishLtftFormUpdateEvents(dtosCaptor.capture(),
+        eq(FORM_ATTRIBUTE_FORM_STATUS), eq(LTFT_STATUS_UPDATE_TOPIC));
+    List<LtftFormDto> dtos = dtosCaptor.getValue();
+    assertThat("Unexpected published count.", dtos, hasSize(2));
+    assertThat("Unexpected published ID.", dtos.get(0).id(), is(id1));
+    assertThat("Unexpected published ID.", dtos.get(1).id(), is(id2));
+    verifyNoMoreInteractions(eventBroadcastService);
+  }
+
+  @Test
+  void shouldReturnInvalidBulkResultWhenTransitionNotValid() {
+    UUID id1 = UUID.randomUUID();
+    LtftForm form1 = new LtftForm();
+    form1.setId(id1);
+    form1.setLifecycleState(DRAFT);
+
+    UUID id2 = UUID.randomUUID();
+    LtftForm form2 = new LtftForm();
+    form2.setId(id2);
+    form2.setLifecycleState(SUBMITTED);
+
+    when(repository.findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(any(),
+        any())).thenReturn(List.of(form1, form2));
+    BulkOperations bulkOps = mock();
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, LtftForm.class)).thenReturn(bulkOps);
+    when(bulkOps.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(),
+        List.of()));
+
+    LtftBulkResultDto result = service.bulkUpdateStatusAsAdmin(List.of(id1, id2), APPROVED, null);
+
+    List<ItemResultDto> results = result.results();
+    assertThat("Unexpected outcome.", results.get(0).outcome(), is(Outcome.INVALID));
+    assertThat("Unexpected form.", results.get(0).form(), nullValue());
+    assertThat("Unexpected error.", results.get(0).error(),
+        is("status.current.state can not be transitioned to APPROVED"));
+    assertThat("Unexpected outcome.", results.get(1).outcome(), is(Outcome.UPDATED));
+
+    verify(bulkOps, never()).replaceOne(any(Query.class), eq(form1));
+    verify(bulkOps).replaceOne(any(Query.class), eq(form2));
+
+    ArgumentCaptor<List<LtftFormDto>> dtosCaptor = ArgumentCaptor.captor();
+    verify(eventBroadcastService).publishLtftFormUpdateEvents(dtosCaptor.capture(), any(),
+        any());
+    assertThat("Unexpected published count.", dtosCaptor.getValue(), hasSize(1));
+    assertThat("Unexpected published ID.", dtosCaptor.getValue().get(0).id(), is(id2));
+  }
+
+  @Test
+  void shouldReturnFailedBulkResultWhenBulkWriteFails() {
+    UUID id1 = UUID.randomUUID();
+    LtftForm form1 = new LtftForm();
+    form1.setId(id1);
+    form1.setLifecycleState(SUBMITTED);
+
+    UUID id2 = UUID.randomUUID();
+    LtftForm form2 = new LtftForm();
+    form2.setId(id2);
+    form2.setLifecycleState(SUBMITTED);
+
+    when(repository.findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(any(),
+        any())).thenReturn(List.of(form1, form2));
+    BulkOperations bulkOps = mock();
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, LtftForm.class)).thenReturn(bulkOps);
+
+    BulkOperationException exception = mock();
+    when(exception.getErrors()).thenReturn(
+        List.of(new BulkWriteError(11000, "write failed", new BsonDocument(), 1)));
+    when(exception.getResult()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(),
+        List.of()));
+    when(bulkOps.execute()).thenThrow(exception);
+
+    LtftBulkResultDto result = service.bulkUpdateStatusAsAdmin(List.of(id1, id2), APPROVED, null);
+
+    List<ItemResultDto> results = result.results();
+    assertThat("Unexpected outcome.", results.get(0).outcome(), is(Outcome.UPDATED));
+    assertThat("Unexpected outcome.", results.get(1).outcome(), is(Outcome.FAILED));
+    assertThat("Unexpected error.", results.get(1).error(), is("write failed"));
+
+    verify(statusHistoryService).recordAllStatusHistory(List.of(form1));
+
+    ArgumentCaptor<List<LtftFormDto>> dtosCaptor = ArgumentCaptor.captor();
+    verify(eventBroadcastService).publishLtftFormUpdateEvents(dtosCaptor.capture(), any(),
+        any());
+    assertThat("Unexpected published count.", dtosCaptor.getValue(), hasSize(1));
+    assertThat("Unexpected published ID.", dtosCaptor.getValue().get(0).id(), is(id1));
+  }
+
+  @Test
+  void shouldGuardBulkWritesOnLoadedVersion() {
+    Instant loadedModified = Instant.now().minusSeconds(60);
+    LtftForm form = new LtftForm();
+    form.setId(ID);
+    form.setRevision(1);
+    form.setLastModified(loadedModified);
+    form.setLifecycleState(SUBMITTED);
+
+    when(repository.findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(any(),
+        any())).thenReturn(List.of(form));
+    BulkOperations bulkOps = mock();
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, LtftForm.class)).thenReturn(bulkOps);
+    when(bulkOps.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(),
+        List.of()));
+
+    // Unsubmitting increments the revision, the guard must use the loaded revision.
+    service.bulkUpdateStatusAsAdmin(List.of(ID), UNSUBMITTED,
+        LftfStatusInfoDetailDto.builder().reason("reason").build());
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.captor();
+    verify(bulkOps).replaceOne(queryCaptor.capture(), eq(form));
+    Document queryObject = queryCaptor.getValue().getQueryObject();
+    assertThat("Unexpected guarded ID.", queryObject.get("_id"), is(ID));
+    assertThat("Unexpected guarded revision.", queryObject.get("revision"), is(1));
+    assertThat("Unexpected guarded timestamp.", queryObject.get("lastModified"),
+        is(loadedModified));
+    verify(mongoTemplate, never()).find(any(), eq(LtftForm.class));
+  }
+
+  @Test
+  void shouldReturnConflictBulkResultWhenFormModifiedConcurrently() {
+    Instant modified = Instant.now();
+
+    UUID id1 = UUID.randomUUID();
+    LtftForm form1 = new LtftForm();
+    form1.setId(id1);
+    form1.setLifecycleState(SUBMITTED);
+
+    UUID id2 = UUID.randomUUID();
+    LtftForm form2 = new LtftForm();
+    form2.setId(id2);
+    form2.setLifecycleState(SUBMITTED);
+
+    when(repository.findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(any(),
+        any())).thenReturn(List.of(form1, form2));
+    BulkOperations bulkOps = mock();
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, LtftForm.class)).thenReturn(bulkOps);
+
+    // Simulate auditing, which sets the last modified timestamp when the replacement is queued.
+    when(bulkOps.replaceOne(any(Query.class), any(LtftForm.class))).thenAnswer(inv -> {
+      LtftForm form = inv.getArgument(1);
+      form.setLastModified(modified);
+      return bulkOps;
+    });
+    when(bulkOps.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(),
+        List.of()));
+
+    LtftForm stored1 = new LtftForm();
+    stored1.setId(id1);
+    stored1.setLastModified(modified);
+    LtftForm stored2 = new LtftForm();
+    stored2.setId(id2);
+    stored2.setLastModified(modified.minusSeconds(1));
+    when(mongoTemplate.find(any(), eq(LtftForm.class))).thenReturn(List.of(stored1, stored2));
+
+    LtftBulkResultDto result = service.bulkUpdateStatusAsAdmin(List.of(id1, id2), APPROVED, null);
+
+    List<ItemResultDto> results = result.results();
+    assertThat("Unexpected outcome.", results.get(0).outcome(), is(Outcome.UPDATED));
+    assertThat("Unexpected outcome.", results.get(1).outcome(), is(Outcome.CONFLICT));
+    assertThat("Unexpected form.", results.get(1).form(), nullValue());
+    assertThat("Unexpected error.", results.get(1).error(), notNullValue());
+
+    verify(statusHistoryService).recordAllStatusHistory(List.of(form1));
+
+    ArgumentCaptor<List<LtftFormDto>> dtosCaptor = ArgumentCaptor.captor();
+    verify(eventBroadcastService).publishLtftFormUpdateEvents(dtosCaptor.capture(), any(),
+        any());
+    assertThat("Unexpected published count.", dtosCaptor.getValue(), hasSize(1));
+    assertThat("Unexpected published ID.", dtosCaptor.getValue().get(0).id(), is(id1));
+  }
+
+  @Test
+  void shouldCountBulkTransitionsByWriteOutcome() {
+    UUID id1 = UUID.randomUUID();
+    LtftForm form1 = new LtftForm();
+    form1.setId(id1);
+    form1.setLifecycleState(SUBMITTED);
+
+    UUID id2 = UUID.randomUUID();
+    LtftForm form2 = new LtftForm();
+    form2.setId(id2);
+    form2.setLifecycleState(SUBMITTED);
+
+    when(repository.findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(any(),
+        any())).thenReturn(List.of(form1, form2));
+    BulkOperations bulkOps = mock();
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, LtftForm.class)).thenReturn(bulkOps);
+
+    BulkOperationException exception = mock();
+    when(exception.getErrors()).thenReturn(
+        List.of(new BulkWriteError(11000, "write failed", new BsonDocument(), 1)));
+    when(exception.getResult()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(),
+        List.of()));
+    when(bulkOps.execute()).thenThrow(exception);
+
+    service.bulkUpdateStatusAsAdmin(List.of(id1, id2), APPROVED, null);
+
+    Counter successCounter = meterRegistry.find(METRIC_TRANSITIONS)
+        .tags(TAG_FROM, "SUBMITTED", TAG_TO, "APPROVED", TAG_OUTCOME, OUTCOME_SUCCESS)
+        .counter();
+    assertThat("Unexpected success counter presence.", successCounter, notNullValue());
+    assertThat("Unexpected success count.", successCounter.count(), is(1.0));
+
+    Counter failedCounter = meterRegistry.find(METRIC_TRANSITIONS)
+        .tags(TAG_FROM, "SUBMITTED", TAG_TO, "APPROVED", TAG_OUTCOME, OUTCOME_FAILED)
+        .counter();
+    assertThat("Unexpected failed counter presence.", failedCounter, notNullValue());
+    assertThat("Unexpected failed count.", failedCounter.count(), is(1.0));
+
+    Timer timer = meterRegistry.find(METRIC_TRANSITION_DURATION).tags(TAG_TO, "APPROVED").timer();
+    assertThat("Unexpected transition timer presence.", timer, notNullValue());
+    assertThat("Unexpected transition timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordTransitionEventsForBulkFormsByWriteOutcome(@TempDir Path tempDir)
+      throws IOException {
+    UUID id1 = UUID.randomUUID();
+    LtftForm form1 = new LtftForm();
+    form1.setId(id1);
+    form1.setLifecycleState(SUBMITTED);
+
+    UUID id2 = UUID.randomUUID();
+    LtftForm form2 = new LtftForm();
+    form2.setId(id2);
+    form2.setLifecycleState(SUBMITTED);
+
+    UUID id3 = UUID.randomUUID();
+    LtftForm form3 = new LtftForm();
+    form3.setId(id3);
+    form3.setLifecycleState(DRAFT);
+
+    when(repository.findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(any(),
+        any())).thenReturn(List.of(form1, form2, form3));
+    BulkOperations bulkOps = mock();
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, LtftForm.class)).thenReturn(bulkOps);
+
+    BulkOperationException exception = mock();
+    when(exception.getErrors()).thenReturn(
+        List.of(new BulkWriteError(11000, "write failed", new BsonDocument(), 1)));
+    when(exception.getResult()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(),
+        List.of()));
+    when(bulkOps.execute()).thenThrow(exception);
+
+    Path dump = tempDir.resolve("transitions.jfr");
+
+    try (Recording recording = new Recording()) {
+      recording.enable(FormTransitionEvent.NAME).withThreshold(Duration.ZERO);
+      recording.start();
+      service.bulkUpdateStatusAsAdmin(List.of(id1, id2, id3), APPROVED, null);
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    List<String> outcomes = RecordingFile.readAllEvents(dump).stream()
+        .filter(event -> event.getEventType().getName().equals(FormTransitionEvent.NAME))
+        .map(event -> event.getString("outcome"))
+        .toList();
+    assertThat("Unexpected transition event outcomes.", outcomes,
+        containsInAnyOrder(OUTCOME_SUCCESS, OUTCOME_FAILED, OUTCOME_REJECTED));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenBulkSubmitting() {
+    List<UUID> ids = List.of(ID);
+    assertThrows(IllegalArgumentException.class,
+        () -> service.bulkUpdateStatusAsAdmin(ids, SUBMITTED, null));
+
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  void shouldReturnUnchangedBulkResultWhenAdminAlreadyAssigned() {
+    UUID id1 = UUID.randomUUID();
+    LtftForm form1 = new LtftForm();
+    form1.setId(id1);
+    form1.setAssignedAdmin(
+        Person.builder()
+            .name(ADMIN_NAME)
+            .email(ADMIN_EMAIL)
+            .role("ADMIN")
+            .build(),
+        null
+    );
+
+    UUID id2 = UUID.randomUUID();
+    LtftForm form2 = new LtftForm();
+    form2.setId(id2);
+    form2.setAssignedAdmin(null, null);
+
+    when(repository.findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(any(),
+        any())).thenReturn(List.of(form1, form2));
+    BulkOperations bulkOps = mock();
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, LtftForm.class)).thenReturn(bulkOps);
+    when(bulkOps.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(),
+        List.of()));
+
+    PersonDto admin = PersonDto.builder()
+        .name(ADMIN_NAME)
+        .email(ADMIN_EMAIL)
+        .build();
+
+    LtftBulkResultDto result = service.bulkAssignAdmin(List.of(id1, id2), admin);
+
+    List<ItemResultDto> results = result.results();
+    assertThat("Unexpected outcome.", results.get(0).outcome(), is(Outcome.UNCHANGED));
+    assertThat("Unexpected outcome.", results.get(1).outcome(), is(Outcome.UPDATED));
+
+    RedactedPersonDto assignedAdmin = results.get(1).form().status().current().assignedAdmin();
+    assertThat("Unexpected admin name.", assignedAdmin.name(), is(ADMIN_NAME));
+    assertThat("Unexpected admin email.", assignedAdmin.email(), is(ADMIN_EMAIL));
+    assertThat("Unexpected admin role.", assignedAdmin.role(), is("ADMIN"));
+
+    verify(bulkOps, never()).replaceOne(any(Query.class), eq(form1));
+    verify(bulkOps).replaceOne(any(Query.class), eq(form2));
+
+    ArgumentCaptor<List<LtftFormDto>> dtosCaptor = ArgumentCaptor.captor();
+    verify(eventBroadcastService).publishLtftFormUpdateEvents(dtosCaptor.capture(), isNull(),
+        eq(LTFT_ASSIGNMENT_UPDATE_TOPIC));
+    assertThat("Unexpected published count.", dtosCaptor.getValue(), hasSize(1));
+    assertThat("Unexpected published ID.", dtosCaptor.getValue().get(0).id(), is(id2));
+  }
+
+  @Test
+  void shouldNotPublishWhenBulkAdvancingReviewStage() {
+    LtftForm form = new LtftForm();
+    form.setId(ID);
+    form.setStatus(Status.builder()
+        .current(StatusInfo.builder()
+            .state(SUBMITTED)
+            .reviewStage(new ReviewStageStatus(0, "Triage"))
+            .build())
+        .build());
+
+    ReviewStageStatus nextStage = new ReviewStageStatus(1, "Manager Review");
+
+    when(repository.findByIdInAndContent_ProgrammeMembership_DesignatedBodyCodeIn(any(),
+        any())).thenReturn(List.of(form));
+    when(reviewStageService.resolveAdvance(any())).thenReturn(Optional.of(nextStage));
+    BulkOperations bulkOps = mock();
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, LtftForm.class)).thenReturn(bulkOps);
+    when(bulkOps.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(),
+        List.of()));
+
+    LtftBulkResultDto result = service.bulkAdvanceReviewStage(List.of(ID), null);
+
+    ItemResultDto itemResult = result.results().get(0);
+    assertThat("Unexpected outcome.", itemResult.outcome(), is(Outcome.UPDATED));
+    assertThat("Unexpected review stage.", itemResult.form().status().current().reviewStage(),
+        is(nextStage));
+
+    verify(bulkOps).replaceOne(any(Query.class), eq(form));
+    verifyNoInteractions(eventBroadcastService);
+  }
+
   @Test
   void shouldPublishNotificationWhenAssignedAdminUpdated() {
     LtftForm form = new LtftForm();
@@ -4491,31 +5248,26 @@ class LtftServiceTest {
     List<LtftForm> formsToMove = List.of(form1, form2);
 
     when(repository.findByTraineeTisIdOrderByLastModified(fromTraineeId)).thenReturn(formsToMove);
-    when(repository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    when(repository.updateTraineeTisIdByTraineeTisId(fromTraineeId, toTraineeId)).thenReturn(2L);
 
     Map<String, Integer> movedStats = service.moveLtftForms(fromTraineeId, toTraineeId);
 
     Map<String, Integer> expectedMap = Map.of("ltft", 2, "ltft-submission", 0);
     assertThat("Unexpected moved form count.", movedStats, is(expectedMap));
 
-    ArgumentCaptor<LtftForm> formsCaptor = ArgumentCaptor.captor();
-    verify(repository, times(2)).save(formsCaptor.capture());
-
-    List<LtftForm> savedForms = formsCaptor.getAllValues();
-    assertThat("Unexpected number of forms moved", savedForms, hasSize(2));
-
-    savedForms.forEach(form ->
-        assertThat("Unexpected trainee ID after move", form.getTraineeTisId(), is(toTraineeId)));
+    verify(repository).updateTraineeTisIdByTraineeTisId(fromTraineeId, toTraineeId);
+    verify(repository, never()).save(any());
 
-    ArgumentCaptor<LtftFormDto> publishCaptor = ArgumentCaptor.captor();
-    verify(eventBroadcastService, times(2)).publishLtftFormUpdateEvent(
+    ArgumentCaptor<List<LtftFormDto>> publishCaptor = ArgumentCaptor.captor();
+    verify(eventBroadcastService).publishLtftFormUpdateEvents(
         publishCaptor.capture(), eq(null), eq(LTFT_ASSIGNMENT_UPDATE_TOPIC));
+    verify(eventBroadcastService, never()).publishLtftFormUpdateEvent(any(), any(), any());
 
-    List<LtftFormDto> publishedDtos = publishCaptor.getAllValues();
+    List<LtftFormDto> publishedDtos = publishCaptor.getValue();
     assertThat("Unexpected number of published DTOs", publishedDtos, hasSize(2));
     publishedDtos.forEach(dto -> {
       assertThat("Unexpected trainee ID in published DTO", dto.traineeTisId(), is(toTraineeId));
-      assertThat("Unexpected form ID in published DTO", dto.id(), is(in(savedForms.stream()
+      assertThat("Unexpected form ID in published DTO", dto.id(), is(in(formsToMove.stream()
           .map(LtftForm::getId).toList())));
     });
 
@@ -4534,8 +5286,8 @@ class LtftServiceTest {
     Map<String, Integer> expectedMap = Map.of("ltft", 0, "ltft-submission", 0);
     assertThat("Unexpected moved form count.", movedStats, is(expectedMap));
 
-    verify(repository, never()).save(any());
-    verify(eventBroadcastService, never()).publishLtftFormUpdateEvent(any(), any(), any());
+    verify(repository, never()).updateTraineeTisIdByTraineeTisId(any(), any());
+    verify(eventBroadcastService, never()).publishLtftFormUpdateEvents(any(), any(), any());
   }
 
   @Test
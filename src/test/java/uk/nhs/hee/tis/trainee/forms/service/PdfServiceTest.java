@@ -22,27 +22,49 @@
 package uk.nhs.hee.tis.trainee.forms.service;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.thymeleaf.templatemode.TemplateMode.HTML;
+import static uk.nhs.hee.tis.trainee.forms.service.PdfService.METRIC_PUBLISH_SKIPPED;
+import static uk.nhs.hee.tis.trainee.forms.service.PdfService.METRIC_RENDER_DURATION;
+import static uk.nhs.hee.tis.trainee.forms.service.PdfService.METRIC_RENDER_SIZE;
+import static uk.nhs.hee.tis.trainee.forms.service.PdfService.TAG_FORM_TYPE;
+import static uk.nhs.hee.tis.trainee.forms.service.PdfService.TAG_TEMPLATE;
 
+import io.awspring.cloud.s3.Location;
 import io.awspring.cloud.s3.S3OutputStreamProvider;
 import io.awspring.cloud.s3.S3Resource;
 import io.awspring.cloud.s3.S3Template;
 import io.awspring.cloud.sns.core.SnsNotification;
 import io.awspring.cloud.sns.core.SnsTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -52,6 +74,7 @@ import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.io.RandomAccessReadBuffer;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.TextPosition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -62,6 +85,7 @@ import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.TemplateSpec;
 import org.thymeleaf.context.Context;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import uk.nhs.hee.tis.trainee.forms.dto.ConditionsOfJoining;
 import uk.nhs.hee.tis.trainee.forms.dto.ConditionsOfJoiningPdfRequestDto;
 import uk.nhs.hee.tis.trainee.forms.dto.FormRPartADto;
@@ -73,6 +97,9 @@ import uk.nhs.hee.tis.trainee.forms.dto.enumeration.GoldGuideVersion;
 import uk.nhs.hee.tis.trainee.forms.event.ConditionsOfJoiningPublishedEvent;
 import uk.nhs.hee.tis.trainee.forms.event.FormRPartAPublishedEvent;
 import uk.nhs.hee.tis.trainee.forms.event.FormRPartBPublishedEvent;
+import uk.nhs.hee.tis.trainee.forms.model.PdfPublication;
+import uk.nhs.hee.tis.trainee.forms.repository.PdfPublicationRepository;
+import uk.nhs.hee.tis.trainee.forms.service.UploadedPdfLookup.UploadedPdf;
 
 class PdfServiceTest {
 
@@ -83,6 +110,8 @@ class PdfServiceTest {
   private static final UUID PROGRAMME_MEMBERSHIP_ID = UUID.randomUUID();
   private static final String PROGRAMME_NAME = "Test Programme";
   private static final String FORM_ID = "form-id";
+  private static final String COJ_KEY =
+      TRAINEE_ID + "/forms/coj/" + PROGRAMME_MEMBERSHIP_ID + ".pdf";
 
   private static final ZoneId TIMEZONE = ZoneId.of("Europe/London");
 
@@ -91,26 +120,30 @@ class PdfServiceTest {
   private TemplateEngine templateEngine;
   private S3Template s3Template;
   private SnsTemplate snsTemplate;
+  private MeterRegistry meterRegistry;
+  private PdfPublicationRepository publicationRepository;
+  private UploadedPdfLookup uploadedPdfLookup;
 
   @BeforeEach
   void setUp() {
     templateEngine = mock(TemplateEngine.class);
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn("<html></html>");
+    stubTemplate("<html></html>");
 
     s3Template = mock(S3Template.class);
     snsTemplate = mock(SnsTemplate.class);
+    meterRegistry = new SimpleMeterRegistry();
+
+    publicationRepository = mock(PdfPublicationRepository.class);
+    uploadedPdfLookup = mock(UploadedPdfLookup.class);
 
     service = new PdfService(templateEngine, s3Template, BUCKET_NAME, snsTemplate, TOPIC_ARN,
-        TIMEZONE);
+        TIMEZONE, meterRegistry, publicationRepository, uploadedPdfLookup);
   }
 
   @Test
   void shouldNotGetUploadedPdfWhenNotExists() {
-    S3Resource pdf = mock(S3Resource.class);
-    when(pdf.exists()).thenReturn(false);
-
     String key = "uploaded-key";
-    when(s3Template.download(BUCKET_NAME, key)).thenReturn(pdf);
+    when(uploadedPdfLookup.open(BUCKET_NAME, key)).thenReturn(Optional.empty());
 
     Optional<Resource> uploadedPdf = service.getUploadedPdf(key);
 
@@ -119,15 +152,15 @@ class PdfServiceTest {
 
   @Test
   void shouldGetUploadedPdfWhenExists() {
-    S3Resource pdf = mock(S3Resource.class);
-    when(pdf.exists()).thenReturn(true);
+    Resource pdf = mock(Resource.class);
 
     String key = "uploaded-key";
-    when(s3Template.download(BUCKET_NAME, key)).thenReturn(pdf);
+    when(uploadedPdfLookup.open(BUCKET_NAME, key)).thenReturn(Optional.of(pdf));
 
     Optional<Resource> uploadedPdf = service.getUploadedPdf(key);
 
     assertThat("Unexpected uploaded PDF.", uploadedPdf.get(), is(pdf));
+    verifyNoInteractions(s3Template);
   }
 
   @ParameterizedTest
@@ -142,7 +175,8 @@ class PdfServiceTest {
 
     ArgumentCaptor<TemplateSpec> templateCaptor = ArgumentCaptor.captor();
     ArgumentCaptor<Context> contextCaptor = ArgumentCaptor.captor();
-    verify(templateEngine).process(templateCaptor.capture(), contextCaptor.capture());
+    verify(templateEngine).process(templateCaptor.capture(), contextCaptor.capture(),
+        any(Writer.class));
 
     TemplateSpec templateSpec = templateCaptor.getValue();
     String filename = version.toString().toLowerCase() + ".html";
@@ -170,8 +204,7 @@ class PdfServiceTest {
     ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(TRAINEE_ID,
         PROGRAMME_MEMBERSHIP_ID, PROGRAMME_NAME, conditionsOfJoining);
 
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(
-        "<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     service.generateConditionsOfJoining(request, false);
 
@@ -194,8 +227,7 @@ class PdfServiceTest {
     ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(TRAINEE_ID,
         PROGRAMME_MEMBERSHIP_ID, PROGRAMME_NAME, conditionsOfJoining);
 
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(
-        "<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     String key = TRAINEE_ID + "/forms/coj/" + PROGRAMME_MEMBERSHIP_ID + ".pdf";
     S3Resource uploaded = S3Resource.create("s3://my-bucket/" + key, mock(S3Client.class),
@@ -230,6 +262,169 @@ class PdfServiceTest {
     assertThat("Unexpected PDF key.", payload.getPdf().key(), is(key));
   }
 
+  @Test
+  void shouldRecordContentHashWhenConditionsOfJoiningPublished() throws IOException {
+    ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(TRAINEE_ID,
+        PROGRAMME_MEMBERSHIP_ID, PROGRAMME_NAME,
+        new ConditionsOfJoining(GoldGuideVersion.GG10, Instant.now()));
+
+    S3Resource uploaded = mockS3Resource(COJ_KEY);
+    when(s3Template.upload(any(), any(), any())).thenReturn(uploaded);
+
+    service.generateConditionsOfJoining(request, true);
+
+    ArgumentCaptor<PdfPublication> publicationCaptor = ArgumentCaptor.captor();
+    verify(publicationRepository).save(publicationCaptor.capture());
+
+    PdfPublication publication = publicationCaptor.getValue();
+    assertThat("Unexpected key.", publication.key(), is(COJ_KEY));
+    assertThat("Unexpected content hash length.", publication.contentHash().length(), is(64));
+    assertThat("Unexpected published timestamp.", publication.publishedAt(), notNullValue());
+  }
+
+  @Test
+  void shouldSkipPublishingConditionsOfJoiningWhenContentUnchanged() throws IOException {
+    ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(TRAINEE_ID,
+        PROGRAMME_MEMBERSHIP_ID, PROGRAMME_NAME,
+        new ConditionsOfJoining(GoldGuideVersion.GG10, Instant.now()));
+
+    S3Resource uploaded = mockS3Resource(COJ_KEY);
+    when(s3Template.upload(any(), any(), any())).thenReturn(uploaded);
+    when(s3Template.download(BUCKET_NAME, COJ_KEY)).thenReturn(uploaded);
+    stubUploadedPdf(COJ_KEY);
+
+    service.generateConditionsOfJoining(request, true);
+
+    ArgumentCaptor<PdfPublication> publicationCaptor = ArgumentCaptor.captor();
+    verify(publicationRepository).save(publicationCaptor.capture());
+    when(publicationRepository.findById(COJ_KEY)).thenReturn(
+        Optional.of(publicationCaptor.getValue()));
+
+    Resource resource = service.generateConditionsOfJoining(request, true);
+
+    assertThat("Unexpected resource.", resource, sameInstance(uploaded));
+    verify(templateEngine, times(1)).process(any(TemplateSpec.class), any(), any(Writer.class));
+    verify(s3Template, times(1)).upload(any(), any(), any());
+    verify(snsTemplate, times(1)).sendNotification(any(), any());
+
+    Counter skipped = meterRegistry.get(METRIC_PUBLISH_SKIPPED).tag(TAG_FORM_TYPE, "COJ")
+        .counter();
+    assertThat("Unexpected skipped count.", skipped.count(), is(1.0));
+  }
+
+  @Test
+  void shouldPublishConditionsOfJoiningWhenContentChanged() throws IOException {
+    ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(TRAINEE_ID,
+        PROGRAMME_MEMBERSHIP_ID, PROGRAMME_NAME,
+        new ConditionsOfJoining(GoldGuideVersion.GG10, Instant.now()));
+
+    S3Resource uploaded = mockS3Resource(COJ_KEY);
+    when(s3Template.upload(any(), any(), any())).thenReturn(uploaded);
+    when(s3Template.download(BUCKET_NAME, COJ_KEY)).thenReturn(uploaded);
+    stubUploadedPdf(COJ_KEY);
+    when(publicationRepository.findById(COJ_KEY)).thenReturn(
+        Optional.of(new PdfPublication(COJ_KEY, "previous-hash", Instant.now())));
+
+    service.generateConditionsOfJoining(request, true);
+
+    verify(s3Template).upload(any(), any(), any());
+    verify(snsTemplate).sendNotification(any(), any());
+  }
+
+  @Test
+  void shouldPublishConditionsOfJoiningWhenPublishedPdfMissing() throws IOException {
+    ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(TRAINEE_ID,
+        PROGRAMME_MEMBERSHIP_ID, PROGRAMME_NAME,
+        new ConditionsOfJoining(GoldGuideVersion.GG10, Instant.now()));
+
+    S3Resource uploaded = mockS3Resource(COJ_KEY);
+    when(s3Template.upload(any(), any(), any())).thenReturn(uploaded);
+
+    service.generateConditionsOfJoining(request, true);
+
+    ArgumentCaptor<PdfPublication> publicationCaptor = ArgumentCaptor.captor();
+    verify(publicationRepository).save(publicationCaptor.capture());
+    when(publicationRepository.findById(COJ_KEY)).thenReturn(
+        Optional.of(publicationCaptor.getValue()));
+
+    when(uploadedPdfLookup.refresh(BUCKET_NAME, COJ_KEY)).thenReturn(Optional.empty());
+
+    service.generateConditionsOfJoining(request, true);
+
+    verify(s3Template, times(2)).upload(any(), any(), any());
+    verify(snsTemplate, times(2)).sendNotification(any(), any());
+  }
+
+  @Test
+  void shouldFingerprintTemplateConsistently() {
+    String template = GoldGuideVersion.GG10.getConditionsOfJoiningTemplate().getTemplate();
+
+    byte[] fingerprint1 = service.getTemplateFingerprint(template);
+    byte[] fingerprint2 = service.getTemplateFingerprint(template);
+
+    assertThat("Unexpected fingerprint length.", fingerprint1.length, is(32));
+    assertThat("Unexpected fingerprint.", fingerprint2, is(fingerprint1));
+  }
+
+  @Test
+  void shouldFingerprintTemplatesByContent() {
+    byte[] fingerprint1 = service.getTemplateFingerprint(
+        GoldGuideVersion.GG9.getConditionsOfJoiningTemplate().getTemplate());
+    byte[] fingerprint2 = service.getTemplateFingerprint(
+        GoldGuideVersion.GG10.getConditionsOfJoiningTemplate().getTemplate());
+
+    assertThat("Unexpected fingerprint.", fingerprint2, not(fingerprint1));
+  }
+
+  @Test
+  void shouldPublishConditionsOfJoiningWhenPublishedPdfCannotBeChecked() throws IOException {
+    ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(TRAINEE_ID,
+        PROGRAMME_MEMBERSHIP_ID, PROGRAMME_NAME,
+        new ConditionsOfJoining(GoldGuideVersion.GG10, Instant.now()));
+
+    S3Resource uploaded = mockS3Resource(COJ_KEY);
+    when(s3Template.upload(any(), any(), any())).thenReturn(uploaded);
+
+    service.generateConditionsOfJoining(request, true);
+
+    ArgumentCaptor<PdfPublication> publicationCaptor = ArgumentCaptor.captor();
+    verify(publicationRepository).save(publicationCaptor.capture());
+    when(publicationRepository.findById(COJ_KEY)).thenReturn(
+        Optional.of(publicationCaptor.getValue()));
+
+    S3Exception exception = (S3Exception) S3Exception.builder().statusCode(503).build();
+    when(uploadedPdfLookup.refresh(BUCKET_NAME, COJ_KEY)).thenThrow(exception);
+
+    service.generateConditionsOfJoining(request, true);
+
+    verify(s3Template, times(2)).upload(any(), any(), any());
+    verify(snsTemplate, times(2)).sendNotification(any(), any());
+  }
+
+  @Test
+  void shouldEvictUploadedPdfLookupWhenConditionsOfJoiningUploaded() throws IOException {
+    ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(TRAINEE_ID,
+        PROGRAMME_MEMBERSHIP_ID, PROGRAMME_NAME,
+        new ConditionsOfJoining(GoldGuideVersion.GG10, Instant.now()));
+
+    service.generateConditionsOfJoining(request, false);
+
+    verify(uploadedPdfLookup).evict(BUCKET_NAME, COJ_KEY);
+  }
+
+  @Test
+  void shouldForgetContentHashWhenConditionsOfJoiningNotPublished() throws IOException {
+    ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(TRAINEE_ID,
+        PROGRAMME_MEMBERSHIP_ID, PROGRAMME_NAME,
+        new ConditionsOfJoining(GoldGuideVersion.GG10, Instant.now()));
+
+    service.generateConditionsOfJoining(request, false);
+
+    verify(publicationRepository).deleteById(COJ_KEY);
+    verify(publicationRepository, never()).findById(any());
+    verify(publicationRepository, never()).save(any());
+  }
+
   @ParameterizedTest
   @EnumSource(GoldGuideVersion.class)
   void shouldNotSendNotificationOfGeneratedConditionsOfJoiningWhenPublishFalse(
@@ -239,8 +434,7 @@ class PdfServiceTest {
     ConditionsOfJoiningPdfRequestDto request = new ConditionsOfJoiningPdfRequestDto(TRAINEE_ID,
         PROGRAMME_MEMBERSHIP_ID, PROGRAMME_NAME, conditionsOfJoining);
 
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(
-        "<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     service.generateConditionsOfJoining(request, false);
 
@@ -255,7 +449,7 @@ class PdfServiceTest {
         PROGRAMME_MEMBERSHIP_ID, PROGRAMME_NAME, conditionsOfJoining);
 
     String content = "<html>test content</html>";
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(content);
+    stubTemplate(content);
 
     S3Resource uploaded = mock(S3Resource.class);
     when(s3Template.upload(any(), any(), any())).thenReturn(uploaded);
@@ -280,7 +474,8 @@ class PdfServiceTest {
 
     ArgumentCaptor<TemplateSpec> templateCaptor = ArgumentCaptor.captor();
     ArgumentCaptor<Context> contextCaptor = ArgumentCaptor.captor();
-    verify(templateEngine).process(templateCaptor.capture(), contextCaptor.capture());
+    verify(templateEngine).process(templateCaptor.capture(), contextCaptor.capture(),
+        any(Writer.class));
 
     TemplateSpec templateSpec = templateCaptor.getValue();
     String filename = version.toString().toLowerCase() + ".html";
@@ -308,7 +503,7 @@ class PdfServiceTest {
         PROGRAMME_MEMBERSHIP_ID, PROGRAMME_NAME, conditionsOfJoining);
 
     String content = "<html>test content</html>";
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(content);
+    stubTemplate(content);
 
     byte[] bytes = service.generatePdf(request);
 
@@ -352,7 +547,8 @@ class PdfServiceTest {
 
     ArgumentCaptor<TemplateSpec> templateCaptor = ArgumentCaptor.captor();
     ArgumentCaptor<Context> contextCaptor = ArgumentCaptor.captor();
-    verify(templateEngine).process(templateCaptor.capture(), contextCaptor.capture());
+    verify(templateEngine).process(templateCaptor.capture(), contextCaptor.capture(),
+        any(Writer.class));
 
     TemplateSpec templateSpec = templateCaptor.getValue();
     assertThat("Unexpected template.", templateSpec.getTemplate(),
@@ -371,13 +567,97 @@ class PdfServiceTest {
     assertThat("Unexpected timezone value.", context.getVariable("timezone"), is(TIMEZONE.getId()));
   }
 
+  @Test
+  void shouldRecordRenderMetricsWhenGeneratingPdf() throws IOException {
+    LtftFormDto dto = LtftFormDto.builder()
+        .id(UUID.randomUUID())
+        .build();
+
+    byte[] pdf = service.generatePdf(dto, "admin");
+
+    String template = "ltft" + File.separatorChar + "admin.html";
+    Timer timer = meterRegistry.find(METRIC_RENDER_DURATION)
+        .tag(TAG_TEMPLATE, template)
+        .timer();
+    assertThat("Unexpected render timer presence.", timer, notNullValue());
+    assertThat("Unexpected render timer count.", timer.count(), is(1L));
+
+    DistributionSummary summary = meterRegistry.find(METRIC_RENDER_SIZE)
+        .tag(TAG_TEMPLATE, template)
+        .summary();
+    assertThat("Unexpected render size presence.", summary, notNullValue());
+    assertThat("Unexpected render size count.", summary.count(), is(1L));
+    assertThat("Unexpected render size total.", summary.totalAmount(), is((double) pdf.length));
+  }
+
   @Test
   void shouldReturnGeneratedLtft() throws IOException {
     LtftFormDto dto = LtftFormDto.builder().build();
 
     String content = "<html>test content</html>";
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(content);
+    stubTemplate(content);
+
+    byte[] bytes = service.generatePdf(dto, "admin");
+
+    PDDocument pdf = Loader.loadPDF(bytes);
+    String pdfText = new PDFTextStripper().getText(pdf);
+    assertThat("Unexpected content.", pdfText, is("test content" + System.lineSeparator()));
+  }
+
+  @Test
+  void shouldReturnGeneratedPdfWhenTemplateNotWellFormed() throws IOException {
+    LtftFormDto dto = LtftFormDto.builder().build();
+
+    stubTemplate("<html><p>test & content<br></p></html>");
+
+    byte[] bytes = service.generatePdf(dto, "admin");
+
+    PDDocument pdf = Loader.loadPDF(bytes);
+    String pdfText = new PDFTextStripper().getText(pdf);
+    assertThat("Unexpected content.", pdfText, is("test & content" + System.lineSeparator()));
+  }
+
+  @Test
+  void shouldApplyDefaultStylesWhenTemplateDeclaresXhtmlNamespace() throws IOException {
+    LtftFormDto dto = LtftFormDto.builder().build();
+
+    stubTemplate("<html xmlns=\"http://www.w3.org/1999/xhtml\"><body><b>bold</b></body></html>");
+
+    byte[] bytes = service.generatePdf(dto, "admin");
+
+    assertThat("Unexpected fonts.", getFontNames(bytes), hasItem(containsString("Bold")));
+  }
+
+  @Test
+  void shouldApplyDefaultStylesWhenTemplateDoesNotDeclareXhtmlNamespace() throws IOException {
+    LtftFormDto dto = LtftFormDto.builder().build();
+
+    stubTemplate("<html><body><b>bold</b></body></html>");
+
+    byte[] bytes = service.generatePdf(dto, "admin");
+
+    assertThat("Unexpected fonts.", getFontNames(bytes), hasItem(containsString("Bold")));
+  }
+
+  @Test
+  void shouldApplyDefaultStylesWhenTemplateNotWellFormed() throws IOException {
+    LtftFormDto dto = LtftFormDto.builder().build();
+
+    stubTemplate("<html><body><b>bold<br></b></body></html>");
+
+    byte[] bytes = service.generatePdf(dto, "admin");
 
+    assertThat("Unexpected fonts.", getFontNames(bytes), hasItem(containsString("Bold")));
+  }
+
+  @Test
+  void shouldReturnGeneratedPdfWhenTemplateRenderedAgainAfterFallback() throws IOException {
+    LtftFormDto dto = LtftFormDto.builder().build();
+
+    stubTemplate("<html><p>test & content</p></html>");
+    service.generatePdf(dto, "admin");
+
+    stubTemplate("<html><p>test content</p></html>");
     byte[] bytes = service.generatePdf(dto, "admin");
 
     PDDocument pdf = Loader.loadPDF(bytes);
@@ -389,8 +669,7 @@ class PdfServiceTest {
   void shouldNotUploadGeneratedLtft() throws IOException {
     LtftFormDto dto = LtftFormDto.builder().build();
 
-    when(templateEngine.process(any(TemplateSpec.class), any()))
-        .thenReturn("<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     service.generatePdf(dto, "admin");
 
@@ -401,8 +680,7 @@ class PdfServiceTest {
   void shouldNotSendNotificationOfGeneratedLtft() throws IOException {
     LtftFormDto dto = LtftFormDto.builder().build();
 
-    when(templateEngine.process(any(TemplateSpec.class), any()))
-        .thenReturn("<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     service.generatePdf(dto, "admin");
 
@@ -414,7 +692,7 @@ class PdfServiceTest {
     FormRPartADto dto = new FormRPartADto();
 
     String content = "<html>test content</html>";
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(content);
+    stubTemplate(content);
 
     byte[] bytes = service.generatePdf(dto);
 
@@ -427,8 +705,7 @@ class PdfServiceTest {
   void shouldNotUploadGeneratedFormRPartA() throws IOException {
     FormRPartADto dto = new FormRPartADto();
 
-    when(templateEngine.process(any(TemplateSpec.class), any()))
-        .thenReturn("<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     service.generatePdf(dto);
 
@@ -439,8 +716,7 @@ class PdfServiceTest {
   void shouldNotSendNotificationOfGeneratedFormRPartA() throws IOException {
     FormRPartADto dto = new FormRPartADto();
 
-    when(templateEngine.process(any(TemplateSpec.class), any()))
-        .thenReturn("<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     service.generatePdf(dto);
 
@@ -452,7 +728,7 @@ class PdfServiceTest {
     FormRPartBDto dto = new FormRPartBDto();
 
     String content = "<html>test content</html>";
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(content);
+    stubTemplate(content);
 
     byte[] bytes = service.generatePdf(dto);
 
@@ -465,8 +741,7 @@ class PdfServiceTest {
   void shouldNotUploadGeneratedFormRPartB() throws IOException {
     FormRPartBDto dto = new FormRPartBDto();
 
-    when(templateEngine.process(any(TemplateSpec.class), any()))
-        .thenReturn("<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     service.generatePdf(dto);
 
@@ -477,8 +752,7 @@ class PdfServiceTest {
   void shouldNotSendNotificationOfGeneratedFormRPartB() throws IOException {
     FormRPartBDto dto = new FormRPartBDto();
 
-    when(templateEngine.process(any(TemplateSpec.class), any()))
-        .thenReturn("<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     service.generatePdf(dto);
 
@@ -494,7 +768,8 @@ class PdfServiceTest {
 
     ArgumentCaptor<TemplateSpec> templateCaptor = ArgumentCaptor.captor();
     ArgumentCaptor<Context> contextCaptor = ArgumentCaptor.captor();
-    verify(templateEngine).process(templateCaptor.capture(), contextCaptor.capture());
+    verify(templateEngine).process(templateCaptor.capture(), contextCaptor.capture(),
+        any(Writer.class));
 
     TemplateSpec templateSpec = templateCaptor.getValue();
     String filename = "parta.html";
@@ -520,8 +795,7 @@ class PdfServiceTest {
     FormRPartADto form = new FormRPartADto();
     FormRPartAPdfRequestDto request = new FormRPartAPdfRequestDto(FORM_ID, TRAINEE_ID, form);
 
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(
-        "<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     service.generateFormRPartA(request, false);
 
@@ -536,13 +810,62 @@ class PdfServiceTest {
     assertThat("Unexpected content.", pdfText, is("test content" + System.lineSeparator()));
   }
 
+  @Test
+  void shouldSkipPublishingFormRPartAWhenContentUnchanged() throws IOException {
+    FormRPartADto form = new FormRPartADto();
+    FormRPartAPdfRequestDto request = new FormRPartAPdfRequestDto(FORM_ID, TRAINEE_ID, form);
+
+    String key = TRAINEE_ID + "/forms/formr_parta/" + FORM_ID + ".pdf";
+    S3Resource uploaded = mockS3Resource(key);
+    when(s3Template.upload(any(), any(), any())).thenReturn(uploaded);
+    when(s3Template.download(BUCKET_NAME, key)).thenReturn(uploaded);
+    stubUploadedPdf(key);
+
+    service.generateFormRPartA(request, true);
+
+    ArgumentCaptor<PdfPublication> publicationCaptor = ArgumentCaptor.captor();
+    verify(publicationRepository).save(publicationCaptor.capture());
+    when(publicationRepository.findById(key)).thenReturn(
+        Optional.of(publicationCaptor.getValue()));
+
+    service.generateFormRPartA(request, true);
+
+    verify(s3Template, times(1)).upload(any(), any(), any());
+    verify(snsTemplate, times(1)).sendNotification(any(), any());
+  }
+
+  @Test
+  void shouldPublishFormRPartBWhenSubmittedContentChanged() throws IOException {
+    FormRPartBDto form = new FormRPartBDto();
+    form.setLastModifiedDate(LocalDateTime.now().minusDays(1));
+    FormRPartBPdfRequestDto request = new FormRPartBPdfRequestDto(FORM_ID, TRAINEE_ID, form);
+
+    String key = TRAINEE_ID + "/forms/formr_partb/" + FORM_ID + ".pdf";
+    S3Resource uploaded = mockS3Resource(key);
+    when(s3Template.upload(any(), any(), any())).thenReturn(uploaded);
+    when(s3Template.download(BUCKET_NAME, key)).thenReturn(uploaded);
+    stubUploadedPdf(key);
+
+    service.generateFormRPartB(request, true);
+
+    ArgumentCaptor<PdfPublication> publicationCaptor = ArgumentCaptor.captor();
+    verify(publicationRepository).save(publicationCaptor.capture());
+    when(publicationRepository.findById(key)).thenReturn(
+        Optional.of(publicationCaptor.getValue()));
+
+    form.setLastModifiedDate(LocalDateTime.now());
+    service.generateFormRPartB(request, true);
+
+    verify(s3Template, times(2)).upload(any(), any(), any());
+    verify(snsTemplate, times(2)).sendNotification(any(), any());
+  }
+
   @Test
   void shouldSendNotificationOfGeneratedFormRPartAWhenPublishTrue() throws IOException {
     FormRPartADto form = new FormRPartADto();
     FormRPartAPdfRequestDto request = new FormRPartAPdfRequestDto(FORM_ID, TRAINEE_ID, form);
 
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(
-        "<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     String key = TRAINEE_ID + "/forms/formr_parta/" + FORM_ID + ".pdf";
     S3Resource uploaded = S3Resource.create("s3://my-bucket/" + key, mock(S3Client.class),
@@ -577,8 +900,7 @@ class PdfServiceTest {
     FormRPartADto form = new FormRPartADto();
     FormRPartAPdfRequestDto request = new FormRPartAPdfRequestDto(FORM_ID, TRAINEE_ID, form);
 
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(
-        "<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     service.generateFormRPartA(request, false);
 
@@ -591,7 +913,7 @@ class PdfServiceTest {
     FormRPartAPdfRequestDto request = new FormRPartAPdfRequestDto(FORM_ID, TRAINEE_ID, form);
 
     String content = "<html>test content</html>";
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(content);
+    stubTemplate(content);
 
     S3Resource uploaded = mock(S3Resource.class);
     when(s3Template.upload(any(), any(), any())).thenReturn(uploaded);
@@ -614,7 +936,8 @@ class PdfServiceTest {
 
     ArgumentCaptor<TemplateSpec> templateCaptor = ArgumentCaptor.captor();
     ArgumentCaptor<Context> contextCaptor = ArgumentCaptor.captor();
-    verify(templateEngine).process(templateCaptor.capture(), contextCaptor.capture());
+    verify(templateEngine).process(templateCaptor.capture(), contextCaptor.capture(),
+        any(Writer.class));
 
     TemplateSpec templateSpec = templateCaptor.getValue();
     String filename = "partb.html";
@@ -640,8 +963,7 @@ class PdfServiceTest {
     FormRPartBDto form = new FormRPartBDto();
     FormRPartBPdfRequestDto request = new FormRPartBPdfRequestDto(FORM_ID, TRAINEE_ID, form);
 
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(
-        "<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     service.generateFormRPartB(request, false);
 
@@ -661,8 +983,7 @@ class PdfServiceTest {
     FormRPartBDto form = new FormRPartBDto();
     FormRPartBPdfRequestDto request = new FormRPartBPdfRequestDto(FORM_ID, TRAINEE_ID, form);
 
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(
-        "<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     String key = TRAINEE_ID + "/forms/formr_partb/" + FORM_ID + ".pdf";
     S3Resource uploaded = S3Resource.create("s3://my-bucket/" + key, mock(S3Client.class),
@@ -697,8 +1018,7 @@ class PdfServiceTest {
     FormRPartBDto form = new FormRPartBDto();
     FormRPartBPdfRequestDto request = new FormRPartBPdfRequestDto(FORM_ID, TRAINEE_ID, form);
 
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(
-        "<html>test content</html>");
+    stubTemplate("<html>test content</html>");
 
     service.generateFormRPartB(request, false);
 
@@ -711,7 +1031,7 @@ class PdfServiceTest {
     FormRPartBPdfRequestDto request = new FormRPartBPdfRequestDto(FORM_ID, TRAINEE_ID, form);
 
     String content = "<html>test content</html>";
-    when(templateEngine.process(any(TemplateSpec.class), any())).thenReturn(content);
+    stubTemplate(content);
 
     S3Resource uploaded = mock(S3Resource.class);
     when(s3Template.upload(any(), any(), any())).thenReturn(uploaded);
@@ -723,4 +1043,63 @@ class PdfServiceTest {
 
     assertThat("Unexpected content.", resource.getContentAsByteArray(), is(contentBytes));
   }
+
+  /**
+   * Stub the template engine to write the given content when processing any template.
+   *
+   * @param content The content to write.
+   */
+  private void stubTemplate(String content) {
+    doAnswer(inv -> {
+      inv.getArgument(2, Writer.class).write(content);
+      return null;
+    }).when(templateEngine).process(any(TemplateSpec.class), any(), any(Writer.class));
+  }
+
+  /**
+   * Get the names of the fonts used for text in a PDF.
+   *
+   * @param bytes The PDF bytes.
+   * @return The font names.
+   * @throws IOException If the PDF could not be read.
+   */
+  private static Set<String> getFontNames(byte[] bytes) throws IOException {
+    Set<String> fontNames = new HashSet<>();
+    PDFTextStripper stripper = new PDFTextStripper() {
+      @Override
+      protected void writeString(String text, List<TextPosition> textPositions)
+          throws IOException {
+        textPositions.forEach(position -> fontNames.add(position.getFont().getName()));
+        super.writeString(text, textPositions);
+      }
+    };
+
+    try (PDDocument pdf = Loader.loadPDF(bytes)) {
+      stripper.getText(pdf);
+    }
+
+    return fontNames;
+  }
+
+  /**
+   * Create a mock S3 resource at the given key.
+   *
+   * @param key The key of the resource.
+   * @return The mock S3 resource.
+   */
+  private static S3Resource mockS3Resource(String key) {
+    S3Resource resource = mock(S3Resource.class);
+    when(resource.getLocation()).thenReturn(Location.of(BUCKET_NAME, key));
+    return resource;
+  }
+
+  /**
+   * Stub the uploaded PDF lookup to find a PDF at the given key.
+   *
+   * @param key The key of the uploaded PDF.
+   */
+  private void stubUploadedPdf(String key) {
+    when(uploadedPdfLookup.refresh(BUCKET_NAME, key)).thenReturn(
+        Optional.of(new UploadedPdf(key, "etag", 1024)));
+  }
 }
@@ -28,6 +28,8 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.APPROVED;
 import static uk.nhs.hee.tis.trainee.forms.dto.enumeration.LifecycleState.SUBMITTED;
@@ -1085,4 +1087,52 @@ class ReviewStageServiceTest {
     assertThat("Expected deduplicated disabled labels.", labels,
         containsInAnyOrder("Shared Disabled", "Other Disabled"));
   }
+
+  // -- compiled workflow index --
+
+  @Test
+  void shouldReuseCompiledVisibleLabelsWhenConfigurationUnchanged() {
+    workflowProperties.setReviewWorkflows(Map.of(DBC, List.of(
+        stage("Triage"), disabledStage("Review"), stage("Approval"))));
+    LtftForm form = formWithDbc(DBC);
+
+    ReviewWorkflowDto first = service.getWorkflowDto(form);
+    ReviewWorkflowDto second = service.getWorkflowDto(form);
+
+    assertThat("Unexpected stages.", first.stages(),
+        contains("Triage", "Approval", TERMINAL_STAGE_LABEL));
+    assertSame(first.stages(), second.stages(), "Expected compiled stages to be reused.");
+  }
+
+  @Test
+  void shouldRecompileWorkflowsWhenConfigurationReplaced() {
+    workflowProperties.setReviewWorkflows(Map.of(DBC, List.of(
+        stage("Triage"), stage("Review"))));
+    LtftForm form = formAtReviewStage(DBC, 0, "Triage");
+
+    Optional<ReviewStageStatus> before = service.resolveAdvance(form);
+
+    workflowProperties.setReviewWorkflows(Map.of(DBC, List.of(
+        stage("Triage"), disabledStage("Review"), stage("Approval"))));
+
+    Optional<ReviewStageStatus> after = service.resolveAdvance(form);
+
+    assertThat("Unexpected stage before reconfiguration.", before.map(ReviewStageStatus::label),
+        is(Optional.of("Review")));
+    assertThat("Unexpected stage after reconfiguration.", after.map(ReviewStageStatus::label),
+        is(Optional.of("Approval")));
+    assertThat("Unexpected index after reconfiguration.", after.map(ReviewStageStatus::index),
+        is(Optional.of(1)));
+  }
+
+  @Test
+  void shouldNotAllowModifyingCompiledVisibleLabels() {
+    workflowProperties.setReviewWorkflows(Map.of(DBC, List.of(stage("Triage"))));
+    LtftForm form = formWithDbc(DBC);
+
+    List<String> stages = service.getWorkflowDto(form).stages();
+
+    assertThrows(UnsupportedOperationException.class, () -> stages.add("Extra"));
+  }
 }
+
@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.nhs.hee.tis.trainee.forms.config.ReviewWorkflowProperties;
+import uk.nhs.hee.tis.trainee.forms.config.StateStage;
+import uk.nhs.hee.tis.trainee.forms.model.ReviewWorkflow;
+import uk.nhs.hee.tis.trainee.forms.repository.ReviewWorkflowRepository;
+
+class ReviewWorkflowServiceTest {
+
+  private static final String CONFIGURED_DBC = "1-CONFIGURED";
+  private static final String STORED_DBC = "1-STORED";
+
+  private static final List<StateStage> CONFIGURED_STAGES = List.of(
+      new StateStage("Configured Review", true));
+  private static final List<StateStage> STORED_STAGES = List.of(
+      new StateStage("Triage", true), new StateStage("Approval", false));
+
+  private ReviewWorkflowService service;
+  private ReviewWorkflowRepository repository;
+  private ReviewWorkflowProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(ReviewWorkflowRepository.class);
+    properties = new ReviewWorkflowProperties();
+    properties.setReviewWorkflows(Map.of(CONFIGURED_DBC, CONFIGURED_STAGES));
+    service = new ReviewWorkflowService(repository, properties);
+  }
+
+  @Test
+  void shouldNotReloadWhenNoStoredWorkflows() {
+    Map<String, List<StateStage>> configured = properties.getReviewWorkflows();
+    when(repository.findAllVersions()).thenReturn(List.of());
+
+    boolean refreshed = service.refresh();
+
+    assertThat("Unexpected refresh result.", refreshed, is(false));
+    assertThat("Unexpected workflows.", properties.getReviewWorkflows(), sameInstance(configured));
+    verify(repository, never()).findAll();
+  }
+
+  @Test
+  void shouldMergeStoredWorkflowsWithConfiguredWorkflows() {
+    ReviewWorkflow stored = new ReviewWorkflow(STORED_DBC, STORED_STAGES, 1L);
+    when(repository.findAllVersions()).thenReturn(List.of(new ReviewWorkflow(STORED_DBC, null,
+        1L)));
+    when(repository.findAll()).thenReturn(List.of(stored));
+
+    boolean refreshed = service.refresh();
+
+    assertThat("Unexpected refresh result.", refreshed, is(true));
+    Map<String, List<StateStage>> workflows = properties.getReviewWorkflows();
+    assertThat("Unexpected workflow count.", workflows.size(), is(2));
+    assertThat("Unexpected configured stages.", workflows.get(CONFIGURED_DBC),
+        is(CONFIGURED_STAGES));
+    assertThat("Unexpected stored stages.", workflows.get(STORED_DBC), is(STORED_STAGES));
+  }
+
+  @Test
+  void shouldOverrideConfiguredWorkflowWithStoredWorkflow() {
+    List<StateStage> storedStages = List.of(new StateStage("Stored Review", true));
+    ReviewWorkflow stored = new ReviewWorkflow(CONFIGURED_DBC, storedStages, 3L);
+    when(repository.findAllVersions()).thenReturn(List.of(stored));
+    when(repository.findAll()).thenReturn(List.of(stored));
+
+    service.refresh();
+
+    assertThat("Unexpected stages.", properties.getReviewWorkflows().get(CONFIGURED_DBC),
+        contains(new StateStage("Stored Review", true)));
+  }
+
+  @Test
+  void shouldNotReloadWhenVersionsUnchanged() {
+    ReviewWorkflow stored = new ReviewWorkflow(STORED_DBC, STORED_STAGES, 1L);
+    when(repository.findAllVersions()).thenReturn(List.of(stored));
+    when(repository.findAll()).thenReturn(List.of(stored));
+
+    service.refresh();
+    Map<String, List<StateStage>> loaded = properties.getReviewWorkflows();
+    boolean refreshed = service.refresh();
+
+    assertThat("Unexpected refresh result.", refreshed, is(false));
+    assertThat("Unexpected workflows.", properties.getReviewWorkflows(), sameInstance(loaded));
+    verify(repository, times(1)).findAll();
+  }
+
+  @Test
+  void shouldReloadWhenVersionChanged() {
+    ReviewWorkflow original = new ReviewWorkflow(STORED_DBC, STORED_STAGES, 1L);
+    List<StateStage> updatedStages = List.of(new StateStage("Triage", false));
+    ReviewWorkflow updated = new ReviewWorkflow(STORED_DBC, updatedStages, 2L);
+    when(repository.findAllVersions()).thenReturn(List.of(original), List.of(updated));
+    when(repository.findAll()).thenReturn(List.of(original), List.of(updated));
+
+    service.refresh();
+    boolean refreshed = service.refresh();
+
+    assertThat("Unexpected refresh result.", refreshed, is(true));
+    assertThat("Unexpected stages.", properties.getReviewWorkflows().get(STORED_DBC),
+        is(updatedStages));
+  }
+
+  @Test
+  void shouldFallBackToConfiguredWorkflowWhenStoredWorkflowRemoved() {
+    List<StateStage> storedStages = List.of(new StateStage("Stored Review", true));
+    ReviewWorkflow stored = new ReviewWorkflow(CONFIGURED_DBC, storedStages, 1L);
+    when(repository.findAllVersions()).thenReturn(List.of(stored), List.of());
+    when(repository.findAll()).thenReturn(List.of(stored), List.of());
+
+    service.refresh();
+    boolean refreshed = service.refresh();
+
+    assertThat("Unexpected refresh result.", refreshed, is(true));
+    assertThat("Unexpected stages.", properties.getReviewWorkflows().get(CONFIGURED_DBC),
+        is(CONFIGURED_STAGES));
+  }
+
+  @Test
+  void shouldKeepActiveWorkflowsWhenStoredWorkflowsInvalid() {
+    Map<String, List<StateStage>> configured = properties.getReviewWorkflows();
+    ReviewWorkflow invalid = new ReviewWorkflow(STORED_DBC, List.of(
+        new StateStage("Duplicate", true), new StateStage("Duplicate", false)), 1L);
+    when(repository.findAllVersions()).thenReturn(List.of(invalid));
+    when(repository.findAll()).thenReturn(List.of(invalid));
+
+    boolean refreshed = service.refresh();
+
+    assertThat("Unexpected refresh result.", refreshed, is(false));
+    assertThat("Unexpected workflows.", properties.getReviewWorkflows(), sameInstance(configured));
+  }
+
+  @Test
+  void shouldNotReloadInvalidWorkflowsAgainWhenVersionsUnchanged() {
+    ReviewWorkflow invalid = new ReviewWorkflow(STORED_DBC, List.of(
+        new StateStage(" ", true)), 1L);
+    when(repository.findAllVersions()).thenReturn(List.of(invalid));
+    when(repository.findAll()).thenReturn(List.of(invalid));
+
+    service.refresh();
+    service.refresh();
+
+    verify(repository, times(1)).findAll();
+  }
+
+  @Test
+  void shouldKeepActiveWorkflowsWhenStoredWorkflowHasNullStage() {
+    Map<String, List<StateStage>> configured = properties.getReviewWorkflows();
+    List<StateStage> stages = new ArrayList<>();
+    stages.add(new StateStage("Triage", true));
+    stages.add(null);
+    ReviewWorkflow invalid = new ReviewWorkflow(STORED_DBC, stages, 1L);
+    when(repository.findAllVersions()).thenReturn(List.of(invalid));
+    when(repository.findAll()).thenReturn(List.of(invalid));
+
+    boolean refreshed = service.refresh();
+    service.refresh();
+
+    assertThat("Unexpected refresh result.", refreshed, is(false));
+    assertThat("Unexpected workflows.", properties.getReviewWorkflows(), sameInstance(configured));
+    verify(repository, times(1)).findAll();
+  }
+
+  @Test
+  void shouldTreatMissingStagesAsEmptyWorkflow() {
+    ReviewWorkflow stored = new ReviewWorkflow(STORED_DBC, null, null);
+    when(repository.findAllVersions()).thenReturn(List.of(stored));
+    when(repository.findAll()).thenReturn(List.of(stored));
+
+    service.refresh();
+
+    assertThat("Unexpected DBC.", properties.getReviewWorkflows(), hasKey(STORED_DBC));
+    assertThat("Unexpected stages.", properties.getReviewWorkflows().get(STORED_DBC).size(),
+        is(0));
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.trainee.forms.service.UploadedPdfLookup.CACHE_NAME;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.Resource;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import uk.nhs.hee.tis.trainee.forms.service.UploadedPdfLookup.UploadedPdf;
+
+class UploadedPdfLookupTest {
+
+  private static final String BUCKET = "my-bucket";
+  private static final String KEY = "40/forms/coj/123.pdf";
+  private static final String ETAG = "\"etag\"";
+  private static final byte[] CONTENT = "pdf content".getBytes();
+
+  private UploadedPdfLookup lookup;
+  private S3Client s3Client;
+  private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    s3Client = mock(S3Client.class);
+    meterRegistry = new SimpleMeterRegistry();
+    lookup = new UploadedPdfLookup(s3Client, 100, Duration.ofMinutes(5), Duration.ofSeconds(30),
+        meterRegistry);
+  }
+
+  @Test
+  void shouldFindUploadedPdfMetadataWhenExists() {
+    when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(
+        HeadObjectResponse.builder().eTag(ETAG).contentLength(1024L).build());
+
+    Optional<UploadedPdf> found = lookup.find(BUCKET, KEY);
+
+    assertThat("Unexpected found PDF.", found, is(Optional.of(new UploadedPdf(KEY, ETAG, 1024))));
+
+    ArgumentCaptor<HeadObjectRequest> requestCaptor = ArgumentCaptor.captor();
+    verify(s3Client).headObject(requestCaptor.capture());
+
+    HeadObjectRequest request = requestCaptor.getValue();
+    assertThat("Unexpected bucket.", request.bucket(), is(BUCKET));
+    assertThat("Unexpected key.", request.key(), is(KEY));
+  }
+
+  @Test
+  void shouldNotFindUploadedPdfWhenNotExists() {
+    when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(notFound());
+
+    Optional<UploadedPdf> found = lookup.find(BUCKET, KEY);
+
+    assertThat("Unexpected found PDF presence.", found.isPresent(), is(false));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenFindFailsForOtherReason() {
+    S3Exception exception = (S3Exception) S3Exception.builder().statusCode(403).build();
+    when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(exception);
+
+    assertThrows(S3Exception.class, () -> lookup.find(BUCKET, KEY));
+  }
+
+  @Test
+  void shouldCacheFoundUploadedPdfMetadata() {
+    when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(
+        HeadObjectResponse.builder().eTag(ETAG).contentLength(1024L).build());
+
+    lookup.find(BUCKET, KEY);
+    Optional<UploadedPdf> found = lookup.find(BUCKET, KEY);
+
+    assertThat("Unexpected found PDF presence.", found.isPresent(), is(true));
+    verify(s3Client, times(1)).headObject(any(HeadObjectRequest.class));
+  }
+
+  @Test
+  void shouldCacheMissingUploadedPdf() {
+    when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(notFound());
+
+    lookup.find(BUCKET, KEY);
+    Optional<UploadedPdf> found = lookup.find(BUCKET, KEY);
+
+    assertThat("Unexpected found PDF presence.", found.isPresent(), is(false));
+    verify(s3Client, times(1)).headObject(any(HeadObjectRequest.class));
+  }
+
+  @Test
+  void shouldNotFindUploadedPdfWhenRefreshedAfterDeletion() {
+    when(s3Client.headObject(any(HeadObjectRequest.class)))
+        .thenReturn(HeadObjectResponse.builder().eTag(ETAG).contentLength(1024L).build())
+        .thenThrow(notFound());
+
+    lookup.find(BUCKET, KEY);
+    Optional<UploadedPdf> refreshed = lookup.refresh(BUCKET, KEY);
+
+    assertThat("Unexpected refreshed PDF presence.", refreshed.isPresent(), is(false));
+    assertThat("Unexpected found PDF presence.", lookup.find(BUCKET, KEY).isPresent(), is(false));
+    verify(s3Client, times(2)).headObject(any(HeadObjectRequest.class));
+  }
+
+  @Test
+  void shouldOpenUploadedPdfWithSingleRequestWhenExists() throws IOException {
+    when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(createObject());
+
+    Optional<Resource> opened = lookup.open(BUCKET, KEY);
+
+    assertThat("Unexpected opened PDF presence.", opened.isPresent(), is(true));
+    Resource pdf = opened.get();
+    assertThat("Unexpected content.", pdf.getContentAsByteArray(), is(CONTENT));
+    assertThat("Unexpected content length.", pdf.contentLength(), is((long) CONTENT.length));
+    assertThat("Unexpected filename.", pdf.getFilename(), is("123.pdf"));
+
+    ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor.captor();
+    verify(s3Client).getObject(requestCaptor.capture());
+
+    GetObjectRequest request = requestCaptor.getValue();
+    assertThat("Unexpected bucket.", request.bucket(), is(BUCKET));
+    assertThat("Unexpected key.", request.key(), is(KEY));
+    verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+  }
+
+  @Test
+  void shouldCacheMetadataWhenUploadedPdfOpened() {
+    when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(createObject());
+
+    lookup.open(BUCKET, KEY);
+    Optional<UploadedPdf> found = lookup.find(BUCKET, KEY);
+
+    assertThat("Unexpected found PDF.", found,
+        is(Optional.of(new UploadedPdf(KEY, ETAG, CONTENT.length))));
+    verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+  }
+
+  @Test
+  void shouldNotOpenUploadedPdfWhenNotExists() {
+    when(s3Client.getObject(any(GetObjectRequest.class))).thenThrow(notFound());
+
+    Optional<Resource> opened = lookup.open(BUCKET, KEY);
+
+    assertThat("Unexpected opened PDF presence.", opened.isPresent(), is(false));
+  }
+
+  @Test
+  void shouldNotRequestUploadedPdfWhenKnownMissing() {
+    when(s3Client.getObject(any(GetObjectRequest.class))).thenThrow(notFound());
+
+    lookup.open(BUCKET, KEY);
+    Optional<Resource> opened = lookup.open(BUCKET, KEY);
+
+    assertThat("Unexpected opened PDF presence.", opened.isPresent(), is(false));
+    verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenOpenFailsForOtherReason() {
+    S3Exception exception = (S3Exception) S3Exception.builder().statusCode(500).build();
+    when(s3Client.getObject(any(GetObjectRequest.class))).thenThrow(exception);
+
+    assertThrows(S3Exception.class, () -> lookup.open(BUCKET, KEY));
+  }
+
+  @Test
+  void shouldRequestUploadedPdfAgainWhenEvicted() {
+    when(s3Client.getObject(any(GetObjectRequest.class))).thenThrow(notFound());
+
+    lookup.open(BUCKET, KEY);
+    lookup.evict(BUCKET, KEY);
+    lookup.open(BUCKET, KEY);
+
+    verify(s3Client, times(2)).getObject(any(GetObjectRequest.class));
+  }
+
+  @Test
+  void shouldRecordCacheMetrics() {
+    when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(notFound());
+
+    lookup.find(BUCKET, KEY);
+    lookup.find(BUCKET, KEY);
+
+    double hits = meterRegistry.get("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+        .functionCounter().count();
+    assertThat("Unexpected cache hits.", hits, is(1.0));
+  }
+
+  /**
+   * Create a not found exception, as returned by S3 for a missing key.
+   *
+   * @return The not found exception.
+   */
+  private static S3Exception notFound() {
+    return (S3Exception) NoSuchKeyException.builder().statusCode(404).build();
+  }
+
+  /**
+   * Create an S3 object response containing the test content.
+   *
+   * @return The S3 object response.
+   */
+  private static ResponseInputStream<GetObjectResponse> createObject() {
+    GetObjectResponse response = GetObjectResponse.builder()
+        .eTag(ETAG)
+        .contentLength((long) CONTENT.length)
+        .build();
+    return new ResponseInputStream<>(response,
+        AbortableInputStream.create(new ByteArrayInputStream(CONTENT)));
+  }
+}
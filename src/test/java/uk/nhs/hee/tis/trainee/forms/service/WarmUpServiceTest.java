@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (Health Education England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+
+package uk.nhs.hee.tis.trainee.forms.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.trainee.forms.service.WarmUpService.METRIC_WARM_UP_DURATION;
+import static uk.nhs.hee.tis.trainee.forms.service.WarmUpService.STEP_JSON;
+import static uk.nhs.hee.tis.trainee.forms.service.WarmUpService.STEP_PDF;
+import static uk.nhs.hee.tis.trainee.forms.service.WarmUpService.TAG_OUTCOME;
+import static uk.nhs.hee.tis.trainee.forms.service.WarmUpService.TAG_STEP;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import uk.nhs.hee.tis.trainee.forms.config.Config;
+import uk.nhs.hee.tis.trainee.forms.dto.ConditionsOfJoiningPdfRequestDto;
+import uk.nhs.hee.tis.trainee.forms.dto.FormRPartADto;
+import uk.nhs.hee.tis.trainee.forms.dto.FormRPartBDto;
+import uk.nhs.hee.tis.trainee.forms.dto.LtftFormDto;
+import uk.nhs.hee.tis.trainee.forms.dto.enumeration.GoldGuideVersion;
+
+class WarmUpServiceTest {
+
+  private WarmUpService service;
+
+  private PdfService pdfService;
+  private EventBroadcastService eventBroadcastService;
+  private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    pdfService = mock(PdfService.class);
+    eventBroadcastService = mock(EventBroadcastService.class);
+    meterRegistry = new SimpleMeterRegistry();
+
+    service = new WarmUpService(pdfService, eventBroadcastService, new Config().objectMapper(),
+        new PathMatchingResourcePatternResolver(), meterRegistry);
+  }
+
+  @ParameterizedTest
+  @EnumSource(GoldGuideVersion.class)
+  void shouldRenderConditionsOfJoiningTemplates(GoldGuideVersion version) throws IOException {
+    service.run(new DefaultApplicationArguments());
+
+    ArgumentCaptor<ConditionsOfJoiningPdfRequestDto> captor = ArgumentCaptor.captor();
+    verify(pdfService, times(GoldGuideVersion.values().length)).generatePdf(captor.capture());
+
+    List<GoldGuideVersion> versions = captor.getAllValues().stream()
+        .map(request -> request.conditionsOfJoining().version())
+        .toList();
+    assertThat("Unexpected version rendered.", versions.contains(version), is(true));
+  }
+
+  @Test
+  void shouldRenderFormRTemplates() throws IOException {
+    service.run(new DefaultApplicationArguments());
+
+    verify(pdfService).generatePdf(any(FormRPartADto.class));
+    verify(pdfService).generatePdf(any(FormRPartBDto.class));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"admin", "trainee"})
+  void shouldRenderLtftTemplates(String templateFileName) throws IOException {
+    service.run(new DefaultApplicationArguments());
+
+    verify(pdfService).generatePdf(any(LtftFormDto.class), eq(templateFileName));
+  }
+
+  @Test
+  void shouldRecordSuccessfulPdfWarmUp() {
+    service.run(new DefaultApplicationArguments());
+
+    Timer timer = meterRegistry.find(METRIC_WARM_UP_DURATION)
+        .tags(TAG_STEP, STEP_PDF, TAG_OUTCOME, "success")
+        .timer();
+    assertThat("Unexpected timer.", timer, notNullValue());
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldContinueWarmUpWhenTemplateFails() throws IOException {
+    when(pdfService.generatePdf(any(FormRPartADto.class))).thenThrow(new IOException("error"));
+
+    service.run(new DefaultApplicationArguments());
+
+    verify(pdfService).generatePdf(any(FormRPartBDto.class));
+    verify(pdfService).generatePdf(any(LtftFormDto.class), eq("trainee"));
+
+    Timer timer = meterRegistry.find(METRIC_WARM_UP_DURATION)
+        .tags(TAG_STEP, STEP_PDF, TAG_OUTCOME, "failure")
+        .timer();
+    assertThat("Unexpected timer.", timer, notNullValue());
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldWarmUpEventMapper() {
+    service.run(new DefaultApplicationArguments());
+
+    ArgumentCaptor<List<?>> captor = ArgumentCaptor.captor();
+    verify(eventBroadcastService).warmUpMapper(captor.capture());
+
+    List<?> payloads = captor.getValue();
+    assertThat("Unexpected payload count.", payloads.size(), is(3));
+  }
+
+  @Test
+  void shouldRecordSuccessfulJsonWarmUp() {
+    service.run(new DefaultApplicationArguments());
+
+    Timer timer = meterRegistry.find(METRIC_WARM_UP_DURATION)
+        .tags(TAG_STEP, STEP_JSON, TAG_OUTCOME, "success")
+        .timer();
+    assertThat("Unexpected timer.", timer, notNullValue());
+    assertThat("Unexpected timer count.", timer.count(), is(1L));
+  }
+
+  @Test
+  void shouldRecordFailedJsonWarmUp() {
+    doThrow(new IllegalArgumentException("error")).when(eventBroadcastService)
+        .warmUpMapper(anyList());
+
+    service.run(new DefaultApplicationArguments());
+
+    Timer success = meterRegistry.find(METRIC_WARM_UP_DURATION)
+        .tags(TAG_STEP, STEP_JSON, TAG_OUTCOME, "success")
+        .timer();
+    assertThat("Unexpected success timer.", success, nullValue());
+
+    Timer failure = meterRegistry.find(METRIC_WARM_UP_DURATION)
+        .tags(TAG_STEP, STEP_JSON, TAG_OUTCOME, "failure")
+        .timer();
+    assertThat("Unexpected failure timer.", failure, notNullValue());
+  }
+}